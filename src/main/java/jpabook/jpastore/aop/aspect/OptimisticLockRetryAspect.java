@@ -0,0 +1,88 @@
+package jpabook.jpastore.aop.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 락 충돌 시 주문 트랜잭션 전체를 재시도 (지수 백오프 + 지터)
+ * 트랜잭션 어드바이스보다 바깥에서 실행되어야 하므로 우선순위를 한 단계 높게 설정
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticLockRetryAspect {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+    private final double jitter;
+
+    private final Counter conflictCounter;
+    private final Counter exhaustedCounter;
+
+    public OptimisticLockRetryAspect(MeterRegistry meterRegistry,
+                                     int maxAttempts, long backoffMillis, long maxBackoffMillis,
+                                     double multiplier, double jitter) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+
+        this.conflictCounter = Counter.builder("order.stock.optimistic.conflicts")
+                .description("주문 재고 차감 중 발생한 낙관적 락 충돌 수")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("order.stock.optimistic.retry.exhausted")
+                .description("재시도 횟수를 모두 소진하고 실패한 주문 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Around("jpabook.jpastore.aop.pointcuts.PointCuts.orderStockChanges()")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 이미 바깥 트랜잭션 안이라면 재시도해도 같은 영속성 컨텍스트 -> 재시도하지 않음
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        long backoff = backoffMillis;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                conflictCounter.increment();
+
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("낙관적 락 재시도 실패. method={}, attempts={}",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+
+                long sleep = withJitter(backoff);
+                log.info("낙관적 락 충돌. method={}, attempt={}, retry after {}ms",
+                        joinPoint.getSignature().toShortString(), attempt, sleep);
+
+                Thread.sleep(sleep);
+                backoff = Math.min(maxBackoffMillis, (long) (backoff * multiplier));
+            }
+        }
+    }
+
+    // backoff * (1 - jitter) ~ backoff 사이의 임의 값 -> 충돌한 요청들이 동시에 재시도하지 않도록 분산
+    private long withJitter(long backoff) {
+        long min = (long) (backoff * (1 - jitter));
+        return min + ThreadLocalRandom.current().nextLong(backoff - min + 1);
+    }
+}
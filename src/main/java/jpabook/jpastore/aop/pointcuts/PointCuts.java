@@ -15,4 +15,10 @@ public class PointCuts {
 
     @Pointcut("allRepositories() || allServices() || allControllers()")
     public void allMvc(){}
+
+    // 상품 재고를 변경하는 주문 서비스 메서드 (주문, 주문 취소, 접수된 주문 처리)
+    @Pointcut("execution(* jpabook.jpastore.application.order.OrderService.order(..))" +
+            " || execution(* jpabook.jpastore.application.order.OrderService.cancelOrder(..))" +
+            " || execution(* jpabook.jpastore.application.order.OrderTicketService.process(..))")
+    public void orderStockChanges(){}
 }
@@ -0,0 +1,33 @@
+package jpabook.jpastore.application.category;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트 -> 트랜잭션 커밋 이후 자동완성 색인 등 부가 저장소 동기화에 사용
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+    private final Type type;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static CategoryChangedEvent created(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, Type.CREATED);
+    }
+
+    public static CategoryChangedEvent updated(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, Type.UPDATED);
+    }
+
+    public static CategoryChangedEvent deleted(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, Type.DELETED);
+    }
+}
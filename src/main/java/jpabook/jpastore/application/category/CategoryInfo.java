@@ -34,7 +34,6 @@ public class CategoryInfo {
                 this.childList.addAll(
                         entity.getChild()
                                 .stream()
-                                .filter(c -> !c.isDeleted())
                                 .map(SimpleInfo::new).collect(Collectors.toList())
                 );
             }
@@ -103,9 +102,7 @@ public class CategoryInfo {
 
             if(entity.getChild() != null){
                 for (Category child : entity.getChild()) {
-                    if (!child.isDeleted()) {
-                        this.childList.add(new SimpleInfo(child));
-                    }
+                    this.childList.add(new SimpleInfo(child));
                 }
             }
 
@@ -158,10 +155,8 @@ public class CategoryInfo {
             this.childList = new ArrayList<>();
 
             if (validateList(entity.getChild())) {
-                for (Category child : entity.getChild()) {
-                    if (!child.isDeleted()) { // 삭제되지 않은 카테고리인 경우
-                        this.childList.add(new ParentChildInfo(child));
-                    }
+                for (Category child : entity.getChild()) { // 삭제된 카테고리는 soft delete 필터로 로딩되지 않음
+                    this.childList.add(new ParentChildInfo(child));
                 }
             }
         }
@@ -7,6 +7,7 @@ import jpabook.jpastore.domain.category.Category;
 import jpabook.jpastore.domain.category.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리 생성
@@ -47,7 +49,10 @@ public class CategoryServiceImpl implements CategoryService {
         // 3. 카테고리 엔티티 생성.
         Category category = Category.createCategory(command.getName(), parent);
 
-        return categoryRepository.save(category).getId();
+        var categoryId = categoryRepository.save(category).getId();
+        eventPublisher.publishEvent(CategoryChangedEvent.created(categoryId));
+
+        return categoryId;
     }
 
     /**
@@ -110,7 +115,6 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public List<CategoryInfo.MainInfo> categoryList() {
         return categoryRepository.findAll().stream()
-                .filter(i -> !i.isDeleted())
                 .map(CategoryInfo.MainInfo::new)
                 .collect(Collectors.toList());
     }
@@ -179,6 +183,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         log.info("update to name={}, parentId={}", updateName, (parent == null) ? null : parent.getId());
         category.update(parent, updateName);
+        eventPublisher.publishEvent(CategoryChangedEvent.updated(categoryId));
     }
 
     /**
@@ -198,6 +203,7 @@ public class CategoryServiceImpl implements CategoryService {
         validateDelete(category);
 
         category.delete();
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(id));
     }
 
     // 삭제 가능 카테고리 검증 메서드
@@ -0,0 +1,33 @@
+package jpabook.jpastore.application.item;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 등록/수정/삭제 이벤트 -> 트랜잭션 커밋 이후 재고 미러, 캐시 등 부가 저장소 동기화에 사용
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class ItemChangedEvent {
+
+    private final Long itemId;
+    private final Type type;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ItemChangedEvent created(Long itemId) {
+        return new ItemChangedEvent(itemId, Type.CREATED);
+    }
+
+    public static ItemChangedEvent updated(Long itemId) {
+        return new ItemChangedEvent(itemId, Type.UPDATED);
+    }
+
+    public static ItemChangedEvent deleted(Long itemId) {
+        return new ItemChangedEvent(itemId, Type.DELETED);
+    }
+}
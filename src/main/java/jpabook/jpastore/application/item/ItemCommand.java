@@ -4,8 +4,11 @@ import jpabook.jpastore.domain.Money;
 import jpabook.jpastore.domain.item.Album;
 import jpabook.jpastore.domain.item.Book;
 import jpabook.jpastore.domain.item.Dvd;
+import jpabook.jpastore.domain.item.Item;
 import lombok.*;
 
+import java.util.Locale;
+
 public class ItemCommand {
 
     @ToString
@@ -102,4 +105,41 @@ public class ItemCommand {
         private Integer minPrice;
         private Integer maxPrice;
     }
+
+    // 일괄 등록 한 행 (error: 형식 오류로 읽지 못한 행의 사유)
+    @ToString
+    @AllArgsConstructor
+    @Builder
+    @Getter
+    public static class ImportRow {
+        private long rowNumber;
+        private String type; // BOOK, ALBUM, DVD
+        private String name;
+        private Integer price;
+        private Integer stockQuantity;
+        private Long categoryId;
+        private String author;
+        private String isbn;
+        private String artist;
+        private String etc;
+        private String director;
+        private String actor;
+        private String error;
+
+        public Item toEntity() {
+            switch (type.toUpperCase(Locale.ROOT)) {
+                case "BOOK":
+                    return Book.builder().name(name).price(new Money(price)).stockQuantity(stockQuantity)
+                            .author(author).isbn(isbn).build();
+                case "ALBUM":
+                    return Album.builder().name(name).price(new Money(price)).stockQuantity(stockQuantity)
+                            .artist(artist).etc(etc).build();
+                case "DVD":
+                    return Dvd.builder().name(name).price(new Money(price)).stockQuantity(stockQuantity)
+                            .director(director).actor(actor).build();
+                default:
+                    throw new IllegalArgumentException("지원하지 않는 상품 유형입니다. type = " + type);
+            }
+        }
+    }
 }
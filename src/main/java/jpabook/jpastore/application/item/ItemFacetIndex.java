@@ -0,0 +1,408 @@
+package jpabook.jpastore.application.item;
+
+import jpabook.jpastore.application.category.CategoryChangedEvent;
+import jpabook.jpastore.domain.category.CategoryItemIds;
+import jpabook.jpastore.domain.category.CategoryRepository;
+import jpabook.jpastore.domain.item.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 facet(상품 유형별/가격 구간별/카테고리별 상품 수) 메모리 색인
+ * 필터를 바꿀 때마다 유형/가격/카테고리별 GROUP BY count 쿼리를 보내지 않도록, 상품마다 (이름, 가격, 유형, 카테고리) 만 메모리에 두고 집계한다.
+ * - 조건 없는 목록의 facet 은 상품 등록/수정/삭제 시 증분 갱신되는 집계값을 그대로 반환
+ * - 상품명 조건이 있으면 상품명 색인(ItemNameIndex)으로 후보 상품만 골라 집계 (색인을 쓸 수 없을 때만 전체 상품을 훑는다)
+ * - 가격 조건만 있으면 가격순 색인에서 가격 범위의 상품만 집계 (가격 구간 facet 은 조건 없는 집계값)
+ * - 가격 구간 facet 은 가격 조건을 제외하고 집계 -> 다른 가격 구간을 골랐을 때의 상품 수를 보여줄 수 있다
+ * 애플리케이션 시작 시, 이후 rebuild-delay-ms 주기로 DB 에서 재생성 (다른 노드의 변경 반영)
+ * 재생성 중 들어온 이 노드의 변경은 기록해 두었다가 교체 직후 다시 반영 (재생성이 먼저 읽은 값으로 덮어쓰지 않도록)
+ */
+@Slf4j
+@Component
+public class ItemFacetIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final long[] NO_CATEGORIES = new long[0];
+
+    private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final ItemNameIndex itemNameIndex;
+    private final boolean enabled;
+    private final int[] priceBounds; // 가격 구간 경계 (오름차순)
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Entry> entries = new HashMap<>();
+    private NavigableMap<Integer, Set<Long>> idsByPrice = new TreeMap<>();
+    private Counts counts;
+    private List<Runnable> changesDuringRebuild; // 재생성 중이 아니면 null
+
+    private volatile boolean ready = false;
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+
+    public ItemFacetIndex(ItemRepository itemRepository,
+                          CategoryRepository categoryRepository,
+                          ItemNameIndex itemNameIndex,
+                          @Value("${jpastore.item.facet.enabled:true}") boolean enabled,
+                          @Value("${jpastore.item.facet.price-bounds:10000,20000,30000,50000}") int[] priceBounds) {
+        this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.itemNameIndex = itemNameIndex;
+        this.enabled = enabled;
+        this.priceBounds = Arrays.stream(priceBounds).sorted().distinct().toArray();
+        this.counts = new Counts(this.priceBounds.length + 1);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // 목록 조회 조건의 facet, 색인을 쓸 수 없으면 empty
+    public Optional<ItemInfo.FacetInfo> facets(ItemSearchCondition condition) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        var name = StringUtils.hasText(condition.getName()) ? condition.getName().toLowerCase(Locale.ROOT) : null;
+        var minPrice = validPrice(condition.getMinPrice());
+        var maxPrice = validPrice(condition.getMaxPrice());
+
+        // 상품명 조건의 후보 상품 id (색인을 쓸 수 없으면 null -> 전체 상품을 훑는다)
+        var nameCandidates = name == null ? null : itemNameIndex.searchAll(condition.getName()).orElse(null);
+
+        lock.readLock().lock();
+        try {
+            if (name == null && minPrice == null && maxPrice == null) {
+                return Optional.of(counts.toInfo(priceBounds));
+            }
+
+            var result = new Counts(priceBounds.length + 1);
+
+            if (name == null) {
+                // 가격 조건만: 가격 구간 facet 은 조건 없는 집계값, 일치 집계는 가격 범위의 상품만
+                System.arraycopy(counts.prices, 0, result.prices, 0, result.prices.length);
+
+                int from = minPrice == null ? Integer.MIN_VALUE : minPrice;
+                int to = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+                if (from <= to) {
+                    for (Set<Long> ids : idsByPrice.subMap(from, true, to, true).values()) {
+                        for (Long id : ids) {
+                            result.addMatch(entries.get(id), 1);
+                        }
+                    }
+                }
+                return Optional.of(result.toInfo(priceBounds));
+            }
+
+            Iterable<Entry> scanned = nameCandidates == null
+                    ? entries.values()
+                    : () -> nameCandidates.stream().map(entries::get).filter(Objects::nonNull).iterator();
+
+            for (Entry entry : scanned) {
+                // 상품명 색인과 facet 색인의 반영 시점이 다를 수 있어 후보도 다시 확인
+                if (!entry.name.contains(name)) {
+                    continue;
+                }
+
+                result.prices[bucket(entry.price)]++;
+
+                if ((minPrice == null || entry.price >= minPrice) && (maxPrice == null || entry.price <= maxPrice)) {
+                    result.addMatch(entry, 1);
+                }
+            }
+
+            return Optional.of(result.toInfo(priceBounds));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jpastore.item.facet.rebuild-delay-ms:60000}",
+            fixedDelayString = "${jpastore.item.facet.rebuild-delay-ms:60000}")
+    public void scheduledRebuild() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    // DB 에서 새 집계를 만든 뒤 교체 (id keyset 페이지 단위 조회)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, Entry> newEntries = new HashMap<>();
+        NavigableMap<Integer, Set<Long>> newIdsByPrice = new TreeMap<>();
+        var newCounts = new Counts(priceBounds.length + 1);
+        try {
+            long lastId = 0L;
+            List<ItemFacetRow> page;
+            do {
+                page = itemRepository.findItemFacetRows(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                if (page.isEmpty()) break;
+
+                var itemIds = page.stream().map(ItemFacetRow::getId).collect(Collectors.toList());
+                var categories = categoryIds(itemIds);
+
+                for (ItemFacetRow row : page) {
+                    var entry = new Entry(row.getName(), row.getPrice(), type(row.getDtype()),
+                            categories.getOrDefault(row.getId(), NO_CATEGORIES));
+                    newEntries.put(row.getId(), entry);
+                    addPrice(newIdsByPrice, entry.price, row.getId());
+                    newCounts.add(entry, bucket(entry.price), 1);
+                    lastId = row.getId();
+                }
+            } while (page.size() == REBUILD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // 기록 종료와 교체를 함께 -> 이후의 변경은 리스너가 새 집계에 바로 반영
+        List<Runnable> changes;
+        lock.writeLock().lock();
+        try {
+            changes = changesDuringRebuild;
+            changesDuringRebuild = null;
+            entries = newEntries;
+            idsByPrice = newIdsByPrice;
+            counts = newCounts;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 재생성 중 들어온 변경 다시 반영 (DB 에서 다시 읽으므로 재생성에 이미 포함된 변경이어도 결과가 같다)
+        changes.forEach(Runnable::run);
+
+        log.info("상품 facet 색인 재생성. items = {}, replayed = {}", newEntries.size(), changes.size());
+    }
+
+    // 이 노드의 상품 변경 -> 커밋 직후 반영
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!enabled) return;
+
+        Long itemId = event.getItemId();
+        boolean deleted = event.getType() == ItemChangedEvent.Type.DELETED;
+        Runnable change = () -> applyItemChange(itemId, deleted);
+
+        if (record(change)) {
+            change.run();
+        }
+    }
+
+    // 상품 일괄 등록 -> 전체 재생성 요청 (등록 요청 스레드에서 재생성하지 않음, 연속 등록은 한 번의 재생성으로 합쳐진다)
+    @EventListener
+    public void onItemsImported(ItemsImportedEvent event) {
+        if (isReady()) {
+            rebuildRequested.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.item.import-rebuild-delay-ms:1000}")
+    public void rebuildIfRequested() {
+        if (isReady() && rebuildRequested.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    // 카테고리 삭제 -> 연결된 상품에서 제거 (상품-카테고리 연결은 삭제 시 함께 지워진다)
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (!enabled || event.getType() != CategoryChangedEvent.Type.DELETED) return;
+
+        long categoryId = event.getCategoryId();
+        Runnable change = () -> removeCategory(categoryId);
+
+        if (record(change)) {
+            change.run();
+        }
+    }
+
+    // 재생성 중이면 변경을 기록 (교체 직후 다시 반영), 색인이 준비되어 있으면 true
+    private boolean record(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            return ready;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyItemChange(Long itemId, boolean deleted) {
+        var item = deleted
+                ? null
+                : itemRepository.findById(itemId).filter(i -> !i.isDeleted()).orElse(null);
+
+        var entry = item == null ? null : new Entry(item.getName(), item.getPrice().getValue(), type(item),
+                categoryIds(List.of(item.getId())).getOrDefault(item.getId(), NO_CATEGORIES));
+
+        lock.writeLock().lock();
+        try {
+            var old = entry == null ? entries.remove(itemId) : entries.put(itemId, entry);
+            if (old != null) {
+                counts.add(old, bucket(old.price), -1);
+                removePrice(idsByPrice, old.price, itemId);
+            }
+            if (entry != null) {
+                counts.add(entry, bucket(entry.price), 1);
+                addPrice(idsByPrice, entry.price, itemId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeCategory(long categoryId) {
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : entries.values()) {
+                if (Arrays.stream(entry.categoryIds).anyMatch(id -> id == categoryId)) {
+                    entry.categoryIds = Arrays.stream(entry.categoryIds).filter(id -> id != categoryId).toArray();
+                }
+            }
+            counts.categories.remove(categoryId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, long[]> categoryIds(Collection<Long> itemIds) {
+        return categoryRepository.findCategoryItemIdsByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(CategoryItemIds::getItemId,
+                        Collectors.collectingAndThen(Collectors.toList(),
+                                ids -> ids.stream().mapToLong(CategoryItemIds::getCategoryId).distinct().toArray())));
+    }
+
+    private static void addPrice(NavigableMap<Integer, Set<Long>> idsByPrice, int price, Long itemId) {
+        idsByPrice.computeIfAbsent(price, p -> new HashSet<>()).add(itemId);
+    }
+
+    private static void removePrice(NavigableMap<Integer, Set<Long>> idsByPrice, int price, Long itemId) {
+        var ids = idsByPrice.get(price);
+        if (ids != null && ids.remove(itemId) && ids.isEmpty()) {
+            idsByPrice.remove(price);
+        }
+    }
+
+    // 가격이 속한 구간 (경계값은 위 구간에 포함)
+    private int bucket(int price) {
+        int index = Arrays.binarySearch(priceBounds, price);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    // 음수 가격 조건은 목록 조회와 같이 무시
+    private static Integer validPrice(Integer price) {
+        return (price != null && price >= 0) ? price : null;
+    }
+
+    private static String type(String dtype) {
+        switch (dtype) {
+            case "Book":
+                return ItemSnapshot.Type.BOOK.name();
+            case "Album":
+                return ItemSnapshot.Type.ALBUM.name();
+            case "Dvd":
+                return ItemSnapshot.Type.DVD.name();
+            default:
+                return ItemSnapshot.Type.ITEM.name();
+        }
+    }
+
+    private static String type(Item item) {
+        if (item instanceof Book) return ItemSnapshot.Type.BOOK.name();
+        if (item instanceof Album) return ItemSnapshot.Type.ALBUM.name();
+        if (item instanceof Dvd) return ItemSnapshot.Type.DVD.name();
+        return ItemSnapshot.Type.ITEM.name();
+    }
+
+    private static final class Entry {
+        private final String name; // 소문자
+        private final int price;
+        private final String type;
+        private long[] categoryIds;
+
+        private Entry(String name, int price, String type, long[] categoryIds) {
+            this.name = name.toLowerCase(Locale.ROOT);
+            this.price = price;
+            this.type = type;
+            this.categoryIds = categoryIds;
+        }
+    }
+
+    private static final class Counts {
+        private long total;
+        private final Map<String, Long> types = new HashMap<>();
+        private final long[] prices;
+        private final Map<Long, Long> categories = new HashMap<>();
+
+        private Counts(int buckets) {
+            this.prices = new long[buckets];
+        }
+
+        private void add(Entry entry, int bucket, int delta) {
+            prices[bucket] += delta;
+            addMatch(entry, delta);
+        }
+
+        private void addMatch(Entry entry, int delta) {
+            total += delta;
+            types.merge(entry.type, (long) delta, Long::sum);
+            for (long categoryId : entry.categoryIds) {
+                categories.merge(categoryId, (long) delta, Long::sum);
+            }
+        }
+
+        private ItemInfo.FacetInfo toInfo(int[] priceBounds) {
+            List<ItemInfo.PriceRangeCount> priceRanges = new ArrayList<>(prices.length);
+            for (int i = 0; i < prices.length; i++) {
+                priceRanges.add(new ItemInfo.PriceRangeCount(
+                        i == 0 ? 0 : priceBounds[i - 1],
+                        i < priceBounds.length ? priceBounds[i] : null,
+                        prices[i]));
+            }
+
+            return new ItemInfo.FacetInfo(total,
+                    nonZero(types),
+                    priceRanges,
+                    nonZero(categories));
+        }
+
+        private static <K> Map<K, Long> nonZero(Map<K, Long> counts) {
+            return counts.entrySet().stream()
+                    .filter(e -> e.getValue() > 0)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, TreeMap::new));
+        }
+    }
+}
@@ -5,8 +5,12 @@ import jpabook.jpastore.domain.item.Album;
 import jpabook.jpastore.domain.item.Book;
 import jpabook.jpastore.domain.item.Dvd;
 import jpabook.jpastore.domain.item.Item;
+import jpabook.jpastore.domain.item.ItemQueryInfo;
 import lombok.*;
 
+import java.util.List;
+import java.util.Map;
+
 public class ItemInfo {
 
     @ToString
@@ -25,6 +29,13 @@ public class ItemInfo {
             this.price = entity.getPrice();
             this.stockQuantity = entity.getStockQuantity();
         }
+
+        public MainInfo(ItemQueryInfo.ListInfo info) {
+            this.itemId = info.getItemId();
+            this.itemName = info.getItemName();
+            this.price = info.getPrice();
+            this.stockQuantity = info.getStockQuantity();
+        }
     }
 
     @ToString
@@ -127,4 +138,45 @@ public class ItemInfo {
             this.director = entity.getDirector();
         }
     }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class FacetInfo {
+        private Long totalCount;
+        private Map<String, Long> typeCounts; // BOOK, ALBUM, DVD
+        private List<PriceRangeCount> priceRanges; // 가격 조건을 제외한 나머지 조건 기준
+        private Map<Long, Long> categoryCounts; // 카테고리 id -> 상품 수
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class PriceRangeCount {
+        private Integer minPrice; // 이상
+        private Integer maxPrice; // 미만 (null: 상한 없음)
+        private Long count;
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ImportResult {
+        private Long totalRows;
+        private Long importedRows;
+        private Long failedRows;
+        private List<ImportError> errors; // 최대 1000 건
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ImportError {
+        private Long rowNumber;
+        private String message;
+    }
 }
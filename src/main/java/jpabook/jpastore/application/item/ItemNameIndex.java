@@ -0,0 +1,178 @@
+package jpabook.jpastore.application.item;
+
+import jpabook.jpastore.common.utils.NgramIndex;
+import jpabook.jpastore.domain.item.ItemName;
+import jpabook.jpastore.domain.item.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품명 부분 검색용 메모리 trigram 색인 (1 ~ 2 글자 검색어용 unigram/bigram 포함)
+ * lower(name) like '%x%' 는 인덱스를 탈 수 없어 items 를 매번 전체 스캔하므로, 색인으로 순위가 매겨진 후보 id 를 구한 뒤 한 번의 IN 조회로 상품을 읽는다.
+ * - 애플리케이션 시작 시 DB 에서 전체 재생성
+ * - 이 노드의 상품 등록/수정/삭제는 커밋 직후 반영
+ * - 다른 노드의 변경은 수정일(modified_date) 기준 주기적 증분 갱신으로 반영
+ * 색인이 준비되지 않았거나 비활성화된 경우 검색은 기존 DB LIKE 조회를 사용한다.
+ */
+@Slf4j
+@Component
+public class ItemNameIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    // 증분 갱신 시 이전 갱신 시각보다 앞당겨 조회하는 시간 -> 늦게 커밋된 변경 누락 방지 (중복 반영은 무해)
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final int maxResults;
+    private final int maxFilterSize;
+    private final NgramIndex index = new NgramIndex(GRAM_SIZE);
+
+    private volatile boolean ready = false;
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+    private volatile LocalDateTime lastRefreshed;
+
+    public ItemNameIndex(ItemRepository itemRepository,
+                         @Value("${jpastore.item.name-index.enabled:true}") boolean enabled,
+                         @Value("${jpastore.item.name-index.max-results:1000}") int maxResults,
+                         @Value("${jpastore.item.name-index.max-filter-size:1000}") int maxFilterSize) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        this.maxFilterSize = maxFilterSize;
+    }
+
+    // 상품명 검색 -> 순위순 상품 id (최대 maxResults 건), 색인을 쓸 수 없으면 empty
+    public Optional<List<Long>> search(String name) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.search(name, maxResults));
+    }
+
+    // 목록 조회의 상품명 조건 -> 상품 id 조건 (후보가 maxFilterSize 를 넘으면 IN 절 대신 LIKE 를 쓰도록 empty)
+    public Optional<List<Long>> searchForFilter(String name) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        var itemIds = index.searchUnordered(name, maxFilterSize + 1); // IN 절 조건이므로 순위 불필요
+
+        return itemIds.size() > maxFilterSize ? Optional.empty() : Optional.of(itemIds);
+    }
+
+    // 상품명 조건에 맞는 상품 id 전체 (순위/건수 제한 없음, facet 집계 후보), 색인을 쓸 수 없으면 empty
+    public Optional<List<Long>> searchAll(String name) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.searchUnordered(name, Integer.MAX_VALUE));
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // DB 에서 전체 재생성 (id keyset 페이지 단위 조회)
+    public void rebuild() {
+        var startedAt = LocalDateTime.now();
+        Map<Long, String> names = new HashMap<>();
+
+        long lastId = 0L;
+        List<ItemName> page;
+        do {
+            page = itemRepository.findItemNames(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (ItemName itemName : page) {
+                if (!Boolean.TRUE.equals(itemName.getDeleted())) {
+                    names.put(itemName.getId(), itemName.getName());
+                }
+                lastId = itemName.getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        index.replaceAll(names);
+        lastRefreshed = startedAt;
+        ready = true;
+
+        log.info("상품명 색인 재생성. items = {}", names.size());
+    }
+
+    // 이 노드의 상품 변경 -> 커밋 직후 반영
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!isReady()) return;
+
+        if (event.getType() == ItemChangedEvent.Type.DELETED) {
+            index.remove(event.getItemId());
+            return;
+        }
+
+        itemRepository.findById(event.getItemId())
+                .ifPresent(item -> {
+                    if (item.isDeleted()) {
+                        index.remove(item.getId());
+                    } else {
+                        index.put(item.getId(), item.getName());
+                    }
+                });
+    }
+
+    // 상품 일괄 등록 -> 전체 재생성 요청 (등록 요청 스레드에서 재생성하지 않음, 연속 등록은 한 번의 재생성으로 합쳐진다)
+    @EventListener
+    public void onItemsImported(ItemsImportedEvent event) {
+        if (isReady()) {
+            rebuildRequested.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.item.import-rebuild-delay-ms:1000}")
+    public void rebuildIfRequested() {
+        if (isReady() && rebuildRequested.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    // 다른 노드의 상품 변경 -> 수정일 기준 증분 갱신
+    @Scheduled(fixedDelayString = "${jpastore.item.name-index.refresh-delay-ms:10000}")
+    public void refresh() {
+        if (!isReady()) return;
+
+        var startedAt = LocalDateTime.now();
+        var changed = itemRepository.findItemNamesModifiedSince(lastRefreshed.minus(REFRESH_OVERLAP));
+
+        for (ItemName itemName : changed) {
+            if (Boolean.TRUE.equals(itemName.getDeleted())) {
+                index.remove(itemName.getId());
+            } else {
+                index.put(itemName.getId(), itemName.getName());
+            }
+        }
+
+        lastRefreshed = startedAt;
+    }
+}
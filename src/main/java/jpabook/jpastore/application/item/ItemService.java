@@ -1,10 +1,14 @@
 package jpabook.jpastore.application.item;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.domain.item.Item;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemService {
 
@@ -14,6 +18,8 @@ public interface ItemService {
 
     Long saveDvdItem(ItemCommand.DvdItemRegisterReq command);
 
+    ItemInfo.ImportResult importItems(Iterator<ItemCommand.ImportRow> rows);
+
     ItemInfo.MainInfo getItem(Long id);
 
     <T> T itemDetail_V1(Long id);
@@ -28,6 +34,11 @@ public interface ItemService {
 
     Page<ItemInfo.MainInfo> items(ItemCommand.SearchCondition condition, Pageable pageable);
 
+    CursorPage<ItemInfo.MainInfo> items(ItemCommand.SearchCondition condition, CursorRequest cursorRequest);
+
+    // 목록 조회 조건의 facet (메모리 색인, 색인을 쓸 수 없으면 empty)
+    Optional<ItemInfo.FacetInfo> facets(ItemCommand.SearchCondition condition);
+
     List<ItemInfo.MainInfo> itemList();
 
     void updateItemInfo(Long id, ItemCommand.UpdateInfoReq command);
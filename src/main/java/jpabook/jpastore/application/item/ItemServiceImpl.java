@@ -1,19 +1,27 @@
 package jpabook.jpastore.application.item;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.common.exception.EntityNotFoundException;
 import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.domain.category.Category;
 import jpabook.jpastore.domain.category.CategoryItem;
+import jpabook.jpastore.domain.category.CategoryName;
 import jpabook.jpastore.domain.category.CategoryRepository;
 import jpabook.jpastore.domain.item.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,11 +30,22 @@ import java.util.stream.Collectors;
 @Service
 public class ItemServiceImpl implements ItemService {
 
+    // 일괄 등록 시 한 트랜잭션(JDBC batch)으로 등록할 행 수
+    private static final int IMPORT_BATCH_SIZE = 1000;
+    // 일괄 등록 결과에 담을 최대 오류 행 수
+    private static final int MAX_IMPORT_ERRORS = 1000;
+
     private final ItemRepository itemRepository;
     private final BookRepository bookRepository;
     private final AlbumRepository albumRepository;
     private final DvdRepository dvdRepository;
     private final CategoryRepository categoryRepository;
+    private final ItemViewCache itemViewCache;
+    private final ItemNameIndex itemNameIndex;
+    private final ItemFacetIndex itemFacetIndex;
+    private final ItemJdbcRepository itemJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 상품 등록
@@ -38,6 +57,7 @@ public class ItemServiceImpl implements ItemService {
         Book createdItem = bookRepository.save(command.toEntity());
 
         setCategoryItem(command.getCategoryId(), createdItem);
+        eventPublisher.publishEvent(ItemChangedEvent.created(createdItem.getId()));
 
         return createdItem.getId();
     }
@@ -49,6 +69,7 @@ public class ItemServiceImpl implements ItemService {
         Album createdItem = albumRepository.save(command.toEntity());
 
         setCategoryItem(command.getCategoryId(), createdItem);
+        eventPublisher.publishEvent(ItemChangedEvent.created(createdItem.getId()));
 
         return createdItem.getId();
     }
@@ -60,20 +81,69 @@ public class ItemServiceImpl implements ItemService {
         Dvd createdItem = dvdRepository.save(command.toEntity());
 
         setCategoryItem(command.getCategoryId(), createdItem);
+        eventPublisher.publishEvent(ItemChangedEvent.created(createdItem.getId()));
 
         return createdItem.getId();
     }
 
+    /**
+     * 상품 일괄 등록 (스트리밍)
+     * 필드 값은 요청 계층에서 상품 유형별 등록 요청과 같은 제약으로 검증한 뒤(오류는 행의 error) 전달된다.
+     * 카테고리는 미리 읽어 둔 id 목록으로 검증하고, 행을 IMPORT_BATCH_SIZE 건씩 모아 JDBC batch insert 로 한 트랜잭션에 등록한다.
+     * batch 가 실패하면 그 batch 의 행만 한 건씩 다시 등록해 실패한 행을 오류로 보고한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ItemInfo.ImportResult importItems(Iterator<ItemCommand.ImportRow> rows) {
+        log.info("importing items...");
+
+        Set<Long> categoryIds = categoryRepository.findCategoryNames().stream()
+                .map(CategoryName::getId)
+                .collect(Collectors.toSet());
+
+        List<ItemInfo.ImportError> errors = new ArrayList<>();
+        List<ItemCommand.ImportRow> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        long total = 0;
+        long imported = 0;
+
+        while (rows.hasNext()) {
+            var row = rows.next();
+            total++;
+
+            var error = validateImportRow(row, categoryIds);
+            if (error != null) {
+                addImportError(errors, row.getRowNumber(), error);
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                imported += importBatch(batch, errors);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            imported += importBatch(batch, errors);
+        }
+
+        if (imported > 0) {
+            eventPublisher.publishEvent(new ItemsImportedEvent(imported));
+        }
+
+        log.info("상품 일괄 등록 완료. total = {}, imported = {}", total, imported);
+        return new ItemInfo.ImportResult(total, imported, total - imported, errors);
+    }
+
     /**
      * 단일 상품 조회
+     * 상품 조회 캐시(로컬 -> Redis)에 없을 때만 DB 에서 읽는다.
      */
     @Override
     public ItemInfo.MainInfo getItem(Long id) {
         log.info("get item simple info by id={}", id);
-        Item item = itemRepository.findItemById(id)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 상품입니다." + id));
 
-        return new ItemInfo.MainInfo(item);
+        return getItemSnapshot(id).toMainInfo();
     }
 
     // v1: 메서드 내에서 상품 종류 파악, 상품에 따른 DTO 에 mapping 후 리턴
@@ -81,44 +151,33 @@ public class ItemServiceImpl implements ItemService {
     public <T> T itemDetail_V1(Long id) {
         log.info("get item detail by id={}", id);
 
-        Item item = itemRepository.findItemById(id)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 상품입니다." + id));
-
-        if (item instanceof Book) {
-            log.info("item is book type");
-            return (T) new ItemInfo.BookItemInfo((Book) item);
-        } else if (item instanceof Album) {
-            log.info("item is album type");
-            return (T) new ItemInfo.AlbumItemInfo((Album) item);
-        } else if (item instanceof Dvd) {
-            log.info("item is dvd type");
-            return (T) new ItemInfo.DvdItemInfo((Dvd) item);
-        }
-
-        return (T) new ItemInfo.DetailInfo<>(item);
+        return (T) getItemSnapshot(id).toTypedInfo();
     }
 
     // v2: 제네릭 상품 DTO 에 상품 엔티티 전달 -> DTO 에서 타입 판별
     @Override
     public ItemInfo.DetailInfo<Item> itemDetail_V2(Long id) {
         log.info("get item detail by id={}", id);
-        Item item = itemRepository.findItemById(id)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 상품입니다." + id));
 
-        return new ItemInfo.DetailInfo<>(item);
+        return getItemSnapshot(id).toDetailInfo();
     }
 
     /**
      * 상품명으로 상품 리스트 검색
+     * 상품명 색인을 쓸 수 있으면 색인 순위대로 상품 id 를 구해 한 번에 조회한다.
      */
     // Query Method 사용 버전 : case insensitive
     @Override
     public List<ItemInfo.MainInfo> searchItemsByName_V1(String name) {
         log.info("search item list by name={}", name);
 
+        var itemIds = itemNameIndex.search(name);
+        if (itemIds.isPresent()) {
+            return findItemsInOrder(itemIds.get());
+        }
+
         return itemRepository.findByNameContainingIgnoreCase(name)
                 .stream()
-                .filter(i -> !i.isDeleted())
                 .map(ItemInfo.MainInfo::new)
                 .collect(Collectors.toList());
     }
@@ -127,6 +186,12 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public List<ItemInfo.MainInfo> searchItemsByName_V2(String name) {
         log.info("search item list by name={}", name);
+
+        var itemIds = itemNameIndex.search(name);
+        if (itemIds.isPresent()) {
+            return findItemsInOrder(itemIds.get());
+        }
+
         return itemRepository.searchItemsByNameIgnoreCase(name)
                 .stream()
                 .map(ItemInfo.MainInfo::new)
@@ -141,10 +206,31 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public Page<ItemInfo.MainInfo> items(ItemCommand.SearchCondition condition, Pageable pageable) {
         log.info("item paging list by search condition...");
-        return itemRepository.findAll(ItemSearchCondition.of(condition), PageRequestUtils.of(pageable))
+        return itemRepository.findAllListInfo(toSearchCondition(condition), PageRequestUtils.of(pageable))
                 .map(ItemInfo.MainInfo::new);
     }
 
+    /**
+     * 전체 상품 리스트 조회 (커서 페이지/정렬/검색 기능)
+     * @param condition
+     * @param cursorRequest
+     */
+    @Override
+    public CursorPage<ItemInfo.MainInfo> items(ItemCommand.SearchCondition condition, CursorRequest cursorRequest) {
+        log.info("item cursor list by search condition...");
+        return itemRepository.findAllListInfo(toSearchCondition(condition), cursorRequest)
+                .map(ItemInfo.MainInfo::new);
+    }
+
+    /**
+     * 상품 리스트 facet 조회 (상품 유형별/가격 구간별/카테고리별 상품 수)
+     * @param condition
+     */
+    @Override
+    public Optional<ItemInfo.FacetInfo> facets(ItemCommand.SearchCondition condition) {
+        return itemFacetIndex.facets(ItemSearchCondition.of(condition));
+    }
+
     /**
      * 상품 전체 리스트 조회
      * @return
@@ -153,9 +239,8 @@ public class ItemServiceImpl implements ItemService {
     public List<ItemInfo.MainInfo> itemList() {
         log.info("get item list...");
 
-        return itemRepository.findAll()
+        return itemRepository.findAllListInfo(new ItemSearchCondition())
                 .stream()
-                .filter(i -> !i.isDeleted())
                 .map(ItemInfo.MainInfo::new)
                 .collect(Collectors.toList());
     }
@@ -183,6 +268,8 @@ public class ItemServiceImpl implements ItemService {
         } else if (item instanceof Dvd) {
             ((Dvd) item).updateDvd(command.getDirector(), command.getActor());
         }
+
+        eventPublisher.publishEvent(ItemChangedEvent.updated(id));
     }
 
     /**
@@ -202,9 +289,101 @@ public class ItemServiceImpl implements ItemService {
 
         // 상품 삭제
         item.delete();
+
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(id));
+    }
+
+    // 상품명 조건은 색인 검색 결과(상품 id)로 대체 -> LIKE 전체 스캔 없이 IN 조회
+    private ItemSearchCondition toSearchCondition(ItemCommand.SearchCondition condition) {
+        var searchCondition = ItemSearchCondition.of(condition);
+
+        if (searchCondition.getName() == null) {
+            return searchCondition;
+        }
+
+        return itemNameIndex.searchForFilter(searchCondition.getName())
+                .map(searchCondition::withItemIds)
+                .orElse(searchCondition);
+    }
+
+    // 색인 순위 순서대로 상품 조회 (한 번의 IN 조회, 삭제된 상품 제외)
+    private List<ItemInfo.MainInfo> findItemsInOrder(List<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, ItemQueryInfo.ListInfo> items = itemRepository.findAllListInfo(ItemSearchCondition.builder()
+                        .itemIds(itemIds)
+                        .build()).stream()
+                .collect(Collectors.toMap(ItemQueryInfo.ListInfo::getItemId, Function.identity()));
+
+        return itemIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .map(ItemInfo.MainInfo::new)
+                .collect(Collectors.toList());
+    }
+
+    private ItemSnapshot getItemSnapshot(Long id) {
+        return itemViewCache.get(id, () -> ItemSnapshot.of(itemRepository.findItemById(id)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 상품입니다." + id))));
     }
 
     // 상품 - 카테고리 설정 메소드
+    // batch 단위 등록 -> 등록된 행 수
+    private int importBatch(List<ItemCommand.ImportRow> batch, List<ItemInfo.ImportError> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertImportRows(batch));
+            return batch.size();
+        } catch (DataAccessException e) {
+            log.warn("상품 일괄 등록 batch 실패 -> 한 건씩 재시도. rows = {}, cause = {}", batch.size(), e.getMostSpecificCause().getMessage());
+        }
+
+        int imported = 0;
+        for (ItemCommand.ImportRow row : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertImportRows(List.of(row)));
+                imported++;
+            } catch (DataAccessException e) {
+                addImportError(errors, row.getRowNumber(), "등록 실패: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        return imported;
+    }
+
+    private void insertImportRows(List<ItemCommand.ImportRow> rows) {
+        var itemIds = itemJdbcRepository.insertItems(rows.stream()
+                .map(ItemCommand.ImportRow::toEntity)
+                .collect(Collectors.toList()));
+
+        itemJdbcRepository.insertCategoryItems(itemIds, rows.stream()
+                .map(ItemCommand.ImportRow::getCategoryId)
+                .collect(Collectors.toList()));
+    }
+
+    // 요청 계층의 검증 결과(error), 상품 유형, 카테고리 확인 -> 오류 사유, 정상이면 null
+    private String validateImportRow(ItemCommand.ImportRow row, Set<Long> categoryIds) {
+        if (row.getError() != null) {
+            return row.getError();
+        }
+
+        var type = row.getType() == null ? "" : row.getType().toUpperCase(Locale.ROOT);
+        if (!List.of("BOOK", "ALBUM", "DVD").contains(type)) {
+            return "지원하지 않는 상품 유형입니다. type = " + row.getType();
+        }
+        if (row.getCategoryId() == null || !categoryIds.contains(row.getCategoryId())) {
+            return "존재하지 않는 카테고리입니다. categoryId = " + row.getCategoryId();
+        }
+
+        return null;
+    }
+
+    private void addImportError(List<ItemInfo.ImportError> errors, long rowNumber, String message) {
+        if (errors.size() < MAX_IMPORT_ERRORS) {
+            errors.add(new ItemInfo.ImportError(rowNumber, message));
+        }
+    }
+
     private void setCategoryItem(Long categoryId, Item item) {
         log.info("setting category-item...");
         Category category = categoryRepository.findCategoryById(categoryId)
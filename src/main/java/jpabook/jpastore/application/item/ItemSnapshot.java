@@ -0,0 +1,87 @@
+package jpabook.jpastore.application.item;
+
+import jpabook.jpastore.domain.Money;
+import jpabook.jpastore.domain.item.Album;
+import jpabook.jpastore.domain.item.Book;
+import jpabook.jpastore.domain.item.Dvd;
+import jpabook.jpastore.domain.item.Item;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 조회 캐시 값 (로컬 캐시 / Redis JSON)
+ * 엔티티 대신 조회에 필요한 값만 담아 두고, 요청한 조회 형태(ItemInfo)로 변환해 반환한다.
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemSnapshot {
+
+    private Long itemId;
+    private Type type;
+    private String name;
+    private int price;
+    private int stockQuantity;
+    private String author;
+    private String isbn;
+    private String artist;
+    private String etc;
+    private String actor;
+    private String director;
+
+    public enum Type {
+        BOOK, ALBUM, DVD, ITEM
+    }
+
+    public static ItemSnapshot of(Item item) {
+        var snapshot = new ItemSnapshot();
+
+        snapshot.itemId = item.getId();
+        snapshot.name = item.getName();
+        snapshot.price = item.getPrice().getValue();
+        snapshot.stockQuantity = item.getStockQuantity();
+
+        if (item instanceof Book) {
+            snapshot.type = Type.BOOK;
+            snapshot.author = ((Book) item).getAuthor();
+            snapshot.isbn = ((Book) item).getIsbn();
+        } else if (item instanceof Album) {
+            snapshot.type = Type.ALBUM;
+            snapshot.artist = ((Album) item).getArtist();
+            snapshot.etc = ((Album) item).getEtc();
+        } else if (item instanceof Dvd) {
+            snapshot.type = Type.DVD;
+            snapshot.actor = ((Dvd) item).getActor();
+            snapshot.director = ((Dvd) item).getDirector();
+        } else {
+            snapshot.type = Type.ITEM;
+        }
+
+        return snapshot;
+    }
+
+    public ItemInfo.MainInfo toMainInfo() {
+        return new ItemInfo.MainInfo(itemId, name, new Money(price), stockQuantity);
+    }
+
+    public ItemInfo.DetailInfo<Item> toDetailInfo() {
+        return new ItemInfo.DetailInfo<>(itemId, name, new Money(price), stockQuantity,
+                author, isbn, artist, etc, actor, director);
+    }
+
+    // 상품 종류별 조회 형태 (itemDetail_V1)
+    public Object toTypedInfo() {
+        switch (type) {
+            case BOOK:
+                return new ItemInfo.BookItemInfo(itemId, name, new Money(price), stockQuantity, author, isbn);
+            case ALBUM:
+                return new ItemInfo.AlbumItemInfo(itemId, name, new Money(price), stockQuantity, artist, etc);
+            case DVD:
+                return new ItemInfo.DvdItemInfo(itemId, name, new Money(price), stockQuantity, actor, director);
+            default:
+                return toDetailInfo();
+        }
+    }
+}
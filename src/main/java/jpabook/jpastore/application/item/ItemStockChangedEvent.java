@@ -0,0 +1,19 @@
+package jpabook.jpastore.application.item;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+
+/**
+ * 주문/취소로 상품 재고가 바뀐 이벤트 -> 트랜잭션 커밋 이후 상품 조회 캐시 무효화에 사용
+ * (관리자 재고 수정은 ItemChangedEvent 로 전달된다)
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class ItemStockChangedEvent {
+
+    private final Collection<Long> itemIds;
+}
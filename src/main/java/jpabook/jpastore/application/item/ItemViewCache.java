@@ -0,0 +1,225 @@
+package jpabook.jpastore.application.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 단건 조회 2단계 캐시 (로컬 -> Redis -> DB)
+ * 상품 수정/삭제/재고 변경 커밋 이후 로컬/Redis 값을 지우고, 다른 노드의 로컬 캐시는 Redis pub/sub 메시지로 지운다.
+ * 조회와 무효화가 겹쳐 이전 값이 다시 저장되거나 메시지가 유실되어도 오래된 값은 각 단계의 TTL 이상 남지 않는다.
+ * Redis 호출이 실패하면 redis-retry-after-ms 동안 Redis 를 건너뛰고 로컬 -> DB 로만 조회한다. (장애 중 요청마다 타임아웃을 기다리지 않음)
+ */
+@Slf4j
+@Component
+public class ItemViewCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "item:view:";
+    private static final String INVALIDATION_CHANNEL = "item:view:invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final long redisRetryAfterMs;
+    private final Cache<Long, ItemSnapshot> localCache;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter localInvalidationCounter;
+    private final Counter remoteInvalidationCounter;
+    private final Counter redisSkippedCounter;
+
+    // 이 시각(ms) 전까지 Redis 호출을 건너뛴다
+    private volatile long redisSkipUntil;
+
+    public ItemViewCache(StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         RedisMessageListenerContainer listenerContainer,
+                         @Value("${jpastore.item.cache.enabled:true}") boolean enabled,
+                         @Value("${jpastore.item.cache.local-max-size:10000}") long localMaxSize,
+                         @Value("${jpastore.item.cache.local-ttl-ms:5000}") long localTtlMs,
+                         @Value("${jpastore.item.cache.redis-ttl-ms:60000}") long redisTtlMs,
+                         @Value("${jpastore.item.cache.redis-retry-after-ms:5000}") long redisRetryAfterMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        this.redisRetryAfterMs = redisRetryAfterMs;
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .recordStats()
+                .build();
+
+        // 로컬 캐시 hit/miss/eviction -> cache.gets, cache.evictions (cache=item.view.local)
+        GuavaCacheMetrics.monitor(meterRegistry, localCache, "item.view.local");
+
+        this.redisHitCounter = Counter.builder("item.view.redis")
+                .tag("result", "hit")
+                .description("로컬 캐시에 없어 Redis 에서 찾은 상품 조회 수")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("item.view.redis")
+                .tag("result", "miss")
+                .description("Redis 에도 없어 DB 에서 읽은 상품 조회 수")
+                .register(meterRegistry);
+        this.localInvalidationCounter = Counter.builder("item.view.invalidation")
+                .tag("source", "local")
+                .description("이 노드의 변경으로 무효화한 상품 수")
+                .register(meterRegistry);
+        this.remoteInvalidationCounter = Counter.builder("item.view.invalidation")
+                .tag("source", "remote")
+                .description("다른 노드의 무효화 메시지로 지운 상품 수")
+                .register(meterRegistry);
+        this.redisSkippedCounter = Counter.builder("item.view.redis.skipped")
+                .description("Redis 장애로 Redis 를 건너뛴 캐시 호출 수")
+                .register(meterRegistry);
+
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    // 캐시에 없으면 loader 로 DB 에서 읽어 로컬/Redis 에 저장 (loader 예외는 저장 없이 그대로 전달)
+    public ItemSnapshot get(Long itemId, Supplier<ItemSnapshot> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        var snapshot = localCache.getIfPresent(itemId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        snapshot = readRedis(itemId);
+        if (snapshot != null) {
+            redisHitCounter.increment();
+        } else {
+            redisMissCounter.increment();
+            snapshot = loader.get();
+            writeRedis(snapshot);
+        }
+
+        localCache.put(itemId, snapshot);
+        return snapshot;
+    }
+
+    public void evict(Collection<Long> itemIds) {
+        if (!enabled || itemIds.isEmpty()) {
+            return;
+        }
+
+        localCache.invalidateAll(itemIds);
+        localInvalidationCounter.increment(itemIds.size());
+
+        if (!redisAvailable()) {
+            return;
+        }
+
+        try {
+            redisTemplate.delete(itemIds.stream().map(ItemViewCache::key).collect(Collectors.toList()));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    itemIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            // Redis 장애 시 다른 노드의 값은 TTL 이 지나면 사라진다
+            redisFailed();
+            log.warn("상품 조회 캐시 무효화 실패. itemIds = {}", itemIds, e);
+        }
+    }
+
+    // 상품 수정/삭제 (등록은 캐시에 값이 없으므로 제외)
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.getType() == ItemChangedEvent.Type.CREATED) return;
+
+        evict(List.of(event.getItemId()));
+    }
+
+    // 주문/취소 재고 변경 (트랜잭션 밖에서 반영되는 재고 동기화도 받기 위해 fallbackExecution)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemStockChanged(ItemStockChangedEvent event) {
+        evict(event.getItemIds());
+    }
+
+    // 다른 노드(자기 자신 포함)의 무효화 메시지 -> 로컬 캐시만 지운다
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var itemIds = Arrays.stream(new String(message.getBody(), StandardCharsets.UTF_8).split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+
+        localCache.invalidateAll(itemIds);
+        remoteInvalidationCounter.increment(itemIds.size());
+    }
+
+    private ItemSnapshot readRedis(Long itemId) {
+        if (!redisAvailable()) {
+            return null;
+        }
+
+        try {
+            var json = redisTemplate.opsForValue().get(key(itemId));
+            return json == null ? null : objectMapper.readValue(json, ItemSnapshot.class);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 조회 캐시 읽기 실패. itemId = {}", itemId, e);
+            return null;
+        } catch (RuntimeException e) {
+            redisFailed();
+            log.warn("상품 조회 캐시 읽기 실패. itemId = {}", itemId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(ItemSnapshot snapshot) {
+        if (!redisAvailable()) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(key(snapshot.getItemId()), objectMapper.writeValueAsString(snapshot), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 조회 캐시 저장 실패. itemId = {}", snapshot.getItemId(), e);
+        } catch (RuntimeException e) {
+            redisFailed();
+            log.warn("상품 조회 캐시 저장 실패. itemId = {}", snapshot.getItemId(), e);
+        }
+    }
+
+    private boolean redisAvailable() {
+        if (System.currentTimeMillis() < redisSkipUntil) {
+            redisSkippedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private void redisFailed() {
+        redisSkipUntil = System.currentTimeMillis() + redisRetryAfterMs;
+    }
+
+    private static String key(Long itemId) {
+        return KEY_PREFIX + itemId;
+    }
+}
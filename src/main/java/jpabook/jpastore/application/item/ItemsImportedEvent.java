@@ -0,0 +1,16 @@
+package jpabook.jpastore.application.item;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 일괄 등록 완료 이벤트 -> 상품마다 ItemChangedEvent 를 보내는 대신, 메모리 색인들이 한 번에 재생성한다
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class ItemsImportedEvent {
+
+    private final long importedCount;
+}
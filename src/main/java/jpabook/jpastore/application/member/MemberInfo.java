@@ -1,7 +1,6 @@
 package jpabook.jpastore.application.member;
 
 import jpabook.jpastore.domain.Address;
-import jpabook.jpastore.domain.Money;
 import jpabook.jpastore.domain.member.Member;
 import jpabook.jpastore.domain.membership.Grade;
 import jpabook.jpastore.domain.membership.Membership;
@@ -21,11 +20,16 @@ public class MemberInfo {
         private MembershipInfo membership;
 
         public MainInfo(Member entity) {
+            this(entity, 0);
+        }
+
+        // pendingSpending: 아직 멤버십에 반영되지 않은 누적 구매 금액 원장 합계
+        public MainInfo(Member entity, long pendingSpending) {
             this.memberId = entity.getId();
             this.username = entity.getUsername();
             this.phoneNumber = entity.getPhoneNumber();
             this.address = new AddressInfo(entity.getAddress());
-            this.membership = new MembershipInfo(entity.getMembership());
+            this.membership = new MembershipInfo(entity.getMembership(), pendingSpending);
         }
     }
 
@@ -52,12 +56,16 @@ public class MemberInfo {
     public static class MembershipInfo {
         private Long membershipId;
         private Grade grade;
-        private Money totalSpending;
+        private long totalSpending; // 반영된 금액 + 미반영 원장 합계 (int 범위를 넘을 수 있음)
 
         public MembershipInfo(Membership entity) {
+            this(entity, 0);
+        }
+
+        public MembershipInfo(Membership entity, long pendingSpending) {
             this.membershipId = entity.getId();
             this.grade = entity.getGrade();
-            this.totalSpending = entity.getTotalSpending();
+            this.totalSpending = entity.getTotalSpending().getValue() + pendingSpending;
         }
     }
 }
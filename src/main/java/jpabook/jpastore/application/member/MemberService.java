@@ -1,5 +1,7 @@
 package jpabook.jpastore.application.member;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.domain.membership.Grade;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +18,8 @@ public interface MemberService {
     // 전체 회원 리스트 조회 (페이징/정렬/검색(username, 등급))
     Page<MemberInfo.MainInfo> members(String username, Grade grade, Pageable pageable);
 
+    CursorPage<MemberInfo.MainInfo> members(String username, Grade grade, CursorRequest cursorRequest);
+
     // 회원 id or username 으로 회원 상세 조회
     MemberInfo.MainInfo getMember(Long id);
 
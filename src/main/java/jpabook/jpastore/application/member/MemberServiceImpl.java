@@ -1,5 +1,7 @@
 package jpabook.jpastore.application.member;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.common.exception.DuplicateEmailException;
 import jpabook.jpastore.common.exception.DuplicateNameException;
 import jpabook.jpastore.common.exception.EntityNotFoundException;
@@ -7,6 +9,8 @@ import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.domain.member.Member;
 import jpabook.jpastore.domain.member.MemberRepository;
 import jpabook.jpastore.domain.membership.Grade;
+import jpabook.jpastore.domain.membership.MembershipSpending;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedgerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,6 +32,7 @@ import java.util.stream.Collectors;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
+    private final MembershipSpendingLedgerRepository spendingLedgerRepository;
     private final PasswordEncoder passwordEncoder;
 
     /**
@@ -57,13 +64,12 @@ public class MemberServiceImpl implements MemberService {
     public List<MemberInfo.MainInfo> listMembers(String username, Grade grade) {
         log.info("selecting members by username, grade : {}, {}", username, grade);
 
-        if (!StringUtils.hasText(username) && grade == null) {
-            return memberRepository.findAllWithMembership().stream()
-                    .map(MemberInfo.MainInfo::new).collect(Collectors.toList());
-        }
+        var members = (!StringUtils.hasText(username) && grade == null)
+                ? memberRepository.findAllWithMembership()
+                : memberRepository.findAllWithMembership(username, grade);
 
-        return memberRepository.findAllWithMembership(username, grade).stream()
-                .map(MemberInfo.MainInfo::new)
+        return members.stream()
+                .map(toMainInfo(members))
                 .collect(Collectors.toList());
     }
 
@@ -72,12 +78,20 @@ public class MemberServiceImpl implements MemberService {
         log.info("searching members and paging by username : {}, grade : {}", username, grade);
 
         // 검색 데이터가 없는 경우
-        if (!StringUtils.hasText(username) && grade == null) {
-            return memberRepository.findAllWithMembership(PageRequestUtils.of(pageable)).map(MemberInfo.MainInfo::new);
-        }
+        var members = (!StringUtils.hasText(username) && grade == null)
+                ? memberRepository.findAllWithMembership(PageRequestUtils.of(pageable))
+                : memberRepository.findAllWithMembership(username, grade, PageRequestUtils.of(pageable));
+
+        return members.map(toMainInfo(members.getContent()));
+    }
+
+    @Override
+    public CursorPage<MemberInfo.MainInfo> members(String username, Grade grade, CursorRequest cursorRequest) {
+        log.info("searching members by cursor. username : {}, grade : {}", username, grade);
+
+        var members = memberRepository.findAllWithMembership(username, grade, cursorRequest);
 
-        return memberRepository.findAllWithMembership(username, grade, PageRequestUtils.of(pageable))
-                .map(MemberInfo.MainInfo::new);
+        return members.map(toMainInfo(members.getContent()));
     }
 
     /**
@@ -93,7 +107,7 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() ->
                         new EntityNotFoundException("존재하지 않는 회원입니다. id : " + id));
 
-        return new MemberInfo.MainInfo(member);
+        return new MemberInfo.MainInfo(member, pendingSpending(member));
     }
 
     // 회원 username 으로 회원 상세 조회
@@ -106,7 +120,7 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() ->
                         new EntityNotFoundException("존재하지 않는 회원입니다. username : " + username));
 
-        return new MemberInfo.MainInfo(member);
+        return new MemberInfo.MainInfo(member, pendingSpending(member));
     }
 
     // authUsername 을 통한 본인 확인 후 회원 조회 by id
@@ -125,7 +139,7 @@ public class MemberServiceImpl implements MemberService {
 
         member.hasAuthority(authenticatedMember); // 상세 조회 권한 없을 경우 에러 발생.
 
-        return new MemberInfo.MainInfo(member);
+        return new MemberInfo.MainInfo(member, pendingSpending(member));
     }
 
     /**
@@ -182,4 +196,24 @@ public class MemberServiceImpl implements MemberService {
                     throw new DuplicateNameException();
                 });
     }
+
+    // 아직 멤버십에 반영되지 않은 누적 구매 금액 원장 합계
+    private long pendingSpending(Member member) {
+        return spendingLedgerRepository.sumUnfoldedAmount(member.getMembership().getId());
+    }
+
+    // 회원 리스트의 미반영 원장 합계를 한 번에 조회해 MainInfo 로 변환
+    private Function<Member, MemberInfo.MainInfo> toMainInfo(List<Member> members) {
+        if (members.isEmpty()) {
+            return MemberInfo.MainInfo::new;
+        }
+
+        var membershipIds = members.stream()
+                .map(member -> member.getMembership().getId())
+                .collect(Collectors.toSet());
+        Map<Long, Long> pending = spendingLedgerRepository.sumUnfoldedAmounts(membershipIds).stream()
+                .collect(Collectors.toMap(MembershipSpending::getMembershipId, MembershipSpending::getAmount));
+
+        return member -> new MemberInfo.MainInfo(member, pending.getOrDefault(member.getMembership().getId(), 0L));
+    }
 }
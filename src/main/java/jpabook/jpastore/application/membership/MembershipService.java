@@ -5,4 +5,7 @@ public interface MembershipService {
     void updateMembershipsByDirtyChecking();
 
     void updateMembershipsByBulkUpdate();
+
+    // 누적 구매 금액 원장 반영 -> 최대 chunkSize 건을 멤버십별로 합산해 totalSpending 에 더한다. 반영한 원장 수 반환
+    int foldSpendingLedger(int chunkSize);
 }
@@ -3,19 +3,29 @@ package jpabook.jpastore.application.membership;
 import jpabook.jpastore.domain.membership.Grade;
 import jpabook.jpastore.domain.membership.Membership;
 import jpabook.jpastore.domain.membership.MembershipRepository;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedger;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedgerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class MembershipServiceImpl implements MembershipService {
+
+    // 분기별 업데이트 전 원장 전체 반영 시 청크 크기
+    private static final int FOLD_CHUNK_SIZE = 1000;
+
     private final MembershipRepository membershipRepository;
+    private final MembershipSpendingLedgerRepository spendingLedgerRepository;
 
     /**
      * 분기별 전 회원 멤버십 업데이트 : 이전 분기의 회원 총 지출누적액에 따른 등급 조정 & 총 지출액 0으로 reset
@@ -26,8 +36,9 @@ public class MembershipServiceImpl implements MembershipService {
     @Transactional
     public void updateMembershipsByDirtyChecking() {
         log.info("updating memberships by dirty checking...");
-        List<Membership> memberships = membershipRepository.findAll().stream()
-                .filter(membership -> !membership.isDeleted()).collect(Collectors.toList());
+        foldAllSpendingLedger();
+
+        List<Membership> memberships = membershipRepository.findAll();
 
         for (Membership membership : memberships) {
             membership.updateMembership();
@@ -40,6 +51,7 @@ public class MembershipServiceImpl implements MembershipService {
     @Transactional
     public void updateMembershipsByBulkUpdate() {
         log.info("updating memberships by bulk update...");
+        foldAllSpendingLedger();
 
         // SILVER 등급 업데이트
         membershipRepository.bulkUpdateGrade(Grade.SILVER.getGreaterEqual(),
@@ -55,4 +67,45 @@ public class MembershipServiceImpl implements MembershipService {
         // 총지출 0으로 모두 RESET
         membershipRepository.bulkResetTotalSpending();
     }
+
+    /**
+     * 누적 구매 금액 원장 반영
+     * 원장을 id 순으로 락 조회해 멤버십별로 합산하고, 멤버십마다 한 번의 상대값 UPDATE 로 반영한다.
+     */
+    @Override
+    @Transactional
+    public int foldSpendingLedger(int chunkSize) {
+        var ledgers = spendingLedgerRepository.findUnfoldedForUpdate(PageRequest.of(0, chunkSize));
+
+        if (ledgers.isEmpty()) {
+            return 0;
+        }
+
+        // 멤버십 id 오름차순으로 UPDATE -> 반영 작업 간 데드락 방지
+        Map<Long, Integer> amounts = ledgers.stream()
+                .collect(Collectors.toMap(MembershipSpendingLedger::getMembershipId, MembershipSpendingLedger::getAmount,
+                        Integer::sum, TreeMap::new));
+        var ledgerIds = ledgers.stream()
+                .map(MembershipSpendingLedger::getId)
+                .collect(Collectors.toList());
+
+        amounts.forEach((membershipId, amount) -> {
+            if (amount != 0) {
+                membershipRepository.addTotalSpending(membershipId, amount);
+            }
+        });
+        spendingLedgerRepository.markFolded(ledgerIds);
+
+        log.info("누적 구매 금액 원장 반영. ledgers = {}, memberships = {}", ledgerIds.size(), amounts.size());
+
+        return ledgerIds.size();
+    }
+
+    // 분기 누적 금액은 원장까지 모두 반영된 값 기준 (같은 트랜잭션 안에서 반영 후 등급 산정)
+    private void foldAllSpendingLedger() {
+        int folded;
+        do {
+            folded = foldSpendingLedger(FOLD_CHUNK_SIZE);
+        } while (folded == FOLD_CHUNK_SIZE);
+    }
 }
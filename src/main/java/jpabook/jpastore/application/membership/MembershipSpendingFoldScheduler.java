@@ -0,0 +1,51 @@
+package jpabook.jpastore.application.membership;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 누적 구매 금액 원장(MembershipSpendingLedger)을 주기적으로 Membership.totalSpending 에 반영한다.
+ * 청크마다 별도 트랜잭션이며, 원장을 SKIP LOCKED 락 조회로 선점하므로 여러 노드에서 실행되어도 중복 반영되지 않고 서로 기다리지 않는다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "jpastore.membership.spending-fold.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class MembershipSpendingFoldScheduler {
+
+    private final MembershipService membershipService;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final Counter foldedCounter;
+
+    public MembershipSpendingFoldScheduler(MembershipService membershipService,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${jpastore.membership.spending-fold.chunk-size:1000}") int chunkSize,
+                                           @Value("${jpastore.membership.spending-fold.max-chunks-per-run:20}") int maxChunksPerRun) {
+        this.membershipService = membershipService;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+
+        this.foldedCounter = Counter.builder("membership.spending.folded")
+                .description("멤버십 누적 구매 금액에 반영된 원장 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.membership.spending-fold.delay-ms:5000}")
+    public void fold() {
+        int chunks = 0;
+        int folded;
+
+        // 청크가 가득 차 있으면 남은 원장이 있다고 보고 계속 처리 (한 주기 최대 maxChunksPerRun 청크)
+        do {
+            folded = membershipService.foldSpendingLedger(chunkSize);
+            chunks++;
+            foldedCounter.increment(folded);
+        } while (folded == chunkSize && chunks < maxChunksPerRun);
+    }
+}
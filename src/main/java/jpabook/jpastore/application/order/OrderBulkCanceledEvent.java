@@ -0,0 +1,19 @@
+package jpabook.jpastore.application.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 주문 일괄 취소 이벤트 (미입금 주문 만료 등 set-based 취소)
+ * 주문마다 OrderChangedEvent 를 보내는 대신 한 번에 보내서 조회 모델/매출 집계도 일괄로 갱신한다.
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class OrderBulkCanceledEvent {
+
+    private final List<Long> orderIds;
+}
@@ -0,0 +1,37 @@
+package jpabook.jpastore.application.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 주문 생성/취소/주문 상태 변경/배송 상태 변경 이벤트 -> 주문 조회 모델(order_summaries) 갱신에 사용
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class OrderChangedEvent {
+
+    private final Long orderId;
+    private final Type type;
+
+    public enum Type {
+        CREATED, CANCELED, STATUS_CHANGED, DELIVERY_CHANGED
+    }
+
+    public static OrderChangedEvent created(Long orderId) {
+        return new OrderChangedEvent(orderId, Type.CREATED);
+    }
+
+    public static OrderChangedEvent canceled(Long orderId) {
+        return new OrderChangedEvent(orderId, Type.CANCELED);
+    }
+
+    public static OrderChangedEvent statusChanged(Long orderId) {
+        return new OrderChangedEvent(orderId, Type.STATUS_CHANGED);
+    }
+
+    public static OrderChangedEvent deliveryChanged(Long orderId) {
+        return new OrderChangedEvent(orderId, Type.DELIVERY_CHANGED);
+    }
+}
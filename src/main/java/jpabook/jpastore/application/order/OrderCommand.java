@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.With;
 
 import java.util.List;
 
@@ -23,6 +24,10 @@ public class OrderCommand {
         private String street;
         private String zipcode;
         private Pay payInfo;
+
+        // Idempotency-Key 요청의 recordKey -> 주문과 같은 트랜잭션에 저장 (요청 fingerprint 에는 포함되지 않음)
+        @With
+        private String idempotencyKey;
     }
 
     @ToString
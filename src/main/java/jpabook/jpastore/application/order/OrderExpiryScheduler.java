@@ -0,0 +1,76 @@
+package jpabook.jpastore.application.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 입금 기한이 지난 무통장 입금(BANK_TRANS) 결제 대기 주문을 주기적으로 만료시켜 묶여 있던 재고를 복구한다.
+ * 청크마다 별도 트랜잭션이며, 대상 주문을 락 조회로 선점하므로 여러 노드에서 실행되어도 중복 처리되지 않는다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "jpastore.order.expiry.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class OrderExpiryScheduler {
+
+    private final OrderService orderService;
+    private final Duration paymentTimeout;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final Counter expiredCounter;
+    private final Counter restoredCounter;
+    private final Timer chunkTimer;
+
+    public OrderExpiryScheduler(OrderService orderService,
+                                MeterRegistry meterRegistry,
+                                @Value("${jpastore.order.expiry.payment-timeout-hours:72}") long paymentTimeoutHours,
+                                @Value("${jpastore.order.expiry.chunk-size:200}") int chunkSize,
+                                @Value("${jpastore.order.expiry.max-chunks-per-run:50}") int maxChunksPerRun) {
+        this.orderService = orderService;
+        this.paymentTimeout = Duration.ofHours(paymentTimeoutHours);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+
+        this.expiredCounter = Counter.builder("order.expiry.expired")
+                .description("입금 기한이 지나 취소된 주문 수")
+                .register(meterRegistry);
+        this.restoredCounter = Counter.builder("order.expiry.restored.quantity")
+                .description("만료된 주문에서 복구된 재고 수량")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("order.expiry.chunk")
+                .description("만료 청크 하나를 처리하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.order.expiry.delay-ms:60000}")
+    public void expire() {
+        var createdBefore = LocalDateTime.now().minus(paymentTimeout);
+
+        int chunks = 0;
+        int expired = 0;
+        OrderInfo.ExpiryResult result;
+
+        // 청크가 가득 차 있으면 남은 대상이 있다고 보고 계속 처리 (한 주기 최대 maxChunksPerRun 청크)
+        do {
+            result = chunkTimer.record(() -> orderService.expireUnpaidOrders(createdBefore, chunkSize));
+            chunks++;
+            expired += result.getOrderCount();
+
+            expiredCounter.increment(result.getOrderCount());
+            restoredCounter.increment(result.getRestoredQuantity());
+        } while (result.getOrderCount() == chunkSize && chunks < maxChunksPerRun);
+
+        if (expired > 0) {
+            log.info("미입금 주문 만료 처리 완료. orders={}, chunks={}, createdBefore={}", expired, chunks, createdBefore);
+        }
+    }
+}
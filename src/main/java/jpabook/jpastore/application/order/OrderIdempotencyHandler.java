@@ -0,0 +1,233 @@
+package jpabook.jpastore.application.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hashing;
+import jpabook.jpastore.common.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Idempotency-Key 헤더 처리
+ * - 같은 키로 다시 요청하면 주문을 다시 실행하지 않고 처음 결과(주문/티켓 id)를 그대로 반환
+ * - 처리 중인 같은 키의 요청은 진행 중인 결과를 기다림 (같은 노드: future, 다른 노드: redis 폴링)
+ * - 처리 중 표시는 실행이 끝날 때까지 주기적으로 연장하고, 실행 결과에도 키(recordKey)를 함께 저장한다
+ *   -> 결과 저장(redis)에 실패하거나 표시가 만료되어도 같은 키로 주문이 두 번 생성되지 않음 (DB unique)
+ * redis 에 저장되는 값 = {요청 fingerprint}:{결과 id} 또는 {요청 fingerprint}:PENDING:{처리 중인 요청 id}
+ */
+@Slf4j
+@Component
+public class OrderIdempotencyHandler {
+
+    private static final String KEY_PREFIX = "IDEMPOTENCY:"; // IDEMPOTENCY:{scope}:{username}:{key}
+    private static final String PENDING = "PENDING";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final RedisTemplate<String, Object> jwtRedisTemplate;
+    private final ObjectMapper canonicalMapper;
+    private final Duration resultTtl;
+    private final Duration pendingTtl;
+
+    private final RedisScript<Long> releaseScript = script("redis/idempotency-release.lua");
+    private final RedisScript<Long> refreshScript = script("redis/idempotency-refresh.lua");
+
+    // 같은 노드에서 처리 중인 요청
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    // 처리 중 표시 연장
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "idempotency-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderIdempotencyHandler(RedisTemplate<String, Object> jwtRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${jpastore.order.idempotency.result-ttl-hours:24}") long resultTtlHours,
+                                   @Value("${jpastore.order.idempotency.pending-ttl-ms:30000}") long pendingTtlMillis) {
+        this.jwtRedisTemplate = jwtRedisTemplate;
+        // 필드/map key 순서를 고정한 JSON -> 같은 내용의 요청은 항상 같은 fingerprint
+        this.canonicalMapper = objectMapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.resultTtl = Duration.ofHours(resultTtlHours);
+        this.pendingTtl = Duration.ofMillis(pendingTtlMillis);
+    }
+
+    /**
+     * @param action recordKey(scope, 사용자, 키의 SHA-256) 를 받아 실행 -> 결과와 같은 트랜잭션에 저장해야 한다
+     */
+    public Long execute(String scope, String idempotencyKey, String username,
+                        Object request, Function<String, Long> action) {
+        var key = KEY_PREFIX + scope + ":" + username + ":" + idempotencyKey;
+        var recordKey = sha256(key);
+        var fingerprint = fingerprint(request);
+
+        var current = new InFlight(fingerprint);
+        var running = inFlight.putIfAbsent(key, current);
+
+        if (running != null) {
+            // 같은 키의 다른 요청은 기다리지 않고 거절 (다른 노드에서 처리 중인 경우와 같은 기준)
+            if (!running.fingerprint.equals(fingerprint)) {
+                log.error("다른 요청에 사용된 Idempotency-Key 입니다. key={}", key);
+                throw new BadRequestException("다른 요청에 사용된 Idempotency-Key 입니다.");
+            }
+
+            log.info("처리 중인 요청 대기. key={}", key);
+            return await(running.future);
+        }
+
+        try {
+            Long result = executeOnce(key, fingerprint, () -> action.apply(recordKey));
+            current.future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            current.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, current);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdown();
+    }
+
+    private Long executeOnce(String key, String fingerprint, Callable<Long> action) {
+        long deadline = System.currentTimeMillis() + pendingTtl.toMillis();
+        var marker = fingerprint + ":" + PENDING + ":" + UUID.randomUUID();
+
+        while (true) {
+            // 처리 중 표시 선점 -> 성공한 요청만 실제로 실행
+            Boolean acquired = jwtRedisTemplate.opsForValue().setIfAbsent(key, marker, pendingTtl);
+
+            if (Boolean.TRUE.equals(acquired)) {
+                return run(key, marker, fingerprint, action);
+            }
+
+            var stored = (String) jwtRedisTemplate.opsForValue().get(key);
+
+            if (stored != null) {
+                var separator = stored.indexOf(':');
+                var storedFingerprint = stored.substring(0, separator);
+                var storedResult = stored.substring(separator + 1);
+
+                if (!storedFingerprint.equals(fingerprint)) {
+                    log.error("다른 요청에 사용된 Idempotency-Key 입니다. key={}", key);
+                    throw new BadRequestException("다른 요청에 사용된 Idempotency-Key 입니다.");
+                }
+
+                if (!storedResult.startsWith(PENDING)) {
+                    log.info("이미 처리된 요청. 저장된 결과 반환 key={}, result={}", key, storedResult);
+                    return Long.valueOf(storedResult);
+                }
+            }
+
+            // 다른 노드에서 처리 중 -> 결과가 저장되거나 처리 중 표시가 사라질 때까지 대기
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+            }
+            sleep();
+        }
+    }
+
+    private Long run(String key, String marker, String fingerprint, Callable<Long> action) {
+        long refreshMillis = Math.max(1, pendingTtl.toMillis() / 3);
+        var refresh = heartbeat.scheduleAtFixedRate(
+                () -> refreshMarker(key, marker), refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+
+        Long result;
+        try {
+            result = action.call();
+        } catch (Exception e) {
+            // 실패한 요청은 저장하지 않음 -> 같은 키로 재시도 가능 (자신의 처리 중 표시만 삭제)
+            refresh.cancel(false);
+            jwtRedisTemplate.execute(releaseScript, List.of(key), marker);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new IllegalStateException(e);
+        }
+
+        refresh.cancel(false);
+        jwtRedisTemplate.opsForValue().set(key, fingerprint + ":" + result, resultTtl);
+        return result;
+    }
+
+    private void refreshMarker(String key, String marker) {
+        try {
+            jwtRedisTemplate.execute(refreshScript, List.of(key), marker, String.valueOf(pendingTtl.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Idempotency-Key 처리 중 표시 연장 실패. key={}, ex={}", key, e.getMessage());
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return sha256(canonicalMapper.writeValueAsString(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청을 fingerprint 로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private static String sha256(String value) {
+        return Hashing.sha256().hashString(value, StandardCharsets.UTF_8).toString();
+    }
+
+    private Long await(CompletableFuture<Long> running) {
+        try {
+            return running.get(pendingTtl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Idempotency-Key 요청 대기가 중단되었습니다.");
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Idempotency-Key 요청 대기가 중단되었습니다.");
+        }
+    }
+
+    private static RedisScript<Long> script(String path) {
+        var script = new DefaultRedisScript<Long>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private static final class InFlight {
+        private final String fingerprint;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        private InFlight(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -2,8 +2,11 @@ package jpabook.jpastore.application.order;
 
 import jpabook.jpastore.domain.Address;
 import jpabook.jpastore.domain.Money;
+import jpabook.jpastore.domain.order.DeliveryStatus;
 import jpabook.jpastore.domain.order.Order;
 import jpabook.jpastore.domain.order.OrderItem;
+import jpabook.jpastore.domain.order.OrderSummary;
+import jpabook.jpastore.domain.order.OrderTicket;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,6 +29,7 @@ public class OrderInfo {
         private String orderStatus;
         private String deliveryStatus;
         private Money totalPrice;
+        private Integer itemCount;
         private List<OrderItemInfo> orderItems;
         private AddressInfo addressInfo;
 
@@ -36,6 +40,7 @@ public class OrderInfo {
             this.orderStatus = entity.getStatus().getMessage();
             this.deliveryStatus = entity.getDelivery().getStatus().getMessage();
             this.totalPrice = entity.getTotalPrice();
+            this.itemCount = entity.getItemCount();
             orderItems = entity.getOrderItems().stream()
                     .map(OrderItemInfo::new).collect(Collectors.toList());
             this.addressInfo = new AddressInfo(entity.getDelivery().getAddress());
@@ -64,6 +69,32 @@ public class OrderInfo {
         }
     }
 
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class SummaryInfo {
+        private Long orderId;
+        private String memberName;
+        private LocalDateTime orderedDate;
+        private String orderStatus;
+        private String deliveryStatus;
+        private Integer itemCount;
+        private Integer totalPrice;
+        private AddressInfo address;
+
+        public SummaryInfo(OrderSummary entity) {
+            this.orderId = entity.getOrderId();
+            this.memberName = entity.getMemberUsername();
+            this.orderedDate = entity.getOrderedDate();
+            this.orderStatus = entity.getStatus().getMessage();
+            this.deliveryStatus = entity.getDeliveryStatus().getMessage();
+            this.itemCount = entity.getItemCount();
+            this.totalPrice = entity.getTotalPrice();
+            this.address = new AddressInfo(entity.getAddress());
+        }
+    }
+
     @ToString
     @Getter
     @AllArgsConstructor
@@ -96,4 +127,69 @@ public class OrderInfo {
         }
     }
 
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class TicketInfo {
+        private Long ticketId;
+        private String status;
+        private Long orderId;
+        private String failureReason;
+        private LocalDateTime acceptedDate;
+
+        public TicketInfo(OrderTicket entity) {
+            this.ticketId = entity.getId();
+            this.status = entity.getStatus().getMessage();
+            this.orderId = entity.getOrderId();
+            this.failureReason = entity.getFailureReason();
+            this.acceptedDate = entity.getCreatedDate();
+        }
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class DeliveryChangeResult {
+        private Long orderId;
+        private Result result;
+        private DeliveryStatus before;
+        private DeliveryStatus after;
+
+        public enum Result {
+            CHANGED, NOT_FOUND, INVALID_TRANSITION
+        }
+
+        public static DeliveryChangeResult changed(Long orderId, DeliveryStatus before, DeliveryStatus after) {
+            return new DeliveryChangeResult(orderId, Result.CHANGED, before, after);
+        }
+
+        public static DeliveryChangeResult notFound(Long orderId) {
+            return new DeliveryChangeResult(orderId, Result.NOT_FOUND, null, null);
+        }
+
+        public static DeliveryChangeResult invalidTransition(Long orderId, DeliveryStatus current) {
+            return new DeliveryChangeResult(orderId, Result.INVALID_TRANSITION, current, current);
+        }
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ExpiryResult {
+        private int orderCount; // 만료(취소)된 주문 수
+        private int restoredQuantity; // 복구된 재고 수량 합계
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class BulkCancelResult {
+        private List<Long> canceledOrderIds; // 취소된 주문 id
+        private List<Long> skippedOrderIds; // 존재하지 않거나 취소할 수 없는 주문 id
+        private int restoredQuantity; // 복구된 재고 수량 합계
+    }
 }
@@ -1,12 +1,17 @@
 package jpabook.jpastore.application.order;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.domain.order.DeliveryStatus;
 import jpabook.jpastore.domain.order.OrderStatus;
 import jpabook.jpastore.domain.order.repository.OrderQueryInfo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderService {
 
@@ -48,17 +53,41 @@ public interface OrderService {
     // ToOne(Member, Delivery) 페치 조인 + 검색 조건(OrderSearchCondition) + Paging
     Page<OrderInfo.MainInfo> listOrder(OrderCommand.OrderSearchCondition condition, Pageable pageable);
 
+    // 1-6. 커서(keyset) 페이지 조회 -> 깊은 페이지에서도 offset 스캔 없음
+    CursorPage<OrderInfo.MainInfo> listOrder(OrderCommand.OrderSearchCondition condition, CursorRequest cursorRequest);
+
     // 5-1. 주문 simple 정보 리스트 조회 - 쿼리에서 DTO 직접 조회한 간단 조회
     List<OrderQueryInfo.SimpleInfo> listOrderSimpleInfos();
 
+    // 5-3. 주문 내보내기 - 검색 조건에 맞는 주문을 한 건씩 consumer 로 전달 (스트리밍), 전달한 주문 수 반환
+    long exportOrderSimpleInfos(OrderCommand.OrderSearchCondition condition, Consumer<OrderQueryInfo.SimpleInfo> consumer);
+
     // 5-2. 주문 리스트 조회 - 쿼리에서 DTO 직접 조회 (mainInfo)
     // orderItemMap 을 활용한 최적화 -> 1 + 1 쿼리 호출
     List<OrderQueryInfo.MainInfo> listOrderQueryInfos();
 
+    // 6-1. 주문 조회 모델(order_summaries) 검색 + Paging -> join 없는 단일 테이블 조회
+    Page<OrderInfo.SummaryInfo> listOrderSummary(OrderCommand.OrderSearchCondition condition, Pageable pageable);
+
+    // 6-2. 주문 조회 모델 재생성
+    int rebuildOrderSummaries();
+
     void changeDeliveryStatus(Long orderId, DeliveryStatus status);
 
+    // 배송 상태 일괄 변경 (출고 단위) -> 청크 단위 UPDATE, 주문 id 별 결과 반환
+    List<OrderInfo.DeliveryChangeResult> changeDeliveryStatuses(Collection<Long> orderIds, DeliveryStatus status);
+
+    // 검색 조건에 맞는 주문의 배송 상태 일괄 변경
+    List<OrderInfo.DeliveryChangeResult> changeDeliveryStatuses(OrderCommand.OrderSearchCondition condition, DeliveryStatus status);
+
     void changeOrderStatus(Long orderId, OrderStatus status);
 
     // 주문 취소
     void cancelOrder(Long orderId, String authUsername);
+
+    // 주문 일괄 취소 (관리자) -> 청크별 트랜잭션, 상품별 재고/멤버십별 누적 금액을 합산해 한 번씩만 복구
+    OrderInfo.BulkCancelResult cancelOrders(Collection<Long> orderIds);
+
+    // 입금 기한(createdBefore)이 지난 무통장 입금 결제 대기 주문 만료 -> 최대 chunkSize 건 취소 및 재고 복구
+    OrderInfo.ExpiryResult expireUnpaidOrders(LocalDateTime createdBefore, int chunkSize);
 }
@@ -1,25 +1,40 @@
 package jpabook.jpastore.application.order;
 
+import jpabook.jpastore.application.item.ItemStockChangedEvent;
+import jpabook.jpastore.application.order.stock.OrderStockHandler;
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
+import jpabook.jpastore.common.exception.BadRequestException;
 import jpabook.jpastore.common.exception.EntityNotFoundException;
 import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.domain.Address;
-import jpabook.jpastore.domain.item.Item;
-import jpabook.jpastore.domain.item.ItemRepository;
 import jpabook.jpastore.domain.member.Member;
 import jpabook.jpastore.domain.member.MemberRepository;
+import jpabook.jpastore.domain.membership.MembershipSpending;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedger;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedgerRepository;
 import jpabook.jpastore.domain.order.*;
+import jpabook.jpastore.domain.order.repository.DeliveryRepository;
+import jpabook.jpastore.domain.order.repository.OrderItemQuantity;
 import jpabook.jpastore.domain.order.repository.OrderQueryInfo;
 import jpabook.jpastore.domain.order.repository.OrderRepository;
+import jpabook.jpastore.domain.order.repository.OrderSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,9 +43,22 @@ import java.util.stream.Collectors;
 @Service
 public class OrderServiceImpl implements OrderService {
 
+    // 배송 상태 일괄 변경: 최대 주문 수 / 청크(IN 절, UPDATE) 크기
+    private static final int BULK_DELIVERY_MAX_SIZE = 10_000;
+    private static final int BULK_DELIVERY_CHUNK_SIZE = 500;
+
+    // 주문 일괄 취소: 최대 주문 수 / 청크(트랜잭션) 크기
+    private static final int BULK_CANCEL_MAX_SIZE = 10_000;
+    private static final int BULK_CANCEL_CHUNK_SIZE = 500;
+
     private final OrderRepository orderRepository;
-    private final ItemRepository itemRepository;
     private final MemberRepository memberRepository;
+    private final OrderStockHandler orderStockHandler;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final MembershipSpendingLedgerRepository spendingLedgerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 주문
@@ -41,6 +69,15 @@ public class OrderServiceImpl implements OrderService {
     public Long order(OrderCommand.OrderRegisterReq command) {
         log.info("saving order");
 
+        // 같은 Idempotency-Key 로 이미 생성된 주문 (redis 결과 저장에 실패했던 경우) -> 다시 생성하지 않음
+        if (command.getIdempotencyKey() != null) {
+            var created = orderRepository.findIdByIdempotencyKey(command.getIdempotencyKey());
+            if (created.isPresent()) {
+                log.info("이미 생성된 Idempotency-Key 주문. orderId = {}", created.get());
+                return created.get();
+            }
+        }
+
         // 엔티티 조회
         Member member = memberRepository.findById(command.getMemberId())
                 .orElseThrow(
@@ -49,21 +86,8 @@ public class OrderServiceImpl implements OrderService {
                     throw new EntityNotFoundException("존재하지 않는 회원입니다. id : " + command.getMemberId());
                 });
 
-        // 주문 상품 생성
-        List<OrderItem> orderItems = new ArrayList<>();
-
-        for (OrderCommand.OrderItemRegisterReq orderItemReq : command.getOrderItems()) {
-            Long itemId = orderItemReq.getItemId();
-            int quantity = orderItemReq.getQuantity();
-            // 상품 엔티티 조회
-            Item item = itemRepository.findItemForUpdate(itemId).orElseThrow(
-                    () -> {
-                        log.error("존재하지 않는 상품입니다. id = {} " , itemId);
-                        throw new EntityNotFoundException("존재하지 않는 상품입니다. id = " + itemId);
-                    });
-
-            orderItems.add(OrderItem.createOrderItem(item, item.getPrice(), quantity));
-        }
+        // 주문 상품 생성 (재고 차감 방식은 jpastore.order.stock-mode 설정에 따른다)
+        List<OrderItem> orderItems = orderStockHandler.createOrderItems(command.getOrderItems());
 
         // 배송정보 생성 및 주문 상태 설정
         // 실시간 계좌이체 : 주문 상태 = 결제 대기중 & 배송 상태 = NONE
@@ -79,13 +103,22 @@ public class OrderServiceImpl implements OrderService {
 
         // 주문 생성
         Order order = Order.createOrder(member, delivery, orderItems, payInfo, orderStatus);
+        order.assignIdempotencyKey(command.getIdempotencyKey()); // 동시에 같은 키로 들어온 주문은 unique 제약으로 실패
 
-        // 주문 완료일 경우 멤버십의 totalSpending 업데이트
+        Long orderId = orderRepository.save(order).getId();
+
+        // 주문 완료일 경우 멤버십 누적 구매 금액 원장에 기록 (memberships 행은 비동기로 반영 -> 멤버십 row 락 없음)
         if (orderStatus == OrderStatus.ORDER) {
-            member.getMembership().addTotalSpending(order.getTotalPrice());
+            spendingLedgerRepository.save(MembershipSpendingLedger.of(member.getMembership().getId(),
+                    orderId, order.getTotalPrice().getValue()));
         }
 
-        return orderRepository.save(order).getId();
+        eventPublisher.publishEvent(OrderChangedEvent.created(orderId));
+        eventPublisher.publishEvent(new ItemStockChangedEvent(orderItems.stream()
+                .map(orderItem -> orderItem.getItem().getId())
+                .collect(Collectors.toSet())));
+
+        return orderId;
     }
 
     /**
@@ -191,12 +224,45 @@ public class OrderServiceImpl implements OrderService {
                 .map(OrderInfo.MainInfo::new);
     }
 
+    // 1-6. 전체 주문 리스트 커서 페이지 조회 (정렬, 검색 기능)
+    @Override
+    public CursorPage<OrderInfo.MainInfo> listOrder(OrderCommand.OrderSearchCondition condition, CursorRequest cursorRequest) {
+        return orderRepository.findByCondition(condition.toSearchCondition(), cursorRequest)
+                .map(OrderInfo.MainInfo::new);
+    }
+
     // 1-7. DTO(OrderQueryInfo.SimpleInfo)로 쿼리 직접 조회
     @Override
     public List<OrderQueryInfo.SimpleInfo> listOrderSimpleInfos() {
         return orderRepository.findAllOrderSimpleInfo();
     }
 
+    // 1-8. 주문 내보내기 - 트랜잭션 안에서 스트리밍 조회 후 한 건씩 전달
+    @Override
+    public long exportOrderSimpleInfos(OrderCommand.OrderSearchCondition condition, Consumer<OrderQueryInfo.SimpleInfo> consumer) {
+        log.info("exporting orders. condition = {}", condition);
+
+        return orderRepository.streamOrderSimpleInfo(condition.toSearchCondition(), consumer);
+    }
+
+    // 1-9. 주문 조회 모델(order_summaries) 검색 -> join 없이 단일 테이블 조회
+    @Override
+    public Page<OrderInfo.SummaryInfo> listOrderSummary(OrderCommand.OrderSearchCondition condition, Pageable pageable) {
+        return orderSummaryRepository.findByCondition(condition.toSearchCondition(), PageRequestUtils.of(pageable))
+                .map(OrderInfo.SummaryInfo::new);
+    }
+
+    // 주문 조회 모델 재생성 (조회 모델 도입 이전 주문 채우기)
+    @Override
+    @Transactional
+    public int rebuildOrderSummaries() {
+        log.info("rebuilding order summaries...");
+
+        orderSummaryRepository.deleteAllInBatch();
+
+        return orderSummaryRepository.insertMissingSummaries();
+    }
+
     // 1-7. DTO(OrderQueryInfo.MainInfo)로 쿼리 직접 조회
     @Override
     public List<OrderQueryInfo.MainInfo> listOrderQueryInfos() {
@@ -217,6 +283,114 @@ public class OrderServiceImpl implements OrderService {
                 });
 
         order.getDelivery().changeStatus(status);
+
+        eventPublisher.publishEvent(OrderChangedEvent.deliveryChanged(orderId));
+    }
+
+    /**
+     * 배송 상태 일괄 변경
+     * 주문/배송 row 를 청크 단위로 락 조회해 전이 가능 여부를 확인한 뒤, 배송과 주문 조회 모델을 청크당 UPDATE 한 번씩으로 변경한다.
+     * 일괄 취소와 같이 청크마다 트랜잭션을 나눠 락 보유 시간을 청크 하나로 제한한다. (앞 청크는 커밋된 채로 남는다)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderInfo.DeliveryChangeResult> changeDeliveryStatuses(Collection<Long> orderIds, DeliveryStatus status) {
+        checkDeliveryStatusTarget(status);
+
+        var ids = new ArrayList<>(new LinkedHashSet<>(orderIds));
+
+        if (ids.isEmpty() || ids.size() > BULK_DELIVERY_MAX_SIZE) {
+            log.error("배송 상태 일괄 변경 대상 주문 수가 올바르지 않습니다. size = {}", ids.size());
+            throw new BadRequestException("배송 상태 일괄 변경은 1 ~ " + BULK_DELIVERY_MAX_SIZE + "건까지 가능합니다. size = " + ids.size());
+        }
+
+        log.info("changing delivery status of {} orders to {}...", ids.size(), status);
+
+        List<OrderInfo.DeliveryChangeResult> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_DELIVERY_CHUNK_SIZE) {
+            var chunk = ids.subList(from, Math.min(from + BULK_DELIVERY_CHUNK_SIZE, ids.size()));
+            results.addAll(transactionTemplate.execute(tx -> changeDeliveryStatusChunk(chunk, status)));
+        }
+
+        return results;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderInfo.DeliveryChangeResult> changeDeliveryStatuses(OrderCommand.OrderSearchCondition condition, DeliveryStatus status) {
+        var previous = checkDeliveryStatusTarget(status);
+        var searchCondition = condition.toSearchCondition();
+
+        // 배송 상태 조건이 없으면 변경 가능한 이전 단계 배송만 대상으로 한다
+        if (searchCondition.getDeliveryStatus() == null) {
+            searchCondition = OrderSearchCondition.builder()
+                    .memberId(searchCondition.getMemberId())
+                    .memberName(searchCondition.getMemberName())
+                    .orderId(searchCondition.getOrderId())
+                    .status(searchCondition.getStatus())
+                    .deliveryStatus(previous)
+                    .build();
+        }
+
+        var orderIds = orderRepository.findOrderIds(searchCondition, BULK_DELIVERY_MAX_SIZE + 1);
+
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        if (orderIds.size() > BULK_DELIVERY_MAX_SIZE) {
+            log.error("배송 상태 일괄 변경 대상 주문이 너무 많습니다. condition = {}", condition);
+            throw new BadRequestException("배송 상태 일괄 변경 대상 주문이 " + BULK_DELIVERY_MAX_SIZE + "건을 초과합니다. 검색 조건을 좁혀주세요.");
+        }
+
+        return changeDeliveryStatuses(orderIds, status);
+    }
+
+    // 다른 상태에서 전이할 수 없는 상태(이전 단계 없음)로는 일괄 변경 불가 -> 이전 단계 상태 반환
+    private DeliveryStatus checkDeliveryStatusTarget(DeliveryStatus status) {
+        var previous = DeliveryStatus.previousOf(status);
+
+        if (previous == null) {
+            log.error("일괄 변경할 수 없는 배송 상태입니다. status = {}", status);
+            throw new BadRequestException("일괄 변경할 수 없는 배송 상태입니다. status = " + status);
+        }
+        return previous;
+    }
+
+    private List<OrderInfo.DeliveryChangeResult> changeDeliveryStatusChunk(List<Long> orderIds, DeliveryStatus status) {
+        Map<Long, Order> orders = orderRepository.findOrdersWithDeliveryForUpdate(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<OrderInfo.DeliveryChangeResult> results = new ArrayList<>(orderIds.size());
+        List<Long> changedOrderIds = new ArrayList<>();
+        List<Long> changedDeliveryIds = new ArrayList<>();
+
+        for (Long orderId : orderIds) {
+            var order = orders.get(orderId);
+
+            if (order == null) {
+                results.add(OrderInfo.DeliveryChangeResult.notFound(orderId));
+                continue;
+            }
+
+            var current = order.getDelivery().getStatus();
+            if (!order.canChangeDeliveryStatus(status)) {
+                results.add(OrderInfo.DeliveryChangeResult.invalidTransition(orderId, current));
+                continue;
+            }
+
+            changedOrderIds.add(orderId);
+            changedDeliveryIds.add(order.getDelivery().getId());
+            results.add(OrderInfo.DeliveryChangeResult.changed(orderId, current, status));
+        }
+
+        // 전이 가능한 배송은 모두 같은 이전 단계 상태
+        if (!changedDeliveryIds.isEmpty()) {
+            deliveryRepository.changeStatuses(changedDeliveryIds, DeliveryStatus.previousOf(status), status);
+            orderSummaryRepository.changeDeliveryStatuses(changedOrderIds, status);
+        }
+
+        return results;
     }
 
     /**
@@ -234,6 +408,8 @@ public class OrderServiceImpl implements OrderService {
         log.info("before change order status = {}", order.getStatus());
 
         order.updateStatus(status);
+
+        eventPublisher.publishEvent(OrderChangedEvent.statusChanged(orderId));
     }
 
     /**
@@ -253,8 +429,130 @@ public class OrderServiceImpl implements OrderService {
         // 주문 취소 권한 확인 로직 실행
         checkAuthority(order, authUsername);
 
-        // 주문 취소
-        order.cancel();
+        // 주문 취소 및 재고 복구
+        orderStockHandler.cancel(order);
+
+        eventPublisher.publishEvent(OrderChangedEvent.canceled(orderId));
+        eventPublisher.publishEvent(new ItemStockChangedEvent(order.getOrderItems().stream()
+                .map(orderItem -> orderItem.getItem().getId())
+                .collect(Collectors.toSet())));
+    }
+
+    /**
+     * 주문 일괄 취소
+     * 전체 요청을 한 트랜잭션으로 묶지 않고 청크마다 트랜잭션을 나눠 락 보유 시간과 undo 크기를 제한한다.
+     * 청크 안에서는 주문/배송 상태를 각각 한 번의 UPDATE 로 바꾸고, 재고는 상품별 합계로 한 번씩만 복구한다.
+     * 누적 구매 금액은 멤버십별 합계를 원장에 차감분으로 기록한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderInfo.BulkCancelResult cancelOrders(Collection<Long> orderIds) {
+        var ids = new ArrayList<>(new LinkedHashSet<>(orderIds));
+
+        if (ids.isEmpty() || ids.size() > BULK_CANCEL_MAX_SIZE) {
+            log.error("일괄 취소 대상 주문 수가 올바르지 않습니다. size = {}", ids.size());
+            throw new BadRequestException("주문 일괄 취소는 1 ~ " + BULK_CANCEL_MAX_SIZE + "건까지 가능합니다. size = " + ids.size());
+        }
+
+        log.info("canceling {} orders...", ids.size());
+
+        List<Long> canceledOrderIds = new ArrayList<>();
+        List<Long> skippedOrderIds = new ArrayList<>();
+        int restoredQuantity = 0;
+
+        for (int from = 0; from < ids.size(); from += BULK_CANCEL_CHUNK_SIZE) {
+            var chunk = ids.subList(from, Math.min(from + BULK_CANCEL_CHUNK_SIZE, ids.size()));
+            var result = transactionTemplate.execute(status -> cancelOrderChunk(chunk));
+
+            canceledOrderIds.addAll(result.getCanceledOrderIds());
+            skippedOrderIds.addAll(result.getSkippedOrderIds());
+            restoredQuantity += result.getRestoredQuantity();
+        }
+
+        log.info("주문 일괄 취소. canceled = {}, skipped = {}, restoredQuantity = {}",
+                canceledOrderIds.size(), skippedOrderIds.size(), restoredQuantity);
+
+        return new OrderInfo.BulkCancelResult(canceledOrderIds, skippedOrderIds, restoredQuantity);
+    }
+
+    private OrderInfo.BulkCancelResult cancelOrderChunk(List<Long> orderIds) {
+        // 주문 id 오름차순 락 조회 -> 취소 가능 여부 판단 후 합계/UPDATE 는 모두 id 리스트로 처리
+        Map<Long, Order> orders = orderRepository.findOrdersWithDeliveryForUpdate(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<Long> canceledOrderIds = new ArrayList<>();
+        List<Long> skippedOrderIds = new ArrayList<>();
+        List<Long> deliveryIds = new ArrayList<>();
+
+        for (Long orderId : orderIds) {
+            var order = orders.get(orderId);
+
+            if (order == null || !order.isCancelable()) {
+                skippedOrderIds.add(orderId);
+                continue;
+            }
+
+            canceledOrderIds.add(orderId);
+            deliveryIds.add(order.getDelivery().getId());
+        }
+
+        if (canceledOrderIds.isEmpty()) {
+            return new OrderInfo.BulkCancelResult(canceledOrderIds, skippedOrderIds, 0);
+        }
+
+        // 상태 변경 전에 합계를 구한다 (누적 구매 금액은 결제 완료(ORDER) 주문만 반영되어 있다)
+        Map<Long, Integer> quantities = orderRepository.sumQuantitiesByItem(canceledOrderIds).stream()
+                .collect(Collectors.toMap(OrderItemQuantity::getItemId, q -> q.getQuantity().intValue(),
+                        Integer::sum, TreeMap::new));
+        List<MembershipSpending> spendings = orderRepository.sumPaidTotalPriceByMembership(canceledOrderIds);
+
+        orderRepository.cancelOrders(canceledOrderIds);
+        deliveryRepository.changeStatuses(deliveryIds, DeliveryStatus.NONE);
+        orderStockHandler.restore(quantities);
+
+        spendingLedgerRepository.saveAll(spendings.stream()
+                .map(spending -> MembershipSpendingLedger.of(spending.getMembershipId(), null, -spending.getAmount().intValue()))
+                .collect(Collectors.toList()));
+
+        eventPublisher.publishEvent(new OrderBulkCanceledEvent(canceledOrderIds));
+        eventPublisher.publishEvent(new ItemStockChangedEvent(quantities.keySet()));
+
+        int restoredQuantity = quantities.values().stream().mapToInt(Integer::intValue).sum();
+
+        return new OrderInfo.BulkCancelResult(canceledOrderIds, skippedOrderIds, restoredQuantity);
+    }
+
+    /**
+     * 미입금 주문 만료
+     * 결제 대기 주문을 청크 단위로 락 조회해 한 번의 UPDATE 로 취소하고, 재고는 상품별 수량 합계로 한 번씩만 복구한다.
+     */
+    @Override
+    @Transactional
+    public OrderInfo.ExpiryResult expireUnpaidOrders(LocalDateTime createdBefore, int chunkSize) {
+        var orderIds = orderRepository.findStaleOrdersForUpdate(OrderStatus.PAYMENT_WAITING, Pay.BANK_TRANS,
+                        createdBefore, PageRequest.of(0, chunkSize))
+                .stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+
+        if (orderIds.isEmpty()) {
+            return new OrderInfo.ExpiryResult(0, 0);
+        }
+
+        Map<Long, Integer> quantities = orderRepository.sumQuantitiesByItem(orderIds).stream()
+                .collect(Collectors.toMap(OrderItemQuantity::getItemId, q -> q.getQuantity().intValue(),
+                        Integer::sum, TreeMap::new));
+
+        orderRepository.changeStatuses(orderIds, OrderStatus.PAYMENT_WAITING, OrderStatus.CANCEL);
+        orderStockHandler.restore(quantities);
+
+        eventPublisher.publishEvent(new OrderBulkCanceledEvent(orderIds));
+        eventPublisher.publishEvent(new ItemStockChangedEvent(quantities.keySet()));
+
+        int restoredQuantity = quantities.values().stream().mapToInt(Integer::intValue).sum();
+        log.info("미입금 주문 만료. orders = {}, restoredQuantity = {}", orderIds.size(), restoredQuantity);
+
+        return new OrderInfo.ExpiryResult(orderIds.size(), restoredQuantity);
     }
 
     private DeliveryStatus setDeliveryStatusByPayInfo(Pay payInfo) {
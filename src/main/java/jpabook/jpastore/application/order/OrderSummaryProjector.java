@@ -0,0 +1,46 @@
+package jpabook.jpastore.application.order;
+
+import jpabook.jpastore.domain.order.DeliveryStatus;
+import jpabook.jpastore.domain.order.OrderStatus;
+import jpabook.jpastore.domain.order.OrderSummary;
+import jpabook.jpastore.domain.order.repository.OrderRepository;
+import jpabook.jpastore.domain.order.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 변경 이벤트 -> 주문 조회 모델(OrderSummary) 갱신
+ * 커밋 직전(같은 트랜잭션)에 반영하므로 주문과 조회 모델이 어긋나지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderSummaryProjector {
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderChanged(OrderChangedEvent event) {
+        var order = orderRepository.findOrderWithMemberDelivery(event.getOrderId()).orElse(null);
+
+        if (order == null) {
+            log.warn("조회 모델을 갱신할 주문이 존재하지 않습니다. event = {}", event);
+            return;
+        }
+
+        orderSummaryRepository.findById(order.getId())
+                .ifPresentOrElse(
+                        summary -> summary.changeStatus(order.getStatus(), order.getDelivery().getStatus()),
+                        () -> orderSummaryRepository.save(OrderSummary.of(order)));
+    }
+
+    // 일괄 취소 -> 조회 모델 상태를 한 번의 UPDATE 로 변경 (조회 모델이 없는 주문은 재생성 시 채워진다)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrdersCanceled(OrderBulkCanceledEvent event) {
+        orderSummaryRepository.changeStatuses(event.getOrderIds(), OrderStatus.CANCEL, DeliveryStatus.NONE);
+    }
+}
@@ -0,0 +1,40 @@
+package jpabook.jpastore.application.order;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface OrderTicketService {
+
+    /**
+     * 비동기 주문 접수 -> 요청 검증 후 티켓만 저장하고 티켓 id 반환
+     */
+    Long accept(OrderCommand.OrderRegisterReq command);
+
+    /**
+     * 주문 접수 상태 조회
+     */
+    OrderInfo.TicketInfo getTicket(Long ticketId, String authUsername);
+
+    /**
+     * 처리 대기중인 티켓을 최대 batchSize 개 선점 (PENDING -> PROCESSING)
+     * @param claimToken 선점한 워커 토큰 -> 완료/실패 처리 시 같은 토큰을 넘겨야 한다
+     */
+    List<Long> claimPendingTickets(int batchSize, String claimToken);
+
+    /**
+     * 선점한 티켓으로 실제 주문 생성 (주문 생성과 티켓 완료 처리는 같은 트랜잭션)
+     * 다른 워커가 다시 선점한 티켓이면 처리하지 않는다.
+     */
+    void process(Long ticketId, String claimToken);
+
+    /**
+     * 주문 생성 실패 기록 (선점 토큰이 같을 때만)
+     */
+    void fail(Long ticketId, String claimToken, String failureReason);
+
+    /**
+     * 처리 도중 중단된 티켓을 다시 대기 상태로
+     * 이미 maxClaims 번 선점된 티켓은 실패 처리한다.
+     */
+    int requeueStaleTickets(Duration timeout, int maxClaims);
+}
@@ -0,0 +1,176 @@
+package jpabook.jpastore.application.order;
+
+import jpabook.jpastore.common.exception.EntityNotFoundException;
+import jpabook.jpastore.domain.Address;
+import jpabook.jpastore.domain.item.Item;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.member.MemberRepository;
+import jpabook.jpastore.domain.member.Role;
+import jpabook.jpastore.domain.order.OrderTicket;
+import jpabook.jpastore.domain.order.OrderTicketItem;
+import jpabook.jpastore.domain.order.OrderTicketStatus;
+import jpabook.jpastore.domain.order.repository.OrderTicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class OrderTicketServiceImpl implements OrderTicketService {
+
+    private final OrderTicketRepository orderTicketRepository;
+    private final MemberRepository memberRepository;
+    private final ItemRepository itemRepository;
+    private final OrderService orderService;
+
+    @Override
+    @Transactional
+    public Long accept(OrderCommand.OrderRegisterReq command) {
+        log.info("accepting order...");
+
+        if (command.getOrderItems() == null || command.getOrderItems().isEmpty()) {
+            throw new IllegalArgumentException("주문 상품이 없습니다.");
+        }
+
+        // 같은 Idempotency-Key 로 이미 접수된 티켓 (redis 결과 저장에 실패했던 경우)
+        if (command.getIdempotencyKey() != null) {
+            var accepted = orderTicketRepository.findIdByIdempotencyKey(command.getIdempotencyKey());
+            if (accepted.isPresent()) {
+                log.info("이미 접수된 Idempotency-Key 요청. ticketId = {}", accepted.get());
+                return accepted.get();
+            }
+        }
+
+        // 가벼운 검증만 수행 (락, 재고 확인은 워커에서)
+        if (!memberRepository.existsById(command.getMemberId())) {
+            log.error("존재하지 않는 회원입니다. id = {}", command.getMemberId());
+            throw new EntityNotFoundException("존재하지 않는 회원입니다. id : " + command.getMemberId());
+        }
+
+        var itemIds = command.getOrderItems().stream()
+                .map(OrderCommand.OrderItemRegisterReq::getItemId)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        var foundIds = itemRepository.findItemsByIds(itemIds).stream()
+                .map(Item::getId)
+                .collect(Collectors.toSet());
+
+        var notFoundIds = itemIds.stream()
+                .filter(itemId -> !foundIds.contains(itemId))
+                .collect(Collectors.toList());
+
+        if (!notFoundIds.isEmpty()) {
+            log.error("존재하지 않는 상품입니다. ids = {} " , notFoundIds);
+            throw new EntityNotFoundException("존재하지 않는 상품입니다. ids = " + notFoundIds);
+        }
+
+        OrderTicket ticket = OrderTicket.builder()
+                .memberId(command.getMemberId())
+                .items(command.getOrderItems().stream()
+                        .map(req -> new OrderTicketItem(req.getItemId(), req.getQuantity()))
+                        .collect(Collectors.toList()))
+                .address(new Address(command.getCity(), command.getStreet(), command.getZipcode()))
+                .payInfo(command.getPayInfo())
+                .idempotencyKey(command.getIdempotencyKey())
+                .build();
+
+        return orderTicketRepository.save(ticket).getId();
+    }
+
+    @Override
+    public OrderInfo.TicketInfo getTicket(Long ticketId, String authUsername) {
+        OrderTicket ticket = orderTicketRepository.findById(ticketId).orElseThrow(() -> {
+            log.error("존재하지 않는 주문 접수 정보입니다. id = {}", ticketId);
+            throw new EntityNotFoundException("존재하지 않는 주문 접수 정보입니다. id = " + ticketId);
+        });
+
+        var member = memberRepository.findByUsername(authUsername).orElseThrow(
+                () -> {
+                    log.error("존재하지 않는 회원입니다. username = {} " , authUsername);
+                    throw new EntityNotFoundException("존재하지 않는 회원입니다. username = " + authUsername);
+                });
+
+        if (!member.getId().equals(ticket.getMemberId()) && member.getRole() != Role.ADMIN) {
+            log.error("주문 접수 정보에 대한 접근 권한이 없습니다. ticketId={}, username={}", ticketId, authUsername);
+            throw new AccessDeniedException("해당 주문 접수 정보에 대한 접근 권한이 없습니다.");
+        }
+
+        return new OrderInfo.TicketInfo(ticket);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> claimPendingTickets(int batchSize, String claimToken) {
+        var now = LocalDateTime.now();
+
+        return orderTicketRepository.findTicketIdsByStatus(OrderTicketStatus.PENDING, PageRequest.of(0, batchSize))
+                .stream()
+                .filter(ticketId -> orderTicketRepository.claim(ticketId, claimToken, now) == 1)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void process(Long ticketId, String claimToken) {
+        OrderTicket ticket = orderTicketRepository.findTicketWithItems(ticketId).orElseThrow(() -> {
+            log.error("존재하지 않는 주문 접수 정보입니다. id = {}", ticketId);
+            throw new EntityNotFoundException("존재하지 않는 주문 접수 정보입니다. id = " + ticketId);
+        });
+
+        if (!ticket.isClaimedBy(claimToken)) {
+            log.info("선점이 만료되었거나 이미 처리된 주문 접수 정보입니다. id = {}, status = {}", ticketId, ticket.getStatus());
+            return;
+        }
+
+        var command = OrderCommand.OrderRegisterReq.builder()
+                .memberId(ticket.getMemberId())
+                .orderItems(ticket.getItems().stream()
+                        .map(item -> OrderCommand.OrderItemRegisterReq.builder()
+                                .itemId(item.getItemId())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .city(ticket.getAddress().getCity())
+                .street(ticket.getAddress().getStreet())
+                .zipcode(ticket.getAddress().getZipcode())
+                .payInfo(ticket.getPayInfo())
+                .build();
+
+        // 같은 트랜잭션에서 주문 생성 + 티켓 완료 -> 중간에 노드가 죽어도 주문이 중복 생성되지 않음
+        // 처리 중 티켓이 재등록(버전 증가)되었다면 커밋 시 버전 충돌로 주문까지 롤백된다
+        ticket.complete(orderService.order(command));
+    }
+
+    @Override
+    @Transactional
+    public void fail(Long ticketId, String claimToken, String failureReason) {
+        orderTicketRepository.findById(ticketId)
+                .filter(ticket -> ticket.isClaimedBy(claimToken))
+                .ifPresent(ticket -> ticket.fail(failureReason));
+    }
+
+    @Override
+    @Transactional
+    public int requeueStaleTickets(Duration timeout, int maxClaims) {
+        var now = LocalDateTime.now();
+        var before = now.minus(timeout);
+
+        int failed = orderTicketRepository.failExhaustedTickets(before, now, maxClaims, "주문 처리가 반복해서 중단되었습니다.");
+        if (failed > 0) {
+            log.warn("선점 횟수를 초과한 주문 티켓 실패 처리. count={}", failed);
+        }
+
+        return orderTicketRepository.requeueStaleTickets(before, now, maxClaims);
+    }
+}
@@ -0,0 +1,101 @@
+package jpabook.jpastore.application.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 접수된 주문 티켓을 배치 단위로 가져와 워커 풀에서 처리한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "jpastore.order.async-intake.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class OrderTicketWorker {
+
+    private final OrderTicketService orderTicketService;
+    private final int batchSize;
+    private final Duration staleTimeout;
+    private final int maxClaims;
+    private final ExecutorService executor;
+
+    public OrderTicketWorker(OrderTicketService orderTicketService,
+                             @Value("${jpastore.order.async-intake.batch-size:50}") int batchSize,
+                             @Value("${jpastore.order.async-intake.threads:8}") int threads,
+                             @Value("${jpastore.order.async-intake.stale-timeout-ms:60000}") long staleTimeoutMillis,
+                             @Value("${jpastore.order.async-intake.max-claims:3}") int maxClaims) {
+        this.orderTicketService = orderTicketService;
+        this.batchSize = batchSize;
+        this.staleTimeout = Duration.ofMillis(staleTimeoutMillis);
+        this.maxClaims = maxClaims;
+
+        var threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "order-ticket-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.order.async-intake.poll-delay-ms:200}")
+    public void drain() {
+        List<Long> ticketIds;
+
+        // 가져온 배치가 가득 차 있으면 대기열이 빌 때까지 계속 처리
+        do {
+            var claimToken = UUID.randomUUID().toString();
+            ticketIds = orderTicketService.claimPendingTickets(batchSize, claimToken);
+            if (ticketIds.isEmpty()) return;
+
+            log.info("주문 티켓 처리 시작. count={}", ticketIds.size());
+
+            CompletableFuture.allOf(ticketIds.stream()
+                            .map(ticketId -> CompletableFuture.runAsync(() -> process(ticketId, claimToken), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } while (ticketIds.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.order.async-intake.stale-check-delay-ms:60000}")
+    public void requeueStaleTickets() {
+        int requeued = orderTicketService.requeueStaleTickets(staleTimeout, maxClaims);
+
+        if (requeued > 0) {
+            log.warn("처리가 중단된 주문 티켓 재등록. count={}", requeued);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void process(Long ticketId, String claimToken) {
+        try {
+            orderTicketService.process(ticketId, claimToken);
+        } catch (RuntimeException e) {
+            log.error("주문 티켓 처리 실패. ticketId={}, ex={}", ticketId, e.getMessage());
+            fail(ticketId, claimToken, Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+        }
+    }
+
+    // 실패 기록도 실패하면 티켓은 PROCESSING 으로 남고, 재등록 -> 선점 횟수 초과 시 실패 처리된다
+    private void fail(Long ticketId, String claimToken, String failureReason) {
+        try {
+            orderTicketService.fail(ticketId, claimToken, failureReason);
+        } catch (RuntimeException e) {
+            log.error("주문 티켓 실패 기록 실패. ticketId={}, ex={}", ticketId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.common.exception.EntityNotFoundException;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.item.StockReconcileBatchRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Redis 재고 key 로딩용 DB 재고 조회
+ * 주문 트랜잭션이 앞서 읽은 값(스냅샷)이 아니라 새 트랜잭션에서 커밋된 최신 값을 읽고,
+ * 같은 스냅샷에서 반영 중인 배치가 이미 DB 에 반영되었는지도 함께 확인한다.
+ * (재고 key 가 없을 때만 호출되므로 커넥션을 하나 더 쓰는 구간은 짧다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "redis")
+@Component
+public class CommittedStockReader {
+
+    private final ItemRepository itemRepository;
+    private final StockReconcileBatchRepository batchRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public CommittedStock read(Long itemId, Long batchId) {
+        // REPEATABLE READ 에서는 두 조회가 같은 스냅샷을 본다.
+        // 격리 수준이 낮아도 반영 여부를 먼저 읽으면 배치를 두 번 빼는 쪽(재고 과소)으로만 어긋난다.
+        boolean batchApplied = Objects.nonNull(batchId) && batchRepository.existsById(batchId);
+
+        int stockQuantity = itemRepository.findStockQuantity(itemId)
+                .orElseThrow(() -> {
+                    log.error("존재하지 않는 상품입니다. id = {} " , itemId);
+                    return new EntityNotFoundException("존재하지 않는 상품입니다. id = " + itemId);
+                });
+
+        return new CommittedStock(stockQuantity, batchApplied);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CommittedStock {
+        private final int stockQuantity;
+        private final boolean batchApplied; // 읽은 재고에 반영 중인 배치가 이미 반영되어 있는지
+    }
+}
@@ -0,0 +1,166 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.common.exception.EntityNotFoundException;
+import jpabook.jpastore.domain.item.Item;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.item.StockHoldRepository;
+import jpabook.jpastore.domain.order.Order;
+import jpabook.jpastore.domain.order.OrderItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 커밋 전략: 인기 상품에 몰리는 재고 차감을 상품별 배처(GroupCommitStockProcessor)로 모아서
+ * 여러 주문의 차감을 한 번의 row 락/트랜잭션으로 처리한다.
+ * 배처가 남긴 재고 예약을 주문 트랜잭션에서 삭제(확정)하므로, 주문이 커밋되지 않으면 예약이 남아
+ * 배처가 재고를 되돌린다. (즉시 반환에 실패해도 만료 후 정리 작업이 되돌린다)
+ */
+@Slf4j
+@ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "group-commit")
+@Component
+public class GroupCommitStockHandler implements OrderStockHandler {
+
+    private final ItemRepository itemRepository;
+    private final StockHoldRepository stockHoldRepository;
+    private final GroupCommitStockProcessor stockProcessor;
+    private final long timeoutMillis;
+
+    public GroupCommitStockHandler(ItemRepository itemRepository,
+                                   StockHoldRepository stockHoldRepository,
+                                   GroupCommitStockProcessor stockProcessor,
+                                   @Value("${jpastore.order.group-commit.timeout-ms:3000}") long timeoutMillis) {
+        this.itemRepository = itemRepository;
+        this.stockHoldRepository = stockHoldRepository;
+        this.stockProcessor = stockProcessor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public List<OrderItem> createOrderItems(List<OrderCommand.OrderItemRegisterReq> orderItemReqs) {
+        // 같은 상품이 여러 줄로 들어온 경우 수량 합산
+        Map<Long, Integer> quantities = orderItemReqs.stream()
+                .collect(Collectors.toMap(OrderCommand.OrderItemRegisterReq::getItemId,
+                        OrderCommand.OrderItemRegisterReq::getQuantity, Integer::sum, TreeMap::new));
+
+        // 상품 엔티티 조회 (락 없음)
+        Map<Long, Item> items = itemRepository.findItemsByIds(quantities.keySet())
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        var notFoundIds = quantities.keySet().stream()
+                .filter(itemId -> !items.containsKey(itemId))
+                .collect(Collectors.toList());
+
+        if (!notFoundIds.isEmpty()) {
+            log.error("존재하지 않는 상품입니다. ids = {}", notFoundIds);
+            throw new EntityNotFoundException("존재하지 않는 상품입니다. ids = " + notFoundIds);
+        }
+
+        // 상품별 배처에 재고 차감(예약) 요청 후 결과 대기
+        Map<Long, String> holdIds = new TreeMap<>();
+        Map<Long, CompletableFuture<Void>> results = new TreeMap<>();
+        quantities.forEach((itemId, quantity) -> {
+            var holdId = UUID.randomUUID().toString();
+            holdIds.put(itemId, holdId);
+            results.put(itemId, stockProcessor.hold(itemId, holdId, quantity));
+        });
+
+        awaitAll(results, holdIds, quantities);
+
+        // 주문 트랜잭션 롤백 시 예약 반환
+        releaseOnRollback(holdIds, quantities);
+
+        // 예약 확정: 주문 트랜잭션에서 예약 삭제 -> 주문과 함께 커밋된다
+        // 만료되어 이미 재고가 복구된 예약이 있으면 주문 실패
+        int confirmed = stockHoldRepository.confirm(holdIds.values());
+        if (confirmed != holdIds.size()) {
+            log.error("재고 예약 만료. holds={}, confirmed={}", holdIds.size(), confirmed);
+            throw new IllegalStateException("재고 예약이 만료되었습니다.");
+        }
+
+        return orderItemReqs.stream()
+                .map(req -> {
+                    Item item = items.get(req.getItemId());
+                    return OrderItem.createReservedOrderItem(item, item.getPrice(), req.getQuantity());
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void cancel(Order order) {
+        order.cancelWithoutRestock();
+
+        Map<Long, Integer> quantities = order.getOrderItems().stream()
+                .collect(Collectors.toMap(oi -> oi.getItem().getId(),
+                        OrderItem::getQuantity, Integer::sum, TreeMap::new));
+
+        // 재고 UPDATE 가 영속성 컨텍스트를 비우므로 주문 취소를 먼저 반영
+        itemRepository.flush();
+        restore(quantities);
+    }
+
+    @Override
+    public void restore(Map<Long, Integer> quantities) {
+        // 취소 트랜잭션 안에서 상대값 UPDATE -> 취소와 재고 복구가 함께 커밋된다 (취소는 인기 상품 차감만큼 몰리지 않음)
+        new TreeMap<>(quantities).forEach((itemId, quantity) -> itemRepository.decreaseStock(itemId, -quantity));
+    }
+
+    private void awaitAll(Map<Long, CompletableFuture<Void>> results, Map<Long, String> holdIds,
+                          Map<Long, Integer> quantities) {
+        try {
+            CompletableFuture.allOf(results.values().toArray(new CompletableFuture[0]))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            compensate(results, holdIds, quantities);
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("재고 차감에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            compensate(results, holdIds, quantities);
+            throw new IllegalStateException("재고 차감 요청 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compensate(results, holdIds, quantities);
+            throw new IllegalStateException("재고 차감 요청이 중단되었습니다.");
+        }
+    }
+
+    // 성공한(혹은 타임아웃 이후 성공하는) 예약만 반환한다. 반환 요청이 유실되어도 예약이 만료되면 복구된다.
+    private void compensate(Map<Long, CompletableFuture<Void>> results, Map<Long, String> holdIds,
+                            Map<Long, Integer> quantities) {
+        results.forEach((itemId, result) ->
+                result.thenRun(() -> stockProcessor.release(itemId, holdIds.get(itemId), quantities.get(itemId))));
+    }
+
+    private void releaseOnRollback(Map<Long, String> holdIds, Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.info("주문 롤백. 재고 예약 반환 items={}", quantities);
+                    holdIds.forEach((itemId, holdId) -> stockProcessor.release(itemId, holdId, quantities.get(itemId)));
+                }
+            }
+        });
+    }
+}
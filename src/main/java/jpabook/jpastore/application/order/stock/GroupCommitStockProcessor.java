@@ -0,0 +1,258 @@
+package jpabook.jpastore.application.order.stock;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jpabook.jpastore.common.exception.EntityNotFoundException;
+import jpabook.jpastore.common.exception.NotEnoughStockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 재고 변경 요청을 모아서 한 트랜잭션(상품 row 락 1회)으로 처리한다.
+ * 요청마다 결과(성공 or NotEnoughStockException)를 각자의 future 로 돌려준다.
+ *
+ * - 주문 스레드는 애플리케이션 커넥션 풀의 커넥션을 쥔 채 결과를 기다리므로,
+ *   배처는 같은 풀을 쓰지 않고 배처 스레드 수만큼의 전용 풀을 사용한다. (풀 고갈로 서로 기다리지 않음)
+ * - 차감과 함께 재고 예약(stock_holds)을 남기고, 주문 트랜잭션이 예약을 삭제하며 확정한다.
+ *   확정되지 않은 예약(주문 롤백, 서버 중단)은 만료 후 재고를 되돌린다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "group-commit")
+@Component
+public class GroupCommitStockProcessor {
+
+    private static final String SELECT_STOCK_FOR_UPDATE =
+            "select stock_quantity from items where item_id = ? and is_deleted = false for update";
+    private static final String UPDATE_STOCK =
+            "update items set stock_quantity = ?, version = version + 1 where item_id = ?";
+    private static final String RESTORE_STOCK =
+            "update items set stock_quantity = stock_quantity + ?, version = version + 1 where item_id = ?";
+    private static final String INSERT_HOLD =
+            "insert into stock_holds (hold_id, item_id, quantity, created_date) values (?, ?, ?, ?)";
+    private static final String DELETE_HOLD = "delete from stock_holds where hold_id = ?";
+    private static final String SELECT_EXPIRED_HOLDS =
+            "select hold_id, item_id, quantity from stock_holds where created_date < ? order by created_date limit ? for update";
+
+    private static final int EXPIRED_HOLD_CHUNK_SIZE = 100;
+
+    private final int maxBatchSize;
+    private final long maxWaitMillis;
+    private final long holdTtlMillis;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    private final ConcurrentMap<Long, ItemQueue> queues = new ConcurrentHashMap<>();
+
+    public GroupCommitStockProcessor(DataSourceProperties dataSourceProperties,
+                                     @Value("${jpastore.order.group-commit.max-batch-size:200}") int maxBatchSize,
+                                     @Value("${jpastore.order.group-commit.max-wait-ms:2}") long maxWaitMillis,
+                                     @Value("${jpastore.order.group-commit.threads:8}") int threads,
+                                     @Value("${jpastore.order.group-commit.hold-ttl-ms:60000}") long holdTtlMillis) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.holdTtlMillis = holdTtlMillis;
+
+        // 배처 전용 커넥션 풀 (배처 스레드 + 만료 예약 정리)
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("stock-group-commit");
+        this.dataSource.setMaximumPoolSize(threads + 1);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        var threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "stock-group-commit-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 재고 차감 + 예약 생성 요청
+    public CompletableFuture<Void> hold(Long itemId, String holdId, int quantity) {
+        return submit(itemId, new StockRequest(holdId, quantity));
+    }
+
+    // 예약 취소 요청 (확정 전 실패한 주문) -> 예약이 남아 있을 때만 재고 복구
+    public CompletableFuture<Void> release(Long itemId, String holdId, int quantity) {
+        return submit(itemId, new StockRequest(holdId, -quantity));
+    }
+
+    /**
+     * 만료된 예약의 재고 복구 (확정되지 않은 채 남은 예약)
+     * 확정 중인 주문 트랜잭션이 삭제한 예약 행은 FOR UPDATE 에서 기다렸다가 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${jpastore.order.group-commit.hold-sweep-delay-ms:10000}")
+    public void restoreExpiredHolds() {
+        int restored;
+        do {
+            var expiredBefore = Timestamp.valueOf(LocalDateTime.now().minus(Duration.ofMillis(holdTtlMillis)));
+            restored = Objects.requireNonNull(transactionTemplate.execute(status -> {
+                List<Object[]> holds = jdbcTemplate.query(SELECT_EXPIRED_HOLDS,
+                        (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2), rs.getInt(3)},
+                        expiredBefore, EXPIRED_HOLD_CHUNK_SIZE);
+
+                for (Object[] hold : holds) {
+                    jdbcTemplate.update(DELETE_HOLD, hold[0]);
+                    jdbcTemplate.update(RESTORE_STOCK, hold[2], hold[1]);
+                }
+                return holds.size();
+            }));
+
+            if (restored > 0) {
+                log.warn("확정되지 않은 재고 예약 만료. 재고 복구 holds={}", restored);
+            }
+        } while (restored == EXPIRED_HOLD_CHUNK_SIZE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        dataSource.close();
+    }
+
+    private CompletableFuture<Void> submit(Long itemId, StockRequest request) {
+        var queue = queues.computeIfAbsent(itemId, ItemQueue::new);
+
+        queue.requests.add(request);
+        schedule(queue);
+
+        return request.future;
+    }
+
+    // 상품별로 한 번에 하나의 drain 작업만 실행
+    private void schedule(ItemQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(ItemQueue queue) {
+        try {
+            // 요청이 더 모일 수 있도록 잠시 대기
+            if (queue.requests.size() < maxBatchSize && maxWaitMillis > 0) {
+                Thread.sleep(maxWaitMillis);
+            }
+
+            List<StockRequest> batch = new ArrayList<>();
+            StockRequest request;
+            while (batch.size() < maxBatchSize && (request = queue.requests.poll()) != null) {
+                batch.add(request);
+            }
+
+            if (!batch.isEmpty()) {
+                apply(queue.itemId, batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queue.scheduled.set(false);
+
+            if (!queue.requests.isEmpty()) {
+                schedule(queue);
+            } else {
+                // 유휴 상품 큐 제거. 제거 직전에 들어온 요청은 위 큐를 그대로 참조해 처리되고,
+                // 이후 요청은 새 큐로 들어간다 (같은 상품 큐가 잠시 둘이어도 DB row 락으로 직렬화된다)
+                queues.remove(queue.itemId, queue);
+                if (!queue.requests.isEmpty()) {
+                    schedule(queue);
+                }
+            }
+        }
+    }
+
+    private void apply(Long itemId, List<StockRequest> batch) {
+        List<RuntimeException> results = new ArrayList<>(batch.size()); // null = 성공
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                results.clear();
+
+                var stocks = jdbcTemplate.queryForList(SELECT_STOCK_FOR_UPDATE, Integer.class, itemId);
+                if (stocks.isEmpty()) {
+                    throw new EntityNotFoundException("존재하지 않는 상품입니다. id = " + itemId);
+                }
+
+                int stock = stocks.get(0);
+                var now = Timestamp.valueOf(LocalDateTime.now());
+                List<Object[]> holds = new ArrayList<>();
+
+                for (StockRequest request : batch) {
+                    if (request.quantity < 0) {
+                        // 이미 확정/만료 처리된 예약이면 복구하지 않는다
+                        if (jdbcTemplate.update(DELETE_HOLD, request.holdId) == 1) {
+                            stock -= request.quantity;
+                        }
+                        results.add(null);
+                    } else if (stock < request.quantity) {
+                        results.add(new NotEnoughStockException("재고 수량이 부족합니다."));
+                    } else {
+                        stock -= request.quantity;
+                        holds.add(new Object[]{request.holdId, itemId, request.quantity, now});
+                        results.add(null);
+                    }
+                }
+
+                jdbcTemplate.update(UPDATE_STOCK, stock, itemId);
+                if (!holds.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_HOLD, holds);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("재고 일괄 변경 실패. itemId={}, requests={}, ex={}", itemId, batch.size(), e.getMessage());
+            batch.forEach(request -> request.future.completeExceptionally(e));
+            return;
+        }
+
+        log.debug("재고 일괄 변경 완료. itemId={}, requests={}", itemId, batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            var result = results.get(i);
+            if (result == null) {
+                batch.get(i).future.complete(null);
+            } else {
+                batch.get(i).future.completeExceptionally(result);
+            }
+        }
+    }
+
+    private static class ItemQueue {
+        private final Long itemId;
+        private final Queue<StockRequest> requests = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private ItemQueue(Long itemId) {
+            this.itemId = itemId;
+        }
+    }
+
+    private static class StockRequest {
+        private final String holdId;
+        private final int quantity; // 양수 = 차감(예약 생성), 음수 = 예약 취소
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private StockRequest(String holdId, int quantity) {
+            this.holdId = holdId;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.domain.order.Order;
+import jpabook.jpastore.domain.order.OrderItem;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 시 재고 차감 / 주문 취소 시 재고 복구 전략.
+ * jpastore.order.stock-mode 설정값으로 배포 환경별 구현체를 선택한다. (기본값: pessimistic)
+ */
+public interface OrderStockHandler {
+
+    // 주문 상품별 재고 차감 후 주문 상품 리스트 생성
+    List<OrderItem> createOrderItems(List<OrderCommand.OrderItemRegisterReq> orderItems);
+
+    // 주문 취소 및 취소된 수량 재고 복구
+    void cancel(Order order);
+
+    // 일괄 취소된 주문들의 상품별 수량 합계(itemId -> quantity)만큼 재고 복구 (주문 상태 변경은 호출하는 쪽에서 처리)
+    void restore(Map<Long, Integer> quantities);
+}
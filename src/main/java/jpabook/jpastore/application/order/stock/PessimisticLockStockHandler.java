@@ -0,0 +1,75 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.common.exception.EntityNotFoundException;
+import jpabook.jpastore.domain.item.Item;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.order.Order;
+import jpabook.jpastore.domain.order.OrderItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기본 전략: 상품 row 에 비관적 락(PESSIMISTIC_WRITE)을 걸고 엔티티 재고를 차감한다.
+ * 주문의 모든 상품을 id 순서대로 한 번의 SELECT ... FOR UPDATE 로 잠근다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "pessimistic", matchIfMissing = true)
+@Component
+public class PessimisticLockStockHandler implements OrderStockHandler {
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<OrderItem> createOrderItems(List<OrderCommand.OrderItemRegisterReq> orderItemReqs) {
+        // 주문 상품 id 정렬 후 한 번에 락 획득
+        var itemIds = orderItemReqs.stream()
+                .map(OrderCommand.OrderItemRegisterReq::getItemId)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        Map<Long, Item> items = itemRepository.findItemsForUpdate(itemIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        // 존재하지 않거나 삭제된 상품 일괄 확인
+        var notFoundIds = itemIds.stream()
+                .filter(itemId -> !items.containsKey(itemId))
+                .collect(Collectors.toList());
+
+        if (!notFoundIds.isEmpty()) {
+            log.error("존재하지 않는 상품입니다. ids = {} " , notFoundIds);
+            throw new EntityNotFoundException("존재하지 않는 상품입니다. ids = " + notFoundIds);
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>();
+
+        for (OrderCommand.OrderItemRegisterReq orderItemReq : orderItemReqs) {
+            Item item = items.get(orderItemReq.getItemId());
+            orderItems.add(OrderItem.createOrderItem(item, item.getPrice(), orderItemReq.getQuantity()));
+        }
+
+        return orderItems;
+    }
+
+    @Override
+    public void cancel(Order order) {
+        order.cancel();
+    }
+
+    @Override
+    public void restore(Map<Long, Integer> quantities) {
+        // 상품 id 순서대로 상대값 UPDATE -> 엔티티 조회 없이 상품당 UPDATE 한 번
+        new TreeMap<>(quantities).forEach((itemId, quantity) -> itemRepository.decreaseStock(itemId, -quantity));
+    }
+}
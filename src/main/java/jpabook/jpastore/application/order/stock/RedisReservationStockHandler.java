@@ -0,0 +1,106 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.common.exception.EntityNotFoundException;
+import jpabook.jpastore.domain.item.Item;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.order.Order;
+import jpabook.jpastore.domain.order.OrderItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 예약 전략: 상품 row 락 없이 Redis 에서 재고를 원자적으로 차감하고,
+ * DB 재고는 RedisStockReconciler 가 비동기로 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "redis")
+@Component
+public class RedisReservationStockHandler implements OrderStockHandler {
+
+    private final ItemRepository itemRepository;
+    private final RedisStockReservation stockReservation;
+
+    @Override
+    public List<OrderItem> createOrderItems(List<OrderCommand.OrderItemRegisterReq> orderItemReqs) {
+        // 같은 상품이 여러 줄로 들어온 경우 수량 합산
+        Map<Long, Integer> quantities = orderItemReqs.stream()
+                .collect(Collectors.toMap(OrderCommand.OrderItemRegisterReq::getItemId,
+                        OrderCommand.OrderItemRegisterReq::getQuantity, Integer::sum, TreeMap::new));
+
+        // 상품 엔티티 조회 (락 없음)
+        Map<Long, Item> items = itemRepository.findItemsByIds(quantities.keySet())
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        quantities.keySet().forEach(itemId -> {
+            if (!items.containsKey(itemId)) {
+                log.error("존재하지 않는 상품입니다. id = {} " , itemId);
+                throw new EntityNotFoundException("존재하지 않는 상품입니다. id = " + itemId);
+            }
+        });
+
+        // 재고 예약 -> 주문 트랜잭션 롤백 시 예약 재고 반환
+        // (redis 에 재고 key 가 없으면 이 트랜잭션의 스냅샷이 아닌 커밋된 최신 DB 재고로 로딩)
+        stockReservation.reserve(quantities);
+        releaseOnRollback(quantities);
+
+        return orderItemReqs.stream()
+                .map(req -> {
+                    Item item = items.get(req.getItemId());
+                    return OrderItem.createReservedOrderItem(item, item.getPrice(), req.getQuantity());
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void cancel(Order order) {
+        order.cancelWithoutRestock();
+
+        Map<Long, Integer> quantities = order.getOrderItems().stream()
+                .collect(Collectors.toMap(oi -> oi.getItem().getId(),
+                        OrderItem::getQuantity, Integer::sum, TreeMap::new));
+
+        restore(quantities);
+    }
+
+    @Override
+    public void restore(Map<Long, Integer> quantities) {
+        // 주문 취소가 커밋된 후에만 재고 반환
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stockReservation.release(quantities);
+                }
+            });
+        } else {
+            stockReservation.release(quantities);
+        }
+    }
+
+    private void releaseOnRollback(Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.info("주문 롤백. 예약 재고 반환 items={}", quantities);
+                    stockReservation.release(quantities);
+                }
+            }
+        });
+    }
+}
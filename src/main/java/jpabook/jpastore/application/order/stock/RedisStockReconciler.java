@@ -0,0 +1,83 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.application.item.ItemChangedEvent;
+import jpabook.jpastore.application.item.ItemStockChangedEvent;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.item.StockReconcileBatch;
+import jpabook.jpastore.domain.item.StockReconcileBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Redis 에 쌓인 재고 변경량을 items 테이블에 주기적으로 반영한다.
+ * 상대값 UPDATE 로 반영하기 때문에 주문 트랜잭션이 상품 row 락을 잡지 않는다.
+ * 변경량은 배치 단위로 반영하고, 배치 id 를 재고 UPDATE 와 같은 트랜잭션에 기록한다.
+ * -> 커밋 후 Redis 확인 처리가 실패해도 다음 주기에 같은 배치를 다시 반영하지 않고 확인 처리만 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "redis")
+@Component
+public class RedisStockReconciler {
+
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(30);
+    private static final long BATCH_HISTORY = 1_000; // 보관할 반영 기록 수
+
+    private final RedisStockReservation stockReservation;
+    private final ItemRepository itemRepository;
+    private final StockReconcileBatchRepository batchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Scheduled(fixedDelayString = "${jpastore.order.stock-reconcile-delay-ms:1000}")
+    public void reconcile() {
+        if (!stockReservation.tryReconcileLock(nodeId, LOCK_TIMEOUT)) return;
+
+        try {
+            var staged = stockReservation.stageBatch();
+
+            if (staged.isEmpty()) return;
+
+            var batch = staged.get();
+            log.info("reconciling stock changes to db. batchId={}, items={}", batch.getId(), batch.getChanges().size());
+
+            // 1. DB 반영 + 반영 기록 (하나의 트랜잭션). 이미 기록이 있으면 이전 주기에 반영된 배치
+            transactionTemplate.executeWithoutResult(status -> {
+                if (batchRepository.existsById(batch.getId())) {
+                    log.info("이미 반영된 재고 배치. 확인 처리만 진행 batchId={}", batch.getId());
+                    return;
+                }
+
+                batch.getChanges().forEach(itemRepository::decreaseStock);
+                batchRepository.save(StockReconcileBatch.applied(batch.getId())); // PK 중복 -> 동시 반영 시 롤백
+                batchRepository.deleteBefore(batch.getId() - BATCH_HISTORY);
+            });
+
+            // 2. 커밋 완료된 배치 삭제 -> 실패 시 다음 주기에 같은 배치를 확인 처리
+            stockReservation.acknowledgeBatch(batch.getId());
+
+            // 3. 상품 조회 캐시 무효화 (트랜잭션 밖 -> 바로 실행)
+            eventPublisher.publishEvent(new ItemStockChangedEvent(batch.getChanges().keySet()));
+        } finally {
+            stockReservation.releaseReconcileLock(nodeId);
+        }
+    }
+
+    // 관리자 재고 수정/상품 삭제 시 redis 재고 key 삭제 -> 다음 주문에서 DB 값으로 다시 로딩
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.getType() == ItemChangedEvent.Type.CREATED) return;
+
+        stockReservation.evict(event.getItemId());
+    }
+}
@@ -0,0 +1,203 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.common.exception.NotEnoughStockException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * stock redis 에 상품 재고를 미러링하고, Lua 스크립트로 재고를 원자적으로 예약/반환한다.
+ *
+ * stock:{itemId}  -> 현재 가용 재고
+ * stock:pending   -> 상품별 DB 미반영 재고 변경량 (hash, 양수 = 차감 예정)
+ * stock:batch     -> DB 에 반영 중인 배치의 변경량 (hash, pending 을 통째로 옮긴 것)
+ * stock:batch-id  -> 반영 중인 배치 id (DB stock_reconcile_batches 에 같은 id 로 반영 기록)
+ * stock:batch-seq -> 배치 순번 (배치를 만들 때마다 증가 -> 재고 로딩 시 버전으로 사용)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "redis")
+@Component
+public class RedisStockReservation {
+
+    private static final String STOCK_KEY_PREFIX = "stock:"; // 상품 재고 key = stock:{itemId}
+    static final String PENDING_KEY = "stock:pending";
+    static final String BATCH_KEY = "stock:batch";
+    static final String BATCH_ID_KEY = "stock:batch-id";
+    static final String BATCH_SEQ_KEY = "stock:batch-seq";
+    private static final String RECONCILE_LOCK_KEY = "stock:reconcile-lock";
+    private static final int MAX_LOAD_RETRY = 3;
+
+    private static final long RESERVED = 1L;
+    private static final long STOCK_NOT_LOADED = -1L;
+    private static final long NOT_ENOUGH_STOCK = -2L;
+    private static final long BATCH_CHANGED = -3L;
+
+    private final RedisTemplate<String, Object> stockRedisTemplate;
+    private final CommittedStockReader committedStockReader;
+
+    private final RedisScript<Long> reserveScript = script("redis/stock-reserve.lua");
+    private final RedisScript<Long> releaseScript = script("redis/stock-release.lua");
+    private final RedisScript<Long> loadScript = script("redis/stock-load.lua");
+    private final RedisScript<Long> batchStageScript = script("redis/stock-batch-stage.lua");
+    private final RedisScript<Long> batchAckScript = script("redis/stock-batch-ack.lua");
+
+    /**
+     * 상품별 수량 일괄 예약. 하나라도 재고가 부족하면 아무것도 차감하지 않는다.
+     * @param quantities [상품 id - 주문 수량] map
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        var keys = keys(quantities);
+        var args = args(quantities);
+
+        for (int i = 0; i < MAX_LOAD_RETRY; i++) {
+            Long result = stockRedisTemplate.execute(reserveScript, keys, args);
+
+            if (Objects.equals(result, RESERVED)) {
+                return;
+            }
+
+            if (Objects.equals(result, NOT_ENOUGH_STOCK)) {
+                log.info("재고 예약 실패. 재고 수량 부족 items={}", quantities);
+                throw new NotEnoughStockException("재고 수량이 부족합니다.");
+            }
+
+            if (!Objects.equals(result, STOCK_NOT_LOADED)) {
+                throw new IllegalStateException("재고 예약 스크립트 결과가 올바르지 않습니다. result=" + result);
+            }
+
+            quantities.keySet().forEach(this::load);
+        }
+
+        throw new IllegalStateException("재고 정보를 불러올 수 없습니다. items=" + quantities.keySet());
+    }
+
+    /**
+     * 예약 재고 반환 (주문 롤백, 주문 취소)
+     */
+    public void release(Map<Long, Integer> quantities) {
+        stockRedisTemplate.execute(releaseScript, keys(quantities), args(quantities));
+    }
+
+    /**
+     * redis 재고 key 가 없을 경우에만 DB 재고 - 미반영 변경량으로 초기화
+     * DB 를 읽기 전 배치 순번/배치 id 를 기록해 두고, 읽는 사이 배치가 만들어지거나 확인 처리되면
+     * (어떤 변경량이 DB 에 반영된 값인지 알 수 없으므로) 다시 읽는다.
+     */
+    public void load(Long itemId) {
+        for (int i = 0; i < MAX_LOAD_RETRY; i++) {
+            var batchState = stockRedisTemplate.opsForValue().multiGet(List.of(BATCH_SEQ_KEY, BATCH_ID_KEY));
+            var batchSeq = valueOf(batchState.get(0));
+            var batchId = valueOf(batchState.get(1));
+
+            var committed = committedStockReader.read(itemId, batchId.isEmpty() ? null : Long.valueOf(batchId));
+
+            Long result = stockRedisTemplate.execute(loadScript,
+                    List.of(PENDING_KEY, stockKey(itemId), BATCH_KEY, BATCH_ID_KEY, BATCH_SEQ_KEY),
+                    String.valueOf(itemId), String.valueOf(committed.getStockQuantity()),
+                    batchSeq, batchId, committed.isBatchApplied() ? "1" : "0");
+
+            if (!Objects.equals(result, BATCH_CHANGED)) return;
+
+            log.info("재고 로딩 중 반영 배치 변경. 다시 로딩 itemId={}", itemId);
+        }
+    }
+
+    /**
+     * 재고 key 삭제 -> 다음 예약 시 DB 값으로 다시 로딩 (관리자 재고 수정, 상품 삭제)
+     */
+    public void evict(Long itemId) {
+        stockRedisTemplate.delete(stockKey(itemId));
+    }
+
+    /**
+     * DB 에 반영할 배치 준비. 확인 처리되지 않은 배치가 있으면 그 배치를 그대로 돌려준다.
+     * @return 반영할 변경량이 없으면 empty
+     */
+    public Optional<StockBatch> stageBatch() {
+        Long batchId = stockRedisTemplate.execute(batchStageScript,
+                List.of(PENDING_KEY, BATCH_KEY, BATCH_ID_KEY, BATCH_SEQ_KEY));
+
+        if (Objects.isNull(batchId) || batchId == 0L) return Optional.empty();
+
+        // 배치 hash 는 확인 처리 전까지 바뀌지 않는다 (예약/반환은 pending 에만 쌓인다)
+        Map<Long, Integer> changes = new TreeMap<>();
+        stockRedisTemplate.opsForHash().entries(BATCH_KEY)
+                .forEach((itemId, quantity) -> {
+                    int value = Integer.parseInt(String.valueOf(quantity));
+                    if (value != 0) {
+                        changes.put(Long.valueOf(String.valueOf(itemId)), value);
+                    }
+                });
+
+        return Optional.of(new StockBatch(batchId, changes));
+    }
+
+    /**
+     * DB 반영(커밋)이 끝난 배치 삭제
+     */
+    public void acknowledgeBatch(Long batchId) {
+        stockRedisTemplate.execute(batchAckScript, List.of(BATCH_KEY, BATCH_ID_KEY), String.valueOf(batchId));
+    }
+
+    /**
+     * 여러 노드에서 같은 변경량을 중복 반영하지 않도록 반영 작업 락 획득
+     */
+    public boolean tryReconcileLock(String owner, Duration timeout) {
+        return Boolean.TRUE.equals(
+                stockRedisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, owner, timeout));
+    }
+
+    public void releaseReconcileLock(String owner) {
+        if (owner.equals(stockRedisTemplate.opsForValue().get(RECONCILE_LOCK_KEY))) {
+            stockRedisTemplate.delete(RECONCILE_LOCK_KEY);
+        }
+    }
+
+    private List<String> keys(Map<Long, Integer> quantities) {
+        List<String> keys = new ArrayList<>(quantities.size() + 1);
+        keys.add(PENDING_KEY);
+        quantities.keySet().forEach(itemId -> keys.add(stockKey(itemId)));
+        return keys;
+    }
+
+    private Object[] args(Map<Long, Integer> quantities) {
+        List<String> args = new ArrayList<>(quantities.size() * 2);
+        quantities.forEach((itemId, quantity) -> {
+            args.add(String.valueOf(itemId));
+            args.add(String.valueOf(quantity));
+        });
+        return args.toArray();
+    }
+
+    private static String valueOf(Object value) {
+        return Objects.isNull(value) ? "" : String.valueOf(value);
+    }
+
+    private String stockKey(Long itemId) {
+        return STOCK_KEY_PREFIX + itemId;
+    }
+
+    private static RedisScript<Long> script(String path) {
+        var script = new DefaultRedisScript<Long>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StockBatch {
+        private final Long id;
+        private final Map<Long, Integer> changes; // [상품 id - 차감량] (음수 = 재고 증가)
+    }
+}
@@ -1,5 +1,8 @@
 package jpabook.jpastore.application.review;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -19,6 +22,8 @@ public interface ReviewService {
     // 전체 리뷰 리스트 조회 (페이징/정렬/검색)
     Page<ReviewInfo.MainInfo> listReview(ReviewCommand.SearchCondition condition, Pageable pageable);
 
+    CursorPage<ReviewInfo.MainInfo> listReview(ReviewCommand.SearchCondition condition, CursorRequest cursorRequest);
+
     // 리뷰 정보 수정
     void updateReview(Long id, ReviewCommand.UpdateReq command, String authUsername);
 
@@ -1,5 +1,7 @@
 package jpabook.jpastore.application.review;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.common.exception.EntityNotFoundException;
 import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.domain.item.ItemRepository;
@@ -77,6 +79,12 @@ public class ReviewServiceImpl implements ReviewService {
                 .map(ReviewInfo.MainInfo::new);
     }
 
+    @Override
+    public CursorPage<ReviewInfo.MainInfo> listReview(ReviewCommand.SearchCondition condition, CursorRequest cursorRequest) {
+        return reviewRepository.findAllByCondition(condition.toSearchCondition(), cursorRequest)
+                .map(ReviewInfo.MainInfo::new);
+    }
+
     @Override
     @Transactional
     public void updateReview(Long id, ReviewCommand.UpdateReq command, String authUsername) {
@@ -0,0 +1,65 @@
+package jpabook.jpastore.application.sales;
+
+import jpabook.jpastore.domain.sales.SalesDailyRollup;
+import jpabook.jpastore.domain.sales.SalesRollupTotal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+public class SalesInfo {
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class DailyInfo {
+        private LocalDate salesDate;
+        private String dimension;
+        private String dimensionKey;
+        private Long orderCount;
+        private Long unitsSold;
+        private Long revenue;
+        private Long canceledOrderCount;
+        private Long canceledUnits;
+        private Long canceledRevenue;
+
+        public DailyInfo(SalesDailyRollup entity) {
+            this.salesDate = entity.getSalesDate();
+            this.dimension = entity.getDimension().name();
+            this.dimensionKey = entity.getDimensionKey();
+            this.orderCount = entity.getOrderCount();
+            this.unitsSold = entity.getUnitsSold();
+            this.revenue = entity.getRevenue();
+            this.canceledOrderCount = entity.getCanceledOrderCount();
+            this.canceledUnits = entity.getCanceledUnits();
+            this.canceledRevenue = entity.getCanceledRevenue();
+        }
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class TotalInfo {
+        private String dimensionKey;
+        private Long orderCount;
+        private Long unitsSold;
+        private Long revenue;
+        private Long canceledOrderCount;
+        private Long canceledUnits;
+        private Long canceledRevenue;
+
+        public TotalInfo(SalesRollupTotal total) {
+            this.dimensionKey = total.getDimensionKey();
+            this.orderCount = total.getOrderCount();
+            this.unitsSold = total.getUnitsSold();
+            this.revenue = total.getRevenue();
+            this.canceledOrderCount = total.getCanceledOrderCount();
+            this.canceledUnits = total.getCanceledUnits();
+            this.canceledRevenue = total.getCanceledRevenue();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package jpabook.jpastore.application.sales;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매출 집계 원장(SalesLedger)을 주기적으로 일별 매출 집계(sales_daily_rollups)에 반영한다.
+ * 청크마다 별도 트랜잭션이며, 원장을 SKIP LOCKED 로 선점하므로 여러 노드에서 실행되어도 중복 반영되지 않는다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "jpastore.sales.rollup-fold.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class SalesRollupFoldScheduler {
+
+    private final SalesRollupProjector salesRollupProjector;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final Counter foldedCounter;
+
+    public SalesRollupFoldScheduler(SalesRollupProjector salesRollupProjector,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${jpastore.sales.rollup-fold.chunk-size:1000}") int chunkSize,
+                                    @Value("${jpastore.sales.rollup-fold.max-chunks-per-run:20}") int maxChunksPerRun) {
+        this.salesRollupProjector = salesRollupProjector;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+
+        this.foldedCounter = Counter.builder("sales.rollup.folded")
+                .description("일별 매출 집계에 반영된 원장 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.sales.rollup-fold.delay-ms:5000}")
+    public void fold() {
+        int chunks = 0;
+        int folded;
+
+        // 청크가 가득 차 있으면 남은 원장이 있다고 보고 계속 처리 (한 주기 최대 maxChunksPerRun 청크)
+        do {
+            folded = salesRollupProjector.fold(chunkSize);
+            chunks++;
+            foldedCounter.increment(folded);
+        } while (folded == chunkSize && chunks < maxChunksPerRun);
+    }
+}
@@ -0,0 +1,229 @@
+package jpabook.jpastore.application.sales;
+
+import jpabook.jpastore.application.order.OrderBulkCanceledEvent;
+import jpabook.jpastore.application.order.OrderChangedEvent;
+import jpabook.jpastore.common.utils.OneToManyAssembler;
+import jpabook.jpastore.domain.category.CategoryItemIds;
+import jpabook.jpastore.domain.category.CategoryRepository;
+import jpabook.jpastore.domain.order.Order;
+import jpabook.jpastore.domain.order.OrderItem;
+import jpabook.jpastore.domain.order.repository.OrderRepository;
+import jpabook.jpastore.domain.sales.SalesDailyRollupRepository;
+import jpabook.jpastore.domain.sales.SalesDimension;
+import jpabook.jpastore.domain.sales.SalesLedger;
+import jpabook.jpastore.domain.sales.SalesLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 생성/취소(일괄 취소 포함) 이벤트 -> 일별 매출 집계(상품별/카테고리별/결제 수단별) 증분 반영
+ * - 주문 트랜잭션 커밋 직전에는 매출 집계 원장(SalesLedger)만 INSERT 한다 (주문과 원장은 함께 커밋/롤백)
+ * - 원장은 SalesRollupFoldScheduler 가 청크 단위로 모아 집계 키별 한 번의 upsert 로 반영한다
+ *   -> 집계 행(날짜별 결제 수단/인기 상품) 락을 주문 트랜잭션이 잡지 않는다. 집계 조회는 반영 주기만큼 늦을 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SalesRollupProjector {
+
+    private final OrderRepository orderRepository;
+    private final CategoryRepository categoryRepository;
+    private final OneToManyAssembler oneToManyAssembler;
+    private final SalesLedgerRepository salesLedgerRepository;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderChanged(OrderChangedEvent event) {
+        var type = event.getType();
+
+        if (type == OrderChangedEvent.Type.CREATED) {
+            // 주문일 기준 매출
+            salesLedgerRepository.save(SalesLedger.ordered(event.getOrderId(), LocalDate.now()));
+        } else if (type == OrderChangedEvent.Type.CANCELED) {
+            // 취소일 기준 취소 집계
+            salesLedgerRepository.save(SalesLedger.canceled(event.getOrderId(), LocalDate.now()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrdersCanceled(OrderBulkCanceledEvent event) {
+        var canceledDate = LocalDate.now();
+
+        salesLedgerRepository.saveAll(event.getOrderIds().stream()
+                .map(orderId -> SalesLedger.canceled(orderId, canceledDate))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 매출 집계 원장 반영 (chunkSize 건)
+     * 원장을 SKIP LOCKED 로 선점하므로 여러 노드에서 실행되어도 중복 반영되지 않고 서로 기다리지 않는다.
+     * 집계 키 순서대로 upsert -> 반영 작업 간 데드락 방지
+     *
+     * @return 반영한 원장 수
+     */
+    @Transactional
+    public int fold(int chunkSize) {
+        var ledgers = salesLedgerRepository.findForUpdate(PageRequest.of(0, chunkSize));
+
+        if (ledgers.isEmpty()) {
+            return 0;
+        }
+
+        var orderIds = ledgers.stream().map(SalesLedger::getOrderId).collect(Collectors.toSet());
+        var ordersById = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        // (날짜, 취소 여부) 별 주문 -> 집계 키별 증분
+        Map<LedgerGroup, List<Order>> groups = new TreeMap<>();
+        for (SalesLedger ledger : ledgers) {
+            var order = ordersById.get(ledger.getOrderId());
+            if (order == null) {
+                log.warn("매출 집계에 반영할 주문이 존재하지 않습니다. ledger = {}", ledger);
+                continue;
+            }
+            groups.computeIfAbsent(new LedgerGroup(ledger.getSalesDate(), ledger.isCanceled()), k -> new ArrayList<>())
+                    .add(order);
+        }
+
+        groups.forEach((group, orders) ->
+                aggregate(orders).forEach((key, delta) -> upsert(key, group.salesDate, delta, group.canceled)));
+
+        salesLedgerRepository.deleteByIds(ledgers.stream().map(SalesLedger::getId).collect(Collectors.toList()));
+
+        log.info("매출 집계 원장 반영. ledgers = {}", ledgers.size());
+
+        return ledgers.size();
+    }
+
+    // 주문 리스트 -> 집계 키(dimension, key)별 증분
+    private Map<RollupKey, Delta> aggregate(List<Order> orders) {
+        Map<RollupKey, Delta> deltas = new TreeMap<>();
+
+        var itemIds = orders.stream()
+                .flatMap(order -> order.getOrderItems().stream())
+                .map(oi -> oi.getItem().getId())
+                .collect(Collectors.toSet());
+
+        // 상품 id 별 카테고리 (IN 절 청크 단위 조회)
+        // 원장 반영 트랜잭션의 미커밋 변경이 아닌 커밋된 상품-카테고리 매핑만 읽으므로 다른 스레드에서 조회해도 된다
+        var categoriesByItemId = oneToManyAssembler.assemble(itemIds,
+                categoryRepository::findCategoryItemIdsByItemIds, CategoryItemIds::getItemId);
+
+        for (Order order : orders) {
+            // 한 주문 안에서 같은 키는 주문 수 1건으로 센다
+            Map<RollupKey, Delta> orderDeltas = new LinkedHashMap<>();
+
+            orderDeltas.put(new RollupKey(SalesDimension.PAY, order.getPayInfo().name()),
+                    new Delta(order.getItemCount(), order.getTotalPrice().getValue()));
+
+            for (OrderItem orderItem : order.getOrderItems()) {
+                var itemId = orderItem.getItem().getId();
+                var quantity = orderItem.getQuantity();
+                var revenue = orderItem.getTotalPrice().getValue();
+
+                orderDeltas.computeIfAbsent(new RollupKey(SalesDimension.ITEM, String.valueOf(itemId)), k -> new Delta())
+                        .add(quantity, revenue);
+
+                for (CategoryItemIds categoryItem : categoriesByItemId.getOrDefault(itemId, Collections.emptyList())) {
+                    orderDeltas.computeIfAbsent(new RollupKey(SalesDimension.CATEGORY, String.valueOf(categoryItem.getCategoryId())), k -> new Delta())
+                            .add(quantity, revenue);
+                }
+            }
+
+            orderDeltas.forEach((key, delta) -> deltas.merge(key, delta, Delta::merge));
+        }
+
+        return deltas;
+    }
+
+    private void upsert(RollupKey key, LocalDate date, Delta delta, boolean canceled) {
+        if (canceled) {
+            salesDailyRollupRepository.upsert(key.dimension.name(), key.dimensionKey, date,
+                    0, 0, 0, delta.orders, delta.units, delta.revenue);
+        } else {
+            salesDailyRollupRepository.upsert(key.dimension.name(), key.dimensionKey, date,
+                    delta.orders, delta.units, delta.revenue, 0, 0, 0);
+        }
+    }
+
+    private static class LedgerGroup implements Comparable<LedgerGroup> {
+        private final LocalDate salesDate;
+        private final boolean canceled;
+
+        private LedgerGroup(LocalDate salesDate, boolean canceled) {
+            this.salesDate = salesDate;
+            this.canceled = canceled;
+        }
+
+        @Override
+        public int compareTo(LedgerGroup other) {
+            int compared = salesDate.compareTo(other.salesDate);
+            return compared != 0 ? compared : Boolean.compare(canceled, other.canceled);
+        }
+    }
+
+    private static class RollupKey implements Comparable<RollupKey> {
+        private final SalesDimension dimension;
+        private final String dimensionKey;
+
+        private RollupKey(SalesDimension dimension, String dimensionKey) {
+            this.dimension = dimension;
+            this.dimensionKey = dimensionKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RollupKey)) return false;
+            RollupKey that = (RollupKey) o;
+            return dimension == that.dimension && dimensionKey.equals(that.dimensionKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimension, dimensionKey);
+        }
+
+        @Override
+        public int compareTo(RollupKey other) {
+            int compared = dimension.compareTo(other.dimension);
+            return compared != 0 ? compared : dimensionKey.compareTo(other.dimensionKey);
+        }
+    }
+
+    private static class Delta {
+        private long orders = 1;
+        private long units;
+        private long revenue;
+
+        private Delta() {
+        }
+
+        private Delta(long units, long revenue) {
+            this.units = units;
+            this.revenue = revenue;
+        }
+
+        private void add(long units, long revenue) {
+            this.units += units;
+            this.revenue += revenue;
+        }
+
+        private Delta merge(Delta other) {
+            this.orders += other.orders;
+            this.units += other.units;
+            this.revenue += other.revenue;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package jpabook.jpastore.application.sales;
+
+import jpabook.jpastore.domain.sales.SalesDimension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesService {
+
+    // 일별 매출 집계 조회 (dimensionKey 가 없으면 해당 dimension 전체)
+    List<SalesInfo.DailyInfo> dailySales(SalesDimension dimension, String dimensionKey, LocalDate from, LocalDate to);
+
+    // 기간 매출 합계 조회 (dimension key 별, 매출 내림차순)
+    List<SalesInfo.TotalInfo> totalSales(SalesDimension dimension, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,56 @@
+package jpabook.jpastore.application.sales;
+
+import jpabook.jpastore.common.exception.BadRequestException;
+import jpabook.jpastore.domain.sales.SalesDailyRollupRepository;
+import jpabook.jpastore.domain.sales.SalesDimension;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class SalesServiceImpl implements SalesService {
+
+    // 한 번에 조회 가능한 최대 기간 (일)
+    private static final long MAX_PERIOD_DAYS = 366;
+
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+
+    @Override
+    public List<SalesInfo.DailyInfo> dailySales(SalesDimension dimension, String dimensionKey, LocalDate from, LocalDate to) {
+        checkPeriod(from, to);
+
+        var rollups = StringUtils.hasText(dimensionKey)
+                ? salesDailyRollupRepository.findDaily(dimension, dimensionKey, from, to)
+                : salesDailyRollupRepository.findDaily(dimension, from, to);
+
+        return rollups.stream()
+                .map(SalesInfo.DailyInfo::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SalesInfo.TotalInfo> totalSales(SalesDimension dimension, LocalDate from, LocalDate to) {
+        checkPeriod(from, to);
+
+        return salesDailyRollupRepository.findTotals(dimension, from, to).stream()
+                .map(SalesInfo.TotalInfo::new)
+                .collect(Collectors.toList());
+    }
+
+    private void checkPeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            log.error("올바르지 않은 조회 기간입니다. from = {}, to = {}", from, to);
+            throw new BadRequestException("올바르지 않은 조회 기간입니다. (최대 " + MAX_PERIOD_DAYS + "일) from = " + from + ", to = " + to);
+        }
+    }
+}
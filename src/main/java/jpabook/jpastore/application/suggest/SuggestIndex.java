@@ -0,0 +1,256 @@
+package jpabook.jpastore.application.suggest;
+
+import jpabook.jpastore.application.category.CategoryChangedEvent;
+import jpabook.jpastore.application.item.ItemChangedEvent;
+import jpabook.jpastore.application.item.ItemsImportedEvent;
+import jpabook.jpastore.common.utils.TopKTrie;
+import jpabook.jpastore.domain.category.Category;
+import jpabook.jpastore.domain.category.CategoryName;
+import jpabook.jpastore.domain.category.CategoryRepository;
+import jpabook.jpastore.domain.item.Item;
+import jpabook.jpastore.domain.item.ItemName;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.sales.SalesDailyRollupRepository;
+import jpabook.jpastore.domain.sales.SalesDimension;
+import jpabook.jpastore.domain.sales.SalesRollupTotal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품명/카테고리명 접두사 자동완성 색인 (메모리 trie)
+ * 키 입력마다 DB 를 조회하지 않도록, 노드마다 최근 판매 수량 기준 상위 max-size 건을 미리 정렬해 둔 trie 에서 바로 꺼낸다.
+ * - 애플리케이션 시작 시, 이후 rebuild-delay-ms 주기로 DB 에서 새 trie 를 만들어 교체 (판매 가중치, 다른 노드의 변경 반영)
+ * - 이 노드의 상품/카테고리 변경은 커밋 직후 반영 (가중치는 마지막 재생성 값 사용)
+ * - 재생성 중 들어온 변경은 기록해 두었다가 교체 직후 새 trie 에 다시 반영 (재생성이 먼저 읽은 값으로 덮어쓰지 않도록)
+ */
+@Slf4j
+@Component
+public class SuggestIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final boolean enabled;
+    private final int maxSize;
+    private final int weightDays;
+
+    private volatile TopKTrie<SuggestInfo.Suggestion> trie;
+    private volatile Map<String, Long> weights = Collections.emptyMap();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+
+    private final Object changeLock = new Object();
+    private List<Change> changesDuringRebuild; // 재생성 중이 아니면 null (changeLock)
+
+    public SuggestIndex(ItemRepository itemRepository,
+                        CategoryRepository categoryRepository,
+                        SalesDailyRollupRepository salesDailyRollupRepository,
+                        @Value("${jpastore.suggest.enabled:true}") boolean enabled,
+                        @Value("${jpastore.suggest.max-size:10}") int maxSize,
+                        @Value("${jpastore.suggest.weight-days:30}") int weightDays) {
+        this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.salesDailyRollupRepository = salesDailyRollupRepository;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.weightDays = weightDays;
+    }
+
+    // 접두사로 시작하는 상품/카테고리 (가중치 순, 최대 maxSize 건), 색인을 쓸 수 없으면 빈 리스트
+    public List<SuggestInfo.Suggestion> search(String prefix, int size) {
+        var current = trie;
+        if (!enabled || current == null) {
+            return Collections.emptyList();
+        }
+
+        return current.search(prefix, Math.min(size, maxSize));
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isReady() {
+        return enabled && trie != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jpastore.suggest.rebuild-delay-ms:300000}",
+            fixedDelayString = "${jpastore.suggest.rebuild-delay-ms:300000}")
+    public void scheduledRebuild() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    // DB 에서 새 trie 를 만든 뒤 교체 -> 재생성 중에도 기존 trie 로 조회
+    public synchronized void rebuild() {
+        synchronized (changeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        var newTrie = new TopKTrie<SuggestInfo.Suggestion>(maxSize);
+        Map<String, Long> newWeights = new HashMap<>();
+        try {
+            var to = LocalDate.now();
+            var from = to.minusDays(weightDays);
+
+            putWeights(newWeights, SuggestInfo.Type.ITEM,
+                    salesDailyRollupRepository.findTotals(SalesDimension.ITEM, from, to));
+            putWeights(newWeights, SuggestInfo.Type.CATEGORY,
+                    salesDailyRollupRepository.findTotals(SalesDimension.CATEGORY, from, to));
+
+            long lastId = 0L;
+            List<ItemName> page;
+            do {
+                page = itemRepository.findItemNames(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (ItemName itemName : page) {
+                    if (!Boolean.TRUE.equals(itemName.getDeleted())) {
+                        put(newTrie, newWeights, SuggestInfo.Type.ITEM, itemName.getId(), itemName.getName());
+                    }
+                    lastId = itemName.getId();
+                }
+            } while (page.size() == REBUILD_PAGE_SIZE);
+
+            for (CategoryName categoryName : categoryRepository.findCategoryNames()) {
+                put(newTrie, newWeights, SuggestInfo.Type.CATEGORY, categoryName.getId(), categoryName.getName());
+            }
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        // 기록 종료와 교체를 함께 -> 이후의 변경은 리스너가 새 trie 에 바로 반영
+        List<Change> changes;
+        synchronized (changeLock) {
+            changes = changesDuringRebuild;
+            changesDuringRebuild = null;
+            weights = newWeights;
+            trie = newTrie;
+        }
+
+        // 재생성 중 들어온 변경 다시 반영 (DB 에서 다시 읽으므로 재생성에 이미 포함된 변경이어도 결과가 같다)
+        for (Change change : changes) {
+            apply(newTrie, newWeights, change);
+        }
+
+        log.info("자동완성 색인 재생성. entries = {}, replayed = {}", newTrie.size(), changes.size());
+    }
+
+    // 이 노드의 상품 변경 -> 커밋 직후 반영
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        onChange(new Change(SuggestInfo.Type.ITEM, event.getItemId(),
+                event.getType() == ItemChangedEvent.Type.DELETED));
+    }
+
+    // 상품 일괄 등록 -> 전체 재생성 요청 (등록 요청 스레드에서 재생성하지 않음, 연속 등록은 한 번의 재생성으로 합쳐진다)
+    @EventListener
+    public void onItemsImported(ItemsImportedEvent event) {
+        if (isReady()) {
+            rebuildRequested.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jpastore.item.import-rebuild-delay-ms:1000}")
+    public void rebuildIfRequested() {
+        if (isReady() && rebuildRequested.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    // 이 노드의 카테고리 변경 -> 커밋 직후 반영
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        onChange(new Change(SuggestInfo.Type.CATEGORY, event.getCategoryId(),
+                event.getType() == CategoryChangedEvent.Type.DELETED));
+    }
+
+    private void onChange(Change change) {
+        if (!enabled) return;
+
+        TopKTrie<SuggestInfo.Suggestion> current;
+        Map<String, Long> currentWeights;
+        synchronized (changeLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            current = trie;
+            currentWeights = weights;
+        }
+
+        if (current != null) {
+            apply(current, currentWeights, change);
+        }
+    }
+
+    private void apply(TopKTrie<SuggestInfo.Suggestion> trie, Map<String, Long> weights, Change change) {
+        var key = key(change.type, change.id);
+        if (change.deleted) {
+            trie.remove(key);
+            return;
+        }
+
+        Optional<String> name = change.type == SuggestInfo.Type.ITEM
+                ? itemRepository.findById(change.id).filter(item -> !item.isDeleted()).map(Item::getName)
+                : categoryRepository.findById(change.id).filter(category -> !category.isDeleted()).map(Category::getName);
+
+        if (name.isPresent()) {
+            put(trie, weights, change.type, change.id, name.get());
+        } else {
+            trie.remove(key);
+        }
+    }
+
+    // 판매 수량 - 취소 수량 (dimension key 는 상품/카테고리 id)
+    private void putWeights(Map<String, Long> weights, SuggestInfo.Type type, List<SalesRollupTotal> totals) {
+        for (SalesRollupTotal total : totals) {
+            long sold = Objects.requireNonNullElse(total.getUnitsSold(), 0L)
+                    - Objects.requireNonNullElse(total.getCanceledUnits(), 0L);
+            weights.put(type.name() + ":" + total.getDimensionKey(), Math.max(sold, 0L));
+        }
+    }
+
+    private void put(TopKTrie<SuggestInfo.Suggestion> trie, Map<String, Long> weights,
+                     SuggestInfo.Type type, Long id, String name) {
+        var key = key(type, id);
+        long weight = weights.getOrDefault(key, 0L);
+
+        trie.put(key, name, weight, new SuggestInfo.Suggestion(type, id, name, weight));
+    }
+
+    private static String key(SuggestInfo.Type type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static final class Change {
+        private final SuggestInfo.Type type;
+        private final Long id;
+        private final boolean deleted;
+
+        private Change(SuggestInfo.Type type, Long id, boolean deleted) {
+            this.type = type;
+            this.id = id;
+            this.deleted = deleted;
+        }
+    }
+}
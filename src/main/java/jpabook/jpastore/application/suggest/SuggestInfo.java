@@ -0,0 +1,24 @@
+package jpabook.jpastore.application.suggest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+public class SuggestInfo {
+
+    public enum Type {
+        ITEM, CATEGORY
+    }
+
+    @ToString
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Suggestion {
+        private Type type;
+        private Long id;
+        private String name;
+        private Long weight; // 최근 판매 수량 (취소 제외)
+    }
+}
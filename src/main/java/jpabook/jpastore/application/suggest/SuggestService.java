@@ -0,0 +1,8 @@
+package jpabook.jpastore.application.suggest;
+
+import java.util.List;
+
+public interface SuggestService {
+
+    List<SuggestInfo.Suggestion> suggest(String query, Integer size);
+}
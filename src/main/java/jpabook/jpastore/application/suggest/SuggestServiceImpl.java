@@ -0,0 +1,32 @@
+package jpabook.jpastore.application.suggest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SuggestServiceImpl implements SuggestService {
+
+    private final SuggestIndex suggestIndex;
+
+    /**
+     * 접두사 자동완성 -> 메모리 색인만 조회 (DB 조회 없음)
+     * 색인이 준비되지 않은 경우 빈 리스트
+     */
+    @Override
+    public List<SuggestInfo.Suggestion> suggest(String query, Integer size) {
+        if (!StringUtils.hasText(query)) {
+            return Collections.emptyList();
+        }
+
+        int limit = (size == null || size < 1) ? suggestIndex.getMaxSize() : size;
+
+        return suggestIndex.search(query, limit);
+    }
+}
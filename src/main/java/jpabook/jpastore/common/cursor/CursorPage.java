@@ -0,0 +1,33 @@
+package jpabook.jpastore.common.cursor;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지 결과
+ * 전체 개수(count 쿼리) 없이 다음 페이지 커서만 반환한다.
+ */
+@ToString
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorPage<>(content.stream().map(converter).collect(Collectors.toList()), hasNext, nextCursor);
+    }
+}
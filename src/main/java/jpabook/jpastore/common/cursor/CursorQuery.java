@@ -0,0 +1,136 @@
+package jpabook.jpastore.common.cursor;
+
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import jpabook.jpastore.common.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset(seek) 페이지네이션 쿼리 조각 생성
+ * offset 대신 마지막 행의 (정렬 키, id) 이후부터 조회 -> 깊은 페이지도 인덱스 범위 탐색으로 처리
+ *
+ * (key, id) 내림차순 기준 다음 페이지 조건 (row value 비교):
+ *   (key, id) < (:lastKey, :lastId)
+ * OR 로 풀어 쓴 조건과 달리 (key, id) 복합 인덱스의 범위 탐색 한 번으로 처리된다
+ * (row value 비교를 지원하는 dialect 필요: MySQL/MariaDB, H2)
+ * NULL 은 오름차순에서 맨 앞, 내림차순에서 맨 뒤로 정렬된다고 가정 (MySQL/MariaDB, H2)
+ *
+ * @param <E> 조회 엔티티
+ */
+public class CursorQuery<E> {
+
+    private final NumberPath<Long> idPath;
+    private final Function<E, Long> idExtractor;
+    private final Map<String, CursorSortKey<E>> sortKeys = new LinkedHashMap<>();
+    private final CursorSortKey<E> defaultKey;
+    private final Sort.Direction defaultDirection;
+
+    @SafeVarargs
+    public CursorQuery(NumberPath<Long> idPath, Function<E, Long> idExtractor,
+                       Sort.Direction defaultDirection, CursorSortKey<E> defaultKey, CursorSortKey<E>... otherKeys) {
+        this.idPath = idPath;
+        this.idExtractor = idExtractor;
+        this.defaultKey = defaultKey;
+        this.defaultDirection = defaultDirection;
+
+        this.sortKeys.put(defaultKey.getProperty(), defaultKey);
+        for (CursorSortKey<E> key : otherKeys) {
+            this.sortKeys.put(key.getProperty(), key);
+        }
+    }
+
+    // 다음 페이지 조건 (첫 페이지면 null -> querydsl where 에서 무시)
+    public Predicate seek(CursorRequest request) {
+        var token = request.getToken();
+        if (token == null) return null;
+
+        var key = sortKey(request);
+        var ascending = direction(request).isAscending();
+        var op = ascending ? Ops.GT : Ops.LT;
+
+        BooleanExpression afterId = Expressions.booleanOperation(op, idPath, Expressions.constant(token.getLastId()));
+
+        if (key.getPath().equals(idPath)) {
+            return afterId;
+        }
+
+        if (token.getLastValue() == null) {
+            return ascending
+                    ? key.getPath().isNull().and(afterId).or(key.getPath().isNotNull())
+                    : key.getPath().isNull().and(afterId);
+        }
+
+        Object parsedValue;
+        try {
+            parsedValue = key.getParser().apply(token.getLastValue());
+        } catch (RuntimeException e) {
+            throw new BadRequestException("올바르지 않은 커서입니다. value=" + token.getLastValue());
+        }
+
+        BooleanExpression after = Expressions.booleanTemplate("({0}, {1}) " + (ascending ? ">" : "<") + " ({2}, {3})",
+                key.getPath(), idPath, Expressions.constant(parsedValue), Expressions.constant(token.getLastId()));
+
+        return ascending ? after : after.or(key.getPath().isNull());
+    }
+
+    public OrderSpecifier<?>[] orderBy(CursorRequest request) {
+        var key = sortKey(request);
+        var ascending = direction(request).isAscending();
+
+        if (key.getPath().equals(idPath)) {
+            return new OrderSpecifier<?>[]{ascending ? idPath.asc() : idPath.desc()};
+        }
+
+        return new OrderSpecifier<?>[]{
+                ascending ? key.getPath().asc() : key.getPath().desc(),
+                ascending ? idPath.asc() : idPath.desc()
+        };
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    public long limit(CursorRequest request) {
+        return request.getSize() + 1L;
+    }
+
+    public CursorPage<E> page(List<E> fetched, CursorRequest request) {
+        var hasNext = fetched.size() > request.getSize();
+        var content = hasNext ? fetched.subList(0, request.getSize()) : fetched;
+
+        if (!hasNext) {
+            return new CursorPage<>(content, false, null);
+        }
+
+        var last = content.get(content.size() - 1);
+        var key = sortKey(request);
+
+        var nextCursor = CursorToken.of(key.getProperty(), direction(request),
+                idExtractor.apply(last),
+                key.getPath().equals(idPath) ? null : key.getExtractor().apply(last)).encode();
+
+        return new CursorPage<>(content, true, nextCursor);
+    }
+
+    private CursorSortKey<E> sortKey(CursorRequest request) {
+        if (request.getSortOrder() == null) return defaultKey;
+
+        var key = sortKeys.get(request.getSortOrder().getProperty());
+        if (key == null) {
+            throw new BadRequestException("커서 페이지에서 지원하지 않는 정렬 기준 속성입니다. property="
+                    + request.getSortOrder().getProperty());
+        }
+        return key;
+    }
+
+    private Sort.Direction direction(CursorRequest request) {
+        return request.getSortOrder() == null ? defaultDirection : request.getSortOrder().getDirection();
+    }
+}
@@ -0,0 +1,40 @@
+package jpabook.jpastore.common.cursor;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 커서 기반 페이지 요청
+ * 커서가 있으면 커서에 담긴 정렬 기준을 그대로 사용한다. (페이지 사이에 정렬 기준이 바뀌지 않도록)
+ */
+@ToString
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorRequest {
+
+    private static final int MAX_SIZE = 100;
+
+    private final int size;
+    private final Sort.Order sortOrder; // null 이면 리포지토리 기본 정렬
+    private final CursorToken token;    // null 이면 첫 페이지
+
+    public static CursorRequest of(String cursor, Pageable pageable) {
+        var size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_SIZE);
+
+        if (cursor != null && !cursor.isBlank()) {
+            var token = CursorToken.decode(cursor);
+            return new CursorRequest(size, new Sort.Order(token.getDirection(), token.getProperty()), token);
+        }
+
+        var sortOrder = pageable.getSort().stream().findFirst().orElse(null);
+        return new CursorRequest(size, sortOrder, null);
+    }
+
+    public static CursorRequest first(int size, Sort.Order sortOrder) {
+        return new CursorRequest(size, sortOrder, null);
+    }
+}
@@ -0,0 +1,31 @@
+package jpabook.jpastore.common.cursor;
+
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.function.Function;
+
+/**
+ * 커서 정렬 키 정의
+ * @param <E> 조회 엔티티
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSortKey<E> {
+
+    private final String property;                   // 요청 정렬 속성명
+    private final ComparableExpressionBase<?> path;  // 정렬/비교 대상 컬럼
+    private final Function<E, Object> extractor;     // 엔티티 -> 정렬 키 값
+    private final Function<String, Object> parser;   // 커서 문자열 -> 정렬 키 값
+
+    @SuppressWarnings("unchecked")
+    public static <E> CursorSortKey<E> of(String property,
+                                          ComparableExpressionBase<?> path,
+                                          Function<E, ?> extractor,
+                                          Function<String, ?> parser) {
+        return new CursorSortKey<>(property, path,
+                (Function<E, Object>) extractor, (Function<String, Object>) parser);
+    }
+}
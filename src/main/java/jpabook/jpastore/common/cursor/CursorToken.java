@@ -0,0 +1,60 @@
+package jpabook.jpastore.common.cursor;
+
+import jpabook.jpastore.common.exception.BadRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 다음 페이지 시작 위치 (마지막 행의 정렬 키 값 + id)
+ * 클라이언트에는 base64 문자열(opaque token)로만 전달한다.
+ */
+@ToString
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorToken {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "N";
+    private static final String VALUE_PREFIX = "V";
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final Long lastId;
+    private final String lastValue; // 정렬 키 값 문자열 (null 가능)
+
+    public static CursorToken of(String property, Sort.Direction direction, Long lastId, Object lastValue) {
+        return new CursorToken(property, direction, lastId, lastValue == null ? null : lastValue.toString());
+    }
+
+    public String encode() {
+        var raw = String.join(SEPARATOR, VERSION, property, direction.name(), String.valueOf(lastId),
+                lastValue == null ? NULL_VALUE : VALUE_PREFIX + lastValue);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorToken decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 정렬 키 값에 구분자가 포함될 수 있으므로 마지막 필드는 나누지 않음
+            var fields = raw.split("\\" + SEPARATOR, 5);
+
+            if (fields.length != 5 || !VERSION.equals(fields[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+
+            var lastValue = fields[4].equals(NULL_VALUE) ? null : fields[4].substring(VALUE_PREFIX.length());
+
+            return new CursorToken(fields[1], Sort.Direction.valueOf(fields[2]), Long.valueOf(fields[3]), lastValue);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("올바르지 않은 커서입니다. cursor=" + token);
+        }
+    }
+}
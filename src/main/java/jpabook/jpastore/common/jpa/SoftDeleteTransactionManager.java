@@ -0,0 +1,27 @@
+package jpabook.jpastore.common.jpa;
+
+import jpabook.jpastore.domain.SoftDelete;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션을 시작할 때 세션에 soft delete 필터를 켜는 JpaTransactionManager
+ * 트랜잭션 안의 JPQL/Querydsl/파생 쿼리는 is_deleted 조건을 반복하지 않아도 삭제된 행이 조회되지 않는다.
+ * 필터는 트랜잭션을 시작할 때만 켜지므로 트랜잭션 밖에서 실행되는 조회 (로그인/OAuth2 인증, 색인 재생성,
+ * NOT_SUPPORTED 일괄 등록의 카테고리 선조회) 는 쿼리에 삭제 조건을 직접 두거나 호출 측에서 거른다.
+ */
+public class SoftDeleteTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+
+        var holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null) {
+            holder.getEntityManager().unwrap(Session.class).enableFilter(SoftDelete.FILTER);
+        }
+    }
+}
@@ -33,14 +33,30 @@ public enum ResponseMessage {
     READ_ORDERS("주문 리스트 조회 성공"),
     UPDATED_ORDER("주문정보 수정 성공"),
     CANCEL_ORDER("주문 취소 성공"),
+    ACCEPT_ORDER("주문 접수 성공"),
+    READ_ORDER_TICKET("주문 접수 상태 조회 성공"),
+    REBUILD_ORDER_SUMMARY("주문 조회 모델 재생성 성공"),
+    UPDATED_DELIVERY_STATUS("배송 상태 일괄 변경 성공"),
+    CANCEL_ORDERS("주문 일괄 취소 성공"),
 
     // ERROR MESSAGE
     NOT_FOUND_ORDER("주문 정보를 찾을 수 없음."),
 
 
+    // SALES
+    // SUCCESS MESSAGE
+    READ_SALES("매출 집계 조회 성공"),
+
+
+    // SUGGEST
+    // SUCCESS MESSAGE
+    READ_SUGGESTIONS("자동완성 조회 성공"),
+
+
     // ITEM
     // SUCCESS MESSAGE
     REGISTER_ITEM("상품 등록 성공"),
+    IMPORT_ITEMS("상품 일괄 등록 완료"),
     UPDATE_ITEM("상품 정보 수정 성공"),
     READ_ITEM("단일 상품 조회 성공"),
     READ_ITEMS("상품 리스트 조회 성공"),
@@ -0,0 +1,145 @@
+package jpabook.jpastore.common.utils;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * long 키 전용 해시 맵 (open addressing, 선형 탐사)
+ * 키를 long[] 에 그대로 보관해 HashMap<Long, V> 처럼 키마다 Long 객체/Entry 를 만들지 않는다.
+ * null 값과 삭제는 지원하지 않는다. (IN 절 조회 결과 조립용)
+ */
+public final class LongObjectMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private Object[] values; // null 이면 빈 슬롯
+    private int mask;
+    private int size;
+
+    public LongObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+
+        return null;
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+
+        // 적재율 1/2 초과 시 확장
+        if (++size > (mask + 1) >> 1) {
+            rehash((mask + 1) << 1);
+        }
+
+        return null;
+    }
+
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        V value = get(key);
+
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            put(key, value);
+        }
+
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private int slot(long key) {
+        // 연속된 id 가 한쪽에 몰리지 않도록 섞는다 (fibonacci hashing)
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+
+        allocate(capacity);
+        size = 0;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int j = slot(oldKeys[i]);
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    // 적재율 1/2 이하가 되는 2의 거듭제곱 크기
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity >> 1 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,238 @@
+package jpabook.jpastore.common.utils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * n-gram 역색인 (부분 문자열 검색용, 대소문자 무시)
+ * 검색어의 n-gram 을 모두 포함하는 id 를 후보로 고른 뒤 원문에 검색어가 실제로 포함되는지 확인한다.
+ * n 보다 짧은 gram(1 ~ n-1 글자)도 함께 색인해 짧은 검색어는 해당 길이의 posting 을 그대로 후보로 사용한다. (원문 전체 비교 없음)
+ * 결과 순위: 일치 -> 앞부분 일치 -> 일치 위치가 앞선 순 -> 짧은 원문 -> id 오름차순
+ * 순위 검색은 후보 전체를 정렬하지 않고 크기가 limit 인 heap 으로 상위 limit 건만 고른다.
+ */
+public final class NgramIndex {
+
+    private final int n;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private Map<Long, String> texts = new HashMap<>();
+
+    public NgramIndex(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive. n = " + n);
+        }
+        this.n = n;
+    }
+
+    public void put(long id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postings, texts, id);
+            putInternal(postings, texts, id, normalize(text));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postings, texts, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 전체 재생성 -> 새 색인을 만든 뒤 교체 (만드는 동안에도 이전 색인으로 검색 가능)
+    public void replaceAll(Map<Long, String> entries) {
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        Map<Long, String> newTexts = new HashMap<>(entries.size() * 2);
+
+        entries.forEach((id, text) -> putInternal(newPostings, newTexts, id, normalize(text)));
+
+        lock.writeLock().lock();
+        try {
+            this.postings = newPostings;
+            this.texts = newTexts;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit) {
+        var q = normalize(query);
+
+        if (q.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // 순위가 가장 낮은 match 가 맨 앞인 heap -> 더 나은 match 가 오면 교체
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(q)) {
+                var match = new Match(id, texts.get(id), q);
+                if (!match.matched()) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(match);
+                } else if (match.compareTo(top.peek()) < 0) {
+                    top.poll();
+                    top.add(match);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(top);
+        Collections.sort(ranked);
+
+        return ranked.stream()
+                .map(Match::getId)
+                .collect(Collectors.toList());
+    }
+
+    // 순위 없이 검색어를 포함하는 id 를 최대 limit 건 (찾는 즉시 중단, 정렬 없음) -> IN 절 조건용
+    public List<Long> searchUnordered(String query, int limit) {
+        var q = normalize(query);
+
+        if (q.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Long> ids = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(q)) {
+                if (texts.get(id).contains(q)) {
+                    ids.add(id);
+                    if (ids.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return ids;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 n-gram 의 posting 교집합 (작은 posting 부터), 짧은 검색어는 검색어 gram 의 posting
+    private Collection<Long> candidates(String q) {
+        if (q.length() < n) {
+            return postings.getOrDefault(q, Collections.emptySet());
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(q, n)) {
+            var posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        var smallest = lists.get(0);
+        var others = lists.subList(1, lists.size());
+
+        return smallest.stream()
+                .filter(id -> others.stream().allMatch(posting -> posting.contains(id)))
+                .collect(Collectors.toList());
+    }
+
+    private void putInternal(Map<String, Set<Long>> postings, Map<Long, String> texts, long id, String text) {
+        texts.put(id, text);
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeInternal(Map<String, Set<Long>> postings, Map<Long, String> texts, long id) {
+        var old = texts.remove(id);
+        if (old == null) {
+            return;
+        }
+
+        for (String gram : grams(old)) {
+            var posting = postings.get(gram);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 색인할 gram: 1 ~ n 글자
+    private Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= n; length++) {
+            grams.addAll(grams(text, length));
+        }
+        return grams;
+    }
+
+    private static Set<String> grams(String text, int length) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + length <= text.length(); i++) {
+            grams.add(text.substring(i, i + length));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Match implements Comparable<Match> {
+        private final long id;
+        private final int position;
+        private final int length;
+        private final boolean exact;
+
+        private Match(long id, String text, String query) {
+            this.id = id;
+            this.position = text.indexOf(query);
+            this.length = text.length();
+            this.exact = text.equals(query);
+        }
+
+        private boolean matched() {
+            return position >= 0;
+        }
+
+        private Long getId() {
+            return id;
+        }
+
+        @Override
+        public int compareTo(Match o) {
+            if (exact != o.exact) {
+                return exact ? -1 : 1;
+            }
+            if (position != o.position) {
+                return Integer.compare(position, o.position);
+            }
+            if (length != o.length) {
+                return Integer.compare(length, o.length);
+            }
+            return Long.compare(id, o.id);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package jpabook.jpastore.common.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 전체 개수(count 쿼리)가 필요 없는 페이지 요청 (무한 스크롤)
+ * 리포지토리는 count 쿼리 없이 "현재까지 개수 + 다음 페이지 존재 여부" 만큼의 total 을 반환한다.
+ */
+public class NoTotalPageRequest extends PageRequest {
+
+    protected NoTotalPageRequest(int page, int size, Sort sort) {
+        super(page, size, sort);
+    }
+
+    public static NoTotalPageRequest of(Pageable pageable) {
+        return new NoTotalPageRequest(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+    }
+
+    public static NoTotalPageRequest of(int page, int size, Sort sort) {
+        return new NoTotalPageRequest(page, size, sort);
+    }
+
+    @Override
+    public PageRequest next() {
+        return new NoTotalPageRequest(getPageNumber() + 1, getPageSize(), getSort());
+    }
+
+    @Override
+    public PageRequest previous() {
+        return getPageNumber() == 0 ? this : new NoTotalPageRequest(getPageNumber() - 1, getPageSize(), getSort());
+    }
+
+    @Override
+    public PageRequest first() {
+        return new NoTotalPageRequest(0, getPageSize(), getSort());
+    }
+
+    @Override
+    public PageRequest withPage(int pageNumber) {
+        return new NoTotalPageRequest(pageNumber, getPageSize(), getSort());
+    }
+}
@@ -0,0 +1,103 @@
+package jpabook.jpastore.common.utils;
+
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * IN 절 일괄 조회 후 부모 id 별로 묶는 one-to-many 조립 도우미
+ * 1. id 리스트를 chunkSize 단위로 나눠 IN 절 크기를 제한한다. (큰 IN 절의 나쁜 실행 계획 / 패킷 크기 초과 방지)
+ * 2. 청크가 여러 개면 스레드 수가 제한된 풀에서 동시에 조회한다. (청크가 하나면 호출한 스레드에서 바로 조회)
+ * 3. 결과는 long 키 맵(LongObjectMap)으로 합친다.
+ * 4. 한 청크 조회가 실패하면 남은 청크 조회를 취소(interrupt)한다.
+ *
+ * 다른 스레드의 청크 조회는 호출한 쪽 트랜잭션 밖에서 실행되므로, 커밋된 데이터를 읽는 DTO 조회에만 사용한다.
+ */
+public class OneToManyAssembler {
+
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    public OneToManyAssembler(int chunkSize, int threads) {
+        this.chunkSize = chunkSize;
+
+        // 풀이 가득 차면 호출한 스레드에서 실행 -> 동시 조회 수가 threads + 호출 스레드 수를 넘지 않는다
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    var thread = new Thread(runnable, "in-list-query-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * @param ids 부모 id 리스트 (중복 제거 후 조회)
+     * @param chunkQuery id 청크 -> 자식 row 리스트 조회
+     * @param parentId 자식 row -> 부모 id
+     * @return [부모 id - 자식 row 리스트] map
+     */
+    public <R> LongObjectMap<List<R>> assemble(Collection<Long> ids,
+                                               Function<List<Long>, List<R>> chunkQuery,
+                                               ToLongFunction<? super R> parentId) {
+        var distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        var result = new LongObjectMap<List<R>>(distinctIds.size());
+
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+
+        for (List<R> rows : fetch(Lists.partition(distinctIds, chunkSize), chunkQuery)) {
+            for (R row : rows) {
+                result.computeIfAbsent(parentId.applyAsLong(row), k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        return result;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <R> List<List<R>> fetch(List<List<Long>> chunks, Function<List<Long>, List<R>> chunkQuery) {
+        if (chunks.size() == 1) {
+            return List.of(chunkQuery.apply(chunks.get(0)));
+        }
+
+        // ExecutorService 의 Future -> cancel(true) 가 실행 중인 청크 조회 스레드를 interrupt 한다
+        // (CompletableFuture.cancel 은 실행 중인 작업을 중단하지 못함)
+        List<Future<List<R>>> futures = new ArrayList<>(chunks.size());
+        for (List<Long> chunk : chunks) {
+            futures.add(executor.submit(() -> chunkQuery.apply(chunk)));
+        }
+
+        try {
+            List<List<R>> results = new ArrayList<>(chunks.size());
+            for (Future<List<R>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("IN 절 청크 조회가 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package jpabook.jpastore.common.utils;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 페이지 조회 total 계산
+ * 1. select count(...) 쿼리로 개수만 조회 (엔티티를 모두 읽어 size() 하지 않음)
+ * 2. 검색 조건 없는 전체 리스트는 TTL 동안 캐시된 개수 사용 (근사값)
+ * 3. NoTotalPageRequest 면 count 쿼리 자체를 생략 (무한 스크롤)
+ */
+public class PageCountSupport {
+
+    private final long cacheTtlMillis;
+    private final ConcurrentMap<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    public PageCountSupport(Duration cacheTtl) {
+        this.cacheTtlMillis = cacheTtl.toMillis();
+    }
+
+    public <T> Page<T> page(List<T> content, Pageable pageable, JPAQuery<Long> countQuery) {
+        if (pageable instanceof NoTotalPageRequest) {
+            return pageWithoutTotal(content, pageable);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(countQuery));
+    }
+
+    // 검색 조건 없는 전체 리스트 -> 캐시된 개수 사용
+    public <T> Page<T> cachedPage(String cacheKey, List<T> content, Pageable pageable, JPAQuery<Long> countQuery) {
+        if (pageable instanceof NoTotalPageRequest) {
+            return pageWithoutTotal(content, pageable);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> cachedCount(cacheKey, countQuery));
+    }
+
+    private long cachedCount(String cacheKey, JPAQuery<Long> countQuery) {
+        if (cacheTtlMillis <= 0) {
+            return count(countQuery);
+        }
+
+        var now = System.currentTimeMillis();
+        var cached = cache.get(cacheKey);
+
+        if (cached != null && cached.expiresAt > now) {
+            return cached.count;
+        }
+
+        long count = count(countQuery);
+        cache.put(cacheKey, new CachedCount(count, now + cacheTtlMillis));
+
+        return count;
+    }
+
+    private long count(JPAQuery<Long> countQuery) {
+        return Optional.ofNullable(countQuery.fetchOne()).orElse(0L);
+    }
+
+    // total = 지금까지 조회한 개수 (+1: 페이지가 가득 찼으면 다음 페이지가 있다고 가정)
+    private <T> Page<T> pageWithoutTotal(List<T> content, Pageable pageable) {
+        var total = pageable.getOffset() + content.size() + (content.size() == pageable.getPageSize() ? 1 : 0);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static class CachedCount {
+        private final long count;
+        private final long expiresAt;
+
+        private CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
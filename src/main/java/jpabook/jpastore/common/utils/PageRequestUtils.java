@@ -11,6 +11,16 @@ public class PageRequestUtils {
         if(page < 0) page = 0; // 0 미만일 경우, 0으로 재설정
         else if(page > 0) page -= 1; // 1부터 전달받기 때문에 -1씩 해준다.
 
+        // 전체 개수 없는 요청(무한 스크롤)은 타입 유지
+        if (pageable instanceof NoTotalPageRequest) {
+            return NoTotalPageRequest.of(page, pageable.getPageSize(), pageable.getSort());
+        }
+
         return PageRequest.of(page, pageable.getPageSize(), pageable.getSort());
     }
+
+    // total=false 요청 -> count 쿼리 생략
+    public static Pageable withTotal(Pageable pageable, boolean withTotal) {
+        return withTotal ? pageable : NoTotalPageRequest.of(pageable);
+    }
 }
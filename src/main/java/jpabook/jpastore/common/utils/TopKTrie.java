@@ -0,0 +1,230 @@
+package jpabook.jpastore.common.utils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 접두사 자동완성용 trie (대소문자 무시)
+ * 노드마다 하위 트리에서 가중치가 가장 큰 k 개를 미리 정렬해 두어, 검색은 접두사 길이만큼 내려간 뒤 그 목록을 그대로 반환한다.
+ * 가중치 증가/추가는 경로의 목록에 끼워 넣고, 감소/삭제는 해당 항목을 가진 노드만 자식 목록으로 다시 계산한다.
+ * 정렬 순서: 가중치 내림차순 -> 짧은 텍스트 -> 텍스트 -> key
+ */
+public final class TopKTrie<V> {
+
+    private static final Comparator<Entry<?>> RANK = Comparator.<Entry<?>>comparingLong(e -> -e.weight)
+            .thenComparingInt(e -> e.text.length())
+            .thenComparing(e -> e.text)
+            .thenComparing(e -> e.key);
+
+    private final int k;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry<V>> entries = new HashMap<>();
+    private final Node<V> root = new Node<>();
+
+    public TopKTrie(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive. k = " + k);
+        }
+        this.k = k;
+    }
+
+    // key 로 구분되는 항목 추가/변경 (텍스트가 바뀌면 경로를 옮긴다)
+    public void put(String key, String text, long weight, V value) {
+        var normalized = normalize(text);
+
+        lock.writeLock().lock();
+        try {
+            var old = entries.get(key);
+            if (old != null && old.text.equals(normalized)) {
+                old.value = value;
+                changeWeight(old, weight);
+                return;
+            }
+
+            if (old != null) {
+                removeInternal(old);
+            }
+
+            var entry = new Entry<>(key, normalized, weight, value);
+            entries.put(key, entry);
+            insertInternal(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateWeight(String key, long weight) {
+        lock.writeLock().lock();
+        try {
+            var entry = entries.get(key);
+            if (entry != null) {
+                changeWeight(entry, weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            var entry = entries.remove(key);
+            if (entry != null) {
+                removeInternal(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두사로 시작하는 항목 중 순위 상위 limit 개 (최대 k 개)
+    public List<V> search(String prefix, int limit) {
+        var normalized = normalize(prefix);
+
+        lock.readLock().lock();
+        try {
+            var node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.children.get(normalized.charAt(i));
+            }
+
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            int size = Math.min(limit, node.top.size());
+            List<V> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(node.top.get(i).value);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insertInternal(Entry<V> entry) {
+        var node = root;
+        offer(node, entry);
+        for (int i = 0; i < entry.text.length(); i++) {
+            node = node.children.computeIfAbsent(entry.text.charAt(i), c -> new Node<>());
+            offer(node, entry);
+        }
+        node.terminals.add(entry);
+    }
+
+    private void removeInternal(Entry<V> entry) {
+        var path = path(entry.text);
+        path.get(path.size() - 1).terminals.remove(entry);
+
+        // 깊은 노드부터 다시 계산 (부모는 자식의 목록으로 계산하므로)
+        for (int i = path.size() - 1; i >= 0; i--) {
+            var node = path.get(i);
+
+            if (i > 0 && node.terminals.isEmpty() && node.children.isEmpty()) {
+                path.get(i - 1).children.remove(entry.text.charAt(i - 1));
+                continue;
+            }
+
+            if (node.top.remove(entry)) {
+                recompute(node);
+            }
+        }
+    }
+
+    private void changeWeight(Entry<V> entry, long weight) {
+        boolean decreased = weight < entry.weight;
+        entry.weight = weight;
+
+        var path = path(entry.text);
+        if (decreased) {
+            for (int i = path.size() - 1; i >= 0; i--) {
+                var node = path.get(i);
+                if (node.top.contains(entry)) {
+                    recompute(node);
+                }
+            }
+            return;
+        }
+
+        for (Node<V> node : path) {
+            node.top.remove(entry);
+            offer(node, entry);
+        }
+    }
+
+    // 순위 안에 들면 정렬 위치에 끼워 넣고 k 개로 자른다
+    private void offer(Node<V> node, Entry<V> entry) {
+        int index = Collections.binarySearch(node.top, entry, RANK);
+        if (index >= 0) {
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if (insertAt >= k) {
+            return;
+        }
+
+        node.top.add(insertAt, entry);
+        if (node.top.size() > k) {
+            node.top.remove(node.top.size() - 1);
+        }
+    }
+
+    private void recompute(Node<V> node) {
+        List<Entry<V>> candidates = new ArrayList<>(node.terminals);
+        for (Node<V> child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(RANK);
+
+        node.top.clear();
+        node.top.addAll(candidates.subList(0, Math.min(k, candidates.size())));
+    }
+
+    // 루트부터 텍스트 끝 노드까지
+    private List<Node<V>> path(String text) {
+        List<Node<V>> path = new ArrayList<>(text.length() + 1);
+        var node = root;
+        path.add(node);
+        for (int i = 0; i < text.length(); i++) {
+            node = node.children.get(text.charAt(i));
+            path.add(node);
+        }
+        return path;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node<V> {
+        private final Map<Character, Node<V>> children = new HashMap<>(4);
+        private final List<Entry<V>> terminals = new ArrayList<>(1);
+        private final List<Entry<V>> top = new ArrayList<>();
+    }
+
+    private static final class Entry<V> {
+        private final String key;
+        private final String text;
+        private long weight;
+        private V value;
+
+        private Entry(String key, String text, long weight, V value) {
+            this.key = key;
+            this.text = text;
+            this.weight = weight;
+            this.value = value;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package jpabook.jpastore.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jpabook.jpastore.aop.aspect.LogTraceAspect;
+import jpabook.jpastore.aop.aspect.OptimisticLockRetryAspect;
 import jpabook.jpastore.aop.trace.LogTrace;
 import jpabook.jpastore.aop.trace.ThreadLocalLogTrace;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,4 +22,18 @@ public class AopConfig {
     public LogTraceAspect logTraceAspect(LogTrace logTrace) {
         return new LogTraceAspect(logTrace);
     }
+
+    // 낙관적 락 주문 모드에서만 재시도 적용
+    @Bean
+    @ConditionalOnProperty(name = "jpastore.order.stock-mode", havingValue = "optimistic")
+    public OptimisticLockRetryAspect optimisticLockRetryAspect(
+            MeterRegistry meterRegistry,
+            @Value("${jpastore.order.optimistic-retry.max-attempts:5}") int maxAttempts,
+            @Value("${jpastore.order.optimistic-retry.backoff-ms:10}") long backoffMillis,
+            @Value("${jpastore.order.optimistic-retry.max-backoff-ms:200}") long maxBackoffMillis,
+            @Value("${jpastore.order.optimistic-retry.multiplier:2.0}") double multiplier,
+            @Value("${jpastore.order.optimistic-retry.jitter:0.5}") double jitter) {
+        return new OptimisticLockRetryAspect(meterRegistry,
+                maxAttempts, backoffMillis, maxBackoffMillis, multiplier, jitter);
+    }
 }
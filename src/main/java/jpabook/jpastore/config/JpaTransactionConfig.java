@@ -0,0 +1,20 @@
+package jpabook.jpastore.config;
+
+import jpabook.jpastore.common.jpa.SoftDeleteTransactionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class JpaTransactionConfig {
+
+    // 기본 JpaTransactionManager 대체 (트랜잭션마다 soft delete 필터 적용)
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        var transactionManager = new SoftDeleteTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
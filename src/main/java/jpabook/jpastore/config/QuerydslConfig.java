@@ -1,11 +1,15 @@
 package jpabook.jpastore.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpastore.common.utils.OneToManyAssembler;
+import jpabook.jpastore.common.utils.PageCountSupport;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.time.Duration;
 
 @Configuration
 public class QuerydslConfig {
@@ -17,4 +21,17 @@ public class QuerydslConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(em);
     }
+
+    // 페이지 조회 count 쿼리/캐시 (검색 조건 없는 전체 리스트 개수를 TTL 동안 캐시)
+    @Bean
+    public PageCountSupport pageCountSupport(@Value("${jpastore.paging.count-cache-ttl-ms:5000}") long countCacheTtlMillis) {
+        return new PageCountSupport(Duration.ofMillis(countCacheTtlMillis));
+    }
+
+    // IN 절 일괄 조회 (id 청크 단위 분할 + 동시 조회)
+    @Bean(destroyMethod = "shutdown")
+    public OneToManyAssembler oneToManyAssembler(@Value("${jpastore.query.in-chunk-size:1000}") int chunkSize,
+                                                 @Value("${jpastore.query.in-threads:4}") int threads) {
+        return new OneToManyAssembler(chunkSize, threads);
+    }
 }
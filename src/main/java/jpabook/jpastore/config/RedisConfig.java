@@ -1,5 +1,7 @@
 package jpabook.jpastore.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -9,11 +11,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Slf4j
 @RequiredArgsConstructor
 @EnableRedisRepositories
@@ -26,6 +32,10 @@ public class RedisConfig {
     @Value("${spring.redis.port}")
     private int redisPort;
 
+    // 명령/연결 타임아웃 -> Redis 장애 시 캐시 조회가 요청 스레드를 오래 붙잡지 않는다
+    @Value("${spring.redis.timeout:2s}")
+    private Duration redisTimeout;
+
     @Value("${spring.stock-redis.host}")
     private String stockRedisHost;
 
@@ -35,7 +45,14 @@ public class RedisConfig {
     @Bean
     @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory( new RedisStandaloneConfiguration(redisHost, redisPort));
+        var clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(redisTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(redisTimeout).build())
+                        .build())
+                .build();
+
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort), clientConfiguration);
     }
 
     @Bean
@@ -60,7 +77,18 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(stockRedisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
 
         return redisTemplate;
     }
+
+    // 노드 간 캐시 무효화 메시지 구독 (상품 조회 캐시)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+
+        return container;
+    }
 }
@@ -145,7 +145,8 @@ public class SecurityConfig {
                                 "/api/v2/items/**",
                                 "/api/v1/reviews/**",
                                 "/api/v1/categories/**",
-                                "/api/v1/simple-categories/**"
+                                "/api/v1/simple-categories/**",
+                                "/api/v1/suggestions/**"
                         ).permitAll()
                         .mvcMatchers(
                                 HttpMethod.POST,
@@ -82,4 +82,24 @@ public class SwaggerConfig {
                 .pathsToMatch(path)
                 .build();
     }
+
+    @Bean
+    public GroupedOpenApi salesGroupOpenApi() {
+        String[] path = {"/api/**/sales/**"};
+
+        return GroupedOpenApi.builder()
+                .group("매출 API")
+                .pathsToMatch(path)
+                .build();
+    }
+
+    @Bean
+    public GroupedOpenApi suggestGroupOpenApi() {
+        String[] path = {"/api/**/suggestions/**"};
+
+        return GroupedOpenApi.builder()
+                .group("자동완성 API")
+                .pathsToMatch(path)
+                .build();
+    }
 }
@@ -0,0 +1,16 @@
+package jpabook.jpastore.domain;
+
+/**
+ * 엔티티 id 생성 전략
+ * 모든 엔티티가 이 상수로 생성기를 지정하므로, 전략을 바꿀 때는 STRATEGY 만 교체하면 된다.
+ * (IDENTITY 는 INSERT 를 즉시 실행해야 id 를 알 수 있어 Hibernate JDBC batch insert 가 꺼진다)
+ */
+public final class IdGeneration {
+
+    public static final String GENERATOR = "jpastore_id";
+
+    public static final String STRATEGY = "jpabook.jpastore.domain.TimeOrderedIdGenerator";
+
+    private IdGeneration() {
+    }
+}
@@ -0,0 +1,18 @@
+package jpabook.jpastore.domain;
+
+/**
+ * soft delete 조회 필터 (is_deleted = true 인 행은 조회 SQL 단계에서 제외 -> 메모리로 읽지 않는다)
+ * - 트랜잭션 시작 시 켜진다 (SoftDeleteTransactionManager)
+ * - 엔티티 조회 쿼리(JPQL, Querydsl, 파생 쿼리)와 @Filter 를 단 컬렉션에 적용된다
+ * - id 단건 조회(find), 연관 엔티티 로딩, native 쿼리, 벌크 update 에는 적용되지 않는다
+ *   (삭제된 상품을 참조하는 주문 상품처럼 이미 맺어진 연관은 그대로 읽힌다)
+ */
+public final class SoftDelete {
+
+    public static final String FILTER = "softDelete";
+
+    public static final String CONDITION = "is_deleted = false";
+
+    private SoftDelete() {
+    }
+}
@@ -1,6 +1,10 @@
 package jpabook.jpastore.domain.category;
 
+import jpabook.jpastore.domain.IdGeneration;
+import jpabook.jpastore.domain.SoftDelete;
 import lombok.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -10,12 +14,17 @@ import java.util.Objects;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_categories_parent_deleted", columnList = "parent_id, is_deleted"),
+        @Index(name = "idx_categories_name_deleted", columnList = "name, is_deleted")
+})
+@Filter(name = SoftDelete.FILTER)
 @Entity
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "category_id")
     private Long id;
 
@@ -30,6 +39,7 @@ public class Category {
     private Category parent;
 
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+    @Filter(name = SoftDelete.FILTER)
     private List<Category> child = new ArrayList<>();
 
     private boolean isDeleted;
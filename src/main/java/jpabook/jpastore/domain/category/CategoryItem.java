@@ -1,9 +1,11 @@
 package jpabook.jpastore.domain.category;
 
+import jpabook.jpastore.domain.IdGeneration;
 import jpabook.jpastore.domain.item.Item;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
@@ -14,7 +16,8 @@ import javax.persistence.*;
 public class CategoryItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "category_item_id")
     private Long id;
 
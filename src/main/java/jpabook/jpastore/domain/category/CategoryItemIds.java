@@ -0,0 +1,11 @@
+package jpabook.jpastore.domain.category;
+
+/**
+ * 상품 - 카테고리 연결 id 쌍
+ */
+public interface CategoryItemIds {
+
+    Long getItemId();
+
+    Long getCategoryId();
+}
@@ -0,0 +1,11 @@
+package jpabook.jpastore.domain.category;
+
+/**
+ * 카테고리명 자동완성 색인용 조회 결과
+ */
+public interface CategoryName {
+
+    Long getId();
+
+    String getName();
+}
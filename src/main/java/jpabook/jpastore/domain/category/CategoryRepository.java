@@ -5,20 +5,28 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository
         extends JpaRepository<Category, Long>, CategoryRepositoryCustom {
 
-    @Query("select c from Category c where c.name = :name and c.isDeleted = false ")
+    @Query("select c from Category c where c.name = :name")
     Optional<Category> findByName(@Param("name") String name);
 
     List<Category> findAllByName(String name);
 
+    // 자동완성 색인 재생성, 일괄 등록 카테고리 검증 -> 삭제되지 않은 카테고리 id, 이름 (트랜잭션 밖에서 호출 -> 조건 직접 명시)
+    @Query("select c.id as id, c.name as name from Category c where c.isDeleted = false")
+    List<CategoryName> findCategoryNames();
+
     @Query("select ci from CategoryItem ci where ci.item.id = :itemId")
     List<CategoryItem> findCategoryItemsByItem_Id(@Param("itemId") Long itemId);
 
+    @Query("select ci.item.id as itemId, ci.category.id as categoryId from CategoryItem ci where ci.item.id in :itemIds")
+    List<CategoryItemIds> findCategoryItemIdsByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
     @Modifying(clearAutomatically = true)
     @Query("delete from CategoryItem ci where ci.item.id = :itemId")
     void deleteCategoryItemsByItem_Id(@Param("itemId") Long itemId);
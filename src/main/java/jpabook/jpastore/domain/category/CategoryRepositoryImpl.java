@@ -26,8 +26,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
         var exist =
                 queryFactory.selectOne()
                         .from(category)
-                        .where(eqName(name),
-                                notDeleted())
+                        .where(eqName(name))
                         .fetchOne();
 
         return exist != null;
@@ -37,7 +36,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
     public Optional<Category> findCategoryById(Long categoryId) {
         return Optional.ofNullable(
                 queryFactory.selectFrom(category)
-                        .where(eqCategoryId(categoryId), notDeleted())
+                        .where(eqCategoryId(categoryId))
                         .fetchOne()
         );
     }
@@ -48,8 +47,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
                 queryFactory
                 .selectFrom(category)
                 .join(category.parent).fetchJoin()
-                .where(eqCategoryId(id),
-                        notDeleted())
+                .where(eqCategoryId(id))
                 .fetchOne()
         );
     }
@@ -60,7 +58,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
                 queryFactory
                         .selectFrom(category)
                         .join(category.parent).fetchJoin()
-                        .where(eqName(name), notDeleted())
+                        .where(eqName(name))
                         .fetchOne()
         );
     }
@@ -72,7 +70,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
                 .select(category.parent)
                 .from(category)
                 .innerJoin(category.parent)
-                .where(eqCategoryId(id), notDeleted())
+                .where(eqCategoryId(id))
                 .fetchOne()
         );
     }
@@ -82,7 +80,6 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
         return queryFactory
                 .selectFrom(category)
                 .leftJoin(category.parent).fetchJoin()
-                .where(notDeleted())
                 .fetch();
     }
 
@@ -95,7 +92,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
     public List<Category> findAllRootParents() {
         return queryFactory
                 .selectFrom(category)
-                .where(category.parent.isNull(), notDeleted())
+                .where(category.parent.isNull())
                 .fetch();
     }
 
@@ -105,7 +102,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
                 .select(category.id)
                 .from(category)
                 .leftJoin(category.parent)
-                .where(category.parent.id.eq(id), notDeleted())
+                .where(category.parent.id.eq(id))
                 .fetch();
     }
 
@@ -118,9 +115,8 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
                         JPAExpressions.select(category.id)
                         .from(category)
                         .join(category.parent)
-                        .where(category.parent.id.eq(parentId), notDeleted())),
-                        eqName(name),
-                        notDeleted()
+                        .where(category.parent.id.eq(parentId))),
+                        eqName(name)
                 ).fetch();
     }
 
@@ -138,14 +134,9 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
         return queryFactory
                 .select(category.id)
                 .from(category)
-                .where(notDeleted())
                 .fetchCount();
     }
 
-    private BooleanExpression notDeleted() {
-        return category.isDeleted.eq(false);
-    }
-
     private BooleanExpression eqCategoryId(Long categoryId) {
         return Objects.nonNull(categoryId) ? category.id.eq(categoryId) : null;
     }
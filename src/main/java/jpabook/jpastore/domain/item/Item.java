@@ -2,11 +2,15 @@ package jpabook.jpastore.domain.item;
 
 import jpabook.jpastore.common.exception.NotEnoughStockException;
 import jpabook.jpastore.domain.BaseTimeEntity;
+import jpabook.jpastore.domain.IdGeneration;
 import jpabook.jpastore.domain.Money;
+import jpabook.jpastore.domain.SoftDelete;
 import jpabook.jpastore.domain.review.Review;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.StringUtils;
 
 import javax.persistence.*;
@@ -19,12 +23,18 @@ import java.util.Objects;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
-@Table(name = "items")
+@Table(name = "items", indexes = {
+        @Index(name = "idx_items_modified_date", columnList = "modified_date"), // 상품명 색인 증분 갱신
+        @Index(name = "idx_items_deleted_created_date", columnList = "is_deleted, created_date"), // soft delete 필터 + 최신순
+        @Index(name = "idx_items_deleted_price", columnList = "is_deleted, price") // soft delete 필터 + 가격 조건/정렬
+})
+@Filter(name = SoftDelete.FILTER)
 @Entity
 public abstract class Item extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "item_id")
     private Long id;
 
@@ -40,8 +50,14 @@ public abstract class Item extends BaseTimeEntity {
 
     @OneToMany(mappedBy = "item",
             fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @Filter(name = SoftDelete.FILTER)
     private List<Review> reviews = new ArrayList<>();
 
+    // 낙관적 락 버전 (SQL 로 직접 넣은 데이터는 DB 기본값 0)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     private boolean isDeleted;
 
     private LocalDateTime deletedAt;
@@ -0,0 +1,15 @@
+package jpabook.jpastore.domain.item;
+
+/**
+ * 상품 facet 색인용 조회 결과 (dtype: Book, Album, Dvd)
+ */
+public interface ItemFacetRow {
+
+    Long getId();
+
+    String getName();
+
+    Integer getPrice();
+
+    String getDtype();
+}
@@ -0,0 +1,98 @@
+package jpabook.jpastore.domain.item;
+
+import jpabook.jpastore.domain.category.CategoryItem;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 일괄 등록용 JDBC batch insert
+ * 대량 등록은 엔티티를 하나씩 persist 하지 않고 한 PreparedStatement 에 행을 모아 실행한다.
+ * id 는 엔티티 매핑과 같은 Hibernate id 생성기에서 미리 받아 넣는다 (JPA 로 등록한 상품과 같은 id 체계).
+ * 영속성 컨텍스트를 거치지 않으므로 호출하는 트랜잭션 안에서 같은 상품을 엔티티로 다루지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemJdbcRepository {
+
+    private static final String INSERT_ITEM =
+            "insert into items (item_id, dtype, name, price, stock_quantity, author, isbn, artist, etc, director, actor," +
+            " version, is_deleted, created_date, modified_date)" +
+            " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false, ?, ?)";
+
+    private static final String INSERT_CATEGORY_ITEM =
+            "insert into category_items (category_item_id, category_id, item_id) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    // 상품 batch insert -> 입력 순서대로 부여한 상품 id
+    public List<Long> insertItems(List<Item> items) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var itemIds = nextIds(Item.class, items.size());
+
+        List<Object[]> args = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            args.add(new Object[]{
+                    itemIds.get(i),
+                    dtype(item),
+                    item.getName(),
+                    item.getPrice().getValue(),
+                    item.getStockQuantity(),
+                    item instanceof Book ? ((Book) item).getAuthor() : null,
+                    item instanceof Book ? ((Book) item).getIsbn() : null,
+                    item instanceof Album ? ((Album) item).getArtist() : null,
+                    item instanceof Album ? ((Album) item).getEtc() : null,
+                    item instanceof Dvd ? ((Dvd) item).getDirector() : null,
+                    item instanceof Dvd ? ((Dvd) item).getActor() : null,
+                    now,
+                    now});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ITEM, args);
+
+        return itemIds;
+    }
+
+    // 상품-카테고리 연결 batch insert (itemIds, categoryIds 는 같은 순서)
+    public void insertCategoryItems(List<Long> itemIds, List<Long> categoryIds) {
+        var categoryItemIds = nextIds(CategoryItem.class, itemIds.size());
+
+        List<Object[]> args = new ArrayList<>(itemIds.size());
+        for (int i = 0; i < itemIds.size(); i++) {
+            args.add(new Object[]{categoryItemIds.get(i), categoryIds.get(i), itemIds.get(i)});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_ITEM, args);
+    }
+
+    // 엔티티에 매핑된 id 생성기로 count 개의 id 를 받는다
+    private List<Long> nextIds(Class<?> entityClass, int count) {
+        var session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        var generator = session.getFactory()
+                .getMetamodel()
+                .entityPersister(entityClass)
+                .getIdentifierGenerator();
+
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) generator.generate(session, null));
+        }
+        return ids;
+    }
+
+    private static String dtype(Item item) {
+        if (item instanceof Book) return "Book";
+        if (item instanceof Album) return "Album";
+        if (item instanceof Dvd) return "Dvd";
+        throw new IllegalArgumentException("지원하지 않는 상품 유형입니다. item = " + item.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,13 @@
+package jpabook.jpastore.domain.item;
+
+/**
+ * 상품명 색인용 조회 결과
+ */
+public interface ItemName {
+
+    Long getId();
+
+    String getName();
+
+    Boolean getDeleted();
+}
@@ -0,0 +1,32 @@
+package jpabook.jpastore.domain.item;
+
+import jpabook.jpastore.domain.Money;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+public class ItemQueryInfo {
+
+    /**
+     * 상품 리스트 조회 projection
+     * 리스트에 필요한 컬럼만 생성자로 바로 받는다 (엔티티/하위 타입 컬럼/변경 감지 스냅샷 없음)
+     */
+    @ToString
+    @Getter
+    public static class ListInfo {
+        private final Long itemId;
+        private final String itemName;
+        private final Money price;
+        private final Integer stockQuantity;
+        private final LocalDateTime createdDate; // 커서 정렬 키
+
+        public ListInfo(Long itemId, String itemName, Money price, Integer stockQuantity, LocalDateTime createdDate) {
+            this.itemId = itemId;
+            this.itemName = itemName;
+            this.price = price;
+            this.stockQuantity = stockQuantity;
+            this.createdDate = createdDate;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package jpabook.jpastore.domain.item;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +17,40 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositor
 
     List<Item> findByNameContainingIgnoreCase(String name);
 
-    @Query("select i from Item i where lower(i.name) like lower(concat('%',:name,'%')) and i.isDeleted = false")
+    @Query("select i from Item i where lower(i.name) like lower(concat('%',:name,'%'))")
     List<Item> searchItemsByNameIgnoreCase(@Param(value = "name") String name);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select i from Item i where i.id = :itemId and i.isDeleted = false")
+    @Query("select i from Item i where i.id = :itemId")
     Optional<Item> findItemForUpdate(@Param("itemId") Long itemId);
+
+    // 주문 상품 일괄 락 -> 한 번의 쿼리로 id 오름차순 락 획득 (주문 간 락 획득 순서가 같아 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id in :itemIds order by i.id")
+    List<Item> findItemsForUpdate(@Param("itemIds") Collection<Long> itemIds);
+
+    // 재고 상대값 차감 (quantity 가 음수면 재고 증가) -> 엔티티 조회 없이 단일 UPDATE
+    // 낙관적 락 모드의 충돌 감지를 위해 버전도 함께 증가
+    @Modifying(clearAutomatically = true)
+    @Query("update Item i set i.stockQuantity = i.stockQuantity - :quantity, i.version = i.version + 1 where i.id = :itemId")
+    int decreaseStock(@Param("itemId") Long itemId, @Param("quantity") int quantity);
+
+    // 재고 수량만 조회 (Redis 재고 로딩 -> 새 트랜잭션에서 커밋된 최신 값을 읽는다)
+    @Query("select i.stockQuantity from Item i where i.id = :itemId")
+    Optional<Integer> findStockQuantity(@Param("itemId") Long itemId);
+
+    // 상품명 색인 재생성 -> id 기준 keyset 페이지 (트랜잭션 밖에서 호출 -> 삭제된 상품이 포함될 수 있어 호출 측에서 deleted 로 거른다)
+    @Query("select i.id as id, i.name as name, i.isDeleted as deleted from Item i where i.id > :lastId order by i.id")
+    List<ItemName> findItemNames(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 상품명 색인 증분 갱신 -> since 이후 수정된 상품 (색인에서 지우기 위해 삭제된 상품 포함 -> soft delete 필터가 없는 native)
+    @Query(nativeQuery = true, value =
+            "select i.item_id as id, i.name as name, i.is_deleted as deleted from items i where i.modified_date >= :since")
+    List<ItemName> findItemNamesModifiedSince(@Param("since") LocalDateTime since);
+
+    // 상품 facet 색인 재생성 -> 삭제되지 않은 상품, id 기준 keyset 페이지 (dtype 은 엔티티 속성이 아니므로 native)
+    @Query(nativeQuery = true, value =
+            "select i.item_id as id, i.name as name, i.price as price, i.dtype as dtype from items i" +
+            " where i.item_id > :lastId and i.is_deleted = false order by i.item_id")
+    List<ItemFacetRow> findItemFacetRows(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -1,13 +1,28 @@
 package jpabook.jpastore.domain.item;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ItemRepositoryCustom {
 
     Optional<Item> findItemById(Long itemId);
 
+    List<Item> findItemsByIds(Collection<Long> itemIds);
+
     Page<Item> findAll(ItemSearchCondition condition, Pageable pageable);
+
+    CursorPage<Item> findAll(ItemSearchCondition condition, CursorRequest cursorRequest);
+
+    // 리스트 조회 전용 projection (findAll 과 같은 검색/정렬 조건)
+    List<ItemQueryInfo.ListInfo> findAllListInfo(ItemSearchCondition condition);
+
+    Page<ItemQueryInfo.ListInfo> findAllListInfo(ItemSearchCondition condition, Pageable pageable);
+
+    CursorPage<ItemQueryInfo.ListInfo> findAllListInfo(ItemSearchCondition condition, CursorRequest cursorRequest);
 }
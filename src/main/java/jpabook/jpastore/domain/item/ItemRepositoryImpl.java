@@ -2,58 +2,168 @@ package jpabook.jpastore.domain.item;
 
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorQuery;
+import jpabook.jpastore.common.cursor.CursorRequest;
+import jpabook.jpastore.common.cursor.CursorSortKey;
+import jpabook.jpastore.common.utils.PageCountSupport;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static jpabook.jpastore.domain.item.QItem.item;
 
 @RequiredArgsConstructor
 public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
+    // 커서 페이지 정렬 키 (getSort 와 같은 속성명, 기본: 최신순)
+    private static final CursorQuery<Item> CURSOR_QUERY = new CursorQuery<>(item.id, Item::getId,
+            Sort.Direction.DESC,
+            CursorSortKey.of("createdDate", item.createdDate, Item::getCreatedDate, LocalDateTime::parse),
+            CursorSortKey.of("id", item.id, Item::getId, Long::valueOf),
+            CursorSortKey.of("name", item.name, Item::getName, Function.identity()),
+            CursorSortKey.of("price", item.price.value, (Item i) -> i.getPrice().getValue(), Integer::valueOf));
+
+    // 리스트 projection 커서 페이지 정렬 키 (CURSOR_QUERY 와 같은 속성명/컬럼)
+    private static final CursorQuery<ItemQueryInfo.ListInfo> LIST_CURSOR_QUERY = new CursorQuery<>(item.id,
+            ItemQueryInfo.ListInfo::getItemId,
+            Sort.Direction.DESC,
+            CursorSortKey.of("createdDate", item.createdDate, ItemQueryInfo.ListInfo::getCreatedDate, LocalDateTime::parse),
+            CursorSortKey.of("id", item.id, ItemQueryInfo.ListInfo::getItemId, Long::valueOf),
+            CursorSortKey.of("name", item.name, ItemQueryInfo.ListInfo::getItemName, Function.identity()),
+            CursorSortKey.of("price", item.price.value, (ItemQueryInfo.ListInfo i) -> i.getPrice().getValue(), Integer::valueOf));
+
+    // 검색 조건 없는 전체 리스트 count 캐시 키
+    private static final String ITEMS_COUNT_KEY = "items";
+
     private final JPAQueryFactory queryFactory;
+    private final PageCountSupport pageCountSupport;
 
     @Override
     public Optional<Item> findItemById(Long itemId) {
         return Optional.ofNullable(
                 queryFactory.selectFrom(item)
-                        .where(eqItemId(itemId), notDeleted())
+                        .where(eqItemId(itemId))
                         .fetchOne()
         );
     }
 
+    @Override
+    public List<Item> findItemsByIds(Collection<Long> itemIds) {
+        return queryFactory.selectFrom(item)
+                .where(item.id.in(itemIds))
+                .fetch();
+    }
+
     @Override
     public Page<Item> findAll(ItemSearchCondition condition, Pageable pageable) {
         var content
                 =  queryFactory.selectFrom(item)
-                .where(containsName(condition.getName()),
-                        goeMinPrice(condition.getMinPrice()),
-                        loeMaxPrice(condition.getMaxPrice()),
-                        notDeleted())
+                .where(searchCondition(condition))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(getSort(pageable))
                 .fetch();
 
-        var countQuery = queryFactory.selectFrom(item)
-                .where(containsName(condition.getName()),
-                        goeMinPrice(condition.getMinPrice()),
-                        loeMaxPrice(condition.getMaxPrice()),
-                        notDeleted());
+        return toPage(content, condition, pageable);
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+    @Override
+    public CursorPage<Item> findAll(ItemSearchCondition condition, CursorRequest cursorRequest) {
+        var content = queryFactory.selectFrom(item)
+                .where(searchCondition(condition))
+                .where(CURSOR_QUERY.seek(cursorRequest))
+                .orderBy(CURSOR_QUERY.orderBy(cursorRequest))
+                .limit(CURSOR_QUERY.limit(cursorRequest))
+                .fetch();
+
+        return CURSOR_QUERY.page(content, cursorRequest);
     }
 
-    private BooleanExpression notDeleted() {
-        return item.isDeleted.eq(false);
+    @Override
+    public List<ItemQueryInfo.ListInfo> findAllListInfo(ItemSearchCondition condition) {
+        return selectListInfo()
+                .where(searchCondition(condition))
+                .orderBy(item.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public Page<ItemQueryInfo.ListInfo> findAllListInfo(ItemSearchCondition condition, Pageable pageable) {
+        var content = selectListInfo()
+                .where(searchCondition(condition))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(getSort(pageable))
+                .fetch();
+
+        return toPage(content, condition, pageable);
+    }
+
+    @Override
+    public CursorPage<ItemQueryInfo.ListInfo> findAllListInfo(ItemSearchCondition condition, CursorRequest cursorRequest) {
+        var content = selectListInfo()
+                .where(searchCondition(condition))
+                .where(LIST_CURSOR_QUERY.seek(cursorRequest))
+                .orderBy(LIST_CURSOR_QUERY.orderBy(cursorRequest))
+                .limit(LIST_CURSOR_QUERY.limit(cursorRequest))
+                .fetch();
+
+        return LIST_CURSOR_QUERY.page(content, cursorRequest);
+    }
+
+    // 리스트 컬럼만 DTO 생성자로 조회 (엔티티가 영속성 컨텍스트에 올라가지 않는다)
+    private JPAQuery<ItemQueryInfo.ListInfo> selectListInfo() {
+        return queryFactory
+                .select(Projections.constructor(ItemQueryInfo.ListInfo.class,
+                        item.id,
+                        item.name,
+                        item.price,
+                        item.stockQuantity,
+                        item.createdDate
+                )).from(item);
+    }
+
+    private <T> Page<T> toPage(List<T> content, ItemSearchCondition condition, Pageable pageable) {
+        var countQuery = queryFactory.select(item.count())
+                .from(item)
+                .where(searchCondition(condition));
+
+        if (isUnfiltered(condition)) {
+            return pageCountSupport.cachedPage(ITEMS_COUNT_KEY, content, pageable, countQuery);
+        }
+
+        return pageCountSupport.page(content, pageable, countQuery);
+    }
+
+    private Predicate[] searchCondition(ItemSearchCondition condition) {
+        return new Predicate[]{
+                containsName(condition.getName()),
+                inItemIds(condition.getItemIds()),
+                goeMinPrice(condition.getMinPrice()),
+                loeMaxPrice(condition.getMaxPrice())
+        };
+    }
+
+    private boolean isUnfiltered(ItemSearchCondition condition) {
+        return !StringUtils.hasText(condition.getName())
+                && condition.getItemIds() == null
+                && condition.getMinPrice() == null
+                && condition.getMaxPrice() == null;
     }
 
     private BooleanExpression eqItemId(Long itemId) {
@@ -64,6 +174,10 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
         return (StringUtils.hasText(name)) ? item.name.containsIgnoreCase(name) : null;
     }
 
+    private BooleanExpression inItemIds(Collection<Long> itemIds) {
+        return Objects.nonNull(itemIds) ? item.id.in(itemIds) : null;
+    }
+
     private BooleanExpression goeMinPrice(Integer minPrice) {
         return (minPrice != null && minPrice >= 0) ? item.price.value.goe(minPrice) : null;
     }
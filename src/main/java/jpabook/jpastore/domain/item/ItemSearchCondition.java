@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -15,6 +17,7 @@ public class ItemSearchCondition {
     private String name;
     private Integer minPrice;
     private Integer maxPrice;
+    private Collection<Long> itemIds; // 상품명 색인으로 찾은 상품 id (있으면 상품명 LIKE 대신 사용)
 
     public static ItemSearchCondition of(ItemCommand.SearchCondition condition) {
         return ItemSearchCondition.builder()
@@ -23,4 +26,9 @@ public class ItemSearchCondition {
                 .maxPrice((condition.getMaxPrice() != null) ? condition.getMaxPrice() : null)
                 .build();
     }
+
+    // 상품명 조건을 색인 검색 결과(상품 id)로 대체
+    public ItemSearchCondition withItemIds(Collection<Long> itemIds) {
+        return new ItemSearchCondition(null, minPrice, maxPrice, itemIds);
+    }
 }
@@ -0,0 +1,37 @@
+package jpabook.jpastore.domain.item;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 커밋 모드의 재고 예약
+ * 배처가 재고를 차감하는 트랜잭션에서 생성하고, 주문 트랜잭션이 삭제(확정)한다.
+ * 주문이 롤백되거나 서버가 중단되어 남은 예약은 만료 후 재고를 되돌리고 삭제한다.
+ * (JDBC 로 읽고 쓰며, 매핑은 스키마와 주문 트랜잭션의 확정 쿼리에 사용한다)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_holds",
+        indexes = @Index(name = "idx_stock_holds_created_date", columnList = "created_date"))
+@ToString
+@Entity
+public class StockHold {
+
+    @Id
+    @Column(name = "hold_id", length = 36)
+    private String id; // 주문 요청에서 발급한 UUID
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,16 @@
+package jpabook.jpastore.domain.item;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface StockHoldRepository extends JpaRepository<StockHold, String> {
+
+    // 재고 예약 확정 -> 삭제된 행 수가 예약 수보다 적으면 만료되어 이미 재고가 복구된 예약이 있다
+    @Modifying
+    @Query("delete from StockHold h where h.id in :holdIds")
+    int confirm(@Param("holdIds") Collection<String> holdIds);
+}
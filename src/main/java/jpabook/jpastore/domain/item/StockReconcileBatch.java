@@ -0,0 +1,41 @@
+package jpabook.jpastore.domain.item;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Redis 재고 변경량 배치의 DB 반영 기록
+ * 재고 UPDATE 와 같은 트랜잭션에 저장되므로, 이 행이 있으면 해당 배치는 이미 반영된 것이다.
+ * (반영 후 Redis 확인 처리가 실패해도 같은 배치를 다시 반영하지 않는다)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_reconcile_batches")
+@ToString
+@Entity
+public class StockReconcileBatch {
+
+    @Id
+    @Column(name = "batch_id")
+    private Long id; // Redis 에서 발급한 배치 순번
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    private StockReconcileBatch(Long id, LocalDateTime appliedAt) {
+        this.id = id;
+        this.appliedAt = appliedAt;
+    }
+
+    public static StockReconcileBatch applied(Long batchId) {
+        return new StockReconcileBatch(batchId, LocalDateTime.now());
+    }
+}
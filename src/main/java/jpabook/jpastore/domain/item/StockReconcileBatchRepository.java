@@ -0,0 +1,14 @@
+package jpabook.jpastore.domain.item;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockReconcileBatchRepository extends JpaRepository<StockReconcileBatch, Long> {
+
+    // 반영 여부는 진행 중인 배치만 확인하므로 오래된 기록은 정리
+    @Modifying
+    @Query("delete from StockReconcileBatch b where b.id < :batchId")
+    int deleteBefore(@Param("batchId") Long batchId);
+}
@@ -2,9 +2,13 @@ package jpabook.jpastore.domain.member;
 
 import jpabook.jpastore.domain.Address;
 import jpabook.jpastore.domain.BaseTimeEntity;
+import jpabook.jpastore.domain.IdGeneration;
+import jpabook.jpastore.domain.SoftDelete;
 import jpabook.jpastore.domain.membership.Membership;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.util.StringUtils;
 
@@ -19,13 +23,16 @@ import java.util.Objects;
 @Table(name = "members", indexes = {
         @Index(name = "idx_mem_username", columnList = "username"),
         @Index(name = "idx_mem_email", columnList = "email"),
-        @Index(name = "idx_mem_createdDate", columnList = "createdDate")
+        @Index(name = "idx_mem_createdDate", columnList = "createdDate"),
+        @Index(name = "idx_mem_deleted_created_date", columnList = "is_deleted, created_date") // soft delete 필터 + 최신순
 })
+@Filter(name = SoftDelete.FILTER)
 @Entity
 public class Member extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "member_id")
     private Long id;
 
@@ -9,6 +9,7 @@ import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
+    // 로그인/인증은 트랜잭션 밖에서도 호출되므로 (soft delete 필터 미적용) 삭제 조건을 직접 둔다
     @Query("select m from Member m where m.username = :username and m.isDeleted = false")
     Optional<Member> findByUsername(@Param("username") String username);
 
@@ -1,5 +1,7 @@
 package jpabook.jpastore.domain.member;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.domain.membership.Grade;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +25,8 @@ public interface MemberRepositoryCustom {
 
     Page<Member> findAllWithMembership(String username, Grade grade, Pageable pageable);
 
+    CursorPage<Member> findAllWithMembership(String username, Grade grade, CursorRequest cursorRequest);
+
     List<Member> findAllWithMembership();
 
     Page<Member> findAllWithMembership(Pageable pageable);
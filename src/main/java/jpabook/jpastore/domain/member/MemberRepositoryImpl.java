@@ -5,17 +5,23 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorQuery;
+import jpabook.jpastore.common.cursor.CursorRequest;
+import jpabook.jpastore.common.cursor.CursorSortKey;
+import jpabook.jpastore.common.utils.PageCountSupport;
 import jpabook.jpastore.domain.membership.Grade;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static jpabook.jpastore.domain.member.QMember.member;
 import static jpabook.jpastore.domain.membership.QMembership.membership;
@@ -23,14 +29,26 @@ import static jpabook.jpastore.domain.membership.QMembership.membership;
 @RequiredArgsConstructor
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
+    // 커서 페이지 정렬 키 (getSort 와 같은 속성명, 기본: 최신순)
+    private static final CursorQuery<Member> CURSOR_QUERY = new CursorQuery<>(member.id, Member::getId,
+            Sort.Direction.DESC,
+            CursorSortKey.of("createdDate", member.createdDate, Member::getCreatedDate, LocalDateTime::parse),
+            CursorSortKey.of("id", member.id, Member::getId, Long::valueOf),
+            CursorSortKey.of("username", member.username, Member::getUsername, Function.identity()),
+            CursorSortKey.of("phoneNumber", member.phoneNumber, Member::getPhoneNumber, Function.identity()),
+            CursorSortKey.of("email", member.email, Member::getEmail, Function.identity()));
+
+    // 검색 조건 없는 전체 리스트 count 캐시 키
+    private static final String MEMBERS_COUNT_KEY = "members";
+
     private final JPAQueryFactory queryFactory;
+    private final PageCountSupport pageCountSupport;
 
     @Override
     public Optional<Member> findMemberById(Long memberId) {
         return Optional.ofNullable(
                 queryFactory.selectFrom(member)
-                        .where(eqMemberId(memberId),
-                                notDeleted())
+                        .where(eqMemberId(memberId))
                         .fetchOne()
         );
     }
@@ -40,7 +58,7 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         return Optional.ofNullable(queryFactory
                 .selectFrom(member)
                 .where(eqOAuthId(oauthId),
-                        notDeleted())
+                        notDeleted()) // OAuth2 로그인은 트랜잭션 밖 -> soft delete 필터 미적용
                 .fetchOne()
         );
     }
@@ -50,7 +68,7 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         var exist
                 = queryFactory.selectOne()
                 .from(member)
-                .where(eqEmail(email), notDeleted())
+                .where(eqEmail(email))
                 .fetchFirst();
 
         return exist != null;
@@ -61,7 +79,7 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         return Optional.ofNullable(queryFactory
                 .selectFrom(member)
                 .join(member.membership, membership).fetchJoin()
-                .where(eqMemberId(memberId), notDeleted())
+                .where(eqMemberId(memberId))
                 .fetchOne());
     }
 
@@ -71,8 +89,7 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
                 .selectFrom(member)
                 .join(member.membership, membership).fetchJoin()
                 .where(eqMemberId(memberId),
-                        eqUsername(username),
-                        notDeleted())
+                        eqUsername(username))
                 .fetchOne());
     }
 
@@ -81,8 +98,7 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         return queryFactory.selectFrom(member)
                 .join(member.membership, membership).fetchJoin()
                 .where(containsUsername(username),
-                        eqGrade(grade),
-                        notDeleted())
+                        eqGrade(grade))
                 .fetch();
     }
 
@@ -94,17 +110,35 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .where(containsUsername(username),
-                        eqGrade(grade),
-                        notDeleted())
+                        eqGrade(grade))
                 .orderBy(getSort(pageable))
                 .fetch();
 
-        JPAQuery<Member> count = queryFactory.selectFrom(member)
+        JPAQuery<Long> count = queryFactory.select(member.count())
+                .from(member)
                 .join(member.membership, membership)
                 .where(containsUsername(username),
                         eqGrade(grade));
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> count.fetch().size());
+        if (!StringUtils.hasText(username) && grade == null) {
+            return pageCountSupport.cachedPage(MEMBERS_COUNT_KEY, content, pageable, count);
+        }
+
+        return pageCountSupport.page(content, pageable, count);
+    }
+
+    @Override
+    public CursorPage<Member> findAllWithMembership(String username, Grade grade, CursorRequest cursorRequest) {
+        List<Member> content = queryFactory.selectFrom(member)
+                .join(member.membership, membership).fetchJoin()
+                .where(containsUsername(username),
+                        eqGrade(grade),
+                        CURSOR_QUERY.seek(cursorRequest))
+                .orderBy(CURSOR_QUERY.orderBy(cursorRequest))
+                .limit(CURSOR_QUERY.limit(cursorRequest))
+                .fetch();
+
+        return CURSOR_QUERY.page(content, cursorRequest);
     }
 
     @Override
@@ -112,7 +146,6 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         return queryFactory
                 .selectFrom(member)
                 .join(member.membership, membership).fetchJoin()
-                .where(notDeleted())
                 .fetch();
     }
 
@@ -120,17 +153,16 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
     public Page<Member> findAllWithMembership(Pageable pageable) {
         List<Member> content = queryFactory.selectFrom(member)
                 .join(member.membership, membership).fetchJoin()
-                .where(notDeleted())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(getSort(pageable))
                 .fetch();
 
-        JPAQuery<Member> count = queryFactory.selectFrom(member)
-                .join(member.membership, membership)
-                .where(notDeleted());
+        JPAQuery<Long> count = queryFactory.select(member.count())
+                .from(member)
+                .join(member.membership, membership);
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> count.fetch().size());
+        return pageCountSupport.cachedPage(MEMBERS_COUNT_KEY, content, pageable, count);
     }
 
     private BooleanExpression notDeleted() {
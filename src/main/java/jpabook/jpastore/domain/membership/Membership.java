@@ -1,8 +1,12 @@
 package jpabook.jpastore.domain.membership;
 
 import jpabook.jpastore.domain.BaseTimeEntity;
+import jpabook.jpastore.domain.IdGeneration;
 import jpabook.jpastore.domain.Money;
+import jpabook.jpastore.domain.SoftDelete;
 import lombok.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -10,12 +14,17 @@ import java.time.LocalDateTime;
 @ToString(of = {"id", "grade", "totalSpending"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "memberships")
+@Table(name = "memberships", indexes = {
+        @Index(name = "idx_memberships_deleted_grade", columnList = "is_deleted, grade"),
+        @Index(name = "idx_memberships_deleted_total_spending", columnList = "is_deleted, total_spending")
+})
+@Filter(name = SoftDelete.FILTER)
 @Entity
 public class Membership extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "membership_id")
     private Long id;
 
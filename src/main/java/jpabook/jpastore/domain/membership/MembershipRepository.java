@@ -10,13 +10,14 @@ import java.util.List;
 
 public interface MembershipRepository extends JpaRepository<Membership, Long> {
 
-    @Query("select m from Membership m where m.grade = :grade and m.isDeleted = false")
+    @Query("select m from Membership m where m.grade = :grade")
     List<Membership> findByGrade(Grade grade);
 
     @Query("select m from Membership m where m.totalSpending >= :start" +
-            " and m.totalSpending <= :end and m.isDeleted = false")
+            " and m.totalSpending <= :end")
     List<Membership> findByTotalSpendingBetween(Money start, Money end);
 
+    // 벌크 update 에는 soft delete 필터가 적용되지 않으므로 is_deleted 조건을 직접 둔다
     @Modifying(clearAutomatically = true)
     @Query("update Membership m set m.grade = :changeGrade " +
             "where m.totalSpending >= :from and m.totalSpending < :to and m.isDeleted = false")
@@ -31,4 +32,9 @@ public interface MembershipRepository extends JpaRepository<Membership, Long> {
     @Modifying(clearAutomatically = true)
     @Query("update Membership m set m.totalSpending = 0 where m.isDeleted = false")
     int bulkResetTotalSpending();
+
+    // 누적 구매 금액 상대값 증감 (원장 반영) -> 엔티티 조회 없이 단일 UPDATE
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Membership m set m.totalSpending.value = m.totalSpending.value + :amount where m.id = :membershipId")
+    int addTotalSpending(@Param("membershipId") Long membershipId, @Param("amount") int amount);
 }
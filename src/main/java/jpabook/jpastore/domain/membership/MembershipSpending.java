@@ -0,0 +1,11 @@
+package jpabook.jpastore.domain.membership;
+
+/**
+ * 멤버십별 주문 금액 합계
+ */
+public interface MembershipSpending {
+
+    Long getMembershipId();
+
+    Long getAmount();
+}
@@ -0,0 +1,54 @@
+package jpabook.jpastore.domain.membership;
+
+import jpabook.jpastore.domain.BaseTimeEntity;
+import jpabook.jpastore.domain.IdGeneration;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+
+/**
+ * 멤버십 누적 구매 금액 원장 (append-only)
+ * 주문/취소 시 memberships 행을 직접 갱신하지 않고 증감분만 INSERT 한다 -> 같은 회원의 동시 주문이 멤버십 row 락에서 직렬화되지 않는다.
+ * 아직 반영되지 않은(folded = false) 증감분은 주기적으로 Membership.totalSpending 에 합산된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "membership_spending_ledgers", indexes = {
+        @Index(name = "idx_spending_ledgers_unfolded", columnList = "folded, ledger_id"), // 반영 대상 원장 id 순 조회
+        @Index(name = "idx_spending_ledgers_membership_unfolded", columnList = "membership_id, folded") // 회원별 미반영 합계
+})
+@ToString
+@Entity
+public class MembershipSpendingLedger extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
+    @Column(name = "ledger_id")
+    private Long id;
+
+    @Column(name = "membership_id", nullable = false, updatable = false)
+    private Long membershipId;
+
+    @Column(name = "order_id", updatable = false)
+    private Long orderId;
+
+    @Column(nullable = false, updatable = false)
+    private int amount; // 주문: 양수, 취소: 음수
+
+    @Column(nullable = false)
+    private boolean folded; // Membership.totalSpending 반영 여부
+
+    //==생성 메서드==//
+    public static MembershipSpendingLedger of(Long membershipId, Long orderId, int amount) {
+        var ledger = new MembershipSpendingLedger();
+
+        ledger.membershipId = membershipId;
+        ledger.orderId = orderId;
+        ledger.amount = amount;
+        ledger.folded = false;
+
+        return ledger;
+    }
+}
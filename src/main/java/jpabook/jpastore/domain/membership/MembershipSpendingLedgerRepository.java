@@ -0,0 +1,37 @@
+package jpabook.jpastore.domain.membership;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+
+public interface MembershipSpendingLedgerRepository extends JpaRepository<MembershipSpendingLedger, Long> {
+
+    // 아직 반영되지 않은 증감분 합계 (조회 시 totalSpending 에 더해 일관된 누적 금액을 보여준다)
+    @Query("select coalesce(sum(l.amount), 0) from MembershipSpendingLedger l" +
+            " where l.membershipId = :membershipId and l.folded = false")
+    long sumUnfoldedAmount(@Param("membershipId") Long membershipId);
+
+    @Query("select l.membershipId as membershipId, sum(l.amount) as amount from MembershipSpendingLedger l" +
+            " where l.membershipId in :membershipIds and l.folded = false group by l.membershipId")
+    List<MembershipSpending> sumUnfoldedAmounts(@Param("membershipIds") Collection<Long> membershipIds);
+
+    // 반영 대상 락 조회 (원장 id 오름차순, pageable 크기만큼) -> 여러 노드가 동시에 반영해도 중복 합산되지 않는다
+    // SKIP LOCKED (lock timeout -2) -> 다른 노드가 반영 중인 원장은 기다리지 않고 건너뛴다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select l from MembershipSpendingLedger l where l.folded = false order by l.id")
+    List<MembershipSpendingLedger> findUnfoldedForUpdate(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MembershipSpendingLedger l set l.folded = true where l.id in :ledgerIds")
+    int markFolded(@Param("ledgerIds") Collection<Long> ledgerIds);
+}
@@ -2,6 +2,8 @@ package jpabook.jpastore.domain.order;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+
 @Getter
 public enum DeliveryStatus {
     COMPLETE("배송 완료", null),
@@ -17,4 +19,17 @@ public enum DeliveryStatus {
         this.message = message;
         this.next = next;
     }
+
+    // 배송 상태는 다음 단계로만 변경 가능
+    public boolean canChangeTo(DeliveryStatus status) {
+        return next != null && next == status;
+    }
+
+    // 다음 단계가 status 인 배송 상태 (없으면 null)
+    public static DeliveryStatus previousOf(DeliveryStatus status) {
+        return Arrays.stream(values())
+                .filter(s -> s.canChangeTo(status))
+                .findFirst()
+                .orElse(null);
+    }
 }
@@ -1,10 +1,12 @@
 package jpabook.jpastore.domain.order;
 
 import jpabook.jpastore.domain.BaseTimeEntity;
+import jpabook.jpastore.domain.IdGeneration;
 import jpabook.jpastore.domain.Money;
 import jpabook.jpastore.domain.member.Member;
 import jpabook.jpastore.domain.member.Role;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -12,13 +14,19 @@ import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders",
+        uniqueConstraints = @UniqueConstraint(name = "uk_orders_idempotency_key", columnNames = "idempotency_key"),
+        indexes = {
+                @Index(name = "idx_orders_created_date_id", columnList = "created_date, order_id"), // 커서 페이지 (최신순 seek)
+                @Index(name = "idx_orders_status_pay_created_date", columnList = "status, pay_info, created_date") // 미입금 주문 만료
+        })
 @ToString
 @Entity
 public class Order extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "order_id")
     private Long id;
 
@@ -41,6 +49,18 @@ public class Order extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private Pay payInfo;
 
+    // 주문 상품 합계 -> 주문 상품 추가 시 함께 갱신 (조회 시 orderItems 를 읽지 않는다)
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "total_price", nullable = false, columnDefinition = "int default 0"))
+    private Money totalPrice = new Money(0);
+
+    @Column(name = "item_count", nullable = false, columnDefinition = "int default 0")
+    private int itemCount; // 주문 상품 총 수량
+
+    // Idempotency-Key 로 생성된 주문의 recordKey (SHA-256) -> 같은 키로 주문이 두 번 생성되지 않음
+    @Column(name = "idempotency_key", length = 64, updatable = false)
+    private String idempotencyKey;
+
     @Builder
     public Order(Member member, Delivery delivery, OrderStatus status, Pay payInfo) {
         this.member = member;
@@ -55,6 +75,9 @@ public class Order extends BaseTimeEntity {
     public void addOrderItem(OrderItem orderItem) {
         this.orderItems.add(orderItem);
         orderItem.setOrder(this);
+
+        this.totalPrice = this.totalPrice.add(orderItem.getTotalPrice());
+        this.itemCount += orderItem.getQuantity();
     }
 
     private void setDelivery(Delivery delivery) {
@@ -80,22 +103,44 @@ public class Order extends BaseTimeEntity {
     }
 
     //==비즈니스 로직==//
+    public void assignIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     /**
      * 주문 취소
      */
     public void cancel() {
-        if(delivery.getStatus() == DeliveryStatus.DELIVERING
-                || delivery.getStatus() == DeliveryStatus.COMPLETE){
+        cancelWithoutRestock();
+
+        for (OrderItem orderItem : orderItems) {
+            orderItem.cancel(); // 취소된 재고 추가
+        }
+    }
+
+    /**
+     * 주문 취소 - 재고 복구는 호출하는 쪽에서 처리 (ex. Redis 재고 예약 모드)
+     */
+    public void cancelWithoutRestock() {
+        if(!isCancelable()){
             throw new IllegalStateException("이미 배송중 혹은 배송완료된 주문은 취소할 수 없습니다.");
         }
 
         this.status = OrderStatus.CANCEL;
 
         delivery.cancel(); // 배달 상태 (NONE)으로 변경
+    }
 
-        for (OrderItem orderItem : orderItems) {
-            orderItem.cancel(); // 취소된 재고 추가
-        }
+    // 취소되지 않았고 배송중/배송완료 전인 주문만 취소 가능
+    public boolean isCancelable() {
+        return this.status != OrderStatus.CANCEL
+                && delivery.getStatus() != DeliveryStatus.DELIVERING
+                && delivery.getStatus() != DeliveryStatus.COMPLETE;
+    }
+
+    // 취소되지 않은 주문만 배송 상태를 다음 단계로 변경 가능
+    public boolean canChangeDeliveryStatus(DeliveryStatus status) {
+        return this.status != OrderStatus.CANCEL && delivery.getStatus().canChangeTo(status);
     }
 
     public void updateStatus(OrderStatus status) {
@@ -106,14 +151,4 @@ public class Order extends BaseTimeEntity {
     public boolean hasAuthority(Member member) {
         return this.getMember().equals(member) || member.getRole() == Role.ADMIN;
     }
-
-    //==조회 로직==//
-
-    /**
-     * 전체 주문 가격 조회
-     */
-    public Money getTotalPrice() {
-        return new Money(orderItems.stream()
-                .mapToInt(o -> o.getTotalPrice().getValue()).sum());
-    }
 }
@@ -1,11 +1,13 @@
 package jpabook.jpastore.domain.order;
 
+import jpabook.jpastore.domain.IdGeneration;
 import jpabook.jpastore.domain.Money;
 import jpabook.jpastore.domain.item.Item;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
@@ -16,7 +18,8 @@ import javax.persistence.*;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "order_item_id")
     private Long id;
 
@@ -60,6 +63,15 @@ public class OrderItem {
         return orderItem;
     }
 
+    // 재고가 이미 차감(예약)된 경우 사용 -> 상품 엔티티의 재고는 건드리지 않는다.
+    public static OrderItem createReservedOrderItem(Item item, Money orderPrice, int quantity) {
+        return OrderItem.builder()
+                .item(item)
+                .orderPrice(orderPrice)
+                .quantity(quantity)
+                .build();
+    }
+
     //==비즈니스 로직==//
     /**
      * 주문 취소 -> 취소한 수량 재고에 추가
@@ -0,0 +1,84 @@
+package jpabook.jpastore.domain.order;
+
+import jpabook.jpastore.domain.Address;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 조회 전용 모델 (CQRS projection)
+ * 주문/회원/배송/주문상품 정보를 한 행에 비정규화해 두고, 리스트/검색 조회는 join 없이 이 테이블만 읽는다.
+ * 주문 변경 이벤트(OrderChangedEvent)로 같은 트랜잭션 안에서 갱신된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_summaries", indexes = {
+        @Index(name = "idx_order_summaries_member", columnList = "member_id, order_id"),
+        @Index(name = "idx_order_summaries_status", columnList = "status, order_id"),
+        @Index(name = "idx_order_summaries_delivery_status", columnList = "delivery_status, order_id"),
+        @Index(name = "idx_order_summaries_ordered_date", columnList = "ordered_date")
+})
+@ToString
+@Entity
+public class OrderSummary {
+
+    // 주문 id 를 그대로 사용
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+
+    @Column(name = "member_username", nullable = false, updatable = false)
+    private String memberUsername;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(name = "delivery_status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DeliveryStatus deliveryStatus;
+
+    @Column(name = "pay_info", nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private Pay payInfo;
+
+    @Embedded
+    private Address address;
+
+    @Column(name = "item_count", nullable = false, updatable = false)
+    private int itemCount; // 주문 상품 총 수량
+
+    @Column(name = "total_price", nullable = false, updatable = false)
+    private int totalPrice;
+
+    @Column(name = "ordered_date", updatable = false)
+    private LocalDateTime orderedDate;
+
+    //==생성 메서드==//
+    public static OrderSummary of(Order order) {
+        var summary = new OrderSummary();
+
+        summary.orderId = order.getId();
+        summary.memberId = order.getMember().getId();
+        summary.memberUsername = order.getMember().getUsername();
+        summary.payInfo = order.getPayInfo();
+        summary.address = order.getDelivery().getAddress();
+        summary.itemCount = order.getItemCount();
+        summary.totalPrice = order.getTotalPrice().getValue();
+        summary.orderedDate = order.getCreatedDate();
+        summary.changeStatus(order.getStatus(), order.getDelivery().getStatus());
+
+        return summary;
+    }
+
+    //==비즈니스 로직==//
+    // 주문 상품은 주문 이후 바뀌지 않으므로 상태만 갱신
+    public void changeStatus(OrderStatus status, DeliveryStatus deliveryStatus) {
+        this.status = status;
+        this.deliveryStatus = deliveryStatus;
+    }
+}
@@ -0,0 +1,104 @@
+package jpabook.jpastore.domain.order;
+
+import jpabook.jpastore.domain.Address;
+import jpabook.jpastore.domain.BaseTimeEntity;
+import jpabook.jpastore.domain.IdGeneration;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 비동기 주문 접수 티켓
+ * 주문 요청을 가볍게 저장해두고 워커가 실제 주문(Order)으로 처리한다.
+ * 선점할 때마다 선점 토큰을 새로 발급하고, 완료/실패 처리는 자신의 토큰일 때만 한다.
+ * (처리가 오래 걸려 재등록된 티켓을 이전 워커가 완료시키면 버전 충돌로 롤백된다)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_tickets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_tickets_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_order_tickets_status", columnList = "status, ticket_id"))
+@ToString(exclude = "items")
+@Entity
+public class OrderTicket extends BaseTimeEntity {
+
+    public static final int FAILURE_REASON_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
+    @Column(name = "ticket_id")
+    private Long id;
+
+    // 회원 연관관계 대신 id 만 저장 (접수 시점에는 회원 엔티티가 필요 없음)
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+
+    @ElementCollection
+    @CollectionTable(name = "order_ticket_items", joinColumns = @JoinColumn(name = "ticket_id"))
+    private List<OrderTicketItem> items = new ArrayList<>();
+
+    @Column(nullable = false)
+    @Embedded
+    private Address address;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Pay payInfo;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderTicketStatus status; // PENDING, PROCESSING, COMPLETED, FAILED
+
+    // 처리 완료 시 생성된 주문 id
+    private Long orderId;
+
+    @Column(length = FAILURE_REASON_MAX_LENGTH)
+    private String failureReason;
+
+    // 현재 선점한 워커의 토큰 (대기 상태로 돌아가면 null)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    // 선점된 횟수 (중단된 티켓 재등록 제한)
+    @Column(name = "claim_count", nullable = false)
+    private int claimCount;
+
+    @Version
+    private Long version;
+
+    // Idempotency-Key 로 접수된 티켓의 recordKey (SHA-256) -> 같은 키로 두 번 접수되지 않음
+    @Column(name = "idempotency_key", length = 64, updatable = false)
+    private String idempotencyKey;
+
+    @Builder
+    public OrderTicket(Long memberId, List<OrderTicketItem> items, Address address, Pay payInfo, String idempotencyKey) {
+        this.memberId = memberId;
+        this.idempotencyKey = idempotencyKey;
+        this.items.addAll(items);
+        this.address = address;
+        this.payInfo = payInfo;
+        this.status = OrderTicketStatus.PENDING;
+    }
+
+    //==비즈니스 로직==//
+    public boolean isClaimedBy(String claimToken) {
+        return this.status == OrderTicketStatus.PROCESSING && Objects.equals(this.claimToken, claimToken);
+    }
+
+    public void complete(Long orderId) {
+        this.status = OrderTicketStatus.COMPLETED;
+        this.orderId = orderId;
+    }
+
+    public void fail(String failureReason) {
+        this.status = OrderTicketStatus.FAILED;
+        this.failureReason = Objects.isNull(failureReason) || failureReason.length() <= FAILURE_REASON_MAX_LENGTH
+                ? failureReason
+                : failureReason.substring(0, FAILURE_REASON_MAX_LENGTH);
+    }
+}
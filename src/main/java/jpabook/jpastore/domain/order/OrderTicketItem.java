@@ -0,0 +1,27 @@
+package jpabook.jpastore.domain.order;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Embeddable
+public class OrderTicketItem {
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    public OrderTicketItem(Long itemId, int quantity) {
+        this.itemId = itemId;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,17 @@
+package jpabook.jpastore.domain.order;
+
+import lombok.Getter;
+
+@Getter
+public enum OrderTicketStatus {
+    PENDING("접수 대기중"),
+    PROCESSING("주문 처리중"),
+    COMPLETED("주문 처리 완료"),
+    FAILED("주문 처리 실패");
+
+    final String message;
+
+    OrderTicketStatus(String message) {
+        this.message = message;
+    }
+}
@@ -1,7 +1,26 @@
 package jpabook.jpastore.domain.order.repository;
 
 import jpabook.jpastore.domain.order.Delivery;
+import jpabook.jpastore.domain.order.DeliveryStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+
+    // 배송 상태 일괄 변경 -> 엔티티 변경 감지 대신 단일 UPDATE (현재 상태가 from 인 배송만 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Delivery d set d.status = :to where d.id in :deliveryIds and d.status = :from")
+    int changeStatuses(@Param("deliveryIds") Collection<Long> deliveryIds,
+                       @Param("from") DeliveryStatus from,
+                       @Param("to") DeliveryStatus to);
+
+    // 배송 상태 일괄 변경 (현재 상태 무관, ex. 주문 일괄 취소 시 NONE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Delivery d set d.status = :status where d.id in :deliveryIds")
+    int changeStatuses(@Param("deliveryIds") Collection<Long> deliveryIds,
+                       @Param("status") DeliveryStatus status);
 }
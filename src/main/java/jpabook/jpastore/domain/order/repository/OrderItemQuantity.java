@@ -0,0 +1,11 @@
+package jpabook.jpastore.domain.order.repository;
+
+/**
+ * 상품별 주문 수량 합계
+ */
+public interface OrderItemQuantity {
+
+    Long getItemId();
+
+    Long getQuantity();
+}
@@ -26,6 +26,8 @@ public class OrderQueryInfo {
         private LocalDateTime orderedDate;
         private OrderStatus orderStatus;
         private DeliveryStatus deliveryStatus;
+        private Money totalPrice;
+        private Integer itemCount;
         private AddressInfo address;
         private List<OrderItemInfo> orderItems = new ArrayList<>();
 
@@ -34,12 +36,16 @@ public class OrderQueryInfo {
                         LocalDateTime orderedDate,
                         OrderStatus orderStatus,
                         DeliveryStatus deliveryStatus,
+                        Money totalPrice,
+                        Integer itemCount,
                         Address address) {
             this.orderId = orderId;
             this.memberName = memberName;
             this.orderedDate = orderedDate;
             this.orderStatus = orderStatus;
             this.deliveryStatus = deliveryStatus;
+            this.totalPrice = totalPrice;
+            this.itemCount = itemCount;
             this.address = new AddressInfo(address);
         }
     }
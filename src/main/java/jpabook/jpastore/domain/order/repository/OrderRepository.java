@@ -1,17 +1,73 @@
 package jpabook.jpastore.domain.order.repository;
 
+import jpabook.jpastore.domain.membership.MembershipSpending;
 import jpabook.jpastore.domain.order.Order;
+import jpabook.jpastore.domain.order.OrderStatus;
+import jpabook.jpastore.domain.order.Pay;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     @Query("select o from Order o join fetch o.delivery join fetch o.member")
     List<Order> findOrders();
 
+    @Query("select o.id from Order o where o.idempotencyKey = :idempotencyKey")
+    Optional<Long> findIdByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
     @Query("select o from Order o join fetch o.delivery join fetch o.member m " +
             "where m.id = :memberId order by o.id desc")
     List<Order> findOrdersByMemberId(Long memberId);
+
+    // 배송 상태 일괄 변경 대상 락 조회 -> 주문 id 오름차순으로 주문/배송 row 락 획득 (일괄 변경 간 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o join fetch o.delivery where o.id in :orderIds order by o.id")
+    List<Order> findOrdersWithDeliveryForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+    // 기한이 지난 결제 대기 주문 락 조회 (오래된 주문부터, pageable 크기만큼)
+    // (status, pay_info, created_date) 인덱스 순서로 읽고, SKIP LOCKED (lock timeout -2) 로
+    // 다른 노드가 처리 중인 주문은 기다리지 않고 건너뛴다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select o from Order o where o.status = :status and o.payInfo = :payInfo and o.createdDate < :createdBefore" +
+            " order by o.createdDate, o.id")
+    List<Order> findStaleOrdersForUpdate(@Param("status") OrderStatus status,
+                                         @Param("payInfo") Pay payInfo,
+                                         @Param("createdBefore") LocalDateTime createdBefore,
+                                         Pageable pageable);
+
+    // 주문 리스트의 상품별 수량 합계
+    @Query("select oi.item.id as itemId, sum(oi.quantity) as quantity from OrderItem oi" +
+            " where oi.order.id in :orderIds group by oi.item.id")
+    List<OrderItemQuantity> sumQuantitiesByItem(@Param("orderIds") Collection<Long> orderIds);
+
+    // 주문 상태 일괄 변경 (현재 상태가 from 인 주문만)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :to where o.id in :orderIds and o.status = :from")
+    int changeStatuses(@Param("orderIds") Collection<Long> orderIds,
+                       @Param("from") OrderStatus from,
+                       @Param("to") OrderStatus to);
+
+    // 결제 완료 주문 금액의 멤버십별 합계 (일괄 취소 시 누적 구매 금액 차감용)
+    @Query("select m.membership.id as membershipId, sum(o.totalPrice.value) as amount from Order o join o.member m" +
+            " where o.id in :orderIds and o.status = jpabook.jpastore.domain.order.OrderStatus.ORDER group by m.membership.id")
+    List<MembershipSpending> sumPaidTotalPriceByMembership(@Param("orderIds") Collection<Long> orderIds);
+
+    // 주문 일괄 취소 (이미 취소된 주문 제외)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = jpabook.jpastore.domain.order.OrderStatus.CANCEL" +
+            " where o.id in :orderIds and o.status <> jpabook.jpastore.domain.order.OrderStatus.CANCEL")
+    int cancelOrders(@Param("orderIds") Collection<Long> orderIds);
 }
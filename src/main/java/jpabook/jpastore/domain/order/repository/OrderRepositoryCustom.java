@@ -1,5 +1,7 @@
 package jpabook.jpastore.domain.order.repository;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.domain.order.Order;
 import jpabook.jpastore.domain.order.OrderSearchCondition;
 import org.springframework.data.domain.Page;
@@ -7,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderRepositoryCustom {
 
@@ -30,8 +33,14 @@ public interface OrderRepositoryCustom {
 
     Page<Order> findByCondition(OrderSearchCondition orderSearchCondition, Pageable pageable);
 
+    CursorPage<Order> findByCondition(OrderSearchCondition orderSearchCondition, CursorRequest cursorRequest);
+
+    List<Long> findOrderIds(OrderSearchCondition orderSearchCondition, long limit);
+
     List<OrderQueryInfo.SimpleInfo> findAllOrderSimpleInfo();
 
+    long streamOrderSimpleInfo(OrderSearchCondition orderSearchCondition, Consumer<OrderQueryInfo.SimpleInfo> consumer);
+
     List<OrderQueryInfo.MainInfo> findAllOrderInfo();
 
 }
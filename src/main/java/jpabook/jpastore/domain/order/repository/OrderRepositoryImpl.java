@@ -3,23 +3,33 @@ package jpabook.jpastore.domain.order.repository;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorQuery;
+import jpabook.jpastore.common.cursor.CursorRequest;
+import jpabook.jpastore.common.cursor.CursorSortKey;
+import jpabook.jpastore.common.utils.OneToManyAssembler;
+import jpabook.jpastore.common.utils.PageCountSupport;
 import jpabook.jpastore.common.exception.BadRequestException;
 import jpabook.jpastore.domain.order.DeliveryStatus;
 import jpabook.jpastore.domain.order.Order;
 import jpabook.jpastore.domain.order.OrderSearchCondition;
 import jpabook.jpastore.domain.order.OrderStatus;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static jpabook.jpastore.domain.item.QItem.item;
@@ -33,7 +43,24 @@ import static jpabook.jpastore.domain.order.QOrderItem.orderItem;
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepositoryCustom {
 
+    // 커서 페이지 정렬 키 (getSort 와 같은 속성명, 기본: 최신순)
+    private static final CursorQuery<Order> CURSOR_QUERY = new CursorQuery<>(order.id, Order::getId,
+            Sort.Direction.DESC,
+            CursorSortKey.of("createdDate", order.createdDate, Order::getCreatedDate, LocalDateTime::parse),
+            CursorSortKey.of("id", order.id, Order::getId, Long::valueOf),
+            CursorSortKey.of("order.memberId", member.id, (Order o) -> o.getMember().getId(), Long::valueOf),
+            CursorSortKey.of("order.username", member.username, (Order o) -> o.getMember().getUsername(), Function.identity()));
+
+    // 검색 조건 없는 전체 리스트 count 캐시 키
+    private static final String ORDERS_COUNT_KEY = "orders";
+
+    // 주문 내보내기: 드라이버 fetch size 이자 영속성 컨텍스트 정리 주기
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
+    private final PageCountSupport pageCountSupport;
+    private final OneToManyAssembler oneToManyAssembler;
 
     // 일대일 매핑의 delivery, member 와 함께 단일 주문건 조회 (주문 id)
     @Override
@@ -104,11 +131,11 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .orderBy(getSort(pageable))
                 .fetch();
 
-        var countQuery = queryFactory.selectFrom(order)
-                .join(order.member, member)
-                .join(order.delivery, delivery);
+        // member, delivery 는 not null 외래키 -> join 없이 주문 개수만 조회 (검색 조건 없음 -> 캐시된 개수)
+        var countQuery = queryFactory.select(order.count())
+                .from(order);
 
-        return PageableExecutionUtils.getPage(orders, pageable, () -> countQuery.fetch().size());
+        return pageCountSupport.cachedPage(ORDERS_COUNT_KEY, orders, pageable, countQuery);
     }
 
     @Override
@@ -168,8 +195,8 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .orderBy(getSort(pageable))
                 .fetch();
 
-        var countQuery =
-                queryFactory.selectFrom(order)
+        var countQuery = queryFactory.select(order.count())
+                .from(order)
                 .join(order.member, member)
                 .join(order.delivery, delivery)
                 .where(eqMemberId(condition.getMemberId()),
@@ -179,7 +206,49 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                         eqDeliveryStatus(condition.getDeliveryStatus())
                 );
 
-        return PageableExecutionUtils.getPage(orders, pageable, () -> countQuery.fetch().size());
+        if (isUnfiltered(condition)) {
+            return pageCountSupport.cachedPage(ORDERS_COUNT_KEY, orders, pageable, countQuery);
+        }
+
+        return pageCountSupport.page(orders, pageable, countQuery);
+    }
+
+    // 3. 커서(keyset) 페이지 조회 -> offset 없이 마지막 행 이후부터 조회, count 쿼리 없음
+    @Override
+    public CursorPage<Order> findByCondition(OrderSearchCondition condition, CursorRequest cursorRequest) {
+        var orders = queryFactory
+                .selectFrom(order)
+                .join(order.member, member).fetchJoin()
+                .join(order.delivery, delivery).fetchJoin()
+                .where(eqMemberId(condition.getMemberId()),
+                        eqOrderId(condition.getOrderId()),
+                        containsMemberName(condition.getMemberName()),
+                        eqOrderStatus(condition.getStatus()),
+                        eqDeliveryStatus(condition.getDeliveryStatus()),
+                        CURSOR_QUERY.seek(cursorRequest))
+                .orderBy(CURSOR_QUERY.orderBy(cursorRequest))
+                .limit(CURSOR_QUERY.limit(cursorRequest))
+                .fetch();
+
+        return CURSOR_QUERY.page(orders, cursorRequest);
+    }
+
+    // 4. 주문 id 리스트 조회 (id 오름차순, 최대 limit 건) -> 일괄 변경 대상 선정
+    @Override
+    public List<Long> findOrderIds(OrderSearchCondition condition, long limit) {
+        return queryFactory
+                .select(order.id)
+                .from(order)
+                .join(order.member, member)
+                .join(order.delivery, delivery)
+                .where(eqMemberId(condition.getMemberId()),
+                        eqOrderId(condition.getOrderId()),
+                        containsMemberName(condition.getMemberName()),
+                        eqOrderStatus(condition.getStatus()),
+                        eqDeliveryStatus(condition.getDeliveryStatus()))
+                .orderBy(order.id.asc())
+                .limit(limit)
+                .fetch();
     }
 
     // Projections 조회
@@ -201,6 +270,45 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .fetch();
     }
 
+    // 2. OrderQueryInfo.SimpleInfo 주문 스트리밍 조회 (내보내기)
+    // ScrollableResults 로 fetch size 만큼씩 읽어 consumer 로 전달 -> 전체 결과를 List 로 올리지 않는다
+    @Override
+    public long streamOrderSimpleInfo(OrderSearchCondition condition, Consumer<OrderQueryInfo.SimpleInfo> consumer) {
+        var query = queryFactory
+                .select(Projections.constructor(OrderQueryInfo.SimpleInfo.class,
+                    order.id.as("orderId"),
+                    member.username.as("memberName"),
+                    order.createdDate.as("orderedDate"),
+                    order.status.as("orderStatus"),
+                    delivery.status.as("deliveryStatus"),
+                    delivery.address
+                )).from(order)
+                .join(order.member, member)
+                .join(order.delivery, delivery)
+                .where(eqMemberId(condition.getMemberId()),
+                        eqOrderId(condition.getOrderId()),
+                        containsMemberName(condition.getMemberName()),
+                        eqOrderStatus(condition.getStatus()),
+                        eqDeliveryStatus(condition.getDeliveryStatus()))
+                .orderBy(order.id.desc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(QueryHints.HINT_READONLY, true);
+
+        long count = 0;
+        try (CloseableIterator<OrderQueryInfo.SimpleInfo> rows = query.iterate()) {
+            while (rows.hasNext()) {
+                consumer.accept(rows.next());
+
+                // 영속성 컨텍스트가 쌓이지 않도록 주기적으로 비운다
+                if (++count % EXPORT_FETCH_SIZE == 0) {
+                    em.clear();
+                }
+            }
+        }
+
+        return count;
+    }
+
     // OrderQueryDto 조회 -> 1. orderIds IN 쿼리로 orderItemDtoMap 생성 / 2. OrderDto 로 조회한 결과에 OrderItemDto set
     @Override
     public List<OrderQueryInfo.MainInfo> findAllOrderInfo() {
@@ -208,8 +316,9 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
         // 1. orderItem 정보 제외한 MainInfo 리스트 조회
         var result = orderInfoListWithoutOrderItems();
 
-        // 2. IN 쿼리 활용해 orderId별 orderItem 리스트 맵 생성
-        var orderItemMap = getOrderItemMap(getOrderIds(result));
+        // 2. IN 쿼리(청크 단위) 활용해 orderId별 orderItem 리스트 맵 생성
+        var orderItemMap = oneToManyAssembler.assemble(getOrderIds(result), this::getOrderItems,
+                OrderQueryInfo.OrderItemInfo::getOrderId);
 
         // 3. MainInfo 에 해당 orderItem 리스트 매핑
         result.forEach(o -> o.setOrderItems(orderItemMap.get(o.getOrderId())));
@@ -219,11 +328,11 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
 
     /**
      *
-     * @param orderIds
-     * @return [orderId - OrderItemInfo 리스트] map
+     * @param orderIds 주문 id 청크
+     * @return 주문 id 청크에 속한 OrderItemInfo 리스트
      */
-    private Map<Long, List<OrderQueryInfo.OrderItemInfo>> getOrderItemMap(List<Long> orderIds) {
-        var orderItems = queryFactory
+    private List<OrderQueryInfo.OrderItemInfo> getOrderItems(List<Long> orderIds) {
+        return queryFactory
                 .select(Projections.constructor(OrderQueryInfo.OrderItemInfo.class,
                         orderItem.order.id.as("orderId"),
                         orderItem.item.name.as("itemName"),
@@ -235,8 +344,6 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .join(orderItem.item, item)
                 .where(order.id.in(orderIds))
                 .fetch();
-
-        return orderItems.stream().collect(Collectors.groupingBy(OrderQueryInfo.OrderItemInfo::getOrderId));
     }
 
     /**
@@ -257,6 +364,8 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                         order.createdDate.as("orderedDate"),
                         order.status.as("orderStatus"),
                         delivery.status.as("deliveryStatus"),
+                        order.totalPrice,
+                        order.itemCount,
                         delivery.address
                 ))
                 .from(order)
@@ -267,6 +376,14 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
     }
 
 
+    private boolean isUnfiltered(OrderSearchCondition condition) {
+        return condition.getMemberId() == null
+                && !StringUtils.hasText(condition.getMemberName())
+                && condition.getOrderId() == null
+                && condition.getStatus() == null
+                && condition.getDeliveryStatus() == null;
+    }
+
     private BooleanExpression eqDeliveryStatus(DeliveryStatus deliveryStatus) {
         return Objects.nonNull(deliveryStatus) ? delivery.status.eq(deliveryStatus) : null;
     }
@@ -0,0 +1,40 @@
+package jpabook.jpastore.domain.order.repository;
+
+import jpabook.jpastore.domain.order.DeliveryStatus;
+import jpabook.jpastore.domain.order.OrderStatus;
+import jpabook.jpastore.domain.order.OrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long>, OrderSummaryRepositoryCustom {
+
+    // 조회 모델이 없는 주문을 한 번의 INSERT ... SELECT 로 채운다 (조회 모델 도입 이전 주문 / 재생성)
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "insert into order_summaries (order_id, member_id, member_username, status, delivery_status, pay_info," +
+            " city, street, zipcode, item_count, total_price, ordered_date)" +
+            " select o.order_id, m.member_id, m.username, o.status, d.status, o.pay_info," +
+            " d.city, d.street, d.zipcode, o.item_count, o.total_price, o.created_date" +
+            " from orders o" +
+            " join members m on m.member_id = o.member_id" +
+            " join deliveries d on d.delivery_id = o.delivery_id" +
+            " where not exists (select 1 from order_summaries s where s.order_id = o.order_id)")
+    int insertMissingSummaries();
+
+    // 배송 상태 일괄 변경 시 조회 모델도 같은 트랜잭션에서 단일 UPDATE 로 맞춘다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSummary s set s.deliveryStatus = :status where s.orderId in :orderIds")
+    int changeDeliveryStatuses(@Param("orderIds") Collection<Long> orderIds,
+                               @Param("status") DeliveryStatus status);
+
+    // 주문 일괄 취소 등 set-based 주문 상태 변경 반영
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSummary s set s.status = :status, s.deliveryStatus = :deliveryStatus where s.orderId in :orderIds")
+    int changeStatuses(@Param("orderIds") Collection<Long> orderIds,
+                       @Param("status") OrderStatus status,
+                       @Param("deliveryStatus") DeliveryStatus deliveryStatus);
+}
@@ -0,0 +1,11 @@
+package jpabook.jpastore.domain.order.repository;
+
+import jpabook.jpastore.domain.order.OrderSearchCondition;
+import jpabook.jpastore.domain.order.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface OrderSummaryRepositoryCustom {
+
+    Page<OrderSummary> findByCondition(OrderSearchCondition orderSearchCondition, Pageable pageable);
+}
@@ -0,0 +1,109 @@
+package jpabook.jpastore.domain.order.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpastore.common.exception.BadRequestException;
+import jpabook.jpastore.common.utils.PageCountSupport;
+import jpabook.jpastore.domain.order.DeliveryStatus;
+import jpabook.jpastore.domain.order.OrderSearchCondition;
+import jpabook.jpastore.domain.order.OrderStatus;
+import jpabook.jpastore.domain.order.OrderSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.util.Objects;
+
+import static jpabook.jpastore.domain.order.QOrderSummary.orderSummary;
+
+// 주문 조회 모델 검색 -> join 없이 order_summaries 테이블 하나만 조회
+@RequiredArgsConstructor
+public class OrderSummaryRepositoryImpl implements OrderSummaryRepositoryCustom {
+
+    // 검색 조건 없는 전체 리스트 count 캐시 키
+    private static final String ORDER_SUMMARIES_COUNT_KEY = "order-summaries";
+
+    private final JPAQueryFactory queryFactory;
+    private final PageCountSupport pageCountSupport;
+
+    @Override
+    public Page<OrderSummary> findByCondition(OrderSearchCondition condition, Pageable pageable) {
+        var content = queryFactory
+                .selectFrom(orderSummary)
+                .where(eqMemberId(condition.getMemberId()),
+                        eqOrderId(condition.getOrderId()),
+                        containsMemberName(condition.getMemberName()),
+                        eqOrderStatus(condition.getStatus()),
+                        eqDeliveryStatus(condition.getDeliveryStatus()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(getSort(pageable))
+                .fetch();
+
+        var countQuery = queryFactory.select(orderSummary.count())
+                .from(orderSummary)
+                .where(eqMemberId(condition.getMemberId()),
+                        eqOrderId(condition.getOrderId()),
+                        containsMemberName(condition.getMemberName()),
+                        eqOrderStatus(condition.getStatus()),
+                        eqDeliveryStatus(condition.getDeliveryStatus()));
+
+        if (isUnfiltered(condition)) {
+            return pageCountSupport.cachedPage(ORDER_SUMMARIES_COUNT_KEY, content, pageable, countQuery);
+        }
+
+        return pageCountSupport.page(content, pageable, countQuery);
+    }
+
+    private boolean isUnfiltered(OrderSearchCondition condition) {
+        return condition.getMemberId() == null
+                && !StringUtils.hasText(condition.getMemberName())
+                && condition.getOrderId() == null
+                && condition.getStatus() == null
+                && condition.getDeliveryStatus() == null;
+    }
+
+    private BooleanExpression eqDeliveryStatus(DeliveryStatus deliveryStatus) {
+        return Objects.nonNull(deliveryStatus) ? orderSummary.deliveryStatus.eq(deliveryStatus) : null;
+    }
+
+    private BooleanExpression eqOrderStatus(OrderStatus status) {
+        return Objects.nonNull(status) ? orderSummary.status.eq(status) : null;
+    }
+
+    private BooleanExpression containsMemberName(String memberName) {
+        return StringUtils.hasText(memberName) ? orderSummary.memberUsername.containsIgnoreCase(memberName) : null;
+    }
+
+    private BooleanExpression eqMemberId(Long memberId) {
+        return Objects.nonNull(memberId) ? orderSummary.memberId.eq(memberId) : null;
+    }
+
+    private BooleanExpression eqOrderId(Long orderId) {
+        return Objects.nonNull(orderId) ? orderSummary.orderId.eq(orderId) : null;
+    }
+
+    // 주문 리스트(OrderRepositoryImpl)와 같은 정렬 속성명 사용
+    private OrderSpecifier<?> getSort(Pageable pageable) {
+        String property = null;
+        for (Sort.Order sortOrder : pageable.getSort()) {
+            com.querydsl.core.types.Order direction = sortOrder.getDirection().isAscending() ? com.querydsl.core.types.Order.ASC : com.querydsl.core.types.Order.DESC;
+            property = sortOrder.getProperty();
+            switch (property) {
+                case "id":
+                    return new OrderSpecifier<>(direction, orderSummary.orderId);
+                case "order.memberId":
+                    return new OrderSpecifier<>(direction, orderSummary.memberId);
+                case "order.username":
+                    return new OrderSpecifier<>(direction, orderSummary.memberUsername);
+                case "createdDate":
+                    return new OrderSpecifier<>(direction, orderSummary.orderedDate);
+            }
+        }
+
+        throw new BadRequestException("올바르지 않은 정렬 기준 속성입니다. property=" + property);
+    }
+}
@@ -0,0 +1,58 @@
+package jpabook.jpastore.domain.order.repository;
+
+import jpabook.jpastore.domain.order.OrderTicket;
+import jpabook.jpastore.domain.order.OrderTicketStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderTicketRepository extends JpaRepository<OrderTicket, Long> {
+
+    @EntityGraph(attributePaths = "items")
+    @Query("select t from OrderTicket t where t.id = :ticketId")
+    Optional<OrderTicket> findTicketWithItems(@Param("ticketId") Long ticketId);
+
+    @Query("select t.id from OrderTicket t where t.idempotencyKey = :idempotencyKey")
+    Optional<Long> findIdByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    // 처리 대기중인 티켓 id (접수 순)
+    @Query("select t.id from OrderTicket t where t.status = :status order by t.id")
+    List<Long> findTicketIdsByStatus(@Param("status") OrderTicketStatus status, Pageable pageable);
+
+    // 조건부 상태 변경 -> 여러 워커(노드)가 같은 티켓을 동시에 가져가지 않도록 선점 (선점 토큰 발급, 버전 증가)
+    @Modifying
+    @Query("update OrderTicket t set t.status = jpabook.jpastore.domain.order.OrderTicketStatus.PROCESSING," +
+            " t.claimToken = :claimToken, t.claimCount = t.claimCount + 1, t.version = t.version + 1, t.modifiedDate = :now" +
+            " where t.id = :ticketId and t.status = jpabook.jpastore.domain.order.OrderTicketStatus.PENDING")
+    int claim(@Param("ticketId") Long ticketId,
+              @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now);
+
+    // 처리 도중 중단된(노드 종료 등) 티켓을 다시 대기 상태로 -> 이전 워커의 토큰은 더 이상 유효하지 않음
+    @Modifying
+    @Query("update OrderTicket t set t.status = jpabook.jpastore.domain.order.OrderTicketStatus.PENDING," +
+            " t.claimToken = null, t.version = t.version + 1, t.modifiedDate = :now" +
+            " where t.status = jpabook.jpastore.domain.order.OrderTicketStatus.PROCESSING and t.modifiedDate < :before" +
+            " and t.claimCount < :maxClaims")
+    int requeueStaleTickets(@Param("before") LocalDateTime before,
+                            @Param("now") LocalDateTime now,
+                            @Param("maxClaims") int maxClaims);
+
+    // 선점 횟수를 모두 쓰고도 중단된 티켓은 실패 처리 (실패 기록도 실패해 계속 재등록되는 티켓 방지)
+    @Modifying
+    @Query("update OrderTicket t set t.status = jpabook.jpastore.domain.order.OrderTicketStatus.FAILED," +
+            " t.failureReason = :failureReason, t.claimToken = null, t.version = t.version + 1, t.modifiedDate = :now" +
+            " where t.status = jpabook.jpastore.domain.order.OrderTicketStatus.PROCESSING and t.modifiedDate < :before" +
+            " and t.claimCount >= :maxClaims")
+    int failExhaustedTickets(@Param("before") LocalDateTime before,
+                             @Param("now") LocalDateTime now,
+                             @Param("maxClaims") int maxClaims,
+                             @Param("failureReason") String failureReason);
+}
@@ -1,5 +1,6 @@
 package jpabook.jpastore.domain.order.repository.queryRepo;
 
+import jpabook.jpastore.common.utils.OneToManyAssembler;
 import jpabook.jpastore.domain.order.Order;
 import jpabook.jpastore.domain.order.repository.OrderQueryInfo;
 import lombok.RequiredArgsConstructor;
@@ -7,7 +8,6 @@ import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Repository
@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 public class OrderQueryRepository {
 
     private final EntityManager em;
+    private final OneToManyAssembler oneToManyAssembler;
 
     public Order findOrderWithMemberDelivery(Long orderId) {
         return em.createQuery("select o from Order o" +
@@ -79,7 +80,9 @@ public class OrderQueryRepository {
     public List<OrderQueryInfo.MainInfo> findOrderQueryDto_optimazation() {
         var result = getOrderInfos();
 
-        var orderItemMap = getOrderItemInfoMap(getOrderIds(result));
+        // 주문 id 청크별 IN 쿼리 (청크가 여러 개면 동시 조회)
+        var orderItemMap = oneToManyAssembler.assemble(getOrderIds(result), this::getOrderItemInfosByOrderIds,
+                OrderQueryInfo.OrderItemInfo::getOrderId);
 
         result.forEach(o -> o.setOrderItems(orderItemMap.get(o.getOrderId())));
 
@@ -90,23 +93,20 @@ public class OrderQueryRepository {
         return result.stream().map(OrderQueryInfo.MainInfo::getOrderId).collect(Collectors.toList());
     }
 
-    private Map<Long, List<OrderQueryInfo.OrderItemInfo>> getOrderItemInfoMap(List<Long> orderIds) {
-        List<OrderQueryInfo.OrderItemInfo> orderItems
-                = em.createQuery("select " +
+    private List<OrderQueryInfo.OrderItemInfo> getOrderItemInfosByOrderIds(List<Long> orderIds) {
+        return em.createQuery("select " +
                 "new jpabook.jpastore.domain.order.repository.OrderQueryInfo.OrderItemInfo(oi.order.id, i.name, oi.orderPrice, oi.quantity)" +
                 " from OrderItem oi" +
                 " join oi.item i" +
                 " where oi.order.id in :orderIds", OrderQueryInfo.OrderItemInfo.class)
                 .setParameter("orderIds", orderIds)
                 .getResultList();
-
-        return orderItems.stream().collect(Collectors.groupingBy(OrderQueryInfo.OrderItemInfo::getOrderId));
     }
 
     private List<OrderQueryInfo.MainInfo> getOrderInfos() {
         return em.createQuery(
                 "select" +
-                        " new jpabook.jpastore.domain.order.repository.OrderQueryInfo.MainInfo(o.id, m.username, o.createdDate, o.status, d.status, d.address)" +
+                        " new jpabook.jpastore.domain.order.repository.OrderQueryInfo.MainInfo(o.id, m.username, o.createdDate, o.status, d.status, o.totalPrice, o.itemCount, d.address)" +
                         " from Order o" +
                         " join o.member m" +
                         " join o.delivery d" , OrderQueryInfo.MainInfo.class)
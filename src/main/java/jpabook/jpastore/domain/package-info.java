@@ -0,0 +1,4 @@
+@FilterDef(name = SoftDelete.FILTER, defaultCondition = SoftDelete.CONDITION)
+package jpabook.jpastore.domain;
+
+import org.hibernate.annotations.FilterDef;
@@ -1,6 +1,8 @@
 package jpabook.jpastore.domain.review;
 
 import jpabook.jpastore.domain.BaseTimeEntity;
+import jpabook.jpastore.domain.IdGeneration;
+import jpabook.jpastore.domain.SoftDelete;
 import jpabook.jpastore.domain.item.Item;
 import jpabook.jpastore.domain.member.Member;
 import jpabook.jpastore.domain.member.Role;
@@ -8,6 +10,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.StringUtils;
 
 import javax.persistence.*;
@@ -16,12 +20,17 @@ import java.util.Objects;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_item_deleted", columnList = "item_id, is_deleted"),
+        @Index(name = "idx_reviews_member_deleted", columnList = "member_id, is_deleted")
+})
+@Filter(name = SoftDelete.FILTER)
 @Entity
 public class Review extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
     @Column(name = "review_id")
     private Long id;
 
@@ -1,5 +1,7 @@
 package jpabook.jpastore.domain.review.repository;
 
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.domain.review.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,4 +35,6 @@ public interface ReviewRepositoryCustom {
     List<Review> findAllByCondition(ReviewSearchCondition condition);
 
     Page<Review> findAllByCondition(ReviewSearchCondition condition, Pageable pageable);
+
+    CursorPage<Review> findAllByCondition(ReviewSearchCondition condition, CursorRequest cursorRequest);
 }
@@ -5,17 +5,24 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpastore.common.cursor.CursorPage;
+import jpabook.jpastore.common.cursor.CursorQuery;
+import jpabook.jpastore.common.cursor.CursorRequest;
+import jpabook.jpastore.common.cursor.CursorSortKey;
+import jpabook.jpastore.common.utils.PageCountSupport;
 import jpabook.jpastore.domain.review.Review;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static jpabook.jpastore.domain.item.QItem.item;
 import static jpabook.jpastore.domain.member.QMember.member;
@@ -25,14 +32,24 @@ import static jpabook.jpastore.domain.review.QReview.review;
 @RequiredArgsConstructor
 public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
+    // 커서 페이지 정렬 키 (pageSort 와 같은 속성명, 기본: 최신순)
+    private static final CursorQuery<Review> CURSOR_QUERY = new CursorQuery<>(review.id, Review::getId,
+            Sort.Direction.DESC,
+            CursorSortKey.of("createdDate", review.createdDate, Review::getCreatedDate, LocalDateTime::parse),
+            CursorSortKey.of("id", review.id, Review::getId, Long::valueOf),
+            CursorSortKey.of("member.username", member.username, (Review r) -> r.getMember().getUsername(), Function.identity()));
+
+    // 검색 조건 없는 전체 리스트 count 캐시 키
+    private static final String REVIEWS_COUNT_KEY = "reviews";
+
     private final JPAQueryFactory queryFactory;
+    private final PageCountSupport pageCountSupport;
 
     @Override
     public Optional<Review> findReviewById(Long reviewId) {
         return Optional.ofNullable(
                 queryFactory.selectFrom(review)
-                        .where(eqReviewId(reviewId),
-                                notDeleted())
+                        .where(eqReviewId(reviewId))
                         .fetchOne()
         );
     }
@@ -43,8 +60,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 queryFactory.selectFrom(review)
                         .innerJoin(review.member, member).fetchJoin()
                         .innerJoin(review.item, item).fetchJoin()
-                        .where(eqReviewId(reviewId),
-                                notDeleted())
+                        .where(eqReviewId(reviewId))
                         .fetchOne()
         );
     }
@@ -55,16 +71,15 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 = queryFactory.selectFrom(review)
                 .innerJoin(review.member, member).fetchJoin()
                 .innerJoin(review.item, item).fetchJoin()
-                .where(notDeleted())
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
                 .orderBy(pageSort(pageable))
                 .fetch();
 
-        JPAQuery<Review> countQuery = queryFactory
-                .selectFrom(review).where(notDeleted());
+        JPAQuery<Long> countQuery = queryFactory.select(review.count())
+                .from(review);
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+        return pageCountSupport.cachedPage(REVIEWS_COUNT_KEY, content, pageable, countQuery);
     }
 
     @Override
@@ -72,8 +87,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         return queryFactory.selectFrom(review)
                 .innerJoin(review.member, member).fetchJoin()
                 .innerJoin(review.item, item).fetchJoin()
-                .where(eqMemberId(memberId),
-                        notDeleted())
+                .where(eqMemberId(memberId))
                 .fetch();
     }
 
@@ -82,8 +96,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         return queryFactory.selectFrom(review)
                 .innerJoin(review.member, member).fetchJoin()
                 .innerJoin(review.item, item).fetchJoin()
-                .where(containsIgnoreCaseUsername(username),
-                        notDeleted())
+                .where(containsIgnoreCaseUsername(username))
                 .fetch();
     }
 
@@ -95,20 +108,19 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .innerJoin(review.member, member).fetchJoin()
                 .innerJoin(review.item, item).fetchJoin()
                 .where(eqMemberId(memberId),
-                        containsIgnoreCaseUsername(username),
-                        notDeleted())
+                        containsIgnoreCaseUsername(username))
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
                 .orderBy(pageSort(pageable))
                 .fetch();
 
-        JPAQuery<Review> countQuery = queryFactory.selectFrom(review)
+        JPAQuery<Long> countQuery = queryFactory.select(review.count())
+                .from(review)
                 .innerJoin(review.member, member)
                 .where(eqMemberId(memberId),
-                        containsIgnoreCaseUsername(username),
-                        notDeleted());
+                        containsIgnoreCaseUsername(username));
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+        return pageCountSupport.page(content, pageable, countQuery);
     }
 
     @Override
@@ -116,8 +128,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         return queryFactory.selectFrom(review)
                 .innerJoin(review.member, member).fetchJoin()
                 .innerJoin(review.item, item).fetchJoin()
-                .where(eqItemId(itemId),
-                        notDeleted())
+                .where(eqItemId(itemId))
                 .fetch();
     }
 
@@ -126,19 +137,18 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         List<Review> content = queryFactory.selectFrom(review)
                 .innerJoin(review.member, member).fetchJoin()
                 .innerJoin(review.item, item).fetchJoin()
-                .where(eqItemId(itemId),
-                        notDeleted())
+                .where(eqItemId(itemId))
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
                 .orderBy(pageSort(pageable))
                 .fetch();
 
-        JPAQuery<Review> countQuery = queryFactory.selectFrom(review)
+        JPAQuery<Long> countQuery = queryFactory.select(review.count())
+                .from(review)
                 .innerJoin(review.item, item)
-                .where(eqItemId(itemId),
-                        notDeleted());
+                .where(eqItemId(itemId));
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+        return pageCountSupport.page(content, pageable, countQuery);
     }
 
     @Override
@@ -148,8 +158,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .innerJoin(review.item, item).fetchJoin()
                 .where(eqMemberId(condition.getMemberId()),
                         containsIgnoreCaseUsername(condition.getUsername()),
-                        eqItemId(condition.getItemId()),
-                        notDeleted())
+                        eqItemId(condition.getItemId()))
                 .fetch();
     }
 
@@ -160,27 +169,43 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .innerJoin(review.item, item).fetchJoin()
                 .where(eqMemberId(condition.getMemberId()),
                         containsIgnoreCaseUsername(condition.getUsername()),
-                        eqItemId(condition.getItemId()),
-                        notDeleted())
+                        eqItemId(condition.getItemId()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(pageSort(pageable))
                 .fetch();
 
-        JPAQuery<Review> countQuery = queryFactory.selectFrom(review)
+        JPAQuery<Long> countQuery = queryFactory.select(review.count())
+                .from(review)
                 .innerJoin(review.member, member)
                 .innerJoin(review.item, item)
                 .where(eqMemberId(condition.getMemberId()),
                         containsIgnoreCaseUsername(condition.getUsername()),
-                        eqItemId(condition.getItemId()),
-                        notDeleted());
+                        eqItemId(condition.getItemId()));
 
+        if (condition.getMemberId() == null
+                && !StringUtils.hasText(condition.getUsername())
+                && condition.getItemId() == null) {
+            return pageCountSupport.cachedPage(REVIEWS_COUNT_KEY, content, pageable, countQuery);
+        }
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+        return pageCountSupport.page(content, pageable, countQuery);
     }
 
-    private BooleanExpression notDeleted() {
-        return review.isDeleted.eq(false);
+    @Override
+    public CursorPage<Review> findAllByCondition(ReviewSearchCondition condition, CursorRequest cursorRequest) {
+        List<Review> content = queryFactory.selectFrom(review)
+                .innerJoin(review.member, member).fetchJoin()
+                .innerJoin(review.item, item).fetchJoin()
+                .where(eqMemberId(condition.getMemberId()),
+                        containsIgnoreCaseUsername(condition.getUsername()),
+                        eqItemId(condition.getItemId()),
+                        CURSOR_QUERY.seek(cursorRequest))
+                .orderBy(CURSOR_QUERY.orderBy(cursorRequest))
+                .limit(CURSOR_QUERY.limit(cursorRequest))
+                .fetch();
+
+        return CURSOR_QUERY.page(content, cursorRequest);
     }
 
     private BooleanExpression eqReviewId(Long reviewId) {
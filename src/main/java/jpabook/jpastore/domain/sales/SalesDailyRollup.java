@@ -0,0 +1,56 @@
+package jpabook.jpastore.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 일별 매출 집계 (상품별/카테고리별/결제 수단별)
+ * 주문 생성/취소 원장(SalesLedger)을 주기적으로 증분 반영하고, 매출 조회는 주문 테이블 대신 이 테이블만 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sales_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_daily_rollups", columnNames = {"dimension", "dimension_key", "sales_date"}),
+        indexes = @Index(name = "idx_sales_daily_rollups_date", columnList = "dimension, sales_date"))
+@ToString
+@Entity
+public class SalesDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sales_daily_rollup_id")
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private SalesDimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 50)
+    private String dimensionKey; // 상품 id / 카테고리 id / 결제 수단
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "units_sold", nullable = false)
+    private long unitsSold;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    @Column(name = "canceled_order_count", nullable = false)
+    private long canceledOrderCount;
+
+    @Column(name = "canceled_units", nullable = false)
+    private long canceledUnits;
+
+    @Column(name = "canceled_revenue", nullable = false)
+    private long canceledRevenue;
+}
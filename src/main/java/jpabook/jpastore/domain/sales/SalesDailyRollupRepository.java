@@ -0,0 +1,63 @@
+package jpabook.jpastore.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesDailyRollupRepository extends JpaRepository<SalesDailyRollup, Long> {
+
+    // 집계 행이 없으면 생성, 있으면 증분만큼 더한다 (동시 주문에도 갱신 누락 없음)
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "insert into sales_daily_rollups (dimension, dimension_key, sales_date, order_count, units_sold, revenue," +
+            " canceled_order_count, canceled_units, canceled_revenue)" +
+            " values (:dimension, :dimensionKey, :salesDate, :orderCount, :unitsSold, :revenue," +
+            " :canceledOrderCount, :canceledUnits, :canceledRevenue)" +
+            " on duplicate key update" +
+            " order_count = order_count + :orderCount," +
+            " units_sold = units_sold + :unitsSold," +
+            " revenue = revenue + :revenue," +
+            " canceled_order_count = canceled_order_count + :canceledOrderCount," +
+            " canceled_units = canceled_units + :canceledUnits," +
+            " canceled_revenue = canceled_revenue + :canceledRevenue")
+    int upsert(@Param("dimension") String dimension,
+               @Param("dimensionKey") String dimensionKey,
+               @Param("salesDate") LocalDate salesDate,
+               @Param("orderCount") long orderCount,
+               @Param("unitsSold") long unitsSold,
+               @Param("revenue") long revenue,
+               @Param("canceledOrderCount") long canceledOrderCount,
+               @Param("canceledUnits") long canceledUnits,
+               @Param("canceledRevenue") long canceledRevenue);
+
+    @Query("select r from SalesDailyRollup r" +
+            " where r.dimension = :dimension and r.salesDate between :from and :to" +
+            " order by r.salesDate, r.dimensionKey")
+    List<SalesDailyRollup> findDaily(@Param("dimension") SalesDimension dimension,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    @Query("select r from SalesDailyRollup r" +
+            " where r.dimension = :dimension and r.dimensionKey = :dimensionKey and r.salesDate between :from and :to" +
+            " order by r.salesDate")
+    List<SalesDailyRollup> findDaily(@Param("dimension") SalesDimension dimension,
+                                     @Param("dimensionKey") String dimensionKey,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    @Query("select r.dimensionKey as dimensionKey," +
+            " sum(r.orderCount) as orderCount, sum(r.unitsSold) as unitsSold, sum(r.revenue) as revenue," +
+            " sum(r.canceledOrderCount) as canceledOrderCount, sum(r.canceledUnits) as canceledUnits," +
+            " sum(r.canceledRevenue) as canceledRevenue" +
+            " from SalesDailyRollup r" +
+            " where r.dimension = :dimension and r.salesDate between :from and :to" +
+            " group by r.dimensionKey" +
+            " order by sum(r.revenue) desc")
+    List<SalesRollupTotal> findTotals(@Param("dimension") SalesDimension dimension,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+}
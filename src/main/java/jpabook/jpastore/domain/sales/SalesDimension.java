@@ -0,0 +1,16 @@
+package jpabook.jpastore.domain.sales;
+
+import lombok.Getter;
+
+@Getter
+public enum SalesDimension {
+    ITEM("상품별"),
+    CATEGORY("카테고리별"),
+    PAY("결제 수단별");
+
+    private final String message;
+
+    SalesDimension(String message) {
+        this.message = message;
+    }
+}
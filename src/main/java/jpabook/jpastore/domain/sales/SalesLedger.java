@@ -0,0 +1,59 @@
+package jpabook.jpastore.domain.sales;
+
+import jpabook.jpastore.domain.IdGeneration;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 매출 집계 원장 (append-only)
+ * 주문 트랜잭션에서는 sales_daily_rollups 를 직접 갱신하지 않고 주문 생성/취소 기록만 INSERT 한다
+ * -> 같은 날짜/결제 수단/인기 상품의 집계 행 락에서 주문 트랜잭션끼리 직렬화되지 않는다.
+ * 원장은 주기적으로 집계 행에 합산된 뒤 삭제된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sales_ledgers")
+@ToString
+@Entity
+public class SalesLedger {
+
+    @Id
+    @GeneratedValue(generator = IdGeneration.GENERATOR)
+    @GenericGenerator(name = IdGeneration.GENERATOR, strategy = IdGeneration.STRATEGY)
+    @Column(name = "ledger_id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    @Column(name = "sales_date", nullable = false, updatable = false)
+    private LocalDate salesDate; // 주문일 or 취소일
+
+    @Column(nullable = false, updatable = false)
+    private boolean canceled;
+
+    //==생성 메서드==//
+    public static SalesLedger ordered(Long orderId, LocalDate orderedDate) {
+        return of(orderId, orderedDate, false);
+    }
+
+    public static SalesLedger canceled(Long orderId, LocalDate canceledDate) {
+        return of(orderId, canceledDate, true);
+    }
+
+    private static SalesLedger of(Long orderId, LocalDate salesDate, boolean canceled) {
+        var ledger = new SalesLedger();
+
+        ledger.orderId = orderId;
+        ledger.salesDate = salesDate;
+        ledger.canceled = canceled;
+
+        return ledger;
+    }
+}
@@ -0,0 +1,28 @@
+package jpabook.jpastore.domain.sales;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesLedgerRepository extends JpaRepository<SalesLedger, Long> {
+
+    // 반영 대상 락 조회 (원장 id 오름차순, pageable 크기만큼)
+    // SKIP LOCKED (lock timeout -2) -> 다른 노드가 반영 중인 원장은 기다리지 않고 건너뛴다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select l from SalesLedger l order by l.id")
+    List<SalesLedger> findForUpdate(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SalesLedger l where l.id in :ledgerIds")
+    int deleteByIds(@Param("ledgerIds") Collection<Long> ledgerIds);
+}
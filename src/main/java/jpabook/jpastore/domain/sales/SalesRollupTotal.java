@@ -0,0 +1,21 @@
+package jpabook.jpastore.domain.sales;
+
+/**
+ * 기간 매출 합계 (일별 집계를 dimension key 별로 합산한 결과)
+ */
+public interface SalesRollupTotal {
+
+    String getDimensionKey();
+
+    Long getOrderCount();
+
+    Long getUnitsSold();
+
+    Long getRevenue();
+
+    Long getCanceledOrderCount();
+
+    Long getCanceledUnits();
+
+    Long getCanceledRevenue();
+}
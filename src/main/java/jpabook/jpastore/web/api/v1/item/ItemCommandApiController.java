@@ -1,5 +1,7 @@
 package jpabook.jpastore.web.api.v1.item;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterators;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -12,6 +14,8 @@ import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
 import jpabook.jpastore.web.dto.item.ItemDto;
 import jpabook.jpastore.web.dto.item.ItemDtoMapper;
+import jpabook.jpastore.web.dto.item.ItemImportFormat;
+import jpabook.jpastore.web.validator.ItemImportRowValidator;
 import jpabook.jpastore.web.validator.ItemUpdateRequestValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +25,11 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 @Slf4j
@@ -43,6 +51,8 @@ public class ItemCommandApiController {
     private final ItemService itemService;
     private final ItemDtoMapper itemDtoMapper;
     private final ItemUpdateRequestValidator updateRequestValidator;
+    private final ItemImportRowValidator importRowValidator;
+    private final ObjectMapper objectMapper;
 
     @InitBinder
     public void initBinder(WebDataBinder binder) {
@@ -88,6 +98,26 @@ public class ItemCommandApiController {
     }
 
 
+    @Operation(summary = "상품 일괄 등록",
+            description = "CSV(첫 줄 헤더) 또는 NDJSON 요청 본문을 한 줄씩 읽어 상품을 일괄 등록하는 요청입니다." +
+                    " 필드: type(BOOK, ALBUM, DVD), name, price, stockQuantity, categoryId, author, isbn, artist, etc, director, actor." +
+                    " 오류가 있는 행은 건너뛰고 줄 번호와 사유를 응답합니다. 관리자 권한만 접근 가능합니다.")
+    @PostMapping("/import")
+    public ResponseEntity<?> importItems(@Parameter(name = "format", description = "요청 본문 형식 (csv, ndjson)", in = ParameterIn.QUERY) @RequestParam(name = "format", defaultValue = "csv") String format,
+                                         InputStream body) {
+        var importFormat = ItemImportFormat.of(format);
+        var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        // 행마다 상품 유형별 등록 요청과 같은 제약으로 검증 (위반 행은 error 를 담아 전달)
+        var rows = Iterators.transform(importFormat.rows(reader, objectMapper),
+                row -> itemDtoMapper.toCommand(importRowValidator.validate(row)));
+        var data = itemDtoMapper.toDto(itemService.importItems(rows));
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.IMPORT_ITEMS, data));
+    }
+
+
     @Operation(summary = "상품 정보 수정", description = "상품 정보 수정 요청입니다. 관리자 권한만 접근 가능합니다.")
     @PatchMapping("/{id}")
     public ResponseEntity<?> updateItemInfo(@Parameter(name = "id", description = "수정할 상품 id", in = ParameterIn.PATH, required = true) @PathVariable("id") Long id,
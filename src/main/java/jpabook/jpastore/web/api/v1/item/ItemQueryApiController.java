@@ -6,10 +6,13 @@ import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jpabook.jpastore.application.item.ItemCommand;
 import jpabook.jpastore.application.item.ItemService;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.common.response.ResponseMessage;
 import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.web.dto.item.ItemDto;
 import jpabook.jpastore.web.dto.item.ItemDtoMapper;
 import lombok.RequiredArgsConstructor;
@@ -81,20 +84,56 @@ public class ItemQueryApiController {
     }
 
 
-    @Operation(summary = "전체 상품 리스트 조회 (페이징/정렬/검색 기능 포함)", description = "페이징, 정렬, 검색(상품명/최소 금액/최대 금액) 기능을 포함한 상품 리스트 조회 요청입니다.")
+    @Operation(summary = "전체 상품 리스트 조회 (페이징/정렬/검색 기능 포함)", description = "페이징, 정렬, 검색(상품명/최소 금액/최대 금액) 기능을 포함한 상품 리스트 조회 요청입니다. facets=true 이면 같은 조건의 facet 을 함께 반환합니다.")
     @GetMapping("")
     public ResponseEntity<?> searchItemsPaging(@Parameter(name = "name", description = "검색할 상품명", in = ParameterIn.QUERY) @RequestParam(name = "name", required = false) String name,
                                                @Parameter(name = "minPrice", description = "상품 최소 금액(상품 가격 >= 최소 금액)", in = ParameterIn.QUERY) @RequestParam(name = "minPrice", required = false) Integer minPrice,
                                                @Parameter(name = "maxPrice", description = "상품 최대 금액(상품 가격 <= 최대 금액)", in = ParameterIn.QUERY) @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
+                                               @Parameter(name = "total", description = "전체 개수 조회 여부 (false: count 쿼리 생략, 무한 스크롤)", in = ParameterIn.QUERY) @RequestParam(name = "total", defaultValue = "true") boolean total,
+                                               @Parameter(name = "facets", description = "facet(상품 유형별/가격 구간별/카테고리별 상품 수) 포함 여부", in = ParameterIn.QUERY) @RequestParam(name = "facets", defaultValue = "false") boolean facets,
                                                @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
         var condition = ItemDto.SearchCondition.builder()
                 .name(name).minPrice(minPrice).maxPrice(maxPrice).build();
 
-        var data = itemService.items(itemDtoMapper.toCommand(condition), pageable)
+        var command = itemDtoMapper.toCommand(condition);
+        var items = itemService.items(command, PageRequestUtils.withTotal(pageable, total))
                 .map(itemDtoMapper::toDto);
 
+        Object data = facets ? withFacets(items, command) : items;
+
         return ResponseEntity.ok()
                 .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ITEMS, data));
     }
+
+    @Operation(summary = "전체 상품 리스트 커서 조회 (정렬/검색 기능 포함)", description = "offset 대신 커서(nextCursor)로 다음 페이지를 조회하는 상품 리스트 조회 요청입니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<?> searchItemsCursor(@Parameter(name = "name", description = "검색할 상품명", in = ParameterIn.QUERY) @RequestParam(name = "name", required = false) String name,
+                                               @Parameter(name = "minPrice", description = "상품 최소 금액(상품 가격 >= 최소 금액)", in = ParameterIn.QUERY) @RequestParam(name = "minPrice", required = false) Integer minPrice,
+                                               @Parameter(name = "maxPrice", description = "상품 최대 금액(상품 가격 <= 최대 금액)", in = ParameterIn.QUERY) @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
+                                               @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)", in = ParameterIn.QUERY) @RequestParam(name = "cursor", required = false) String cursor,
+                                               @Parameter(name = "facets", description = "facet(상품 유형별/가격 구간별/카테고리별 상품 수) 포함 여부", in = ParameterIn.QUERY) @RequestParam(name = "facets", defaultValue = "false") boolean facets,
+                                               @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        var condition = ItemDto.SearchCondition.builder()
+                .name(name).minPrice(minPrice).maxPrice(maxPrice).build();
+
+        var command = itemDtoMapper.toCommand(condition);
+        var items = itemService.items(command, CursorRequest.of(cursor, pageable))
+                .map(itemDtoMapper::toDto);
+
+        Object data = facets ? withFacets(items, command) : items;
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ITEMS, data));
+    }
+
+    // 목록 조회 결과에 같은 조건의 facet 을 붙인다 (count 쿼리 없이 메모리 색인에서 집계)
+    private <T> ItemDto.FacetedResponse<T> withFacets(T items, ItemCommand.SearchCondition command) {
+        var facets = itemService.facets(command)
+                .map(itemDtoMapper::toDto)
+                .orElse(null);
+
+        return new ItemDto.FacetedResponse<>(items, facets);
+    }
 }
@@ -7,9 +7,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jpabook.jpastore.application.member.MemberService;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.common.response.ResponseMessage;
 import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.domain.auth.AuthMember;
 import jpabook.jpastore.domain.membership.Grade;
 import jpabook.jpastore.web.dto.member.MemberDto;
@@ -90,9 +92,27 @@ public class MemberQueryApiController {
     @GetMapping("")
     public ResponseEntity<?> members(@Parameter(name = "username", description = "회원 로그인 ID(username)", in = ParameterIn.QUERY) @RequestParam(name = "username", required = false) String username,
                                      @Parameter(name = "grade", description = "회원 등급", in = ParameterIn.QUERY) @RequestParam(name = "grade", required = false) String grade,
+                                     @Parameter(name = "total", description = "전체 개수 조회 여부 (false: count 쿼리 생략, 무한 스크롤)", in = ParameterIn.QUERY) @RequestParam(name = "total", defaultValue = "true") boolean total,
                                      @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        var data = memberService.members(username, (StringUtils.hasText(grade)) ? Grade.valueOf(grade.toUpperCase()) : null, pageable)
+        var data = memberService.members(username, (StringUtils.hasText(grade)) ? Grade.valueOf(grade.toUpperCase()) : null,
+                        PageRequestUtils.withTotal(pageable, total))
+                .map(memberDtoMapper::toDto);
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_MEMBER, data));
+    }
+
+    @Operation(summary = "전체 회원 리스트 커서 조회 (정렬, 검색 기능 포함)", description = "offset 대신 커서(nextCursor)로 다음 페이지를 조회하는 회원 리스트 조회 요청입니다. **'관리자' 권한 접근 가능합니다.")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @GetMapping("/cursor")
+    public ResponseEntity<?> membersCursor(@Parameter(name = "username", description = "회원 로그인 ID(username)", in = ParameterIn.QUERY) @RequestParam(name = "username", required = false) String username,
+                                           @Parameter(name = "grade", description = "회원 등급", in = ParameterIn.QUERY) @RequestParam(name = "grade", required = false) String grade,
+                                           @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)", in = ParameterIn.QUERY) @RequestParam(name = "cursor", required = false) String cursor,
+                                           @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        var data = memberService.members(username, (StringUtils.hasText(grade)) ? Grade.valueOf(grade.toUpperCase()) : null,
+                        CursorRequest.of(cursor, pageable))
                 .map(memberDtoMapper::toDto);
 
         return ResponseEntity.ok()
@@ -6,7 +6,10 @@ import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.application.order.OrderIdempotencyHandler;
 import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.application.order.OrderTicketService;
 import jpabook.jpastore.common.response.ResponseMessage;
 import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
@@ -22,32 +25,43 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.net.URI;
+import java.util.stream.Collectors;
 
 @Slf4j
 @ApiResponses({
         @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "202", description = "ACCEPTED"),
         @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
         @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
         @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
         @ApiResponse(responseCode = "404", description = "NOT FOUND"),
         @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR")
 })
-@Tag(name = "주문 등록/취소 API", description = "주문 등록/취소 API 입니다. ** 인증된 회원 혹은 관리자 권한 접근 가능합니다! **")
+@Tag(name = "주문 등록/취소 API", description = "주문 등록/취소/배송 상태 변경 API 입니다. ** 인증된 회원 혹은 관리자 권한 접근 가능합니다! **")
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/orders")
 @RestController
 public class OrderCommandApiController {
 
     private final OrderService orderService;
+    private final OrderTicketService orderTicketService;
+    private final OrderIdempotencyHandler orderIdempotencyHandler;
     private final OrderDtoMapper orderDtoMapper;
 
 
-    @Operation(summary = "주문 등록", description = "새로운 주문을 생성하고 등록하는 요청입니다. ** 인증된 회원만 접근 가능합니다! **")
+    @Operation(summary = "주문 등록", description = "새로운 주문을 생성하고 등록하는 요청입니다. Idempotency-Key 헤더가 있으면 같은 키의 재요청은 처음 결과를 반환합니다. ** 인증된 회원만 접근 가능합니다! **")
     @PreAuthorize("isAuthenticated() and hasRole('ROLE_USER')")
     @PostMapping("")
-    public ResponseEntity<?> registerOrder(@Valid @RequestBody OrderDto.OrderRegisterReq request){
+    public ResponseEntity<?> registerOrder(@Valid @RequestBody OrderDto.OrderRegisterReq request,
+                                           @Parameter(name = "Idempotency-Key", description = "재시도 시 중복 주문 방지 키", in = ParameterIn.HEADER) @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                           @AuthenticationPrincipal AuthMember authMember){
 
-        Long registeredOrderId = orderService.order(orderDtoMapper.toCommand(request));
+        var command = orderDtoMapper.toCommand(request);
+
+        Long registeredOrderId = (idempotencyKey == null)
+                ? orderService.order(command)
+                : orderIdempotencyHandler.execute("order", idempotencyKey, authMember.getUsername(),
+                        command, recordKey -> orderService.order(command.withIdempotencyKey(recordKey)));
 
         var data = orderDtoMapper.toDto(registeredOrderId);
 
@@ -55,6 +69,27 @@ public class OrderCommandApiController {
                 .body(ResultResponse.res(StatusCode.OK, ResponseMessage.REGISTER_ORDER, data));
     }
 
+    @Operation(summary = "주문 비동기 접수", description = "주문 요청을 접수만 하고 바로 티켓 id 를 반환합니다(202). 처리 결과는 주문 접수 상태 조회로 확인합니다. ** 인증된 회원만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_USER')")
+    @PostMapping("/tickets")
+    public ResponseEntity<?> acceptOrder(@Valid @RequestBody OrderDto.OrderRegisterReq request,
+                                         @Parameter(name = "Idempotency-Key", description = "재시도 시 중복 접수 방지 키", in = ParameterIn.HEADER) @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                         @AuthenticationPrincipal AuthMember authMember){
+
+        var command = orderDtoMapper.toCommand(request);
+
+        Long ticketId = (idempotencyKey == null)
+                ? orderTicketService.accept(command)
+                : orderIdempotencyHandler.execute("order-ticket", idempotencyKey, authMember.getUsername(),
+                        command, recordKey -> orderTicketService.accept(command.withIdempotencyKey(recordKey)));
+
+        var data = orderDtoMapper.toTicketDto(ticketId);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/orders/tickets/" + ticketId))
+                .body(ResultResponse.res(StatusCode.ACCEPTED, ResponseMessage.ACCEPT_ORDER, data));
+    }
+
     @Operation(summary = "주문 취소", description = "주문 취소 요청입니다. ** 주문자 본인 또는 관리자 권한만 접근 가능합니다! **")
     @PreAuthorize("isAuthenticated() and hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @PostMapping("/{id}")
@@ -66,4 +101,40 @@ public class OrderCommandApiController {
         return ResponseEntity.ok()
                 .body(ResultResponse.res(StatusCode.OK, ResponseMessage.CANCEL_ORDER));
     }
+
+    @Operation(summary = "주문 일괄 취소",
+            description = "주문 id 리스트에 해당하는 주문을 일괄 취소하고 재고와 회원 누적 구매 금액을 복구하는 요청입니다." +
+                    " 존재하지 않거나 배송중/배송완료/이미 취소된 주문은 건너뜁니다. ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @PostMapping("/cancellations")
+    public ResponseEntity<?> cancelOrders(@Valid @RequestBody OrderDto.BulkCancelReq request) {
+
+        var data = orderDtoMapper.toDto(orderService.cancelOrders(request.getOrderIds()));
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.CANCEL_ORDERS, data));
+    }
+
+    @Operation(summary = "배송 상태 일괄 변경",
+            description = "주문 id 리스트(없으면 검색 조건)에 해당하는 주문의 배송 상태를 다음 단계로 일괄 변경하고 주문별 결과를 반환하는 요청입니다." +
+                    " ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @PostMapping("/delivery-status")
+    public ResponseEntity<?> changeDeliveryStatuses(@Valid @RequestBody OrderDto.DeliveryStatusBulkReq request) {
+
+        var results = (request.getOrderIds() != null && !request.getOrderIds().isEmpty())
+                ? orderService.changeDeliveryStatuses(request.getOrderIds(), request.getTargetStatus())
+                : orderService.changeDeliveryStatuses(OrderCommand.OrderSearchCondition.builder()
+                        .memberId(request.getMemberId())
+                        .status(request.getOrderStatus())
+                        .deliveryStatus(request.getCurrentStatus())
+                        .build(), request.getTargetStatus());
+
+        var data = new OrderDto.ListResponse<>(results.stream()
+                .map(orderDtoMapper::toDto)
+                .collect(Collectors.toList()));
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.UPDATED_DELIVERY_STATUS, data));
+    }
 }
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.application.order.OrderTicketService;
 import jpabook.jpastore.common.response.ResponseMessage;
 import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
@@ -39,6 +40,7 @@ import java.util.stream.Collectors;
 public class OrderQueryApiController {
 
     private final OrderService orderService;
+    private final OrderTicketService orderTicketService;
     private final OrderDtoMapper orderDtoMapper;
 
 
@@ -69,4 +71,15 @@ public class OrderQueryApiController {
         return ResponseEntity.ok()
                 .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ORDERS, data));
     }
+
+    @Operation(summary = "주문 접수 상태 조회", description = "비동기 접수한 주문의 처리 상태 조회 요청입니다. 처리 완료 시 생성된 주문 id 를 포함합니다. ** 접수한 회원 본인 또는 관리자 권한만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @GetMapping("/tickets/{id}")
+    public ResponseEntity<?> getOrderTicket(@PathVariable(name = "id") Long ticketId,
+                                            @AuthenticationPrincipal AuthMember authMember){
+        var data = orderDtoMapper.toDto(orderTicketService.getTicket(ticketId, authMember.getUsername()));
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ORDER_TICKET, data));
+    }
 }
@@ -8,9 +8,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jpabook.jpastore.application.review.ReviewService;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.common.response.ResponseMessage;
 import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.web.dto.review.ReviewDto;
 import jpabook.jpastore.web.dto.review.ReviewDtoMapper;
 import lombok.RequiredArgsConstructor;
@@ -76,13 +78,33 @@ public class ReviewQueryApiController {
     public ResponseEntity<?> reviewListPaging(@Parameter(name = "memberId", description = "작성자 회원 id", in = ParameterIn.QUERY) @RequestParam(name = "memberId", required = false) Long memberId,
                                               @Parameter(name = "username", description = "작성자 회원 로그인ID", in = ParameterIn.QUERY) @RequestParam(name = "username", required = false) String username,
                                               @Parameter(name = "itemId", description = "리뷰 작성한 상품 id", in = ParameterIn.QUERY) @RequestParam(name = "itemId", required = false) Long itemId,
+                                              @Parameter(name = "total", description = "전체 개수 조회 여부 (false: count 쿼리 생략, 무한 스크롤)", in = ParameterIn.QUERY) @RequestParam(name = "total", defaultValue = "true") boolean total,
                                               @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
         var condition = ReviewDto.SearchCondition.builder()
                 .memberId(memberId).username(username).itemId(itemId).build();
 
         var data
-                = reviewService.listReview(reviewDtoMapper.toCommand(condition), pageable)
+                = reviewService.listReview(reviewDtoMapper.toCommand(condition), PageRequestUtils.withTotal(pageable, total))
+                .map(reviewDtoMapper::toDto);
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_REVIEW, data));
+    }
+
+    @Operation(summary = "전체 리뷰 리스트 커서 조회(정렬, 검색 기능 포함)", description = "offset 대신 커서(nextCursor)로 다음 페이지를 조회하는 리뷰 리스트 조회 요청입니다")
+    @GetMapping("/cursor")
+    public ResponseEntity<?> reviewListCursor(@Parameter(name = "memberId", description = "작성자 회원 id", in = ParameterIn.QUERY) @RequestParam(name = "memberId", required = false) Long memberId,
+                                              @Parameter(name = "username", description = "작성자 회원 로그인ID", in = ParameterIn.QUERY) @RequestParam(name = "username", required = false) String username,
+                                              @Parameter(name = "itemId", description = "리뷰 작성한 상품 id", in = ParameterIn.QUERY) @RequestParam(name = "itemId", required = false) Long itemId,
+                                              @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)", in = ParameterIn.QUERY) @RequestParam(name = "cursor", required = false) String cursor,
+                                              @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        var condition = ReviewDto.SearchCondition.builder()
+                .memberId(memberId).username(username).itemId(itemId).build();
+
+        var data
+                = reviewService.listReview(reviewDtoMapper.toCommand(condition), CursorRequest.of(cursor, pageable))
                 .map(reviewDtoMapper::toDto);
 
         return ResponseEntity.ok()
@@ -0,0 +1,88 @@
+package jpabook.jpastore.web.api.v1.sales;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jpabook.jpastore.application.sales.SalesService;
+import jpabook.jpastore.common.exception.BadRequestException;
+import jpabook.jpastore.common.response.ResponseMessage;
+import jpabook.jpastore.common.response.ResultResponse;
+import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.domain.sales.SalesDimension;
+import jpabook.jpastore.web.dto.sales.SalesDtoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@Slf4j
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+        @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+        @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+        @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR")
+})
+@Tag(name = "매출 집계 조회 API", description = "일별 매출 집계(상품별/카테고리별/결제 수단별) 조회 API 입니다. ** 관리자 권한만 접근 가능합니다! **")
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/sales")
+@RestController
+public class SalesQueryApiController {
+
+    private final SalesService salesService;
+    private final SalesDtoMapper salesDtoMapper;
+
+    @Operation(summary = "일별 매출 집계 조회",
+            description = "기간 내 일별 매출 집계를 조회하는 요청입니다. key 를 지정하면 해당 상품/카테고리/결제 수단만 조회합니다." +
+                    " ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @GetMapping("/daily")
+    public ResponseEntity<?> dailySales(@Parameter(name = "dimension", description = "집계 기준 (item, category, pay)", in = ParameterIn.QUERY) @RequestParam(name = "dimension") String dimension,
+                                        @Parameter(name = "key", description = "상품 id / 카테고리 id / 결제 수단", in = ParameterIn.QUERY) @RequestParam(name = "key", required = false) String key,
+                                        @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        var data = salesService.dailySales(toDimension(dimension), key, from, to).stream()
+                .map(salesDtoMapper::toDto)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_SALES, data));
+    }
+
+    @Operation(summary = "기간 매출 합계 조회",
+            description = "기간 내 매출 집계를 상품/카테고리/결제 수단별로 합산해 매출 내림차순으로 조회하는 요청입니다." +
+                    " ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @GetMapping("/totals")
+    public ResponseEntity<?> totalSales(@Parameter(name = "dimension", description = "집계 기준 (item, category, pay)", in = ParameterIn.QUERY) @RequestParam(name = "dimension") String dimension,
+                                        @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        var data = salesService.totalSales(toDimension(dimension), from, to).stream()
+                .map(salesDtoMapper::toDto)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_SALES, data));
+    }
+
+    private SalesDimension toDimension(String dimension) {
+        return Arrays.stream(SalesDimension.values())
+                .filter(d -> d.name().equalsIgnoreCase(dimension))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 집계 기준입니다. dimension = " + dimension));
+    }
+}
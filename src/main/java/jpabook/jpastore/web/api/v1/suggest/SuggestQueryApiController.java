@@ -0,0 +1,52 @@
+package jpabook.jpastore.web.api.v1.suggest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jpabook.jpastore.application.suggest.SuggestService;
+import jpabook.jpastore.common.response.ResponseMessage;
+import jpabook.jpastore.common.response.ResultResponse;
+import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.web.dto.suggest.SuggestDtoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.stream.Collectors;
+
+@Slf4j
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+        @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR")
+})
+@Tag(name = "자동완성 API", description = "상품명/카테고리명 접두사 자동완성 API 입니다.")
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/suggestions")
+@RestController
+public class SuggestQueryApiController {
+
+    private final SuggestService suggestService;
+    private final SuggestDtoMapper suggestDtoMapper;
+
+    @Operation(summary = "상품명/카테고리명 자동완성",
+            description = "입력한 접두사로 시작하는 상품/카테고리를 최근 판매 수량 순으로 조회하는 요청입니다. (대소문자 무시)")
+    @GetMapping
+    public ResponseEntity<?> suggest(@Parameter(name = "q", description = "검색어 접두사", in = ParameterIn.QUERY) @RequestParam(name = "q") String query,
+                                     @Parameter(name = "size", description = "최대 건수 (기본/최대: 10)", in = ParameterIn.QUERY) @RequestParam(name = "size", required = false) Integer size) {
+
+        var data = suggestService.suggest(query, size).stream()
+                .map(suggestDtoMapper::toDto)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_SUGGESTIONS, data));
+    }
+}
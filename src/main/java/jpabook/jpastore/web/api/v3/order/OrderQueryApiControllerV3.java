@@ -8,6 +8,7 @@ import jpabook.jpastore.application.order.OrderService;
 import jpabook.jpastore.common.response.ResponseMessage;
 import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.web.dto.order.OrderDto;
 import jpabook.jpastore.web.dto.order.OrderDtoMapper;
 import lombok.RequiredArgsConstructor;
@@ -66,8 +67,9 @@ public class OrderQueryApiControllerV3 {
                     " ** 관리자 계정만 접근 가능합니다! **")
     @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
     @GetMapping("")
-    public ResponseEntity<?> orderListPaging(@PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
-        var data = orderService.listOrder(pageable).map(orderDtoMapper::toDto);
+    public ResponseEntity<?> orderListPaging(@RequestParam(name = "total", defaultValue = "true") boolean total,
+                                             @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+        var data = orderService.listOrder(PageRequestUtils.withTotal(pageable, total)).map(orderDtoMapper::toDto);
 
         return ResponseEntity.ok()
                 .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ORDERS, data));
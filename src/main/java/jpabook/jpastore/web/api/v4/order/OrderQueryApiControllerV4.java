@@ -1,27 +1,42 @@
 package jpabook.jpastore.web.api.v4.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.common.response.ResponseMessage;
 import jpabook.jpastore.common.response.ResultResponse;
 import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.common.utils.PageRequestUtils;
 import jpabook.jpastore.domain.order.DeliveryStatus;
 import jpabook.jpastore.domain.order.OrderStatus;
 import jpabook.jpastore.web.dto.order.OrderDto;
 import jpabook.jpastore.web.dto.order.OrderDtoMapper;
+import jpabook.jpastore.web.dto.order.OrderExportFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,6 +56,7 @@ public class OrderQueryApiControllerV4 {
 
     private final OrderService orderService;
     private final OrderDtoMapper orderDtoMapper;
+    private final ObjectMapper objectMapper;
 
     /**
      *  JPA에 DTO 바로 조회.
@@ -73,6 +89,7 @@ public class OrderQueryApiControllerV4 {
                                                @RequestParam(name = "orderId", required = false) Long orderId,
                                                @RequestParam(name = "status", required = false) String status,
                                                @RequestParam(name = "deliveryStatus", required = false) String deliveryStatus,
+                                               @RequestParam(name = "total", defaultValue = "true") boolean total,
                                                @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
         var condition = OrderDto.OrderSearchCondition.builder()
@@ -84,9 +101,85 @@ public class OrderQueryApiControllerV4 {
                 .build();
 
         var data
-                = orderService.listOrder(orderDtoMapper.toCommand(condition), pageable).map(orderDtoMapper::toDto);
+                = orderService.listOrder(orderDtoMapper.toCommand(condition), PageRequestUtils.withTotal(pageable, total)).map(orderDtoMapper::toDto);
 
         return ResponseEntity.ok()
                 .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ORDERS, data));
     }
+
+    @Operation(summary = "전체 주문 리스트 커서 조회(정렬, 검색 기능 포함)",
+            description = "offset 대신 커서(nextCursor)로 다음 페이지를 조회하는 주문 리스트 조회 요청입니다. 깊은 페이지도 일정한 속도로 조회됩니다." +
+                    " ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @GetMapping("/orders/cursor")
+    public ResponseEntity<?> ordersByConditionCursor(@RequestParam(name = "memberId", required = false) Long memberId,
+                                                     @RequestParam(name = "memberName", required = false) String memberName,
+                                                     @RequestParam(name = "orderId", required = false) Long orderId,
+                                                     @RequestParam(name = "status", required = false) String status,
+                                                     @RequestParam(name = "deliveryStatus", required = false) String deliveryStatus,
+                                                     @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)", in = ParameterIn.QUERY) @RequestParam(name = "cursor", required = false) String cursor,
+                                                     @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        var condition = OrderDto.OrderSearchCondition.builder()
+                .memberId(memberId)
+                .memberName(memberName)
+                .orderId(orderId)
+                .status((StringUtils.hasText(status) ? OrderStatus.valueOf(status.toUpperCase()) : null))
+                .deliveryStatus((StringUtils.hasText(deliveryStatus) ? DeliveryStatus.valueOf(deliveryStatus.toUpperCase()) : null))
+                .build();
+
+        var data = orderService.listOrder(orderDtoMapper.toCommand(condition), CursorRequest.of(cursor, pageable))
+                .map(orderDtoMapper::toDto);
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ORDERS, data));
+    }
+
+    /**
+     *  주문 내보내기 : 조회 결과를 리스트로 모으지 않고 한 건씩 응답에 바로 쓴다.
+     */
+    @Operation(summary = "주문 내보내기(NDJSON/CSV 스트리밍, 검색 기능 포함)",
+            description = "검색 조건에 맞는 주문을 NDJSON 또는 CSV 형식으로 내보내는 요청입니다. 주문 수와 상관없이 조회되는 대로 응답에 씁니다." +
+                    " ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @GetMapping("/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(name = "memberId", required = false) Long memberId,
+                                                              @RequestParam(name = "memberName", required = false) String memberName,
+                                                              @RequestParam(name = "orderId", required = false) Long orderId,
+                                                              @RequestParam(name = "status", required = false) String status,
+                                                              @RequestParam(name = "deliveryStatus", required = false) String deliveryStatus,
+                                                              @Parameter(name = "format", description = "내보내기 형식 (ndjson | csv)", in = ParameterIn.QUERY) @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+
+        var exportFormat = OrderExportFormat.of(format);
+
+        var condition = orderDtoMapper.toCommand(OrderDto.OrderSearchCondition.builder()
+                .memberId(memberId)
+                .memberName(memberName)
+                .orderId(orderId)
+                .status((StringUtils.hasText(status) ? OrderStatus.valueOf(status.toUpperCase()) : null))
+                .deliveryStatus((StringUtils.hasText(deliveryStatus) ? DeliveryStatus.valueOf(deliveryStatus.toUpperCase()) : null))
+                .build());
+
+        StreamingResponseBody body = outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            exportFormat.writeHeader(writer);
+
+            var exported = orderService.exportOrderSimpleInfos(condition, info -> {
+                try {
+                    exportFormat.writeRow(writer, objectMapper, orderDtoMapper.toDto(info));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+            log.info("exported orders. count = {}", exported);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.getFileName()).build().toString())
+                .body(body);
+    }
 }
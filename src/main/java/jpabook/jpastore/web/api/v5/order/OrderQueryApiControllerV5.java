@@ -0,0 +1,88 @@
+package jpabook.jpastore.web.api.v5.order;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.common.response.ResponseMessage;
+import jpabook.jpastore.common.response.ResultResponse;
+import jpabook.jpastore.common.response.StatusCode;
+import jpabook.jpastore.common.utils.PageRequestUtils;
+import jpabook.jpastore.domain.order.DeliveryStatus;
+import jpabook.jpastore.domain.order.OrderStatus;
+import jpabook.jpastore.web.dto.order.OrderDto;
+import jpabook.jpastore.web.dto.order.OrderDtoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+        @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+        @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+        @ApiResponse(responseCode = "404", description = "NOT FOUND"),
+        @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR")
+})
+@Tag(name = "주문 조회 v5 API", description = "주문 조회 모델(order_summaries)을 사용하는 주문 조회 v5 API 입니다. ** 관리자 권한만 접근 가능합니다! **")
+@RequiredArgsConstructor
+@RequestMapping("/api/v5/orders")
+@RestController
+public class OrderQueryApiControllerV5 {
+
+    private final OrderService orderService;
+    private final OrderDtoMapper orderDtoMapper;
+
+    /**
+     *  주문 조회 모델 조회 : 주문 변경 시 갱신되는 비정규화 테이블 하나만 읽는다. (join 없음)
+     */
+    @Operation(summary = "전체 주문 리스트 조회(페이징, 정렬, 검색 기능 포함): 주문 조회 모델 사용",
+            description = "주문/회원/배송/주문상품 정보를 미리 모아둔 주문 조회 모델에서 join 없이 주문 리스트를 조회하는 요청입니다." +
+                    " ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @GetMapping("")
+    public ResponseEntity<?> orderSummaries(@RequestParam(name = "memberId", required = false) Long memberId,
+                                            @RequestParam(name = "memberName", required = false) String memberName,
+                                            @RequestParam(name = "orderId", required = false) Long orderId,
+                                            @RequestParam(name = "status", required = false) String status,
+                                            @RequestParam(name = "deliveryStatus", required = false) String deliveryStatus,
+                                            @Parameter(name = "total", description = "전체 개수 조회 여부 (false: count 쿼리 생략, 무한 스크롤)", in = ParameterIn.QUERY) @RequestParam(name = "total", defaultValue = "true") boolean total,
+                                            @PageableDefault(size = 15, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        var condition = OrderDto.OrderSearchCondition.builder()
+                .memberId(memberId)
+                .memberName(memberName)
+                .orderId(orderId)
+                .status((StringUtils.hasText(status) ? OrderStatus.valueOf(status.toUpperCase()) : null))
+                .deliveryStatus((StringUtils.hasText(deliveryStatus) ? DeliveryStatus.valueOf(deliveryStatus.toUpperCase()) : null))
+                .build();
+
+        var data = orderService.listOrderSummary(orderDtoMapper.toCommand(condition), PageRequestUtils.withTotal(pageable, total))
+                .map(orderDtoMapper::toDto);
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.READ_ORDERS, data));
+    }
+
+    @Operation(summary = "주문 조회 모델 재생성",
+            description = "주문 테이블로부터 주문 조회 모델을 다시 생성하는 요청입니다. (조회 모델 도입 이전 주문 채우기)" +
+                    " ** 관리자 계정만 접근 가능합니다! **")
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @PostMapping("/summaries/rebuild")
+    public ResponseEntity<?> rebuildOrderSummaries() {
+        var rebuilt = orderService.rebuildOrderSummaries();
+
+        return ResponseEntity.ok()
+                .body(ResultResponse.res(StatusCode.OK, ResponseMessage.REBUILD_ORDER_SUMMARY, rebuilt));
+    }
+}
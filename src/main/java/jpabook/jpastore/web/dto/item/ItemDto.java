@@ -10,6 +10,7 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class ItemDto {
 
@@ -193,4 +194,74 @@ public class ItemDto {
         private Integer minPrice;
         private Integer maxPrice;
     }
+
+    @ToString
+    @Builder
+    @Getter
+    public static class FacetResponse {
+        private Long totalCount;
+        private Map<String, Long> typeCounts;
+        private List<PriceRangeResponse> priceRanges;
+        private Map<Long, Long> categoryCounts;
+    }
+
+    @ToString
+    @Builder
+    @Getter
+    public static class PriceRangeResponse {
+        private Integer minPrice;
+        private Integer maxPrice;
+        private Long count;
+    }
+
+    // 목록 조회 결과 + facet (facet 색인을 쓸 수 없으면 facets 는 null)
+    @ToString
+    @Getter
+    public static class FacetedResponse<T> {
+        private T items;
+        private FacetResponse facets;
+
+        public FacetedResponse(T items, FacetResponse facets) {
+            this.items = items;
+            this.facets = facets;
+        }
+    }
+
+    // 일괄 등록 한 행 (error: 형식 오류로 읽지 못한 행의 사유)
+    @ToString
+    @Builder
+    @Getter
+    public static class ImportRow {
+        private long rowNumber;
+        private String type;
+        private String name;
+        private Integer price;
+        private Integer stockQuantity;
+        private Long categoryId;
+        private String author;
+        private String isbn;
+        private String artist;
+        private String etc;
+        private String director;
+        private String actor;
+        private String error;
+    }
+
+    @ToString
+    @Builder
+    @Getter
+    public static class ImportResultResponse {
+        private Long totalRows;
+        private Long importedRows;
+        private Long failedRows;
+        private List<ImportErrorResponse> errors;
+    }
+
+    @ToString
+    @Builder
+    @Getter
+    public static class ImportErrorResponse {
+        private Long rowNumber;
+        private String message;
+    }
 }
@@ -26,6 +26,8 @@ public interface ItemDtoMapper {
 
     ItemCommand.SearchCondition toCommand(ItemDto.SearchCondition condition);
 
+    ItemCommand.ImportRow toCommand(ItemDto.ImportRow row);
+
     // INFO -> DTO
 
     ItemDto.RegisterSuccessResponse toDto(Long registeredItemId);
@@ -44,4 +46,12 @@ public interface ItemDtoMapper {
 
     @Mapping(target = "price", expression = "java(info.getPrice().getValue())")
     ItemDto.DvdItemInfoResponse toDto(ItemInfo.DvdItemInfo info);
+
+    ItemDto.FacetResponse toDto(ItemInfo.FacetInfo info);
+
+    ItemDto.PriceRangeResponse toDto(ItemInfo.PriceRangeCount info);
+
+    ItemDto.ImportResultResponse toDto(ItemInfo.ImportResult info);
+
+    ItemDto.ImportErrorResponse toDto(ItemInfo.ImportError info);
 }
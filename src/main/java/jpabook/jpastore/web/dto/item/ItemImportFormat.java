@@ -0,0 +1,215 @@
+package jpabook.jpastore.web.dto.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpastore.common.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * 상품 일괄 등록 형식 (한 줄에 상품 한 건, 요청 본문을 한 줄씩 읽는다)
+ * 필드: type(BOOK, ALBUM, DVD), name, price, stockQuantity, categoryId, author, isbn, artist, etc, director, actor
+ * 형식 오류가 있는 줄은 error 를 담은 행으로 반환해, 등록 결과에 줄 번호와 함께 보고한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ItemImportFormat {
+
+    NDJSON("application/x-ndjson") {
+        @Override
+        LineParser newParser(ObjectMapper objectMapper) {
+            return (lineNumber, line) -> {
+                try {
+                    var node = objectMapper.readTree(line);
+                    if (!node.isObject()) {
+                        return invalid(lineNumber, "JSON 객체가 아닙니다.");
+                    }
+
+                    Map<String, String> fields = new HashMap<>();
+                    node.fields().forEachRemaining(e -> {
+                        if (!e.getValue().isNull()) {
+                            fields.put(e.getKey(), e.getValue().asText());
+                        }
+                    });
+                    return toRow(lineNumber, fields);
+                } catch (JsonProcessingException e) {
+                    return invalid(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            };
+        }
+    },
+
+    // 첫 줄은 헤더 (필드명, 순서 무관), 값 안의 줄바꿈은 지원하지 않는다
+    CSV("text/csv") {
+        @Override
+        LineParser newParser(ObjectMapper objectMapper) {
+            return new LineParser() {
+                private List<String> header;
+
+                @Override
+                public ItemDto.ImportRow parse(long lineNumber, String line) {
+                    var values = csvFields(line);
+
+                    if (header == null) {
+                        header = values;
+                        return null;
+                    }
+
+                    if (values.size() != header.size()) {
+                        return invalid(lineNumber, "필드 수가 헤더와 다릅니다. expected = " + header.size() + ", actual = " + values.size());
+                    }
+
+                    Map<String, String> fields = new HashMap<>();
+                    for (int i = 0; i < header.size(); i++) {
+                        if (!values.get(i).isEmpty()) {
+                            fields.put(header.get(i).trim(), values.get(i));
+                        }
+                    }
+                    return toRow(lineNumber, fields);
+                }
+            };
+        }
+    };
+
+    private final String contentType;
+
+    // 한 줄 -> 행 (null: 건너뛰는 줄)
+    interface LineParser {
+        ItemDto.ImportRow parse(long lineNumber, String line);
+    }
+
+    abstract LineParser newParser(ObjectMapper objectMapper);
+
+    // 요청 본문을 한 줄씩 읽어 행으로 변환 (전체를 메모리에 올리지 않는다, 빈 줄은 건너뜀)
+    public Iterator<ItemDto.ImportRow> rows(BufferedReader reader, ObjectMapper objectMapper) {
+        var parser = newParser(objectMapper);
+
+        return new Iterator<>() {
+            private long lineNumber = 0;
+            private ItemDto.ImportRow next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    String line;
+                    try {
+                        line = reader.readLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+
+                    if (line == null) {
+                        return false;
+                    }
+
+                    lineNumber++;
+                    if (!line.isBlank()) {
+                        next = parser.parse(lineNumber, line);
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public ItemDto.ImportRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var row = next;
+                next = null;
+                return row;
+            }
+        };
+    }
+
+    public static ItemImportFormat of(String format) {
+        return Arrays.stream(values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 일괄 등록 형식입니다. format = " + format));
+    }
+
+    private static ItemDto.ImportRow toRow(long lineNumber, Map<String, String> fields) {
+        try {
+            return ItemDto.ImportRow.builder()
+                    .rowNumber(lineNumber)
+                    .type(fields.get("type"))
+                    .name(fields.get("name"))
+                    .price(intValue(fields, "price"))
+                    .stockQuantity(intValue(fields, "stockQuantity"))
+                    .categoryId(longValue(fields, "categoryId"))
+                    .author(fields.get("author"))
+                    .isbn(fields.get("isbn"))
+                    .artist(fields.get("artist"))
+                    .etc(fields.get("etc"))
+                    .director(fields.get("director"))
+                    .actor(fields.get("actor"))
+                    .build();
+        } catch (NumberFormatException e) {
+            return invalid(lineNumber, e.getMessage());
+        }
+    }
+
+    private static ItemDto.ImportRow invalid(long lineNumber, String error) {
+        return ItemDto.ImportRow.builder()
+                .rowNumber(lineNumber)
+                .error(error)
+                .build();
+    }
+
+    private static Integer intValue(Map<String, String> fields, String name) {
+        var value = fields.get(name);
+        try {
+            return value == null ? null : Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("숫자 형식이 아닙니다. " + name + " = " + value);
+        }
+    }
+
+    private static Long longValue(Map<String, String> fields, String name) {
+        var value = fields.get(name);
+        try {
+            return value == null ? null : Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("숫자 형식이 아닙니다. " + name + " = " + value);
+        }
+    }
+
+    // 쉼표 구분, 따옴표로 감싼 값 안의 쉼표와 "" (따옴표) 지원
+    private static List<String> csvFields(String line) {
+        List<String> fields = new ArrayList<>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        return fields;
+    }
+}
@@ -100,7 +100,7 @@ public class MemberDto {
     public static class MembershipInfoResponse {
         private Long membershipId;
         private Grade grade;
-        private Integer totalSpending;
+        private Long totalSpending;
     }
 
     @Getter
@@ -4,7 +4,6 @@ import jpabook.jpastore.application.member.MemberCommand;
 import jpabook.jpastore.application.member.MemberInfo;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(
@@ -28,7 +27,6 @@ public interface MemberDtoMapper {
 
     MemberDto.AddressInfoResponse toDto(MemberInfo.AddressInfo info);
 
-    @Mapping(target = "totalSpending", expression = "java(info.getTotalSpending().getValue())")
     MemberDto.MembershipInfoResponse toDto(MemberInfo.MembershipInfo info);
 
     MemberDto.MainInfoResponse toDto(MemberInfo.MainInfo info);
@@ -3,13 +3,12 @@ package jpabook.jpastore.web.dto.order;
 import jpabook.jpastore.domain.order.DeliveryStatus;
 import jpabook.jpastore.domain.order.OrderStatus;
 import jpabook.jpastore.domain.order.Pay;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.ToString;
+import lombok.*;
 import org.hibernate.validator.constraints.Range;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +50,37 @@ public class OrderDto {
         private Integer quantity;
     }
 
+    @ToString
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DeliveryStatusBulkReq {
+
+        // 주문 id 리스트 (없으면 검색 조건으로 대상 선정)
+        @Size(max = 10000)
+        private List<Long> orderIds;
+
+        private Long memberId;
+        private OrderStatus orderStatus;
+        private DeliveryStatus currentStatus;
+
+        @NotNull
+        private DeliveryStatus targetStatus;
+    }
+
+    @ToString
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkCancelReq {
+
+        @NotNull
+        @Size(min = 1, max = 10000)
+        private List<Long> orderIds;
+    }
+
     @ToString
     @Getter
     @Builder
@@ -58,6 +88,24 @@ public class OrderDto {
         private Long registeredOrderId;
     }
 
+    @ToString
+    @Getter
+    @Builder
+    public static class TicketAcceptedResponse {
+        private Long ticketId;
+    }
+
+    @ToString
+    @Getter
+    @Builder
+    public static class TicketInfoResponse {
+        private Long ticketId;
+        private String status;
+        private Long orderId;
+        private String failureReason;
+        private LocalDateTime acceptedDate;
+    }
+
     @ToString
     @Getter
     @Builder
@@ -80,9 +128,24 @@ public class OrderDto {
         private String orderStatus;
         private String deliveryStatus;
         private Integer totalPrice;
+        private Integer itemCount;
         private List<OrderItemInfoResponse> orderItems;
     }
 
+    @ToString
+    @Getter
+    @Builder
+    public static class SummaryResponse {
+        private Long orderId;
+        private String memberName;
+        private LocalDateTime orderedDate;
+        private String orderStatus;
+        private String deliveryStatus;
+        private Integer itemCount;
+        private Integer totalPrice;
+        private AddressInfoResponse address;
+    }
+
     @ToString
     @Getter
     @Builder
@@ -92,6 +155,25 @@ public class OrderDto {
         private Integer quantity;
     }
 
+    @ToString
+    @Getter
+    @Builder
+    public static class DeliveryChangeResultResponse {
+        private Long orderId;
+        private String result;
+        private String before;
+        private String after;
+    }
+
+    @ToString
+    @Getter
+    @Builder
+    public static class BulkCancelResponse {
+        private List<Long> canceledOrderIds;
+        private List<Long> skippedOrderIds;
+        private int restoredQuantity;
+    }
+
     @ToString
     @Getter
     @Builder
@@ -17,6 +17,7 @@ public interface OrderDtoMapper {
 
     // DTO -> COMMAND
 
+    @Mapping(target = "idempotencyKey", ignore = true)
     OrderCommand.OrderRegisterReq toCommand(OrderDto.OrderRegisterReq request);
 
     OrderCommand.OrderItemRegisterReq toCommand(OrderDto.OrderItemRegisterReq request);
@@ -27,8 +28,18 @@ public interface OrderDtoMapper {
 
     OrderDto.RegisterSuccessResponse toDto(Long registeredOrderId);
 
+    OrderDto.TicketAcceptedResponse toTicketDto(Long ticketId);
+
+    OrderDto.TicketInfoResponse toDto(OrderInfo.TicketInfo info);
+
     OrderDto.SimpleInfoResponse toDto(OrderInfo.SimpleInfo info);
 
+    OrderDto.SummaryResponse toDto(OrderInfo.SummaryInfo info);
+
+    OrderDto.DeliveryChangeResultResponse toDto(OrderInfo.DeliveryChangeResult info);
+
+    OrderDto.BulkCancelResponse toDto(OrderInfo.BulkCancelResult info);
+
 
     @Mapping(target = "totalPrice", expression = "java(info.getTotalPrice().getValue())")
     OrderDto.MainInfoResponse toDto(OrderInfo.MainInfo info);
@@ -43,7 +54,7 @@ public interface OrderDtoMapper {
 
     // QUERY INFO -> DTO
 
-    @Mapping(target = "totalPrice", ignore = true)
+    @Mapping(target = "totalPrice", expression = "java(queryInfo.getTotalPrice().getValue())")
     @Mapping(target = "orderStatus", expression = "java(queryInfo.getOrderStatus().getMessage())")
     @Mapping(target = "deliveryStatus", expression = "java(queryInfo.getDeliveryStatus().getMessage())")
     OrderDto.MainInfoResponse toDto(OrderQueryInfo.MainInfo queryInfo);
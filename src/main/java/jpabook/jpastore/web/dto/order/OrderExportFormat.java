@@ -0,0 +1,82 @@
+package jpabook.jpastore.web.dto.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpastore.common.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주문 내보내기 형식 (한 줄에 주문 한 건)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderExportFormat {
+
+    NDJSON("application/x-ndjson", "orders.ndjson") {
+        @Override
+        public void writeHeader(Writer writer) {
+        }
+
+        @Override
+        public void writeRow(Writer writer, ObjectMapper objectMapper, OrderDto.SimpleInfoResponse row) throws IOException {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    },
+
+    CSV("text/csv", "orders.csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write("orderId,memberName,orderedDate,orderStatus,deliveryStatus,city,street,zipcode\n");
+        }
+
+        @Override
+        public void writeRow(Writer writer, ObjectMapper objectMapper, OrderDto.SimpleInfoResponse row) throws IOException {
+            var address = row.getAddress();
+
+            writer.write(Stream.of(row.getOrderId(), row.getMemberName(), row.getOrderedDate(),
+                            row.getOrderStatus(), row.getDeliveryStatus(),
+                            address == null ? null : address.getCity(),
+                            address == null ? null : address.getStreet(),
+                            address == null ? null : address.getZipcode())
+                    .map(OrderExportFormat::csvField)
+                    .collect(Collectors.joining(",")));
+            writer.write('\n');
+        }
+    };
+
+    private final String contentType;
+    private final String fileName;
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void writeRow(Writer writer, ObjectMapper objectMapper, OrderDto.SimpleInfoResponse row) throws IOException;
+
+    public static OrderExportFormat of(String format) {
+        return Arrays.stream(values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 내보내기 형식입니다. format = " + format));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싼다
+    private static String csvField(Object value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+
+        var field = value.toString();
+        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+
+        return field;
+    }
+}
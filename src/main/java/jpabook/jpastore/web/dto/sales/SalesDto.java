@@ -0,0 +1,38 @@
+package jpabook.jpastore.web.dto.sales;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+public class SalesDto {
+
+    @ToString
+    @Getter
+    @Builder
+    public static class DailyResponse {
+        private LocalDate salesDate;
+        private String dimension;
+        private String dimensionKey;
+        private Long orderCount;
+        private Long unitsSold;
+        private Long revenue;
+        private Long canceledOrderCount;
+        private Long canceledUnits;
+        private Long canceledRevenue;
+    }
+
+    @ToString
+    @Getter
+    @Builder
+    public static class TotalResponse {
+        private String dimensionKey;
+        private Long orderCount;
+        private Long unitsSold;
+        private Long revenue;
+        private Long canceledOrderCount;
+        private Long canceledUnits;
+        private Long canceledRevenue;
+    }
+}
@@ -0,0 +1,20 @@
+package jpabook.jpastore.web.dto.sales;
+
+import jpabook.jpastore.application.sales.SalesInfo;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+        componentModel = "spring",
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface SalesDtoMapper {
+
+    // INFO -> DTO
+
+    SalesDto.DailyResponse toDto(SalesInfo.DailyInfo info);
+
+    SalesDto.TotalResponse toDto(SalesInfo.TotalInfo info);
+}
@@ -0,0 +1,18 @@
+package jpabook.jpastore.web.dto.suggest;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+public class SuggestDto {
+
+    @ToString
+    @Getter
+    @Builder
+    public static class SuggestionResponse {
+        private String type;
+        private Long id;
+        private String name;
+        private Long weight;
+    }
+}
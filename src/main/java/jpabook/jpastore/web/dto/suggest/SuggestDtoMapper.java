@@ -0,0 +1,18 @@
+package jpabook.jpastore.web.dto.suggest;
+
+import jpabook.jpastore.application.suggest.SuggestInfo;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+        componentModel = "spring",
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface SuggestDtoMapper {
+
+    // INFO -> DTO
+
+    SuggestDto.SuggestionResponse toDto(SuggestInfo.Suggestion info);
+}
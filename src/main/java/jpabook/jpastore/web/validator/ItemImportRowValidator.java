@@ -0,0 +1,82 @@
+package jpabook.jpastore.web.validator;
+
+import jpabook.jpastore.web.dto.item.ItemDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 일괄 등록 행 검증
+ * 행을 상품 유형별 등록 요청 DTO 로 바꿔 단건 등록(@Valid)과 같은 제약으로 검증하고, 위반 사유를 행의 error 에 담는다.
+ * 카테고리 존재 여부는 서비스에서 확인한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ItemImportRowValidator {
+
+    private final Validator validator;
+
+    // 정상이면 그대로, 위반이 있으면 error 를 담은 행
+    public ItemDto.ImportRow validate(ItemDto.ImportRow row) {
+        if (row.getError() != null) {
+            return row;
+        }
+
+        var request = toRegisterReq(row);
+        if (request == null) {
+            return invalid(row, "지원하지 않는 상품 유형입니다. type = " + row.getType());
+        }
+
+        var violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return row;
+        }
+
+        return invalid(row, violations.stream()
+                .map(ItemImportRowValidator::describe)
+                .sorted()
+                .collect(Collectors.joining(", ")));
+    }
+
+    private static Object toRegisterReq(ItemDto.ImportRow row) {
+        var type = row.getType() == null ? "" : row.getType().toUpperCase(Locale.ROOT);
+        int price = Objects.requireNonNullElse(row.getPrice(), 0);
+        int stockQuantity = Objects.requireNonNullElse(row.getStockQuantity(), 0);
+
+        switch (type) {
+            case "BOOK":
+                return ItemDto.BookItemRegisterReq.builder()
+                        .name(row.getName()).price(price).stockQuantity(stockQuantity).categoryId(row.getCategoryId())
+                        .author(row.getAuthor()).isbn(row.getIsbn())
+                        .build();
+            case "ALBUM":
+                return ItemDto.AlbumItemRegisterReq.builder()
+                        .name(row.getName()).price(price).stockQuantity(stockQuantity).categoryId(row.getCategoryId())
+                        .artist(row.getArtist()).etc(row.getEtc())
+                        .build();
+            case "DVD":
+                return ItemDto.DvdItemRegisterReq.builder()
+                        .name(row.getName()).price(price).stockQuantity(stockQuantity).categoryId(row.getCategoryId())
+                        .director(row.getDirector()).actor(row.getActor())
+                        .build();
+            default:
+                return null;
+        }
+    }
+
+    private static String describe(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private static ItemDto.ImportRow invalid(ItemDto.ImportRow row, String error) {
+        return ItemDto.ImportRow.builder()
+                .rowNumber(row.getRowNumber())
+                .error(error)
+                .build();
+    }
+}
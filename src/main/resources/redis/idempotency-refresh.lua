@@ -0,0 +1,9 @@
+-- Idempotency-Key 처리 중 표시 만료 시간 연장 (자신이 남긴 표시일 때만)
+-- KEYS[1] : IDEMPOTENCY:{scope}:{username}:{key}
+-- ARGV[1] : 처리 중 표시 값 ({fingerprint}:PENDING:{owner})
+-- ARGV[2] : 만료 시간 (ms)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+return 0
@@ -0,0 +1,9 @@
+-- Idempotency-Key 처리 중 표시 삭제 (자신이 남긴 표시일 때만)
+-- KEYS[1] : IDEMPOTENCY:{scope}:{username}:{key}
+-- ARGV[1] : 처리 중 표시 값 ({fingerprint}:PENDING:{owner})
+-- 처리 중 표시가 만료되어 다른 요청이 다시 선점했다면 그 표시는 남겨둔다.
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
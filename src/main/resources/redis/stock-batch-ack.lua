@@ -0,0 +1,12 @@
+-- DB 반영(커밋)이 끝난 배치 삭제
+-- KEYS[1] : 반영 중인 배치 변경량 hash (stock:batch)
+-- KEYS[2] : 반영 중인 배치 id (stock:batch-id)
+-- ARGV[1] : 반영한 배치 id
+-- return  : 1 = 삭제, 0 = 이미 확인 처리된 배치
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1], KEYS[2])
+
+return 1
@@ -0,0 +1,22 @@
+-- DB 반영할 재고 변경량 배치 준비
+-- KEYS[1] : DB 미반영 재고 변경량 hash (stock:pending)
+-- KEYS[2] : 반영 중인 배치 변경량 hash (stock:batch)
+-- KEYS[3] : 반영 중인 배치 id (stock:batch-id)
+-- KEYS[4] : 배치 순번 (stock:batch-seq)
+-- return  : 배치 id (0 = 반영할 변경량 없음)
+-- 확인 처리되지 않은 배치가 남아 있으면 새 배치를 만들지 않고 그 배치를 다시 반영한다.
+local current = redis.call('GET', KEYS[3])
+if current then
+    return tonumber(current)
+end
+
+if redis.call('HLEN', KEYS[1]) == 0 then
+    return 0
+end
+
+-- 미반영 변경량을 통째로 배치로 옮긴다 -> 이후 예약/반환은 새 pending hash 에 쌓인다
+local batchId = redis.call('INCR', KEYS[4])
+redis.call('RENAME', KEYS[1], KEYS[2])
+redis.call('SET', KEYS[3], batchId)
+
+return batchId
@@ -0,0 +1,28 @@
+-- DB 재고값으로 Redis 재고 key 초기화 (key 가 없을 때만)
+-- KEYS[1] : DB 미반영 재고 변경량 hash (stock:pending)
+-- KEYS[2] : 상품 재고 key (stock:{itemId})
+-- KEYS[3] : 반영 중인 배치 변경량 hash (stock:batch)
+-- KEYS[4] : 반영 중인 배치 id (stock:batch-id)
+-- KEYS[5] : 배치 순번 (stock:batch-seq)
+-- ARGV[1] : 상품 id
+-- ARGV[2] : DB 재고 수량 (새 트랜잭션에서 읽은 커밋된 값)
+-- ARGV[3] : DB 를 읽기 전 확인한 배치 순번 (없으면 '')
+-- ARGV[4] : DB 를 읽기 전 확인한 반영 중인 배치 id (없으면 '')
+-- ARGV[5] : DB 를 읽은 시점에 그 배치가 이미 반영되어 있었는지 (1 / 0)
+-- return  : 1 = 초기화, 0 = 이미 key 있음, -3 = DB 를 읽는 사이 배치가 바뀜(다시 읽어야 함)
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+
+-- DB 를 읽는 동안 배치가 새로 만들어지거나 확인 처리되면, 읽은 DB 값에 어떤 변경량이 반영됐는지 알 수 없다
+if (redis.call('GET', KEYS[5]) or '') ~= ARGV[3] or (redis.call('GET', KEYS[4]) or '') ~= ARGV[4] then
+    return -3
+end
+
+local pending = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+if ARGV[5] ~= '1' then
+    pending = pending + tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0')
+end
+redis.call('SET', KEYS[2], tonumber(ARGV[2]) - pending)
+
+return 1
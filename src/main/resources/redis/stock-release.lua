@@ -0,0 +1,12 @@
+-- 예약 재고 반환 (주문 롤백 / 주문 취소)
+-- KEYS, ARGV 구성은 stock-reserve.lua 와 동일
+-- 재고 key 가 없는 경우(Redis 재시작 등) 다음 로딩 시 DB 값 기준으로 계산되므로 미반영 변경량만 반영한다.
+for i = 2, #KEYS do
+    local quantity = tonumber(ARGV[(i - 1) * 2])
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('INCRBY', KEYS[i], quantity)
+    end
+    redis.call('HINCRBY', KEYS[1], ARGV[(i - 1) * 2 - 1], -quantity)
+end
+
+return 1
@@ -0,0 +1,23 @@
+-- 주문 상품 재고 일괄 예약 (모든 상품의 재고가 충분할 때만 차감)
+-- KEYS[1]     : DB 미반영 재고 변경량 hash (stock:pending)
+-- KEYS[2..n]  : 상품별 재고 key (stock:{itemId})
+-- ARGV[2i-1]  : KEYS[i+1] 상품 id
+-- ARGV[2i]    : KEYS[i+1] 차감 수량
+-- return      : 1 = 예약 성공, -1 = 재고 key 없음(DB 로딩 필요), -2 = 재고 부족
+for i = 2, #KEYS do
+    local stock = redis.call('GET', KEYS[i])
+    if not stock then
+        return -1
+    end
+    if tonumber(stock) < tonumber(ARGV[(i - 1) * 2]) then
+        return -2
+    end
+end
+
+for i = 2, #KEYS do
+    local quantity = tonumber(ARGV[(i - 1) * 2])
+    redis.call('DECRBY', KEYS[i], quantity)
+    redis.call('HINCRBY', KEYS[1], ARGV[(i - 1) * 2 - 1], quantity)
+end
+
+return 1
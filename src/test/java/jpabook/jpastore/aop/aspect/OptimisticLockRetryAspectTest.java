@@ -0,0 +1,103 @@
+package jpabook.jpastore.aop.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.domain.item.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("낙관적 락 재시도 aspect 테스트")
+class OptimisticLockRetryAspectTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderService target;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = mock(OrderService.class);
+
+        // 백오프 0 -> 테스트에서 대기하지 않음
+        var factory = new AspectJProxyFactory(target);
+        factory.addAspect(new OptimisticLockRetryAspect(meterRegistry, MAX_ATTEMPTS, 0, 0, 2.0, 0.5));
+        orderService = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("[성공][aop] 버전 충돌 시 주문을 다시 실행")
+    void givenConflictTwice_whenOrder_thenRetryAndReturnOrderId() {
+        //given
+        when(target.order(any()))
+                .thenThrow(conflict())
+                .thenThrow(conflict())
+                .thenReturn(1L);
+
+        //when
+        var orderId = orderService.order(OrderCommand.OrderRegisterReq.builder().build());
+
+        //then
+        assertThat(orderId).isEqualTo(1L);
+        verify(target, times(3)).order(any());
+        assertThat(meterRegistry.counter("order.stock.optimistic.conflicts").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("order.stock.optimistic.retry.exhausted").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("[실패][aop] 최대 시도 횟수를 넘으면 충돌 예외를 그대로 던짐")
+    void givenConflictEveryTime_whenOrder_thenGiveUpAfterMaxAttempts() {
+        //given
+        when(target.order(any())).thenThrow(conflict());
+
+        //when, then
+        assertThatThrownBy(() -> orderService.order(OrderCommand.OrderRegisterReq.builder().build()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(target, times(MAX_ATTEMPTS)).order(any());
+        assertThat(meterRegistry.counter("order.stock.optimistic.retry.exhausted").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패][aop] 바깥 트랜잭션 안에서는 재시도하지 않음")
+    void givenActualTransactionActive_whenConflict_thenNoRetry() {
+        //given
+        when(target.order(any())).thenThrow(conflict());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        try {
+            //when, then
+            assertThatThrownBy(() -> orderService.order(OrderCommand.OrderRegisterReq.builder().build()))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            verify(target, times(1)).order(any());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("[실패][aop] 충돌이 아닌 예외는 재시도하지 않음")
+    void givenOtherException_whenOrder_thenNoRetry() {
+        //given
+        when(target.order(any())).thenThrow(new IllegalStateException("재고 수량이 부족합니다."));
+
+        //when, then
+        assertThatThrownBy(() -> orderService.order(OrderCommand.OrderRegisterReq.builder().build()))
+                .isInstanceOf(IllegalStateException.class);
+        verify(target, times(1)).order(any());
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Item.class, 1L);
+    }
+}
@@ -0,0 +1,134 @@
+package jpabook.jpastore.application.item;
+
+import jpabook.jpastore.application.category.CategoryService;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 facet 색인 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Import(TestDBConfig.class)
+@SpringBootTest(properties = {"jpastore.item.facet.enabled=true", "jpastore.item.name-index.enabled=true"})
+class ItemFacetIndexTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ItemFacetIndex itemFacetIndex;
+
+    @Autowired
+    private ItemNameIndex itemNameIndex;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        itemNameIndex.rebuild(); // 테스트 데이터는 SQL 로 넣으므로 직접 재생성 (상품명 조건은 상품명 색인 후보로 집계)
+        itemFacetIndex.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @DisplayName("[성공][service] 조건 없는 상품 목록 facet -> 유형별/가격 구간별/카테고리별 상품 수")
+    @Test
+    void givenNoCondition_whenFacets_thenReturnsAllCounts() {
+        //given
+        var condition = ItemCommand.SearchCondition.builder().build();
+
+        //when
+        var facets = itemService.facets(condition).orElseThrow();
+
+        //then
+        assertThat(facets.getTotalCount()).isEqualTo(9L);
+        assertThat(facets.getTypeCounts()).isEqualTo(Map.of("BOOK", 3L, "ALBUM", 4L, "DVD", 2L));
+        assertThat(facets.getPriceRanges()).extracting(ItemInfo.PriceRangeCount::getCount)
+                .containsExactly(0L, 4L, 4L, 1L, 0L); // 0~1만, 1만~2만, 2만~3만, 3만~5만, 5만~
+        assertThat(facets.getCategoryCounts()).isEqualTo(Map.of(6L, 2L, 7L, 1L, 11L, 1L, 12L, 2L));
+    }
+
+    @DisplayName("[성공][service] 검색 조건 facet -> 가격 구간은 가격 조건을 제외하고 집계")
+    @Test
+    void givenNameAndPriceCondition_whenFacets_thenReturnsFilteredCounts() {
+        //given
+        var condition = ItemCommand.SearchCondition.builder().name("BOOK").maxPrice(15000).build();
+
+        //when
+        var facets = itemService.facets(condition).orElseThrow();
+
+        //then
+        assertThat(facets.getTotalCount()).isEqualTo(2L); // book1, book2
+        assertThat(facets.getTypeCounts()).isEqualTo(Map.of("BOOK", 2L));
+        assertThat(facets.getPriceRanges()).extracting(ItemInfo.PriceRangeCount::getCount)
+                .containsExactly(0L, 3L, 0L, 0L, 0L); // book1, book2, book3
+        assertThat(facets.getCategoryCounts()).isEqualTo(Map.of(6L, 2L));
+    }
+
+    @DisplayName("[성공][service] 가격 조건만 있는 facet -> 가격 범위의 상품만 집계, 가격 구간은 전체 집계")
+    @Test
+    void givenPriceCondition_whenFacets_thenCountsOnlyPriceRange() {
+        //given
+        var condition = ItemCommand.SearchCondition.builder().minPrice(20000).build();
+
+        //when
+        var facets = itemService.facets(condition).orElseThrow();
+
+        //then
+        assertThat(facets.getTotalCount()).isEqualTo(5L); // 2만~3만 4건 + 3만~5만 1건 (경계값 포함)
+        assertThat(facets.getPriceRanges()).extracting(ItemInfo.PriceRangeCount::getCount)
+                .containsExactly(0L, 4L, 4L, 1L, 0L);
+    }
+
+    @DisplayName("[성공][service] 최소 가격이 최대 가격보다 크면 일치하는 상품 없음")
+    @Test
+    void givenInvertedPriceRange_whenFacets_thenNoMatches() {
+        //given
+        var condition = ItemCommand.SearchCondition.builder().minPrice(30000).maxPrice(10000).build();
+
+        //when
+        var facets = itemService.facets(condition).orElseThrow();
+
+        //then
+        assertThat(facets.getTotalCount()).isZero();
+        assertThat(facets.getTypeCounts()).isEmpty();
+    }
+
+    @DisplayName("[성공][service] 상품/카테고리 삭제 커밋 후 facet 증분 반영")
+    @Test
+    void givenDeletedItemAndCategory_whenFacets_thenCountsSynced() {
+        //given
+        itemService.delete(3L); // book3 (카테고리 7)
+        categoryService.delete(12L); // KPOP (album1, album2)
+
+        //when
+        var facets = itemService.facets(ItemCommand.SearchCondition.builder().build()).orElseThrow();
+
+        //then
+        assertThat(facets.getTotalCount()).isEqualTo(8L);
+        assertThat(facets.getTypeCounts()).containsEntry("BOOK", 2L);
+        assertThat(facets.getCategoryCounts()).isEqualTo(Map.of(6L, 2L, 11L, 1L));
+    }
+}
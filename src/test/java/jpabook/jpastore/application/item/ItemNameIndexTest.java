@@ -0,0 +1,92 @@
+package jpabook.jpastore.application.item;
+
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품명 색인 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Import(TestDBConfig.class)
+@SpringBootTest(properties = "jpastore.item.name-index.enabled=true")
+class ItemNameIndexTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemNameIndex itemNameIndex;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        itemNameIndex.rebuild(); // 테스트 데이터는 SQL 로 넣으므로 직접 재생성
+    }
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @DisplayName("[성공][service] 상품명 색인 검색 -> 대소문자 무시, 앞부분 일치 우선 순위")
+    @Test
+    void givenIndexedItems_whenSearchItemsByName_thenReturnsRankedItems() {
+        //given
+        var longQuery = "BOOK";
+        var shortQuery = "m"; // trigram 보다 짧은 검색어
+
+        //when
+        var books = itemService.searchItemsByName_V2(longQuery);
+        var items = itemService.searchItemsByName_V1(shortQuery);
+
+        //then
+        assertThat(books).extracting(ItemInfo.MainInfo::getItemId).containsExactly(1L, 2L, 3L);
+        assertThat(items).extracting(ItemInfo.MainInfo::getItemId).containsExactly(8L, 9L, 4L, 5L, 6L, 7L); // movie -> album
+    }
+
+    @DisplayName("[성공][service] 상품 수정/삭제 커밋 후 상품명 색인 반영")
+    @Test
+    void givenUpdatedAndDeletedItems_whenSearchItemsByName_thenIndexSynced() {
+        //given
+        itemService.updateItemInfo(1L, ItemCommand.UpdateInfoReq.builder().name("novel1").build());
+        itemService.delete(2L);
+
+        //when
+        var books = itemService.searchItemsByName_V2("book");
+        var novels = itemService.items(ItemCommand.SearchCondition.builder().name("novel").build(), PageRequest.of(0, 10));
+
+        //then
+        assertThat(books).extracting(ItemInfo.MainInfo::getItemId).containsExactly(3L);
+        assertThat(novels.getContent()).extracting(ItemInfo.MainInfo::getItemId).containsExactly(1L);
+    }
+
+    @DisplayName("[성공][service] 상품명 색인 재생성 -> 삭제된 상품 제외")
+    @Test
+    void givenDeletedItem_whenRebuild_thenDeletedItemNotIndexed() {
+        //given
+        itemService.delete(2L);
+
+        //when
+        itemNameIndex.rebuild(); // 트랜잭션 밖에서 재생성 (soft delete 필터 미적용)
+        var books = itemService.searchItemsByName_V2("book");
+
+        //then
+        assertThat(books).extracting(ItemInfo.MainInfo::getItemId).containsExactly(1L, 3L);
+    }
+}
@@ -4,7 +4,11 @@ import jpabook.jpastore.common.exception.EntityNotFoundException;
 import jpabook.jpastore.config.AopConfig;
 import jpabook.jpastore.config.DatabaseCleanUp;
 import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.category.CategoryItemIds;
 import jpabook.jpastore.domain.category.CategoryRepository;
+import jpabook.jpastore.domain.item.Book;
+import jpabook.jpastore.domain.item.Dvd;
+import jpabook.jpastore.domain.item.Item;
 import jpabook.jpastore.domain.item.ItemRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +20,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -305,4 +312,37 @@ class ItemServiceTest {
         assertThat(result.getTotalPages()).isEqualTo(1);
         assertThat(result.getContent().get(0).getItemId()).isEqualTo(7L);
     }
+
+    @DisplayName("[성공][service] 상품 일괄 등록 - 정상 행만 등록, 오류 행은 줄 번호와 사유 보고")
+    @Test
+    public void givenImportRows_whenImportItems_thenImportsValidRowsAndReportsErrors() {
+        //given
+        var rows = List.of(
+                ItemCommand.ImportRow.builder().rowNumber(2).type("book").name("importedBook").price(12000)
+                        .stockQuantity(100).categoryId(4L).author("author1").isbn("99999").build(),
+                ItemCommand.ImportRow.builder().rowNumber(3).type("BOOK").name("noCategoryBook").price(12000)
+                        .stockQuantity(100).categoryId(100L).author("author2").isbn("88888").build(),
+                ItemCommand.ImportRow.builder().rowNumber(4).error("숫자 형식이 아닙니다. price = abc").build(),
+                ItemCommand.ImportRow.builder().rowNumber(5).type("DVD").name("importedDvd").price(20000)
+                        .stockQuantity(500).categoryId(11L).director("director3").actor("actor5").build());
+
+        //when
+        var result = itemService.importItems(rows.iterator());
+
+        //then
+        assertThat(result.getTotalRows()).isEqualTo(4L);
+        assertThat(result.getImportedRows()).isEqualTo(2L);
+        assertThat(result.getFailedRows()).isEqualTo(2L);
+        assertThat(result.getErrors()).extracting(ItemInfo.ImportError::getRowNumber).containsExactly(3L, 4L);
+
+        var imported = itemRepository.findAll().stream()
+                .filter(i -> i.getName().startsWith("imported"))
+                .collect(Collectors.toList());
+        assertThat(imported).hasSize(2);
+        assertThat(imported).hasAtLeastOneElementOfType(Book.class).hasAtLeastOneElementOfType(Dvd.class);
+
+        var categoryItems = categoryRepository.findCategoryItemIdsByItemIds(
+                imported.stream().map(Item::getId).collect(Collectors.toList()));
+        assertThat(categoryItems).extracting(CategoryItemIds::getCategoryId).containsExactlyInAnyOrder(4L, 11L);
+    }
 }
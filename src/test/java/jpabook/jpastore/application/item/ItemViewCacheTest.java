@@ -0,0 +1,164 @@
+package jpabook.jpastore.application.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.order.Pay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 조회 캐시 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Import(TestDBConfig.class)
+@SpringBootTest(properties = "jpastore.item.cache.enabled=true")
+class ItemViewCacheTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemViewCache itemViewCache;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void cleanUp() {
+        itemViewCache.evict(List.of(1L));
+        databaseCleanUp.cleanUp();
+    }
+
+    @DisplayName("[성공][service] 상품 단건 조회 캐시 -> 이벤트 없는 DB 변경은 보이지 않고, 상품 수정 후에는 새 값 조회")
+    @Test
+    void givenCachedItem_whenUpdateItemInfo_thenCacheInvalidated() {
+        //given
+        var cached = itemService.getItem(1L);
+        transactionTemplate.executeWithoutResult(status -> itemRepository.decreaseStock(1L, 10));
+
+        //when
+        var stale = itemService.getItem(1L);
+        itemService.updateItemInfo(1L, ItemCommand.UpdateInfoReq.builder()
+                .name("book1-updated")
+                .price(cached.getPrice().getValue())
+                .stockQuantity(50)
+                .build());
+        var updated = itemService.getItem(1L);
+
+        //then
+        assertThat(stale.getStockQuantity()).isEqualTo(cached.getStockQuantity());
+        assertThat(updated.getItemName()).isEqualTo("book1-updated");
+        assertThat(updated.getStockQuantity()).isEqualTo(50);
+        assertThat(((ItemInfo.BookItemInfo) itemService.itemDetail_V1(1L)).getBookName()).isEqualTo("book1-updated");
+    }
+
+    @DisplayName("[성공][service] 주문으로 재고 변경 -> 커밋 후 캐시 무효화, 변경된 재고 조회")
+    @Test
+    void givenCachedItem_whenOrder_thenStockChangeInvalidatesCache() {
+        //given
+        var cached = itemService.getItem(1L);
+
+        //when
+        orderService.order(OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(List.of(OrderCommand.OrderItemRegisterReq.builder().itemId(1L).quantity(3).build()))
+                .payInfo(Pay.CARD)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .build());
+        var afterOrder = itemService.getItem(1L);
+
+        //then
+        assertThat(afterOrder.getStockQuantity()).isEqualTo(cached.getStockQuantity() - 3);
+    }
+
+    @DisplayName("[성공][service] 다른 노드의 무효화 메시지(pub/sub) -> 로컬 캐시 삭제")
+    @Test
+    void givenCachedItem_whenRemoteInvalidationMessage_thenLocalCacheInvalidated() throws InterruptedException {
+        //given
+        var cached = itemService.getItem(1L);
+        transactionTemplate.executeWithoutResult(status -> itemRepository.decreaseStock(1L, 10));
+
+        //when: 다른 노드가 상품을 변경하고 Redis 값 삭제 + 무효화 메시지 발행
+        redisTemplate.delete("item:view:1");
+        redisTemplate.convertAndSend("item:view:invalidation", "1");
+
+        //then
+        var deadline = System.currentTimeMillis() + 3_000;
+        var current = itemService.getItem(1L);
+        while (current.getStockQuantity() == cached.getStockQuantity() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            current = itemService.getItem(1L);
+        }
+        assertThat(current.getStockQuantity()).isEqualTo(cached.getStockQuantity() - 10);
+    }
+
+    @DisplayName("[성공][service] Redis 호출 실패 -> 재시도 시간 동안 Redis 를 건너뛰고 DB 로 조회")
+    @Test
+    void givenRedisDown_whenGet_thenSkipRedisAndLoadFromDb() {
+        //given: 연결할 수 없는 Redis
+        var connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(200)).build());
+        connectionFactory.afterPropertiesSet();
+        var downRedis = new StringRedisTemplate(connectionFactory);
+        var meterRegistry = new SimpleMeterRegistry();
+        var cache = new ItemViewCache(downRedis, new ObjectMapper(), meterRegistry, new RedisMessageListenerContainer(),
+                true, 100, 5_000, 60_000, 60_000);
+        var loads = new AtomicInteger();
+
+        //when
+        var first = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return ItemSnapshot.of(itemRepository.findItemById(1L).orElseThrow());
+        });
+        var second = cache.get(2L, () -> {
+            loads.incrementAndGet();
+            return ItemSnapshot.of(itemRepository.findItemById(2L).orElseThrow());
+        });
+
+        //then
+        assertThat(first.getItemId()).isEqualTo(1L);
+        assertThat(second.getItemId()).isEqualTo(2L);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.counter("item.view.redis.skipped").count()).isGreaterThan(0);
+        connectionFactory.destroy();
+    }
+}
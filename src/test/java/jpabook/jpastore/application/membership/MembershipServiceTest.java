@@ -2,6 +2,9 @@ package jpabook.jpastore.application.membership;
 
 import jpabook.jpastore.config.DatabaseCleanUp;
 import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.membership.MembershipRepository;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedger;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedgerRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +17,10 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @DisplayName("멤버십 업데이트 서비스 테스트")
 @Sql(
         scripts = "classpath:data/data-membership-test.sql",
@@ -29,6 +36,12 @@ class MembershipServiceTest {
     @Autowired
     private MembershipService membershipService;
 
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private MembershipSpendingLedgerRepository spendingLedgerRepository;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -66,4 +79,24 @@ class MembershipServiceTest {
 
         //then
     }
-}
\ No newline at end of file
+
+    @DisplayName("누적 구매 금액 원장 반영 -> 멤버십별 합계만큼 totalSpending 증감, 반영된 원장은 다시 반영하지 않음")
+    @Test
+    void foldSpendingLedger() {
+        //given
+        spendingLedgerRepository.saveAll(List.of(
+                MembershipSpendingLedger.of(1L, 100L, 10000),
+                MembershipSpendingLedger.of(1L, null, -3000),
+                MembershipSpendingLedger.of(2L, 101L, 5000)));
+
+        //when
+        var folded = membershipService.foldSpendingLedger(10);
+
+        //then
+        assertThat(folded).isEqualTo(3);
+        assertThat(membershipRepository.findById(1L).get().getTotalSpending().getValue()).isEqualTo(257000);
+        assertThat(membershipRepository.findById(2L).get().getTotalSpending().getValue()).isEqualTo(175000);
+        assertThat(spendingLedgerRepository.sumUnfoldedAmount(1L)).isZero();
+        assertThat(membershipService.foldSpendingLedger(10)).isZero();
+    }
+}
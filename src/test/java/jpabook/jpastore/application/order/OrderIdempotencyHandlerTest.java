@@ -0,0 +1,259 @@
+package jpabook.jpastore.application.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpastore.common.exception.BadRequestException;
+import jpabook.jpastore.domain.order.Pay;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("주문 Idempotency-Key 처리 테스트")
+class OrderIdempotencyHandlerTest {
+
+    private static final int REDIS_PORT = 6392;
+    private static final String KEY = "3f2c0b7e-key";
+    private static final String USERNAME = "member1";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private OrderIdempotencyHandler handler;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.flushDb();
+            return null;
+        }, true);
+        handler = newHandler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공][service] 같은 키로 다시 요청 -> 다시 실행하지 않고 처음 결과 반환")
+    void givenCompletedKey_whenReplay_thenReturnStoredResult() {
+        //given
+        var executions = new AtomicInteger();
+        var first = handler.execute("order", KEY, USERNAME, registerReq(2), recordKey -> 100L + executions.incrementAndGet());
+
+        //when
+        var replayed = handler.execute("order", KEY, USERNAME, registerReq(2), recordKey -> 100L + executions.incrementAndGet());
+
+        //then
+        assertThat(replayed).isEqualTo(first).isEqualTo(101L);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("[실패][service] 같은 키로 내용이 다른 요청 -> BadRequestException")
+    void givenCompletedKey_whenDifferentRequest_thenThrowBadRequest() {
+        //given
+        handler.execute("order", KEY, USERNAME, registerReq(2), recordKey -> 1L);
+
+        //when, then
+        assertThatThrownBy(() -> handler.execute("order", KEY, USERNAME, registerReq(3), recordKey -> 2L))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("다른 요청에 사용된 Idempotency-Key 입니다.");
+    }
+
+    @Test
+    @DisplayName("[성공][service] 실패한 요청은 저장하지 않음 -> 같은 키로 다시 실행")
+    void givenFailedRequest_whenRetry_thenExecuteAgain() {
+        //given
+        assertThatThrownBy(() -> handler.execute("order", KEY, USERNAME, registerReq(2), recordKey -> {
+            throw new IllegalStateException("재고 수량이 부족합니다.");
+        })).isInstanceOf(IllegalStateException.class);
+
+        //when
+        var result = handler.execute("order", KEY, USERNAME, registerReq(2), recordKey -> 7L);
+
+        //then
+        assertThat(result).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 같은 키의 동시 요청 (같은 노드 + 다른 노드) -> 한 번만 실행하고 모두 같은 결과")
+    void givenConcurrentDuplicates_whenExecute_thenActionRunsOnce() throws Exception {
+        //given
+        var otherNode = newHandler();
+        var executions = new AtomicInteger();
+        var recordKeys = new ArrayList<String>();
+        var start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            var node = (i % 2 == 0) ? handler : otherNode;
+            results.add(clients.submit(() -> {
+                start.await();
+                return node.execute("order", KEY, USERNAME, registerReq(2), recordKey -> {
+                    executions.incrementAndGet();
+                    synchronized (recordKeys) {
+                        recordKeys.add(recordKey);
+                    }
+                    sleep(200);
+                    return 42L;
+                });
+            }));
+        }
+        start.countDown();
+
+        var ids = new ArrayList<Long>();
+        for (Future<Long> result : results) {
+            ids.add(result.get());
+        }
+        clients.shutdown();
+        otherNode.shutdown();
+
+        //then
+        assertThat(executions).hasValue(1);
+        assertThat(ids).containsOnly(42L);
+        assertThat(recordKeys).hasSize(1);
+        assertThat(recordKeys.get(0)).hasSize(64); // SHA-256 hex
+    }
+
+    @Test
+    @DisplayName("[실패][service] 같은 노드에서 처리 중인 키로 내용이 다른 요청 -> 기다리지 않고 BadRequestException")
+    void givenInFlightKeyOnSameNode_whenDifferentRequest_thenThrowBadRequest() throws Exception {
+        //given
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executions = new AtomicInteger();
+        ExecutorService client = Executors.newSingleThreadExecutor();
+
+        Future<Long> first = client.submit(() -> handler.execute("order", KEY, USERNAME, registerReq(2), recordKey -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 11L;
+        }));
+        started.await();
+
+        //when, then
+        assertThatThrownBy(() -> handler.execute("order", KEY, USERNAME, registerReq(3), recordKey -> {
+            executions.incrementAndGet();
+            return 12L;
+        })).isInstanceOf(BadRequestException.class)
+                .hasMessage("다른 요청에 사용된 Idempotency-Key 입니다.");
+
+        release.countDown();
+        assertThat(first.get()).isEqualTo(11L);
+        assertThat(executions).hasValue(1);
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공][service] 처리 중 표시 만료 시간보다 오래 걸려도 다른 요청이 다시 실행하지 않음")
+    void givenSlowAction_whenPendingTtlPassed_thenMarkerRefreshed() throws Exception {
+        //given
+        handler.shutdown();
+        handler = new OrderIdempotencyHandler(redisTemplate, new ObjectMapper(), 1, 300);
+        var otherNode = new OrderIdempotencyHandler(redisTemplate, new ObjectMapper(), 1, 300);
+        var executions = new AtomicInteger();
+        var result = new AtomicLong();
+
+        //when
+        var slow = new Thread(() -> result.set(handler.execute("order", KEY, USERNAME, registerReq(2), recordKey -> {
+            executions.incrementAndGet();
+            sleep(1_000);
+            return 9L;
+        })));
+        slow.start();
+        sleep(600); // 처리 중 표시 TTL(300ms) 경과
+
+        //then
+        assertThatThrownBy(() -> otherNode.execute("order", KEY, USERNAME, registerReq(2), recordKey -> {
+            executions.incrementAndGet();
+            return 10L;
+        })).isInstanceOf(IllegalStateException.class)
+                .hasMessage("같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+
+        slow.join();
+        otherNode.shutdown();
+        assertThat(result).hasValue(9L);
+        assertThat(executions).hasValue(1);
+    }
+
+    private OrderIdempotencyHandler newHandler() {
+        return new OrderIdempotencyHandler(redisTemplate, new ObjectMapper(), 1, 30_000);
+    }
+
+    private OrderCommand.OrderRegisterReq registerReq(int quantity) {
+        return OrderCommand.OrderRegisterReq.builder()
+                .memberId(1L)
+                .orderItems(List.of(OrderCommand.OrderItemRegisterReq.builder()
+                        .itemId(1L)
+                        .quantity(quantity)
+                        .build()))
+                .city("서울시")
+                .street("송파구")
+                .zipcode("1111")
+                .payInfo(Pay.CARD)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
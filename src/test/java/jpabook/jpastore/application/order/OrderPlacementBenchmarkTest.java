@@ -0,0 +1,224 @@
+package jpabook.jpastore.application.order;
+
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.IdGeneration;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.order.Pay;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.jpa.spi.IdentifierGeneratorStrategyProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 등록 처리량 비교: IDENTITY 키 전략(변경 전) vs 시간순 id + JDBC batch 끔(batch size 1) vs 켬(jdbc.batch_size)
+ * IDENTITY 실행은 id 생성 전략 이름(IdGeneration.STRATEGY)을 Hibernate IdentityGenerator 로 바꾼 별도 컨텍스트(별도 H2 DB)에서 실행한다.
+ * 실행: ./gradlew test --tests '*OrderPlacementBenchmarkTest' -Dbenchmark=true
+ */
+@DisplayName("주문 등록 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class OrderPlacementBenchmarkTest {
+
+    private static final Long MEMBER_ID = 2L;
+    private static final List<Long> ITEM_IDS = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int ORDERS = 2_000;
+    private static final int CLIENTS = 8;
+
+    private static final String IDENTITY = "IDENTITY";
+    private static final String BATCH_OFF = "시간순 id, batch 끔";
+    private static final String BATCH_ON = "시간순 id, batch 켬";
+
+    // 방식 -> [초당 주문 수, 주문당 실행한 statement 수]
+    private static final Map<String, double[]> RESULTS = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void printComparison() {
+        var baseline = RESULTS.get(IDENTITY);
+        var table = new StringBuilder(String.format("%n%-20s %12s %18s %12s",
+                "방식", "orders/s", "statements/order", "vs IDENTITY"));
+
+        for (String name : List.of(IDENTITY, BATCH_OFF, BATCH_ON)) {
+            var result = RESULTS.get(name);
+            if (result == null) continue;
+
+            table.append(String.format("%n%-20s %12.1f %18.1f %11s",
+                    name, result[0], result[1],
+                    baseline == null ? "-" : String.format("%.2fx", result[0] / baseline[0])));
+        }
+
+        log.info("주문 등록 방식 비교 (주문 {}건, 주문당 상품 {}개, 클라이언트 {}개){}", ORDERS, ITEMS_PER_ORDER, CLIENTS, table);
+    }
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @DisplayName("변경 전: IDENTITY 키 전략")
+    @Sql(
+            scripts = "classpath:data/data-test.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+    )
+    @DirtiesContext
+    @Import(TestDBConfig.class)
+    @SpringBootTest(properties = {
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "spring.jpa.properties." + AvailableSettings.IDENTIFIER_GENERATOR_STRATEGY_PROVIDER
+                    + "=jpabook.jpastore.application.order.OrderPlacementBenchmarkTest$IdentityStrategyProvider",
+            "spring.datasource.url=jdbc:h2:mem:identitydb;MODE=MYSQL" // 다른 테스트 컨텍스트의 스키마와 분리
+    })
+    class Identity extends Runner {
+
+        @Test
+        @DisplayName("[벤치마크] IDENTITY (insert 마다 키를 받아야 하므로 JDBC batch 불가)")
+        void identity() throws Exception {
+            //when
+            var identity = run(null);
+
+            //then
+            RESULTS.put(IDENTITY, identity);
+            assertThat(identity[1]).isGreaterThan(ITEMS_PER_ORDER); // 주문 상품마다 insert 를 따로 실행
+        }
+    }
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @DisplayName("변경 후: 시간순 id")
+    @Sql(
+            scripts = "classpath:data/data-test.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+    )
+    @Import(TestDBConfig.class)
+    @SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+    class TimeOrdered extends Runner {
+
+        @Test
+        @DisplayName("[벤치마크] 시간순 id - JDBC batch 끔 vs 켬")
+        void batchOffVsBatchOn() throws Exception {
+            //when
+            var batchOff = run(1);
+            var batchOn = run(null); // 설정값 (spring.jpa.properties.hibernate.jdbc.batch_size)
+
+            //then
+            RESULTS.put(BATCH_OFF, batchOff);
+            RESULTS.put(BATCH_ON, batchOn);
+            assertThat(batchOn[1]).isLessThan(batchOff[1]);
+        }
+    }
+
+    // 같은 id 생성 전략 이름을 IdentityGenerator 로 등록 -> 모든 엔티티가 IDENTITY 컬럼으로 생성/저장된다
+    public static class IdentityStrategyProvider implements IdentifierGeneratorStrategyProvider {
+
+        @Override
+        public Map<String, Class<?>> getStrategies() {
+            return Map.of(IdGeneration.STRATEGY, IdentityGenerator.class);
+        }
+    }
+
+    abstract static class Runner {
+
+        @Autowired
+        private OrderService orderService;
+
+        @Autowired
+        private ItemRepository itemRepository;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private TransactionTemplate transactionTemplate;
+
+        @Autowired
+        private DatabaseCleanUp databaseCleanUp;
+
+        @AfterEach
+        void cleanUp() {
+            databaseCleanUp.cleanUp();
+        }
+
+        // [초당 주문 수, 주문당 실행한 statement 수]
+        double[] run(Integer jdbcBatchSize) throws Exception {
+            transactionTemplate.executeWithoutResult(status ->
+                    ITEM_IDS.forEach(itemId -> itemRepository.decreaseStock(itemId, -ORDERS * 2)));
+
+            var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+            List<Future<?>> results = new ArrayList<>(ORDERS);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ORDERS; i++) {
+                var command = command(i);
+                results.add(clients.submit(() ->
+                        transactionTemplate.executeWithoutResult(status -> {
+                            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                            orderService.order(command);
+                        })));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            clients.shutdown();
+
+            return new double[]{
+                    ORDERS / (elapsed / 1_000_000_000.0),
+                    (double) statistics.getPrepareStatementCount() / ORDERS};
+        }
+
+        // 주문마다 상품을 돌아가며 선택 (같은 상품 행에 락이 몰리지 않게)
+        private OrderCommand.OrderRegisterReq command(int seq) {
+            var orderItems = LongStream.range(0, ITEMS_PER_ORDER)
+                    .mapToObj(i -> OrderCommand.OrderItemRegisterReq.builder()
+                            .itemId(ITEM_IDS.get((int) ((seq + i) % ITEM_IDS.size())))
+                            .quantity(1)
+                            .build())
+                    .collect(Collectors.toList());
+
+            return OrderCommand.OrderRegisterReq.builder()
+                    .memberId(MEMBER_ID)
+                    .orderItems(orderItems)
+                    .payInfo(Pay.CARD)
+                    .city("경기도")
+                    .street("성남시")
+                    .zipcode("33333")
+                    .build();
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package jpabook.jpastore.application.order;
 
+import jpabook.jpastore.common.exception.BadRequestException;
 import jpabook.jpastore.common.exception.EntityNotFoundException;
 import jpabook.jpastore.config.DatabaseCleanUp;
 import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.membership.MembershipRepository;
+import jpabook.jpastore.domain.membership.MembershipSpendingLedgerRepository;
 import jpabook.jpastore.domain.order.DeliveryStatus;
 import jpabook.jpastore.domain.order.OrderStatus;
 import jpabook.jpastore.domain.order.Pay;
 import jpabook.jpastore.domain.order.repository.OrderRepository;
+import jpabook.jpastore.domain.order.repository.OrderSummaryRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +25,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +48,18 @@ class OrderServiceTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private MembershipSpendingLedgerRepository spendingLedgerRepository;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -94,6 +112,34 @@ class OrderServiceTest {
         assertThat(order.getMember().getId()).isEqualTo(memberId);
         assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER);
         assertThat(order.getDelivery().getAddress().getCity()).isEqualTo(city);
+        assertThat(order.getItemCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 같은 Idempotency-Key 로 다시 주문 -> 새로 생성하지 않고 기존 주문 id 반환")
+    void givenSameIdempotencyKey_whenOrderTwice_thenReturnSameOrderId() {
+        //given
+        var command = OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(List.of(OrderCommand.OrderItemRegisterReq.builder()
+                        .itemId(3L)
+                        .quantity(1)
+                        .build()))
+                .payInfo(Pay.CARD)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .idempotencyKey("a".repeat(64))
+                .build();
+        var firstId = orderService.order(command);
+        var stockAfterFirst = itemRepository.findById(3L).orElseThrow().getStockQuantity();
+
+        //when
+        var secondId = orderService.order(command);
+
+        //then
+        assertThat(secondId).isEqualTo(firstId);
+        assertThat(itemRepository.findById(3L).orElseThrow().getStockQuantity()).isEqualTo(stockAfterFirst);
     }
 
     @Test
@@ -314,4 +360,205 @@ class OrderServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("이미 배송중 혹은 배송완료된 주문은 취소할 수 없습니다.");
     }
+
+    @Test
+    @DisplayName("[실패][service] 존재하지 않는 상품이 포함된 주문 등록 - 누락된 상품 id 일괄 확인")
+    void givenNonExistItemIds_whenOrder_thenThrowEntityNotFoundException() {
+        //given
+        var orderItems = List.of(
+                OrderCommand.OrderItemRegisterReq.builder()
+                        .itemId(200L)
+                        .quantity(1).build(),
+                OrderCommand.OrderItemRegisterReq.builder()
+                        .itemId(3L)
+                        .quantity(1).build(),
+                OrderCommand.OrderItemRegisterReq.builder()
+                        .itemId(100L)
+                        .quantity(1).build()
+        );
+
+        var command
+                = OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(orderItems)
+                .payInfo(Pay.CARD)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .build();
+
+        //when & then
+        assertThatThrownBy(() -> orderService.order(command))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("존재하지 않는 상품입니다. ids = [100, 200]");
+    }
+
+    @Test
+    @DisplayName("[성공][service] 주문 등록 시 주문 조회 모델 생성")
+    void givenRegisterReq_whenOrder_thenOrderSummaryCreated() {
+        //given
+        var command = OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(List.of(
+                        OrderCommand.OrderItemRegisterReq.builder().itemId(1L).quantity(2).build(),
+                        OrderCommand.OrderItemRegisterReq.builder().itemId(3L).quantity(1).build()))
+                .payInfo(Pay.CARD)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .build();
+
+        //when
+        var orderedId = orderService.order(command);
+
+        //then
+        var summary = orderSummaryRepository.findById(orderedId);
+        var order = orderRepository.findById(orderedId).get();
+
+        assertThat(summary).isPresent();
+        assertThat(summary.get().getMemberUsername()).isEqualTo("member2");
+        assertThat(summary.get().getItemCount()).isEqualTo(3);
+        assertThat(summary.get().getTotalPrice()).isEqualTo(order.getTotalPrice().getValue());
+        assertThat(summary.get().getStatus()).isEqualTo(OrderStatus.ORDER);
+        assertThat(summary.get().getDeliveryStatus()).isEqualTo(DeliveryStatus.PREPARING);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 주문 조회 모델 재생성 후 주문 취소 -> 조회 모델 상태 갱신")
+    void givenRebuiltSummaries_whenCancelOrder_thenOrderSummaryUpdated() {
+        //given
+        var orderId = 3L; // ordered by 'member1'
+        var rebuilt = orderService.rebuildOrderSummaries();
+
+        //when
+        orderService.cancelOrder(orderId, "member1");
+
+        //then
+        assertThat((long) rebuilt).isEqualTo(orderRepository.count());
+
+        var summary = orderSummaryRepository.findById(orderId).get();
+        assertThat(summary.getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(summary.getDeliveryStatus()).isEqualTo(DeliveryStatus.NONE);
+
+        var result = orderService.listOrderSummary(
+                OrderCommand.OrderSearchCondition.builder().memberName("member1").status(OrderStatus.CANCEL).build(),
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "id")));
+        assertThat(result.getContent()).extracting(OrderInfo.SummaryInfo::getOrderId).contains(orderId);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 배송 상태 일괄 변경 -> 주문 id 별 결과 반환, 조회 모델 갱신")
+    void givenOrderIds_whenChangeDeliveryStatuses_thenReturnResultPerOrderId() {
+        //given
+        orderService.rebuildOrderSummaries();
+        var orderIds = List.of(1L, 2L, 5L, 999L); // READY, READY, DELIVERING, 존재하지 않는 주문
+
+        //when
+        var results = orderService.changeDeliveryStatuses(orderIds, DeliveryStatus.DELIVERING);
+
+        //then
+        assertThat(results).extracting(OrderInfo.DeliveryChangeResult::getOrderId).containsExactly(1L, 2L, 5L, 999L);
+        assertThat(results).extracting(OrderInfo.DeliveryChangeResult::getResult).containsExactly(
+                OrderInfo.DeliveryChangeResult.Result.CHANGED,
+                OrderInfo.DeliveryChangeResult.Result.CHANGED,
+                OrderInfo.DeliveryChangeResult.Result.INVALID_TRANSITION,
+                OrderInfo.DeliveryChangeResult.Result.NOT_FOUND);
+
+        assertThat(orderRepository.findOrderWithDelivery(1L).get().getDelivery().getStatus()).isEqualTo(DeliveryStatus.DELIVERING);
+        assertThat(orderRepository.findOrderWithDelivery(2L).get().getDelivery().getStatus()).isEqualTo(DeliveryStatus.DELIVERING);
+        assertThat(orderSummaryRepository.findById(1L).get().getDeliveryStatus()).isEqualTo(DeliveryStatus.DELIVERING);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 검색 조건으로 배송 상태 일괄 변경 -> 이전 단계 배송만 변경")
+    void givenSearchCondition_whenChangeDeliveryStatuses_thenChangePreviousStatusOrders() {
+        //given
+        var condition = OrderCommand.OrderSearchCondition.builder().build();
+
+        //when
+        var results = orderService.changeDeliveryStatuses(condition, DeliveryStatus.READY);
+
+        //then
+        assertThat(results).extracting(OrderInfo.DeliveryChangeResult::getOrderId).containsExactly(4L, 11L, 16L); // PREPARING
+        assertThat(results).extracting(OrderInfo.DeliveryChangeResult::getResult)
+                .containsOnly(OrderInfo.DeliveryChangeResult.Result.CHANGED);
+        assertThat(orderRepository.findOrderWithDelivery(11L).get().getDelivery().getStatus()).isEqualTo(DeliveryStatus.READY);
+    }
+
+    @Test
+    @DisplayName("[실패][service] 이전 단계가 없는 배송 상태로 일괄 변경 -> BadRequestException, 변경 없음")
+    void givenStatusWithoutPrevious_whenChangeDeliveryStatuses_thenThrowBadRequestException() {
+        //given
+        var condition = OrderCommand.OrderSearchCondition.builder().build();
+
+        //when & then
+        assertThatThrownBy(() -> orderService.changeDeliveryStatuses(condition, DeliveryStatus.NONE))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> orderService.changeDeliveryStatuses(List.of(1L), DeliveryStatus.NONE))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(orderRepository.findOrderWithDelivery(1L).get().getDelivery().getStatus()).isEqualTo(DeliveryStatus.READY);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 입금 기한이 지난 무통장 입금 주문 만료 -> 주문 취소, 재고 복구")
+    void givenStaleBankTransOrder_whenExpireUnpaidOrders_thenCanceledAndStockRestored() {
+        //given
+        var stockBefore = itemRepository.findItemById(1L).get().getStockQuantity();
+        var command = OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(List.of(OrderCommand.OrderItemRegisterReq.builder().itemId(1L).quantity(4).build()))
+                .payInfo(Pay.BANK_TRANS)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .build();
+        var orderedId = orderService.order(command);
+
+        //when
+        var result = orderService.expireUnpaidOrders(LocalDateTime.now().plusMinutes(1), 10);
+
+        //then
+        assertThat(result.getOrderCount()).isEqualTo(1); // created_date 가 없는 테스트 데이터 주문은 제외
+        assertThat(result.getRestoredQuantity()).isEqualTo(4);
+        assertThat(orderRepository.findById(orderedId).get().getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(orderSummaryRepository.findById(orderedId).get().getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(itemRepository.findItemById(1L).get().getStockQuantity()).isEqualTo(stockBefore);
+
+        // 이미 만료된 주문은 다시 처리하지 않는다
+        assertThat(orderService.expireUnpaidOrders(LocalDateTime.now().plusMinutes(1), 10).getOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공][service] 주문 일괄 취소 -> 취소 가능한 주문만 취소, 재고/누적 구매 금액 복구")
+    void givenOrderIds_whenCancelOrders_thenCancelableOrdersCanceledAndRestored() {
+        //given
+        var stockBefore = itemRepository.findItemById(1L).get().getStockQuantity();
+        var spendingBefore = membershipRepository.findById(2L).get().getTotalSpending().getValue(); // member2
+        var command = OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(List.of(OrderCommand.OrderItemRegisterReq.builder().itemId(1L).quantity(3).build()))
+                .payInfo(Pay.CARD)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .build();
+        var orderedId = orderService.order(command);
+
+        //when
+        var result = orderService.cancelOrders(List.of(orderedId, 5L, 9999L)); // 5: 배송중, 9999: 없는 주문
+
+        //then
+        assertThat(result.getCanceledOrderIds()).containsExactly(orderedId);
+        assertThat(result.getSkippedOrderIds()).containsExactly(5L, 9999L);
+        assertThat(result.getRestoredQuantity()).isEqualTo(3);
+        assertThat(orderRepository.findOrderWithDelivery(orderedId).get().getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(orderRepository.findOrderWithDelivery(orderedId).get().getDelivery().getStatus()).isEqualTo(DeliveryStatus.NONE);
+        assertThat(orderSummaryRepository.findById(orderedId).get().getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(itemRepository.findItemById(1L).get().getStockQuantity()).isEqualTo(stockBefore);
+        assertThat(membershipRepository.findById(2L).get().getTotalSpending().getValue()).isEqualTo(spendingBefore);
+        assertThat(spendingLedgerRepository.sumUnfoldedAmount(2L)).isZero(); // 주문 +, 취소 - 원장 상쇄
+
+        // 이미 취소된 주문은 다시 처리하지 않는다
+        assertThat(orderService.cancelOrders(List.of(orderedId)).getCanceledOrderIds()).isEmpty();
+    }
 }
@@ -0,0 +1,177 @@
+package jpabook.jpastore.application.order;
+
+import jpabook.jpastore.common.exception.EntityNotFoundException;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.order.OrderTicket;
+import jpabook.jpastore.domain.order.OrderTicketStatus;
+import jpabook.jpastore.domain.order.Pay;
+import jpabook.jpastore.domain.order.repository.OrderRepository;
+import jpabook.jpastore.domain.order.repository.OrderTicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("주문 비동기 접수 서비스 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Slf4j
+@Import(TestDBConfig.class)
+@SpringBootTest
+class OrderTicketServiceTest {
+
+    private static final String CLAIM_TOKEN = "worker-1";
+    private static final Duration TIMED_OUT = Duration.ofSeconds(-1); // 선점 시각과 상관없이 중단된 것으로 간주
+
+    @Autowired
+    private OrderTicketService orderTicketService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderTicketRepository orderTicketRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[성공][service] 주문 접수 후 워커 처리 -> 주문 생성 및 티켓 완료")
+    void givenRegisterReq_whenAcceptAndProcess_thenTicketCompleted() {
+        //given
+        var ticketId = orderTicketService.accept(registerReq(3L, 2));
+
+        //when
+        var claimed = orderTicketService.claimPendingTickets(10, CLAIM_TOKEN);
+        claimed.forEach(claimedId -> orderTicketService.process(claimedId, CLAIM_TOKEN));
+
+        //then
+        var ticket = orderTicketService.getTicket(ticketId, "member1");
+
+        assertThat(claimed).containsExactly(ticketId);
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.COMPLETED.getMessage());
+        assertThat(orderRepository.findById(ticket.getOrderId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("[성공][service] 재고 부족 주문 -> 티켓 실패 처리")
+    void givenNotEnoughStock_whenProcess_thenTicketFailed() {
+        //given
+        var ticketId = orderTicketService.accept(registerReq(1L, 1000)); // 재고 100
+        orderTicketService.claimPendingTickets(10, CLAIM_TOKEN);
+
+        //when
+        assertThatThrownBy(() -> orderTicketService.process(ticketId, CLAIM_TOKEN))
+                .isInstanceOf(RuntimeException.class);
+        orderTicketService.fail(ticketId, CLAIM_TOKEN, "재고 수량이 부족합니다.");
+
+        //then
+        var ticket = orderTicketService.getTicket(ticketId, "member1");
+
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.FAILED.getMessage());
+        assertThat(ticket.getOrderId()).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공][service] 재등록 후 다른 워커가 선점한 티켓 -> 이전 워커는 완료/실패 처리하지 못함")
+    void givenRequeuedAndReclaimed_whenStaleWorkerProcess_thenIgnored() {
+        //given
+        var ticketId = orderTicketService.accept(registerReq(3L, 2));
+        orderTicketService.claimPendingTickets(10, CLAIM_TOKEN);
+        orderTicketService.requeueStaleTickets(TIMED_OUT, 3);
+        orderTicketService.claimPendingTickets(10, "worker-2");
+        var orderCount = orderRepository.count();
+
+        //when
+        orderTicketService.process(ticketId, CLAIM_TOKEN);
+        orderTicketService.fail(ticketId, CLAIM_TOKEN, "이전 워커");
+
+        //then
+        var ticket = orderTicketService.getTicket(ticketId, "member1");
+
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.PROCESSING.getMessage());
+        assertThat(ticket.getOrderId()).isNull();
+        assertThat(orderRepository.count()).isEqualTo(orderCount);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 선점 횟수를 모두 쓰고 중단된 티켓 -> 재등록하지 않고 실패 처리")
+    void givenClaimedMaxTimes_whenRequeueStaleTickets_thenTicketFailed() {
+        //given
+        var ticketId = orderTicketService.accept(registerReq(3L, 2));
+        orderTicketService.claimPendingTickets(10, CLAIM_TOKEN);
+        orderTicketService.requeueStaleTickets(TIMED_OUT, 2);
+        orderTicketService.claimPendingTickets(10, "worker-2");
+
+        //when
+        var requeued = orderTicketService.requeueStaleTickets(TIMED_OUT, 2);
+
+        //then
+        var ticket = orderTicketService.getTicket(ticketId, "member1");
+
+        assertThat(requeued).isZero();
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.FAILED.getMessage());
+    }
+
+    @Test
+    @DisplayName("[성공][service] 긴 실패 사유는 컬럼 길이에 맞게 잘라서 기록")
+    void givenLongFailureReason_whenFail_thenTruncated() {
+        //given
+        var ticketId = orderTicketService.accept(registerReq(3L, 2));
+        orderTicketService.claimPendingTickets(10, CLAIM_TOKEN);
+
+        //when
+        orderTicketService.fail(ticketId, CLAIM_TOKEN, "x".repeat(1000));
+
+        //then
+        var ticket = orderTicketRepository.findById(ticketId).orElseThrow();
+
+        assertThat(ticket.getFailureReason()).hasSize(OrderTicket.FAILURE_REASON_MAX_LENGTH);
+    }
+
+    @Test
+    @DisplayName("[실패][service] 존재하지 않는 상품 주문 접수")
+    void givenNotExistItem_whenAccept_thenThrowsException() {
+        //given
+        var command = registerReq(100L, 1);
+
+        //when & then
+        assertThatThrownBy(() -> orderTicketService.accept(command))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("존재하지 않는 상품입니다. ids = [100]");
+    }
+
+    private OrderCommand.OrderRegisterReq registerReq(Long itemId, int quantity) {
+        return OrderCommand.OrderRegisterReq.builder()
+                .memberId(1L)
+                .orderItems(List.of(OrderCommand.OrderItemRegisterReq.builder()
+                        .itemId(itemId)
+                        .quantity(quantity)
+                        .build()))
+                .city("서울시")
+                .street("송파구")
+                .zipcode("1111")
+                .payInfo(Pay.CARD)
+                .build();
+    }
+}
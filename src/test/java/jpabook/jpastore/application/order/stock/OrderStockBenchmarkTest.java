@@ -0,0 +1,165 @@
+package jpabook.jpastore.application.order.stock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jpabook.jpastore.aop.aspect.OptimisticLockRetryAspect;
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.item.StockHoldRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인기 상품 한 개에 주문이 몰릴 때 재고 차감 처리량 비교 (주문 1건 = 트랜잭션 1개)
+ * 실행: ./gradlew test --tests '*OrderStockBenchmarkTest' -Dbenchmark=true
+ */
+@DisplayName("재고 차감 방식 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Slf4j
+@Import(TestDBConfig.class)
+@SpringBootTest
+class OrderStockBenchmarkTest {
+
+    private static final Long HOT_ITEM_ID = 1L;
+    private static final int ORDERS = 2_000;
+    private static final int CLIENTS = 32;
+    private static final List<OrderCommand.OrderItemRegisterReq> ORDER_ITEMS = List.of(
+            OrderCommand.OrderItemRegisterReq.builder()
+                    .itemId(HOT_ITEM_ID)
+                    .quantity(1)
+                    .build());
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 비관적 락 vs 낙관적 락(재시도) vs 그룹 커밋")
+    void pessimisticVsOptimisticVsGroupCommit() throws Exception {
+        //given
+        var pessimistic = new PessimisticLockStockHandler(itemRepository);
+        var optimistic = withOptimisticRetry(new OptimisticLockStockHandler(itemRepository));
+        var processor = new GroupCommitStockProcessor(dataSourceProperties, 200, 2, 8, 60_000);
+        var groupCommit = new GroupCommitStockHandler(itemRepository, stockHoldRepository, processor, 10_000);
+
+        try {
+            //when
+            var pessimisticResult = run(() -> order(pessimistic));
+            var optimisticResult = run(() -> optimistic.order(null));
+            var groupCommitResult = run(() -> order(groupCommit));
+
+            //then
+            log.info("재고 차감 방식 비교 (주문 {}건, 클라이언트 {}개){}", ORDERS, CLIENTS, table(
+                    new String[]{"비관적 락", "낙관적 락(재시도)", "그룹 커밋"},
+                    pessimisticResult, optimisticResult, groupCommitResult));
+            assertThat(pessimisticResult[1]).isZero();
+            assertThat(groupCommitResult[1]).isZero();
+        } finally {
+            processor.shutdown();
+        }
+    }
+
+    private void order(OrderStockHandler handler) {
+        transactionTemplate.executeWithoutResult(status -> handler.createOrderItems(ORDER_ITEMS));
+    }
+
+    // 주문 서비스와 같은 방식으로 주문 트랜잭션 전체를 OptimisticLockRetryAspect 로 감싼다
+    private OrderService withOptimisticRetry(OrderStockHandler handler) {
+        OrderService target = mock(OrderService.class);
+        when(target.order(any())).thenAnswer(invocation -> {
+            order(handler);
+            return 1L;
+        });
+
+        var factory = new AspectJProxyFactory(target);
+        factory.addAspect(new OptimisticLockRetryAspect(new SimpleMeterRegistry(), 50, 10, 200, 2.0, 0.5));
+        return factory.getProxy();
+    }
+
+    // 방식별 처리량/실패 수/소요 시간, 비관적 락(첫 번째) 대비 처리량 배수를 한 표로
+    private static String table(String[] names, double[]... results) {
+        var table = new StringBuilder(String.format("%n%-20s %12s %8s %12s %10s",
+                "방식", "orders/s", "실패", "소요(ms)", "vs 비관적"));
+        for (int i = 0; i < names.length; i++) {
+            table.append(String.format("%n%-20s %12.1f %8d %12d %9.2fx",
+                    names[i], results[i][0], (long) results[i][1], (long) results[i][2], results[i][0] / results[0][0]));
+        }
+        return table.toString();
+    }
+
+    // [초당 주문 수, 실패한 주문 수, 소요 시간(ms)]
+    private double[] run(Runnable order) throws Exception {
+        transactionTemplate.executeWithoutResult(status -> itemRepository.decreaseStock(HOT_ITEM_ID, -ORDERS));
+        var stockBefore = itemRepository.findById(HOT_ITEM_ID).orElseThrow().getStockQuantity();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> results = new ArrayList<>(ORDERS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ORDERS; i++) {
+            results.add(clients.submit(order));
+        }
+        int failed = 0;
+        for (Future<?> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                failed++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        clients.shutdown();
+
+        var stockAfter = itemRepository.findById(HOT_ITEM_ID).orElseThrow().getStockQuantity();
+        assertThat(stockBefore - stockAfter).isEqualTo(ORDERS - failed);
+        assertThat(stockHoldRepository.count()).isZero(); // 모든 예약이 주문과 함께 확정됨
+
+        return new double[]{(ORDERS - failed) / (elapsed / 1_000_000_000.0), failed, elapsed / 1_000_000.0};
+    }
+}
@@ -0,0 +1,254 @@
+package jpabook.jpastore.application.order.stock;
+
+import jpabook.jpastore.common.exception.NotEnoughStockException;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.item.ItemRepository;
+import jpabook.jpastore.domain.item.StockReconcileBatch;
+import jpabook.jpastore.domain.item.StockReconcileBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Redis 재고 예약 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Slf4j
+@Import(TestDBConfig.class)
+@SpringBootTest(properties = {
+        "jpastore.order.stock-mode=redis",
+        "jpastore.order.stock-reconcile-delay-ms=3600000", // 반영은 테스트에서 직접 호출
+        "spring.stock-redis.host=localhost",
+        "spring.stock-redis.port=" + RedisStockReservationTest.STOCK_REDIS_PORT
+})
+class RedisStockReservationTest {
+
+    static final int STOCK_REDIS_PORT = 6391;
+
+    private static final Long ITEM_ID = 1L; // data-test.sql 재고 100
+
+    private static RedisServer stockRedis;
+
+    @Autowired
+    private RedisStockReservation stockReservation;
+
+    @Autowired
+    private RedisStockReconciler stockReconciler;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private StockReconcileBatchRepository batchRepository;
+
+    @Autowired
+    @Qualifier("stockRedisTemplate")
+    private RedisTemplate<String, Object> stockRedisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeAll
+    static void startRedis() {
+        stockRedis = new RedisServer(STOCK_REDIS_PORT);
+        stockRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        stockRedis.stop();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        stockRedisTemplate.execute(connection -> {
+            connection.flushDb();
+            return null;
+        }, true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[성공][redis] 재고 key 가 없으면 DB 재고로 로딩 후 예약")
+    void givenNoStockKey_whenReserve_thenLoadFromDbAndDecrease() {
+        //given
+        var quantities = quantities(3);
+
+        //when
+        stockReservation.reserve(quantities);
+
+        //then
+        assertThat(stock()).isEqualTo(97);
+        assertThat(pending()).isEqualTo(3);
+        assertThat(dbStock()).isEqualTo(100); // DB 는 반영 전
+    }
+
+    @Test
+    @DisplayName("[실패][redis] 재고가 부족하면 아무것도 차감하지 않음")
+    void givenNotEnoughStock_whenReserve_thenThrowAndKeepStock() {
+        //given
+        var quantities = new TreeMap<Long, Integer>(Map.of(ITEM_ID, 1, 2L, 51)); // 상품 2 재고 50
+
+        //when, then
+        assertThatThrownBy(() -> stockReservation.reserve(quantities))
+                .isInstanceOf(NotEnoughStockException.class);
+        assertThat(stock()).isEqualTo(100);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공][redis] 예약 재고 반환")
+    void givenReserved_whenRelease_thenRestoreStockAndPending() {
+        //given
+        stockReservation.reserve(quantities(3));
+
+        //when
+        stockReservation.release(quantities(3));
+
+        //then
+        assertThat(stock()).isEqualTo(100);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공][redis] 미반영 변경량을 DB 에 반영하고 배치 삭제")
+    void givenPending_whenReconcile_thenApplyToDbAndClearBatch() {
+        //given
+        stockReservation.reserve(quantities(3));
+
+        //when
+        stockReconciler.reconcile();
+
+        //then
+        assertThat(dbStock()).isEqualTo(97);
+        assertThat(stock()).isEqualTo(97);
+        assertThat(batchRepository.existsById(1L)).isTrue();
+        assertThat(stockRedisTemplate.hasKey(RedisStockReservation.BATCH_ID_KEY)).isFalse();
+        assertThat(stockRedisTemplate.hasKey(RedisStockReservation.BATCH_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공][redis] DB 반영 후 확인 처리가 실패한 배치는 다시 반영하지 않음")
+    void givenAppliedButNotAcknowledged_whenReconcile_thenAcknowledgeOnly() {
+        //given: 이전 주기에 DB 커밋까지 끝나고 redis 확인 처리 전에 중단
+        stockReservation.reserve(quantities(3));
+        var batch = stockReservation.stageBatch().orElseThrow();
+        applyToDb(batch);
+
+        //when
+        stockReconciler.reconcile();
+
+        //then
+        assertThat(dbStock()).isEqualTo(97);
+        assertThat(stockRedisTemplate.hasKey(RedisStockReservation.BATCH_ID_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공][redis] 반영 중(미커밋)인 배치가 있을 때 재고 로딩 -> 배치 변경량을 뺀다")
+    void givenStagedBatchNotApplied_whenLoad_thenSubtractBatch() {
+        //given
+        stockReservation.reserve(quantities(3));
+        stockReservation.stageBatch();
+        stockReservation.evict(ITEM_ID);
+
+        //when
+        stockReservation.load(ITEM_ID);
+
+        //then
+        assertThat(stock()).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("[성공][redis] 반영(커밋)됐지만 확인 처리 전인 배치가 있을 때 재고 로딩 -> 두 번 빼지 않는다")
+    void givenStagedBatchApplied_whenLoad_thenNotSubtractTwice() {
+        //given
+        stockReservation.reserve(quantities(3));
+        applyToDb(stockReservation.stageBatch().orElseThrow());
+        stockReservation.evict(ITEM_ID);
+
+        //when
+        stockReservation.load(ITEM_ID);
+
+        //then
+        assertThat(stock()).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("[실패][redis] DB 를 읽는 사이 배치가 바뀌면 로딩 스크립트가 거부")
+    void givenBatchSeqChanged_whenLoadScript_thenReject() {
+        //given: 배치 순번 0 에서 DB 재고(100)를 읽었고, 그 사이 배치가 만들어져 반영/확인 처리됨
+        stockReservation.reserve(quantities(3));
+        stockReconciler.reconcile();
+        stockReservation.evict(ITEM_ID);
+
+        var loadScript = new DefaultRedisScript<Long>();
+        loadScript.setLocation(new ClassPathResource("redis/stock-load.lua"));
+        loadScript.setResultType(Long.class);
+
+        //when
+        var result = stockRedisTemplate.execute(loadScript,
+                List.of(RedisStockReservation.PENDING_KEY, "stock:" + ITEM_ID, RedisStockReservation.BATCH_KEY,
+                        RedisStockReservation.BATCH_ID_KEY, RedisStockReservation.BATCH_SEQ_KEY),
+                String.valueOf(ITEM_ID), "100", "", "", "0");
+
+        //then
+        assertThat(result).isEqualTo(-3L);
+        assertThat(stockRedisTemplate.hasKey("stock:" + ITEM_ID)).isFalse();
+    }
+
+    private void applyToDb(RedisStockReservation.StockBatch batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batch.getChanges().forEach(itemRepository::decreaseStock);
+            batchRepository.save(StockReconcileBatch.applied(batch.getId()));
+        });
+    }
+
+    private Map<Long, Integer> quantities(int quantity) {
+        return new TreeMap<>(Map.of(ITEM_ID, quantity));
+    }
+
+    private int stock() {
+        return Integer.parseInt(String.valueOf(stockRedisTemplate.opsForValue().get("stock:" + ITEM_ID)));
+    }
+
+    private int pending() {
+        var value = stockRedisTemplate.opsForHash().get(RedisStockReservation.PENDING_KEY, String.valueOf(ITEM_ID));
+        return value == null ? 0 : Integer.parseInt(String.valueOf(value));
+    }
+
+    private int dbStock() {
+        return itemRepository.findStockQuantity(ITEM_ID).orElseThrow();
+    }
+}
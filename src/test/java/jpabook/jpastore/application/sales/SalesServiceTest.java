@@ -0,0 +1,156 @@
+package jpabook.jpastore.application.sales;
+
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.common.exception.BadRequestException;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.order.Pay;
+import jpabook.jpastore.domain.order.repository.OrderRepository;
+import jpabook.jpastore.domain.sales.SalesDimension;
+import jpabook.jpastore.domain.sales.SalesLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("매출 집계 서비스 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Import(TestDBConfig.class)
+@SpringBootTest
+class SalesServiceTest {
+
+    @Autowired
+    private SalesService salesService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private SalesRollupProjector salesRollupProjector;
+
+    @Autowired
+    private SalesLedgerRepository salesLedgerRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[성공][service] 주문 등록 -> 결제 수단별/상품별 일별 매출 집계 반영")
+    void givenRegisterReq_whenOrder_thenSalesRolledUp() {
+        //given
+        var today = LocalDate.now();
+
+        //when
+        var orderedId = orderService.order(registerReq(Pay.KAKAO_PAY));
+        salesRollupProjector.fold(1000);
+
+        //then
+        var order = orderRepository.findById(orderedId).get();
+
+        var pay = salesService.dailySales(SalesDimension.PAY, Pay.KAKAO_PAY.name(), today, today);
+        assertThat(pay).hasSize(1);
+        assertThat(pay.get(0).getOrderCount()).isEqualTo(1L);
+        assertThat(pay.get(0).getUnitsSold()).isEqualTo(3L);
+        assertThat(pay.get(0).getRevenue()).isEqualTo((long) order.getTotalPrice().getValue());
+
+        var items = salesService.totalSales(SalesDimension.ITEM, today, today);
+        assertThat(items).extracting(SalesInfo.TotalInfo::getDimensionKey).containsExactlyInAnyOrder("1", "3");
+        assertThat(items).extracting(SalesInfo.TotalInfo::getRevenue)
+                .allMatch(revenue -> revenue > 0);
+    }
+
+    @Test
+    @DisplayName("[성공][service] 주문 취소 -> 취소 집계 반영")
+    void givenOrderedOrder_whenCancelOrder_thenCanceledSalesRolledUp() {
+        //given
+        var today = LocalDate.now();
+        var orderedId = orderService.order(registerReq(Pay.KAKAO_PAY));
+
+        //when
+        orderService.cancelOrder(orderedId, "member2");
+        salesRollupProjector.fold(1000);
+
+        //then
+        var pay = salesService.dailySales(SalesDimension.PAY, Pay.KAKAO_PAY.name(), today, today).get(0);
+        assertThat(pay.getOrderCount()).isEqualTo(1L);
+        assertThat(pay.getCanceledOrderCount()).isEqualTo(1L);
+        assertThat(pay.getCanceledUnits()).isEqualTo(pay.getUnitsSold());
+        assertThat(pay.getCanceledRevenue()).isEqualTo(pay.getRevenue());
+    }
+
+    @Test
+    @DisplayName("[성공][service] 주문 트랜잭션은 원장만 기록 -> 반영 전에는 집계 행 없음, 반영 후 원장 삭제")
+    void givenOrders_whenFold_thenLedgerFoldedOnceInChunks() {
+        //given
+        var today = LocalDate.now();
+        orderService.order(registerReq(Pay.KAKAO_PAY));
+        orderService.order(registerReq(Pay.KAKAO_PAY));
+        orderService.order(registerReq(Pay.KAKAO_PAY));
+
+        assertThat(salesService.dailySales(SalesDimension.PAY, Pay.KAKAO_PAY.name(), today, today)).isEmpty();
+        assertThat(salesLedgerRepository.count()).isEqualTo(3L);
+
+        //when
+        var firstChunk = salesRollupProjector.fold(2);
+        var secondChunk = salesRollupProjector.fold(2);
+        var nothingLeft = salesRollupProjector.fold(2);
+
+        //then
+        assertThat(firstChunk).isEqualTo(2);
+        assertThat(secondChunk).isEqualTo(1);
+        assertThat(nothingLeft).isZero();
+        assertThat(salesLedgerRepository.count()).isZero();
+
+        var pay = salesService.dailySales(SalesDimension.PAY, Pay.KAKAO_PAY.name(), today, today).get(0);
+        assertThat(pay.getOrderCount()).isEqualTo(3L);
+        assertThat(pay.getUnitsSold()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("[실패][service] 조회 기간이 올바르지 않으면 BadRequestException")
+    void givenInvalidPeriod_whenTotalSales_thenThrowBadRequestException() {
+        //given
+        var from = LocalDate.now();
+        var to = from.minusDays(1);
+
+        //when & then
+        assertThatThrownBy(() -> salesService.totalSales(SalesDimension.PAY, from, to))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private OrderCommand.OrderRegisterReq registerReq(Pay payInfo) {
+        return OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(List.of(
+                        OrderCommand.OrderItemRegisterReq.builder().itemId(1L).quantity(2).build(),
+                        OrderCommand.OrderItemRegisterReq.builder().itemId(3L).quantity(1).build()))
+                .payInfo(payInfo)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package jpabook.jpastore.application.suggest;
+
+import jpabook.jpastore.application.category.CategoryService;
+import jpabook.jpastore.application.item.ItemCommand;
+import jpabook.jpastore.application.item.ItemService;
+import jpabook.jpastore.application.order.OrderCommand;
+import jpabook.jpastore.application.order.OrderService;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.domain.order.Pay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자동완성 서비스 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Import(TestDBConfig.class)
+@SpringBootTest(properties = "jpastore.suggest.enabled=true")
+class SuggestServiceTest {
+
+    @Autowired
+    private SuggestService suggestService;
+
+    @Autowired
+    private SuggestIndex suggestIndex;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        suggestIndex.rebuild(); // 테스트 데이터는 SQL 로 넣으므로 직접 재생성
+    }
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @DisplayName("[성공][service] 접두사 자동완성 -> 대소문자 무시, 판매 수량 가중치 순")
+    @Test
+    void givenSoldItem_whenSuggest_thenReturnsWeightedSuggestions() {
+        //given
+        orderService.order(OrderCommand.OrderRegisterReq.builder()
+                .memberId(2L)
+                .orderItems(List.of(OrderCommand.OrderItemRegisterReq.builder().itemId(3L).quantity(2).build()))
+                .payInfo(Pay.KAKAO_PAY)
+                .city("경기도")
+                .street("성남시")
+                .zipcode("33333")
+                .build());
+        suggestIndex.rebuild(); // 판매 가중치 반영
+
+        //when
+        var books = suggestService.suggest("BOO", null);
+        var limited = suggestService.suggest("b", 2);
+        var categories = suggestService.suggest("kp", null);
+
+        //then
+        assertThat(books).extracting(SuggestInfo.Suggestion::getId).containsExactly(3L, 1L, 2L);
+        assertThat(books.get(0).getWeight()).isEqualTo(2L);
+        assertThat(limited).hasSize(2);
+        assertThat(categories).extracting(SuggestInfo.Suggestion::getType).containsExactly(SuggestInfo.Type.CATEGORY);
+        assertThat(categories).extracting(SuggestInfo.Suggestion::getName).containsExactly("KPOP");
+    }
+
+    @DisplayName("[성공][service] 상품/카테고리 변경 커밋 후 자동완성 색인 반영")
+    @Test
+    void givenUpdatedItemAndDeletedCategory_whenSuggest_thenIndexSynced() {
+        //given
+        itemService.updateItemInfo(1L, ItemCommand.UpdateInfoReq.builder().name("novel1").build());
+        categoryService.delete(13L); // POP
+
+        //when
+        var books = suggestService.suggest("book", null);
+        var novels = suggestService.suggest("nov", null);
+        var pops = suggestService.suggest("pop", null);
+
+        //then
+        assertThat(books).extracting(SuggestInfo.Suggestion::getId).containsExactly(2L, 3L);
+        assertThat(novels).extracting(SuggestInfo.Suggestion::getId).containsExactly(1L);
+        assertThat(pops).isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package jpabook.jpastore.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("n-gram 색인 테스트")
+class NgramIndexTest {
+
+    @Test
+    @DisplayName("[성공][utils] 상위 limit 건만 순위순 반환 (일치 -> 앞부분 일치 -> 위치 -> 짧은 원문 -> id)")
+    void givenManyMatches_whenSearchWithLimit_thenReturnTopRanked() {
+        //given
+        var index = new NgramIndex(3);
+        Map<Long, String> entries = new HashMap<>();
+        for (long id = 1; id <= 1000; id++) {
+            entries.put(id, "item-book-" + id);
+        }
+        entries.put(2000L, "book");
+        entries.put(2001L, "book shelf");
+        entries.put(2002L, "a book");
+        index.replaceAll(entries);
+
+        //when
+        var ids = index.search("BOOK", 4);
+
+        //then
+        assertThat(ids).containsExactly(2000L, 2001L, 2002L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공][utils] n 보다 짧은 검색어 -> 짧은 gram 색인으로 검색, 삭제/수정 반영")
+    void givenShortQuery_whenSearch_thenUseShortGramPostings() {
+        //given
+        var index = new NgramIndex(3);
+        index.put(1L, "album");
+        index.put(2L, "movie");
+        index.put(3L, "book");
+
+        //when
+        index.put(3L, "comic");
+        index.remove(1L);
+
+        //then
+        assertThat(index.search("m", 10)).containsExactly(2L, 3L);
+        assertThat(index.search("co", 10)).containsExactly(3L);
+        assertThat(index.search("bo", 10)).isEmpty();
+        assertThat(index.search("al", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공][utils] 순위 없는 검색 -> 포함하는 id 를 최대 limit 건")
+    void givenMatches_whenSearchUnordered_thenReturnUpToLimit() {
+        //given
+        var index = new NgramIndex(3);
+        index.put(1L, "book1");
+        index.put(2L, "book2");
+        index.put(3L, "album");
+
+        //when
+        var limited = index.searchUnordered("book", 1);
+        var all = index.searchUnordered("ook", 10);
+
+        //then
+        assertThat(limited).hasSize(1).isSubsetOf(1L, 2L);
+        assertThat(all).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
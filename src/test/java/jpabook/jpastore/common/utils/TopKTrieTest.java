@@ -0,0 +1,114 @@
+package jpabook.jpastore.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상위 k 접두사 trie 테스트")
+class TopKTrieTest {
+
+    @Test
+    @DisplayName("[성공][utils] 노드마다 가중치 순 상위 k 건만 유지, limit 만큼 반환")
+    void givenMoreThanK_whenSearch_thenReturnTopKByWeight() {
+        //given
+        var trie = new TopKTrie<String>(3);
+        trie.put("1", "book", 10, "book");
+        trie.put("2", "bookmark", 50, "bookmark");
+        trie.put("3", "boots", 30, "boots");
+        trie.put("4", "bowl", 20, "bowl");
+        trie.put("5", "box", 5, "box");
+
+        //when
+        var top = trie.search("bo", 10);
+        var limited = trie.search("BO", 2);
+
+        //then
+        assertThat(top).containsExactly("bookmark", "boots", "bowl");
+        assertThat(limited).containsExactly("bookmark", "boots");
+        assertThat(trie.search("bok", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("[성공][utils] 삭제하면 잘려 있던 다음 순위 항목이 목록에 들어옴")
+    void givenTruncatedEntry_whenRemoveTopEntry_thenNextEntryPromoted() {
+        //given
+        var trie = new TopKTrie<String>(2);
+        trie.put("1", "apple", 30, "apple");
+        trie.put("2", "apricot", 20, "apricot");
+        trie.put("3", "april", 10, "april");
+
+        //when
+        trie.remove("1");
+
+        //then
+        assertThat(trie.search("ap", 10)).containsExactly("apricot", "april");
+        assertThat(trie.search("app", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공][utils] 텍스트가 바뀌면 이전 접두사에서 빠지고 새 접두사로 옮겨짐")
+    void givenExistingKey_whenPutWithNewText_thenMovePath() {
+        //given
+        var trie = new TopKTrie<String>(3);
+        trie.put("1", "camera", 10, "camera");
+        trie.put("2", "candle", 5, "candle");
+
+        //when
+        trie.put("1", "drone", 10, "drone");
+
+        //then
+        assertThat(trie.search("ca", 10)).containsExactly("candle");
+        assertThat(trie.search("cam", 10)).isEmpty();
+        assertThat(trie.search("dr", 10)).containsExactly("drone");
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공][utils] 가중치가 줄면 순위가 내려가고, 잘려 있던 항목보다 작아지면 목록에서 빠짐")
+    void givenTopEntry_whenDecreaseWeight_thenRecomputeRanking() {
+        //given
+        var trie = new TopKTrie<String>(2);
+        trie.put("1", "pen", 30, "pen");
+        trie.put("2", "pencil", 20, "pencil");
+        trie.put("3", "pendant", 10, "pendant");
+
+        //when
+        trie.updateWeight("1", 15);
+        var afterFirst = trie.search("pen", 10);
+        trie.updateWeight("1", 1);
+        var afterSecond = trie.search("pen", 10);
+
+        //then
+        assertThat(afterFirst).containsExactly("pencil", "pen");
+        assertThat(afterSecond).containsExactly("pencil", "pendant");
+    }
+
+    @Test
+    @DisplayName("[성공][utils] 가중치가 늘면 잘려 있던 항목도 목록에 들어옴, 같은 가중치는 짧은 텍스트 우선")
+    void givenTruncatedEntry_whenIncreaseWeight_thenPromoted() {
+        //given
+        var trie = new TopKTrie<String>(2);
+        trie.put("1", "tablet", 10, "tablet");
+        trie.put("2", "table", 10, "table");
+        trie.put("3", "tab", 1, "tab");
+
+        //when
+        var before = trie.search("ta", 10);
+        trie.put("3", "tab", 100, "tab");
+
+        //then
+        assertThat(before).containsExactly("table", "tablet");
+        assertThat(trie.search("ta", 10)).containsExactly("tab", "table");
+    }
+
+    @Test
+    @DisplayName("[실패][utils] k 가 1 보다 작음")
+    void givenNonPositiveK_whenCreate_thenThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new TopKTrie<String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
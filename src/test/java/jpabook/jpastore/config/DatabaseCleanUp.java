@@ -46,7 +46,8 @@ public class DatabaseCleanUp implements InitializingBean {
             StringBuilder sb = new StringBuilder(entityName);
 
             if(sb.toString().equalsIgnoreCase("delivery")
-                    || sb.toString().equalsIgnoreCase("category")){
+                    || sb.toString().equalsIgnoreCase("category")
+                    || sb.toString().equalsIgnoreCase("order_summary")){
 
                 sb.deleteCharAt(sb.length() - 1).append("ies");
             } else {
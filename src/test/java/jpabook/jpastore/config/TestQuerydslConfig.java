@@ -1,11 +1,14 @@
 package jpabook.jpastore.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpastore.common.utils.OneToManyAssembler;
+import jpabook.jpastore.common.utils.PageCountSupport;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.time.Duration;
 
 @TestConfiguration
 public class TestQuerydslConfig {
@@ -16,4 +19,16 @@ public class TestQuerydslConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
+
+    // 테스트에서는 count 캐시 사용하지 않음
+    @Bean
+    public PageCountSupport pageCountSupport() {
+        return new PageCountSupport(Duration.ZERO);
+    }
+
+    // 테스트 데이터로도 청크 분할/동시 조회가 일어나도록 작은 청크 사용
+    @Bean(destroyMethod = "shutdown")
+    public OneToManyAssembler oneToManyAssembler() {
+        return new OneToManyAssembler(5, 2);
+    }
 }
@@ -0,0 +1,112 @@
+package jpabook.jpastore.domain;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.IdentifierGenerationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("시간순 id 생성기 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("[성공][domain] 같은 ms 안에서 순번을 모두 쓰면 다음 ms 까지 기다림 -> id 는 중복 없이 증가하고 시계를 앞서지 않음")
+    void givenSlowClock_whenNextIdOverSequence_thenIdsStrictlyIncreaseWithoutBorrowingFutureMillis() {
+        //given
+        var calls = new AtomicLong();
+        LongSupplier clock = () -> NOW + calls.getAndIncrement() / 1000; // 1000 번 호출마다 1ms
+        var generator = new TimeOrderedIdGenerator(3L, clock);
+
+        //when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < (TimeOrderedIdGenerator.MAX_SEQUENCE + 1) * 3; i++) {
+            ids.add(generator.nextId());
+        }
+
+        //then
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids).isSorted();
+        var lastId = ids.get(ids.size() - 1);
+        assertThat(lastId).isLessThan(1L << 53); // JavaScript 안전 정수 범위
+        assertThat((lastId >> 12) + TimeOrderedIdGenerator.EPOCH_MILLIS).isLessThanOrEqualTo(clock.getAsLong());
+    }
+
+    @Test
+    @DisplayName("[성공][domain] 시계가 뒤로 가면 마지막 시각을 지날 때까지 기다림 -> id 는 감소하지 않음")
+    void givenClockMovesBackwards_whenNextId_thenWaitAndIdIncreases() {
+        //given
+        var clock = new AtomicLong(NOW);
+        var generator = new TimeOrderedIdGenerator(0L, clock::getAndIncrement);
+        var before = generator.nextId();
+
+        //when
+        clock.set(NOW - 20L);
+        var after = generator.nextId();
+
+        //then
+        assertThat(after).isGreaterThan(before);
+        assertThat(clock.get()).isGreaterThanOrEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("[실패][domain] 허용 범위보다 크게 시계가 뒤로 가면 id 생성 실패")
+    void givenClockMovesFarBackwards_whenNextId_thenThrowIdentifierGenerationException() {
+        //given
+        var clock = new AtomicLong(NOW);
+        var generator = new TimeOrderedIdGenerator(0L, clock::get);
+        generator.nextId();
+
+        //when
+        clock.set(NOW - TimeOrderedIdGenerator.MAX_CLOCK_BACKWARD_MILLIS - 1);
+
+        //then
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IdentifierGenerationException.class);
+    }
+
+    @Test
+    @DisplayName("[성공][domain] 노드 id 가 다르면 같은 시각에도 id 가 겹치지 않음")
+    void givenDifferentNodeIds_whenNextIdAtSameTime_thenIdsDiffer() {
+        //given
+        var node1 = new TimeOrderedIdGenerator(1L, () -> NOW);
+        var node2 = new TimeOrderedIdGenerator(2L, () -> NOW);
+
+        //when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(node1.nextId());
+            ids.add(node2.nextId());
+        }
+
+        //then
+        assertThat(ids).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("[실패][domain] 범위를 벗어난 노드 id")
+    void givenOutOfRangeNodeId_whenCreate_thenThrowMappingException() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    @DisplayName("[실패][domain] 노드 id 설정이 없거나 숫자가 아니면 시작 실패")
+    void givenMissingNodeIdSetting_whenParse_thenThrowMappingException() {
+        assertThat(TimeOrderedIdGenerator.parseNodeId(" 7 ")).isEqualTo(7L);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId(null))
+                .isInstanceOf(MappingException.class);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId(""))
+                .isInstanceOf(MappingException.class);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId("node-1"))
+                .isInstanceOf(MappingException.class);
+    }
+}
@@ -1,5 +1,6 @@
 package jpabook.jpastore.domain.category;
 
+import jpabook.jpastore.config.JpaTransactionConfig;
 import jpabook.jpastore.config.TestQuerydslConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +16,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@Import(TestQuerydslConfig.class)
+@Import({TestQuerydslConfig.class, JpaTransactionConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 class CategoryRepositoryTest {
@@ -1,8 +1,12 @@
 package jpabook.jpastore.domain.item;
 
+import jpabook.jpastore.common.cursor.CursorRequest;
+import jpabook.jpastore.common.utils.NoTotalPageRequest;
 import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.JpaTransactionConfig;
 import jpabook.jpastore.config.TestDBConfig;
 import jpabook.jpastore.config.TestQuerydslConfig;
+import org.hibernate.Session;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Sql(
@@ -22,7 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
         config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
 )
-@Import({TestQuerydslConfig.class, TestDBConfig.class})
+@Import({TestQuerydslConfig.class, TestDBConfig.class, JpaTransactionConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 class ItemRepositoryTest {
@@ -33,6 +42,9 @@ class ItemRepositoryTest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private EntityManager em;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.cleanUp();
@@ -69,4 +81,163 @@ class ItemRepositoryTest {
         assertThat(items.getContent().get(0).getId()).isEqualTo(9L);
         assertThat(items.getContent().get(0).getName()).isEqualTo("movie2");
     }
+
+    @Test
+    @DisplayName("[성공][repo] Item 엔티티 전체 조회: 전체 개수 없는 페이징 (count 쿼리 생략)")
+    public void givenNoTotalPageRequest_whenFindAll_thenReturnsPageWithoutTotal() {
+        //given
+        var condition = ItemSearchCondition.builder().build(); // 검색 조건 없음
+        var firstPage = NoTotalPageRequest.of(PageRequest.of(0, 5, Sort.Direction.DESC, "id"));
+
+        //when
+        var first = itemRepository.findAll(condition, firstPage);
+        var last = itemRepository.findAll(condition, first.nextPageable());
+
+        //then
+        assertThat(first.getContent()).hasSize(5);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(4);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.getTotalElements()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 상품 리스트 projection 조회: 페이징/정렬/검색, 엔티티를 영속성 컨텍스트에 올리지 않음")
+    public void givenPageRequest_whenFindAllListInfo_thenReturnsProjectionWithoutEntities() {
+        //given
+        var pageRequest = PageRequest.of(0, 5, Sort.Direction.DESC, "price");
+        var condition = ItemSearchCondition.builder().minPrice(20000).build();
+        em.clear();
+
+        //when
+        var items = itemRepository.findAllListInfo(condition, pageRequest);
+
+        //then
+        assertThat(items.getTotalElements()).isEqualTo(5); // album1, album3, album4, movie1, movie2
+        assertThat(items.getContent()).extracting(ItemQueryInfo.ListInfo::getItemName)
+                .containsExactly("movie2", "movie1", "album3", "album4", "album1");
+        assertThat(items.getContent().get(0).getPrice().getValue()).isEqualTo(30000);
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 상품 리스트 projection 커서 페이지 조회: 엔티티 커서 조회와 같은 순서")
+    public void givenCursorRequest_whenFindAllListInfo_thenSameOrderAsEntityCursor() {
+        //given
+        var pageable = PageRequest.of(0, 4, Sort.by(Sort.Direction.ASC, "price"));
+        var condition = ItemSearchCondition.builder().build();
+
+        //when
+        List<Long> projected = new ArrayList<>();
+        String cursor = null;
+        do {
+            var page = itemRepository.findAllListInfo(condition, CursorRequest.of(cursor, pageable));
+            page.getContent().forEach(i -> projected.add(i.getItemId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        //then
+        var entities = itemRepository.findAll(condition, PageRequest.of(0, 9, Sort.by(Sort.Direction.ASC, "price")));
+        assertThat(projected).containsExactlyElementsOf(
+                entities.getContent().stream().map(Item::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 삭제된 상품은 soft delete 필터로 조회 쿼리에서 제외, id 단건 조회는 가능")
+    public void givenDeletedItem_whenFindAll_thenExcludedBySoftDeleteFilter() {
+        //given
+        var itemId = 9L;
+        itemRepository.findById(itemId).orElseThrow().delete();
+
+        //when
+        var items = itemRepository.findAll();
+        var byQuery = itemRepository.findItemById(itemId);
+        var byId = itemRepository.findById(itemId);
+
+        //then
+        assertThat(items).hasSize(8);
+        assertThat(items).extracting(Item::getId).doesNotContain(itemId);
+        assertThat(byQuery).isEmpty();
+        assertThat(byId).isPresent(); // 주문 상품 등 기존 연관 로딩은 유지
+    }
+
+    @Test
+    @DisplayName("[성공][repo] Item 엔티티 리스트 조회 by Id 리스트")
+    public void givenItemIds_whenFindItemsByIds_thenReturnsItemEntities() {
+        //given
+        var itemIds = List.of(1L, 3L, 100L);
+
+        //when
+        var items = itemRepository.findItemsByIds(itemIds);
+
+        //then
+        assertThat(items).hasSize(2);
+        assertThat(items).extracting(Item::getId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 재고 상대값 차감 UPDATE")
+    public void givenItemIdAndQuantity_whenDecreaseStock_thenStockDecreased() {
+        //given
+        var itemId = 1L; // 재고 100
+
+        //when
+        var updated = itemRepository.decreaseStock(itemId, 30);
+
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(itemRepository.findItemById(itemId).get().getStockQuantity()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 재고 상대값 차감 시 낙관적 락 버전 증가")
+    public void givenItemId_whenDecreaseStock_thenVersionIncreased() {
+        //given
+        var itemId = 1L;
+        var version = itemRepository.findItemById(itemId).get().getVersion();
+
+        //when
+        itemRepository.decreaseStock(itemId, 1);
+
+        //then
+        assertThat(itemRepository.findItemById(itemId).get().getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 주문 상품 일괄 락 조회 - id 오름차순")
+    public void givenItemIds_whenFindItemsForUpdate_thenReturnsItemsOrderById() {
+        //given
+        var itemIds = List.of(6L, 2L, 4L, 100L);
+
+        //when
+        var items = itemRepository.findItemsForUpdate(itemIds);
+
+        //then
+        assertThat(items).extracting(Item::getId).containsExactly(2L, 4L, 6L);
+    }
+
+    @Test
+    @DisplayName("[성공][repo] Item 엔티티 커서 페이지 조회: 가격 오름차순, 중복/누락 없음")
+    public void givenCursorRequest_whenFindAll_thenReturnsAllItemsWithoutOffset() {
+        //given
+        var pageable = PageRequest.of(0, 4, Sort.by(Sort.Direction.ASC, "price"));
+        var condition = ItemSearchCondition.builder().build();
+
+        //when
+        List<Item> items = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var page = itemRepository.findAll(condition, CursorRequest.of(cursor, pageable));
+            items.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        //then
+        assertThat(pages).isEqualTo(3);
+        assertThat(items).hasSize(9);
+        assertThat(items).extracting(Item::getId).doesNotHaveDuplicates();
+        assertThat(items).extracting(i -> i.getPrice().getValue()).isSorted();
+    }
 }
@@ -0,0 +1,99 @@
+package jpabook.jpastore.domain.member;
+
+import jpabook.jpastore.common.cursor.CursorRequest;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.JpaTransactionConfig;
+import jpabook.jpastore.config.TestDBConfig;
+import jpabook.jpastore.config.TestQuerydslConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Import({TestQuerydslConfig.class, TestDBConfig.class, JpaTransactionConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class MemberRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 회원 커서 페이지 조회: 가입일 최신순 (같은 가입일은 id 순), 중복/누락 없음")
+    void findAllWithMembership_cursor_createdDateDesc() {
+        //given
+        givenCreatedDatesWithTies();
+        var pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdDate"));
+
+        //when
+        var members = fetchAllPages(pageable);
+
+        //then
+        assertThat(members).hasSize(5);
+        assertThat(members).extracting(Member::getId).doesNotHaveDuplicates();
+        assertThat(members).isSortedAccordingTo(
+                Comparator.comparing(Member::getCreatedDate).thenComparing(Member::getId).reversed());
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 회원 커서 페이지 조회: username 오름차순, 중복/누락 없음")
+    void findAllWithMembership_cursor_usernameAsc() {
+        //given
+        var pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "username"));
+
+        //when
+        var members = fetchAllPages(pageable);
+
+        //then
+        assertThat(members).extracting(Member::getUsername)
+                .containsExactly("admin", "member1", "member2", "member3", "member4");
+    }
+
+    private List<Member> fetchAllPages(PageRequest pageable) {
+        List<Member> members = new ArrayList<>();
+        String cursor = null;
+        do {
+            var page = memberRepository.findAllWithMembership(null, null, CursorRequest.of(cursor, pageable));
+            members.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return members;
+    }
+
+    // 가입일 2가지 -> 같은 가입일 안에서는 id 로 이어서 조회해야 함
+    private void givenCreatedDatesWithTies() {
+        em.createNativeQuery("update members set created_date = dateadd('DAY', mod(member_id, 2), timestamp '2024-01-01 00:00:00')")
+                .executeUpdate();
+        em.clear();
+    }
+}
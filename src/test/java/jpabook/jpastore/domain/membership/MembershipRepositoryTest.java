@@ -1,6 +1,7 @@
 package jpabook.jpastore.domain.membership;
 
 import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.JpaTransactionConfig;
 import jpabook.jpastore.config.TestDBConfig;
 import jpabook.jpastore.config.TestQuerydslConfig;
 import org.junit.jupiter.api.AfterEach;
@@ -21,7 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
         config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
 )
-@Import({TestQuerydslConfig.class, TestDBConfig.class})
+@Import({TestQuerydslConfig.class, TestDBConfig.class, JpaTransactionConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 class MembershipRepositoryTest {
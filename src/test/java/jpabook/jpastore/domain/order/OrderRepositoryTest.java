@@ -1,6 +1,8 @@
 package jpabook.jpastore.domain.order;
 
+import jpabook.jpastore.common.cursor.CursorRequest;
 import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.JpaTransactionConfig;
 import jpabook.jpastore.config.TestDBConfig;
 import jpabook.jpastore.config.TestQuerydslConfig;
 import jpabook.jpastore.domain.order.repository.OrderQueryInfo;
@@ -17,6 +19,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Sql(
@@ -24,7 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
         config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
 )
-@Import({TestQuerydslConfig.class, TestDBConfig.class})
+@Import({TestQuerydslConfig.class, TestDBConfig.class, JpaTransactionConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 class OrderRepositoryTest {
@@ -32,6 +41,9 @@ class OrderRepositoryTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private EntityManager em;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -137,6 +149,25 @@ class OrderRepositoryTest {
         assertThat(result.get(0)).isInstanceOf(OrderQueryInfo.SimpleInfo.class);
     }
 
+    @Test
+    @DisplayName("[성공][repo] querydsl 검색 조건 주문 simple dto 스트리밍 조회 테스트 (내보내기)")
+    void streamOrderSimpleInfo_querydsl() {
+        //given
+        var orderSearchCondition = OrderSearchCondition.builder()
+                .memberName("member1")
+                .build();
+        List<OrderQueryInfo.SimpleInfo> exported = new ArrayList<>();
+
+        //when
+        var count = orderRepository.streamOrderSimpleInfo(orderSearchCondition, exported::add);
+
+        //then
+        assertThat(count).isEqualTo(orderRepository.findByCondition(orderSearchCondition).size());
+        assertThat(exported).hasSize((int) count);
+        assertThat(exported).extracting(OrderQueryInfo.SimpleInfo::getMemberName).containsOnly("member1");
+        assertThat(exported).extracting(OrderQueryInfo.SimpleInfo::getOrderId).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
     @Test
     @DisplayName("[성공][repo] querydsl 전체 주문 상세 dto(OrderQueryInfo.MainInfo) 정상 조회 테스트")
     void findAllOrderInfo_querydsl() {
@@ -149,4 +180,77 @@ class OrderRepositoryTest {
         assertThat(result.get(0).getOrderItems().get(0)).isInstanceOf(OrderQueryInfo.OrderItemInfo.class);
         assertThat(result.get(0).getOrderId()).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("[성공][repo] 주문 DTO 조회: 주문 상품 IN 절 청크 분할/동시 조회 후 주문별 조립")
+    void findAllOrderInfo_chunkedInList() {
+        //when
+        var result = orderRepository.findAllOrderInfo(); // 테스트 청크 크기 5 -> 17건은 4개 청크로 조회
+
+        //then
+        var ordersWithItems = result.stream().filter(o -> o.getOrderItems() != null).collect(Collectors.toList());
+
+        assertThat(ordersWithItems).isNotEmpty();
+        assertThat(ordersWithItems).allSatisfy(o ->
+                assertThat(o.getOrderItems()).extracting(OrderQueryInfo.OrderItemInfo::getOrderId).containsOnly(o.getOrderId()));
+        assertThat(ordersWithItems).allSatisfy(o ->
+                assertThat(o.getOrderItems().stream().mapToInt(OrderQueryInfo.OrderItemInfo::getQuantity).sum())
+                        .isEqualTo(o.getItemCount()));
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 주문 커서 페이지 조회: 생성일 최신순 (같은 생성일은 id 순), 중복/누락 없음")
+    void findByCondition_cursor_createdDateDesc() {
+        //given
+        givenCreatedDatesWithTies();
+        var pageable = PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "createdDate"));
+        var condition = OrderSearchCondition.builder().build();
+
+        //when
+        var orders = fetchAllPages(condition, pageable);
+
+        //then
+        assertThat(orders).hasSize(17);
+        assertThat(orders).extracting(Order::getId).doesNotHaveDuplicates();
+        assertThat(orders).isSortedAccordingTo(
+                Comparator.comparing(Order::getCreatedDate).thenComparing(Order::getId).reversed());
+    }
+
+    @Test
+    @DisplayName("[성공][repo] 주문 커서 페이지 조회: 생성일 오래된순 + 검색 조건, 중복/누락 없음")
+    void findByCondition_cursor_createdDateAscWithCondition() {
+        //given
+        givenCreatedDatesWithTies();
+        var pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "createdDate"));
+        var condition = OrderSearchCondition.builder()
+                .memberName("member1")
+                .build();
+
+        //when
+        var orders = fetchAllPages(condition, pageable);
+
+        //then
+        assertThat(orders).hasSize(orderRepository.findByCondition(condition).size());
+        assertThat(orders).extracting(Order::getId).doesNotHaveDuplicates();
+        assertThat(orders).isSortedAccordingTo(
+                Comparator.comparing(Order::getCreatedDate).thenComparing(Order::getId));
+    }
+
+    private List<Order> fetchAllPages(OrderSearchCondition condition, PageRequest pageable) {
+        List<Order> orders = new ArrayList<>();
+        String cursor = null;
+        do {
+            var page = orderRepository.findByCondition(condition, CursorRequest.of(cursor, pageable));
+            orders.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return orders;
+    }
+
+    // 생성일 3가지 -> 같은 생성일 안에서는 id 로 이어서 조회해야 함
+    private void givenCreatedDatesWithTies() {
+        em.createNativeQuery("update orders set created_date = dateadd('DAY', mod(order_id, 3), timestamp '2024-01-01 00:00:00')")
+                .executeUpdate();
+        em.clear();
+    }
 }
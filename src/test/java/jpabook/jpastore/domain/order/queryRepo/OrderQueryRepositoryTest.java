@@ -1,6 +1,7 @@
 package jpabook.jpastore.domain.order.queryRepo;
 
 import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.JpaTransactionConfig;
 import jpabook.jpastore.config.TestDBConfig;
 import jpabook.jpastore.config.TestQuerydslConfig;
 import jpabook.jpastore.domain.Address;
@@ -31,7 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
         config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
 )
-@Import({TestQuerydslConfig.class, TestDBConfig.class, OrderQueryRepository.class})
+@Import({TestQuerydslConfig.class, TestDBConfig.class, JpaTransactionConfig.class, OrderQueryRepository.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 class OrderQueryRepositoryTest {
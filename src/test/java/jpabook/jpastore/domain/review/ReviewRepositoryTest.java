@@ -1,6 +1,7 @@
 package jpabook.jpastore.domain.review;
 
 import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.JpaTransactionConfig;
 import jpabook.jpastore.config.TestDBConfig;
 import jpabook.jpastore.config.TestQuerydslConfig;
 import jpabook.jpastore.domain.item.ItemRepository;
@@ -28,7 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
 )
 @Slf4j
-@Import({TestQuerydslConfig.class, TestDBConfig.class})
+@Import({TestQuerydslConfig.class, TestDBConfig.class, JpaTransactionConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 class ReviewRepositoryTest {
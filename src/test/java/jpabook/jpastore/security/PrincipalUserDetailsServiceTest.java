@@ -0,0 +1,71 @@
+package jpabook.jpastore.security;
+
+import jpabook.jpastore.application.member.MemberService;
+import jpabook.jpastore.config.DatabaseCleanUp;
+import jpabook.jpastore.config.TestDBConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 시 회원 조회는 트랜잭션 밖에서 실행된다. (soft delete 필터 미적용)
+ * 테스트 클래스에 트랜잭션을 걸지 않아야 실제 로그인과 같은 조건으로 확인할 수 있다.
+ */
+@DisplayName("로그인 회원 조회 테스트")
+@Sql(
+        scripts = "classpath:data/data-test.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+)
+@Import(TestDBConfig.class)
+@SpringBootTest
+class PrincipalUserDetailsServiceTest {
+
+    @Autowired
+    private PrincipalUserDetailsService principalUserDetailsService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanUp.cleanUp();
+    }
+
+    @DisplayName("[성공][service] 로그인 회원 조회")
+    @Test
+    void givenMember_whenLoadUserByUsername_thenReturnsUserDetails() {
+        //given
+        var username = "member3";
+
+        //when
+        var userDetails = principalUserDetailsService.loadUserByUsername(username);
+
+        //then
+        assertThat(userDetails.getUsername()).isEqualTo(username);
+    }
+
+    @DisplayName("[실패][service] 로그인 회원 조회: 삭제된 회원")
+    @Test
+    void givenDeletedMember_whenLoadUserByUsername_thenThrowUsernameNotFoundException() {
+        //given
+        var username = "member3";
+        memberService.delete(3L, username); // 본인 탈퇴
+
+        //when & then
+        assertThatThrownBy(() -> principalUserDetailsService.loadUserByUsername(username))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+}
@@ -3,6 +3,7 @@ package jpabook.jpastore.web.api.v1.item;
 import jpabook.jpastore.config.DatabaseCleanUp;
 import jpabook.jpastore.config.TestDBConfig;
 import jpabook.jpastore.domain.item.Book;
+import jpabook.jpastore.domain.item.Item;
 import jpabook.jpastore.domain.item.ItemRepository;
 import jpabook.jpastore.security.JwtTokenProvider;
 import jpabook.jpastore.web.dto.item.ItemDto;
@@ -24,6 +25,8 @@ import org.springframework.test.context.jdbc.SqlConfig;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -100,7 +103,8 @@ class ItemCommandApiControllerTest {
                 .exchange()
                 .expectStatus().isCreated()
                 .expectHeader().contentType(MediaType.APPLICATION_JSON)
-                .expectBody().jsonPath("$.data.registeredItemId").isEqualTo(10);
+                .expectBody().jsonPath("$.data.registeredItemId")
+                .value(id -> assertThat(((Number) id).longValue()).isGreaterThan(9L)); // 시간순 id: 기존 상품 id 보다 크다
     }
 
     @DisplayName("[실패][api] 새로운 책 상품 등록 - 일반 회원")
@@ -179,7 +183,8 @@ class ItemCommandApiControllerTest {
                 .exchange()
                 .expectStatus().isCreated()
                 .expectHeader().contentType(MediaType.APPLICATION_JSON)
-                .expectBody().jsonPath("$.data.registeredItemId").isEqualTo(10);
+                .expectBody().jsonPath("$.data.registeredItemId")
+                .value(id -> assertThat(((Number) id).longValue()).isGreaterThan(9L)); // 시간순 id: 기존 상품 id 보다 크다
     }
 
     @DisplayName("[성공][api] DVD 상품 등록")
@@ -206,7 +211,8 @@ class ItemCommandApiControllerTest {
                 .exchange()
                 .expectStatus().isCreated()
                 .expectHeader().contentType(MediaType.APPLICATION_JSON)
-                .expectBody().jsonPath("$.data.registeredItemId").isEqualTo(10);
+                .expectBody().jsonPath("$.data.registeredItemId")
+                .value(id -> assertThat(((Number) id).longValue()).isGreaterThan(9L)); // 시간순 id: 기존 상품 id 보다 크다
     }
 
     @DisplayName("[성공][api] 책 상품 정보 수정")
@@ -355,4 +361,90 @@ class ItemCommandApiControllerTest {
                 .expectBody()
                 .jsonPath("$.error.message", "접근이 거부되었습니다.");
     }
+
+    @DisplayName("[성공][api] 상품 일괄 등록 (CSV) - 정상 행만 등록, 검증/형식 오류 행은 줄 번호와 사유 응답")
+    @Test
+    void givenCsvBody_whenImportItems_thenImportValidRowsAndReportErrors() {
+        //given
+        var url = "http://localhost:" + port + "/api/v1/items/import?format=csv";
+        var body = "type,name,price,stockQuantity,categoryId,author,isbn,director,actor\n" +
+                "BOOK,\"일괄, 등록 책\",12000,100,4,author1,99999,,\n" +
+                "BOOK,cheapBook,500,100,4,author2,88888,,\n" +
+                "DVD,일괄 등록 DVD,20000,500,11,,,director3,actor5\n" +
+                "DVD,noCategoryDvd,20000,500,100,,,director4,actor6\n" +
+                "DVD,noActorDvd,20000,500,11,,,director5,\n" +
+                "CD,unknownType,20000,500,11,,,,\n";
+
+        //when & then
+        this.webTestClient
+                .post()
+                .uri(url)
+                .headers(httpHeaders -> httpHeaders.setBearerAuth(adminToken))
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.totalRows").isEqualTo(6)
+                .jsonPath("$.data.importedRows").isEqualTo(2)
+                .jsonPath("$.data.failedRows").isEqualTo(4)
+                .jsonPath("$.data.errors[*].rowNumber").isEqualTo(List.of(3, 5, 6, 7))
+                .jsonPath("$.data.errors[0].message").value(message -> assertThat((String) message).startsWith("price: "))
+                .jsonPath("$.data.errors[2].message").value(message -> assertThat((String) message).startsWith("actor: "));
+
+        var names = itemRepository.findAll().stream().map(Item::getName).collect(Collectors.toList());
+        assertThat(names).contains("일괄, 등록 책", "일괄 등록 DVD");
+        assertThat(names).doesNotContain("cheapBook", "noCategoryDvd", "noActorDvd", "unknownType");
+    }
+
+    @DisplayName("[실패][api] 상품 일괄 등록 (NDJSON) - 깨진 JSON 줄은 오류로 응답하고 다음 줄은 등록")
+    @Test
+    void givenMalformedNdjsonBody_whenImportItems_thenReportErrorAndContinue() {
+        //given
+        var url = "http://localhost:" + port + "/api/v1/items/import?format=ndjson";
+        var body = "{\"type\":\"BOOK\",\"name\":\n" +
+                "{\"type\":\"ALBUM\",\"name\":\"일괄 등록 앨범\",\"price\":15000,\"stockQuantity\":200," +
+                "\"categoryId\":5,\"artist\":\"artist1\",\"etc\":\"etc1\"}\n";
+
+        //when & then
+        this.webTestClient
+                .post()
+                .uri(url)
+                .headers(httpHeaders -> httpHeaders.setBearerAuth(adminToken))
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.importedRows").isEqualTo(1)
+                .jsonPath("$.data.errors[0].rowNumber").isEqualTo(1)
+                .jsonPath("$.data.errors[0].message").value(message -> assertThat((String) message).startsWith("JSON 형식 오류"));
+
+        assertThat(itemRepository.findAll()).extracting(Item::getName).contains("일괄 등록 앨범");
+    }
+
+    @DisplayName("[실패][api] 상품 일괄 등록 - 일반 회원")
+    @Test
+    void givenUserToken_whenImportItems_thenReturnForbiddenError() {
+        //given
+        var url = "http://localhost:" + port + "/api/v1/items/import?format=csv";
+        var body = "type,name,price,stockQuantity,categoryId,author,isbn\n" +
+                "BOOK,userBook,12000,100,4,author1,99999\n";
+
+        //when & then
+        this.webTestClient
+                .post()
+                .uri(url)
+                .headers(httpHeaders -> httpHeaders.setBearerAuth(userToken))
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody().jsonPath("$.error.ex").isEqualTo("AccessDeniedException");
+
+        assertThat(itemRepository.findAll()).extracting(Item::getName).doesNotContain("userBook");
+    }
 }
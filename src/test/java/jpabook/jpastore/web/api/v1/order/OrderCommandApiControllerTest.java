@@ -25,6 +25,8 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @Slf4j
 @DisplayName("주문 생성/취소 API 테스트")
 @Sql(
@@ -103,7 +105,8 @@ class OrderCommandApiControllerTest {
                 .exchange()
                 .expectStatus().isCreated()
                 .expectBody()
-                .jsonPath("$.data.registeredOrderId").isEqualTo(18);
+                .jsonPath("$.data.registeredOrderId")
+                .value(id -> assertThat(((Number) id).longValue()).isGreaterThan(17L)); // 시간순 id: 기존 주문 id 보다 크다
     }
 
     @DisplayName("[실패][api] 올바르지 않은 주문 데이터로 주문 생성 요청")
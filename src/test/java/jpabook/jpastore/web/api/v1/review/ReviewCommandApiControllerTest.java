@@ -23,6 +23,8 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.util.Collections;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @Slf4j
 @DisplayName("리뷰 등록/수정/삭제 API 테스트")
 @Sql(
@@ -89,7 +91,8 @@ class ReviewCommandApiControllerTest {
                 .exchange()
                 .expectStatus().isCreated()
                 .expectBody()
-                .jsonPath("$.data.registeredReviewId").isEqualTo(20L);
+                .jsonPath("$.data.registeredReviewId")
+                .value(id -> assertThat(((Number) id).longValue()).isGreaterThan(19L)); // 시간순 id: 기존 리뷰 id 보다 크다
     }
 
     @DisplayName("[실패][api] 리뷰 등록 - 미인증 사용자")
@@ -0,0 +1,136 @@
+package jpabook.jpastore.web.dto.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpastore.common.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상품 일괄 등록 형식 테스트")
+class ItemImportFormatTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("[성공][dto] CSV - 헤더 순서대로 필드 매핑, 빈 줄은 건너뛰고 줄 번호 유지")
+    void givenCsvWithReorderedHeader_whenRows_thenMapFieldsByHeader() {
+        //given
+        var body = "categoryId,name,type,price,stockQuantity,isbn,author\n" +
+                "\n" +
+                "4,book1,BOOK,12000,100,99999,author1\n";
+
+        //when
+        var rows = rows(ItemImportFormat.CSV, body);
+
+        //then
+        assertThat(rows).hasSize(1);
+        var row = rows.get(0);
+        assertThat(row.getRowNumber()).isEqualTo(3L);
+        assertThat(row.getType()).isEqualTo("BOOK");
+        assertThat(row.getName()).isEqualTo("book1");
+        assertThat(row.getPrice()).isEqualTo(12000);
+        assertThat(row.getStockQuantity()).isEqualTo(100);
+        assertThat(row.getCategoryId()).isEqualTo(4L);
+        assertThat(row.getAuthor()).isEqualTo("author1");
+        assertThat(row.getIsbn()).isEqualTo("99999");
+        assertThat(row.getError()).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공][dto] CSV - 따옴표 안의 쉼표와 \"\" 는 값으로, 빈 값은 null")
+    void givenCsvWithQuotedValues_whenRows_thenUnquote() {
+        //given
+        var body = "type,name,price,stockQuantity,categoryId,artist,etc\n" +
+                "ALBUM,\"Hello, \"\"World\"\"\",15000,200,5,,\"a,b\"\n";
+
+        //when
+        var rows = rows(ItemImportFormat.CSV, body);
+
+        //then
+        var row = rows.get(0);
+        assertThat(row.getName()).isEqualTo("Hello, \"World\"");
+        assertThat(row.getArtist()).isNull();
+        assertThat(row.getEtc()).isEqualTo("a,b");
+        assertThat(row.getError()).isNull();
+    }
+
+    @Test
+    @DisplayName("[실패][dto] CSV - 필드 수가 헤더와 다르거나 숫자 형식이 아닌 줄은 오류 행")
+    void givenMalformedCsvLines_whenRows_thenReturnErrorRows() {
+        //given
+        var body = "type,name,price\n" +
+                "BOOK,book1\n" +
+                "BOOK,book2,abc\n";
+
+        //when
+        var rows = rows(ItemImportFormat.CSV, body);
+
+        //then
+        assertThat(rows).extracting(ItemDto.ImportRow::getRowNumber).containsExactly(2L, 3L);
+        assertThat(rows.get(0).getError()).startsWith("필드 수가 헤더와 다릅니다.");
+        assertThat(rows.get(1).getError()).isEqualTo("숫자 형식이 아닙니다. price = abc");
+    }
+
+    @Test
+    @DisplayName("[성공][dto] NDJSON - 한 줄에 JSON 객체 하나, null 값은 없는 필드로")
+    void givenNdjson_whenRows_thenMapFields() {
+        //given
+        var body = "{\"type\":\"DVD\",\"name\":\"dvd1\",\"price\":20000,\"stockQuantity\":500,\"categoryId\":11," +
+                "\"director\":\"director1\",\"actor\":\"actor1\",\"etc\":null}\n";
+
+        //when
+        var rows = rows(ItemImportFormat.NDJSON, body);
+
+        //then
+        var row = rows.get(0);
+        assertThat(row.getRowNumber()).isEqualTo(1L);
+        assertThat(row.getType()).isEqualTo("DVD");
+        assertThat(row.getPrice()).isEqualTo(20000);
+        assertThat(row.getCategoryId()).isEqualTo(11L);
+        assertThat(row.getDirector()).isEqualTo("director1");
+        assertThat(row.getEtc()).isNull();
+        assertThat(row.getError()).isNull();
+    }
+
+    @Test
+    @DisplayName("[실패][dto] NDJSON - 깨진 JSON, 객체가 아닌 값, 숫자 형식 오류는 오류 행으로 보고하고 다음 줄을 계속 읽음")
+    void givenMalformedNdjson_whenRows_thenReturnErrorRowsAndContinue() {
+        //given
+        var body = "{\"type\":\"BOOK\",\"name\":\n" +
+                "[1, 2]\n" +
+                "{\"type\":\"BOOK\",\"price\":\"abc\"}\n" +
+                "{\"type\":\"BOOK\",\"name\":\"book1\"}\n";
+
+        //when
+        var rows = rows(ItemImportFormat.NDJSON, body);
+
+        //then
+        assertThat(rows).extracting(ItemDto.ImportRow::getRowNumber).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(rows.get(0).getError()).startsWith("JSON 형식 오류");
+        assertThat(rows.get(1).getError()).isEqualTo("JSON 객체가 아닙니다.");
+        assertThat(rows.get(2).getError()).isEqualTo("숫자 형식이 아닙니다. price = abc");
+        assertThat(rows.get(3).getError()).isNull();
+        assertThat(rows.get(3).getName()).isEqualTo("book1");
+    }
+
+    @Test
+    @DisplayName("[실패][dto] 지원하지 않는 형식")
+    void givenUnknownFormat_whenOf_thenThrowBadRequestException() {
+        assertThat(ItemImportFormat.of("ndJSON")).isEqualTo(ItemImportFormat.NDJSON);
+        assertThatThrownBy(() -> ItemImportFormat.of("xml"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<ItemDto.ImportRow> rows(ItemImportFormat format, String body) {
+        List<ItemDto.ImportRow> rows = new ArrayList<>();
+        format.rows(new BufferedReader(new StringReader(body)), objectMapper).forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -1,29 +1,29 @@
-INSERT INTO items (name, price, stock_quantity, author, isbn, dtype, is_deleted)
-VALUES ('book1', 10000, 100, 'kim1', '11111', 'Book', false);
+INSERT INTO items (item_id, name, price, stock_quantity, author, isbn, dtype, is_deleted)
+VALUES (1, 'book1', 10000, 100, 'kim1', '11111', 'Book', false);
 
-INSERT INTO items (name, price, stock_quantity, author, isbn, dtype, is_deleted)
-VALUES ('book2', 15000, 50, 'kim2', '22222', 'Book', false);
+INSERT INTO items (item_id, name, price, stock_quantity, author, isbn, dtype, is_deleted)
+VALUES (2, 'book2', 15000, 50, 'kim2', '22222', 'Book', false);
 
-INSERT INTO items (name, price, stock_quantity, author, isbn, dtype, is_deleted)
-VALUES ('book3', 17500, 75, 'kim3', '33333', 'Book', false);
+INSERT INTO items (item_id, name, price, stock_quantity, author, isbn, dtype, is_deleted)
+VALUES (3, 'book3', 17500, 75, 'kim3', '33333', 'Book', false);
 
-INSERT INTO items (name, price, stock_quantity, artist, etc, dtype, is_deleted)
-VALUES ('album1', 21000, 150, 'artist1', 'artist1 mini', 'Album', false);
+INSERT INTO items (item_id, name, price, stock_quantity, artist, etc, dtype, is_deleted)
+VALUES (4, 'album1', 21000, 150, 'artist1', 'artist1 mini', 'Album', false);
 
-INSERT INTO items (name, price, stock_quantity, artist, etc, dtype, is_deleted)
-VALUES ('album2', 19500, 200, 'artist2', 'artist2 full', 'Album', false);
+INSERT INTO items (item_id, name, price, stock_quantity, artist, etc, dtype, is_deleted)
+VALUES (5, 'album2', 19500, 200, 'artist2', 'artist2 full', 'Album', false);
 
-INSERT INTO items (name, price, stock_quantity, artist, etc, dtype, is_deleted)
-VALUES ('album3', 25000, 300, 'artist3', 'artist3 repackage', 'Album', false);
+INSERT INTO items (item_id, name, price, stock_quantity, artist, etc, dtype, is_deleted)
+VALUES (6, 'album3', 25000, 300, 'artist3', 'artist3 repackage', 'Album', false);
 
-INSERT INTO items (name, price, stock_quantity, artist, etc, dtype, is_deleted)
-VALUES ('album4', 23500, 250, 'artist4', 'artist4 full', 'Album', false);
+INSERT INTO items (item_id, name, price, stock_quantity, artist, etc, dtype, is_deleted)
+VALUES (7, 'album4', 23500, 250, 'artist4', 'artist4 full', 'Album', false);
 
-INSERT INTO items (name, price, stock_quantity, artist, etc, dtype, is_deleted)
-VALUES ('movie1', 27000, 400, 'director1', 'actor1, actor2', 'Dvd', false);
+INSERT INTO items (item_id, name, price, stock_quantity, artist, etc, dtype, is_deleted)
+VALUES (8, 'movie1', 27000, 400, 'director1', 'actor1, actor2', 'Dvd', false);
 
-INSERT INTO items (name, price, stock_quantity, artist, etc, dtype, is_deleted)
-VALUES ('movie2', 30000, 450, 'director2', 'actor3, actor4', 'Dvd', false);
+INSERT INTO items (item_id, name, price, stock_quantity, artist, etc, dtype, is_deleted)
+VALUES (9, 'movie2', 30000, 450, 'director2', 'actor3, actor4', 'Dvd', false);
 
 
 
@@ -318,6 +318,10 @@ VALUES (30, 2, 16, 15000, 2);
 INSERT INTO order_items (order_item_id, item_id, order_id, order_price, quantity)
 VALUES (31, 9, 17, 27000, 2);
 
+UPDATE orders o
+SET total_price = (SELECT COALESCE(SUM(oi.order_price * oi.quantity), 0) FROM order_items oi WHERE oi.order_id = o.order_id),
+    item_count  = (SELECT COALESCE(SUM(oi.quantity), 0) FROM order_items oi WHERE oi.order_id = o.order_id);
+
 
 
 INSERT INTO reviews (review_id, review_body, item_id, member_id, is_deleted)